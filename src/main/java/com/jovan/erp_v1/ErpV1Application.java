@@ -9,6 +9,7 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import com.jovan.erp_v1.enumeration.SystemStatus;
 import com.jovan.erp_v1.model.SystemState;
@@ -18,6 +19,7 @@ import io.github.cdimascio.dotenv.Dotenv;
 
 @SpringBootApplication(scanBasePackages = "com.jovan.erp_v1")
 @EnableAsync
+@EnableScheduling
 @EnableCaching
 @EnableJpaAuditing(auditorAwareRef = "auditorAware")
 public class ErpV1Application {
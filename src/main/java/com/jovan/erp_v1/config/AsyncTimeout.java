@@ -0,0 +1,19 @@
+package com.jovan.erp_v1.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Timeout async odgovora (StreamingResponseBody) za controller metodu, npr. "30m" ili "${streaming.timeout}".
+ * Primenjuje ga AsyncTimeoutConfig; metode bez anotacije imaju podrazumevani timeout servlet kontejnera.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface AsyncTimeout {
+
+	String value();
+}
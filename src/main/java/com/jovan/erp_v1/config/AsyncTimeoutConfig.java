@@ -0,0 +1,60 @@
+package com.jovan.erp_v1.config;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Postavlja @AsyncTimeout controller metode na async zahtev pre nego sto pocne strimovanje odgovora.
+ * Globalni spring.mvc.async.request-timeout se ne koristi (CorsConfig ima @EnableWebMvc), pa svaki dugi
+ * strim deklarise svoj timeout.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AsyncTimeoutConfig implements WebMvcConfigurer {
+
+	private final Environment environment;
+	private final Map<Method, Long> timeouts = new ConcurrentHashMap<>();
+
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.registerCallableInterceptors(new CallableProcessingInterceptor() {
+			@Override
+			public <T> void beforeConcurrentHandling(NativeWebRequest request, Callable<T> task) {
+				// WebAsyncManager prosledjuje sam AsyncWebRequest, a timeout se primenjuje tek pri startAsync
+				if (request instanceof AsyncWebRequest asyncRequest
+						&& request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+								RequestAttributes.SCOPE_REQUEST) instanceof HandlerMethod method) {
+					Long timeout = timeoutOf(method);
+					if (timeout != null) {
+						asyncRequest.setTimeout(timeout);
+					}
+				}
+			}
+		});
+	}
+
+	private Long timeoutOf(HandlerMethod method) {
+		AsyncTimeout timeout = method.getMethodAnnotation(AsyncTimeout.class);
+		if (timeout == null) {
+			return null;
+		}
+		return timeouts.computeIfAbsent(method.getMethod(),
+				key -> DurationStyle.detectAndParse(environment.resolveRequiredPlaceholders(timeout.value())).toMillis());
+	}
+}
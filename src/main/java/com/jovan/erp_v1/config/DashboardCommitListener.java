@@ -0,0 +1,107 @@
+package com.jovan.erp_v1.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.jovan.erp_v1.service.LiveDashboard;
+import com.jovan.erp_v1.service.LiveDashboard.Commit;
+
+/**
+ * Prosledjuje LiveDashboard-u insert/update/delete pracenih entiteta tek posle uspesnog commit-a,
+ * pa rollback-ovane izmene ne menjaju brojace.
+ * Tokom flush-a se izmene samo skupljaju u Commit sesije; pre commit-a se transakcija prijavljuje
+ * (beforeCommit, ograda za reconcile), a posle zavrsetka se izmene primenjuju ili odbacuju.
+ */
+class DashboardCommitListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient ObjectProvider<LiveDashboard> liveDashboard;
+	private final transient Map<SharedSessionContractImplementor, Commit> pending = new ConcurrentHashMap<>();
+
+	DashboardCommitListener(ObjectProvider<LiveDashboard> liveDashboard) {
+		this.liveDashboard = liveDashboard;
+	}
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		add(event.getSession(), event.getPersister(), event.getState(), 1);
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		if (!isTracked(event.getPersister())) {
+			return;
+		}
+		if (event.getOldState() == null) {
+			// update detached entiteta bez ucitanog starog stanja: delta nije poznata
+			commitOf(event.getSession()).requestReconcile();
+			return;
+		}
+		add(event.getSession(), event.getPersister(), event.getOldState(), -1);
+		add(event.getSession(), event.getPersister(), event.getState(), 1);
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		if (!isTracked(event.getPersister())) {
+			return;
+		}
+		if (event.getDeletedState() == null) {
+			commitOf(event.getSession()).requestReconcile();
+			return;
+		}
+		add(event.getSession(), event.getPersister(), event.getDeletedState(), -1);
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		return false;
+	}
+
+	private boolean isTracked(EntityPersister persister) {
+		return liveDashboard.getObject().isTracked(persister.getMappedClass());
+	}
+
+	private void add(EventSource session, EntityPersister persister, Object[] state, int sign) {
+		if (isTracked(persister)) {
+			// kopija: niz stanja pripada Hibernate-u i moze se promeniti do commit-a
+			Object[] values = state.clone();
+			commitOf(session).add(persister.getMappedClass(), property -> values[persister.getPropertyIndex(property)], sign);
+		}
+	}
+
+	/**
+	 * Commit tekuce transakcije sesije; pri prvoj izmeni registruje prijavu pre commit-a i primenu posle zavrsetka.
+	 */
+	private Commit commitOf(EventSource session) {
+		return pending.computeIfAbsent(session, key -> {
+			session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) completing -> {
+				Commit commit = pending.get(completing);
+				if (commit != null) {
+					liveDashboard.getObject().beforeCommit(commit);
+				}
+			});
+			session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, completed) -> {
+				Commit commit = pending.remove(completed);
+				if (commit != null) {
+					liveDashboard.getObject().afterCompletion(commit, success);
+				}
+			});
+			return new Commit();
+		});
+	}
+}
@@ -0,0 +1,30 @@
+package com.jovan.erp_v1.config;
+
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+
+/**
+ * Verzionisane migracije (db/migration) se izvrsavaju posle Hibernate ddl-auto=update,
+ * jer migracije dodaju indekse na tabele koje pravi Hibernate.
+ * Spring Boot inace pokrece Flyway pre EntityManagerFactory-ja, pa se ta migracija preskace
+ * i ponavlja kada je EntityManagerFactory spreman.
+ */
+@Configuration
+public class FlywayConfig {
+
+	@Bean
+	public FlywayMigrationStrategy flywayMigrationStrategy() {
+		return flyway -> {
+		};
+	}
+
+	@Bean
+	@DependsOn("entityManagerFactory")
+	public InitializingBean flywayMigrationAfterJpa(Flyway flyway) {
+		return flyway::migrate;
+	}
+}
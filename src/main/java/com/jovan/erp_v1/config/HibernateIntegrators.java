@@ -0,0 +1,30 @@
+package com.jovan.erp_v1.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+
+/**
+ * hibernate.integrator_provider prima jedan provider, pa svaki HibernatePropertiesCustomizer
+ * dodaje svoj Integrator na postojecu listu umesto da je pregazi.
+ */
+final class HibernateIntegrators {
+
+	static final String PROVIDER = "hibernate.integrator_provider";
+
+	private HibernateIntegrators() {
+	}
+
+	static void add(Map<String, Object> properties, Integrator integrator) {
+		List<Integrator> integrators = new ArrayList<>();
+		if (properties.get(PROVIDER) instanceof IntegratorProvider existing) {
+			integrators.addAll(existing.getIntegrators());
+		}
+		integrators.add(integrator);
+		List<Integrator> all = List.copyOf(integrators);
+		properties.put(PROVIDER, (IntegratorProvider) () -> all);
+	}
+}
@@ -0,0 +1,65 @@
+package com.jovan.erp_v1.config;
+
+import java.lang.reflect.Field;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.jovan.erp_v1.model.IdBlocks;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Id;
+import jakarta.persistence.TableGenerator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Uskladjuje id_blocks tabelu sa postojecim podacima pre prvog INSERT-a.
+ * Tabele su ranije koristile AUTO_INCREMENT, pa se za svaki segment vrednost podize
+ * na MAX(id) + ALLOCATION_SIZE, kako prvi rezervisani blok ne bi preklopio postojece id-eve.
+ * Radi se kada su svi singleton-i napravljeni, a pre pokretanja web servera (CommandLineRunner bi
+ * radio tek posle, kada zahtevi vec mogu da upisuju).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdBlockInitializer implements SmartInitializingSingleton {
+
+	private final EntityManagerFactory entityManagerFactory;
+	private final JdbcTemplate jdbcTemplate;
+
+	@Override
+	public void afterSingletonsInstantiated() {
+		SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+		sessionFactory.getMappingMetamodel().forEachEntityDescriptor(descriptor -> {
+			TableGenerator generator = idBlockGenerator(descriptor.getMappedClass());
+			if (generator != null && descriptor instanceof AbstractEntityPersister persister) {
+				align(generator.pkColumnValue(), persister.getTableName(), persister.getIdentifierColumnNames()[0]);
+			}
+		});
+	}
+
+	private void align(String segment, String table, String idColumn) {
+		jdbcTemplate.update("INSERT IGNORE INTO " + IdBlocks.TABLE + " (" + IdBlocks.SEGMENT_COLUMN + ", "
+				+ IdBlocks.VALUE_COLUMN + ") VALUES (?, 1)", segment);
+		jdbcTemplate.update("UPDATE " + IdBlocks.TABLE + " SET " + IdBlocks.VALUE_COLUMN + " = GREATEST("
+				+ IdBlocks.VALUE_COLUMN + ", (SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + table + ") + ?)"
+				+ " WHERE " + IdBlocks.SEGMENT_COLUMN + " = ?", IdBlocks.ALLOCATION_SIZE, segment);
+		log.debug("Aligned id block segment {} with table {}", segment, table);
+	}
+
+	private static TableGenerator idBlockGenerator(Class<?> type) {
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (Field field : current.getDeclaredFields()) {
+				TableGenerator generator = field.getAnnotation(TableGenerator.class);
+				if (field.isAnnotationPresent(Id.class) && generator != null && IdBlocks.TABLE.equals(generator.table())) {
+					return generator;
+				}
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,21 @@
+package com.jovan.erp_v1.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jovan.erp_v1.service.InspectionRollupService;
+
+/**
+ * Ukljucuje inkrementalno odrzavanje inspection_rollup tabele (vidi InspectionRollupListener).
+ * Servis se dohvata lenjo, pri prvom dogadjaju, jer zavisi od EntityManagerFactory-ja koji se ovde tek konfigurise.
+ */
+@Configuration
+public class InspectionRollupConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer inspectionRollupHibernateCustomizer(ObjectProvider<InspectionRollupService> rollupService) {
+		return properties -> HibernateIntegrators.add(properties, new InspectionRollupIntegrator(rollupService));
+	}
+}
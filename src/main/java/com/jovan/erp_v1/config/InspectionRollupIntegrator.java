@@ -0,0 +1,32 @@
+package com.jovan.erp_v1.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.jovan.erp_v1.service.InspectionRollupService;
+
+/**
+ * Registruje InspectionRollupListener za POST_INSERT, POST_UPDATE i POST_DELETE.
+ */
+public class InspectionRollupIntegrator implements Integrator {
+
+	private final ObjectProvider<InspectionRollupService> rollupService;
+
+	public InspectionRollupIntegrator(ObjectProvider<InspectionRollupService> rollupService) {
+		this.rollupService = rollupService;
+	}
+
+	@Override
+	public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+		EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+		InspectionRollupListener listener = new InspectionRollupListener(rollupService);
+		registry.appendListeners(EventType.POST_INSERT, listener);
+		registry.appendListeners(EventType.POST_UPDATE, listener);
+		registry.appendListeners(EventType.POST_DELETE, listener);
+	}
+}
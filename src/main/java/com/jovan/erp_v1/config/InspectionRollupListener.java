@@ -0,0 +1,122 @@
+package com.jovan.erp_v1.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.jovan.erp_v1.model.Batch;
+import com.jovan.erp_v1.model.Inspection;
+import com.jovan.erp_v1.model.Product;
+import com.jovan.erp_v1.model.QualityCheck;
+import com.jovan.erp_v1.model.User;
+import com.jovan.erp_v1.service.InspectionRollupService;
+import com.jovan.erp_v1.service.InspectionRollupService.Contribution;
+import com.jovan.erp_v1.service.InspectionRollupService.Delta;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Prenosi insert/update/delete Inspection-a u inspection_rollup u istoj transakciji (rollback vraca i njega).
+ * Tokom flush-a se doprinosi samo sabiraju u Delta sesije; rollup se upisuje jednom, kao
+ * BeforeTransactionCompletionProcess posle poslednjeg flush-a, pa saveAll od N inspekcija ne dodaje
+ * N round trip-ova i ne drzi TOTAL red zakljucan od prvog flush-a do commit-a.
+ * Kod update-a se oduzima doprinos starog stanja i dodaje doprinos novog.
+ */
+@Slf4j
+class InspectionRollupListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient ObjectProvider<InspectionRollupService> rollupService;
+	private final transient Map<SharedSessionContractImplementor, Delta> pending = new ConcurrentHashMap<>();
+
+	InspectionRollupListener(ObjectProvider<InspectionRollupService> rollupService) {
+		this.rollupService = rollupService;
+	}
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		if (event.getEntity() instanceof Inspection inspection) {
+			deltaOf(event.getSession()).add(Contribution.of(inspection), 1);
+		}
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		if (!(event.getEntity() instanceof Inspection inspection)) {
+			return;
+		}
+		if (event.getOldState() == null) {
+			// detached merge bez ucitanog starog stanja; odstupanje ispravlja InspectionRollupService.verify
+			log.warn("Inspection {} updated without old state, rollup left for verification", inspection.getId());
+			return;
+		}
+		Contribution before = contributionOf(event.getPersister(), event.getOldState());
+		deltaOf(event.getSession()).replace(before, Contribution.of(inspection));
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		if (event.getEntity() instanceof Inspection inspection) {
+			Contribution before = event.getDeletedState() != null
+					? contributionOf(event.getPersister(), event.getDeletedState())
+					: Contribution.of(inspection);
+			deltaOf(event.getSession()).add(before, -1);
+		}
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		return false;
+	}
+
+	/**
+	 * Delta tekuce transakcije sesije; pri prvoj izmeni registruje upis pre commit-a i ciscenje posle
+	 * zavrsetka (i kod rollback-a, kada se delta odbacuje).
+	 */
+	private Delta deltaOf(EventSource session) {
+		return pending.computeIfAbsent(session, key -> {
+			session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) completing -> {
+				Delta delta = pending.remove(completing);
+				if (delta != null) {
+					rollupService.getObject().apply(delta);
+				}
+			});
+			session.getActionQueue().registerProcess(
+					(AfterTransactionCompletionProcess) (success, completed) -> pending.remove(completed));
+			return new Delta();
+		});
+	}
+
+	private static Contribution contributionOf(EntityPersister persister, Object[] state) {
+		Batch batch = (Batch) state[persister.getPropertyIndex("batch")];
+		Product product = (Product) state[persister.getPropertyIndex("product")];
+		User inspector = (User) state[persister.getPropertyIndex("inspector")];
+		QualityCheck qualityCheck = (QualityCheck) state[persister.getPropertyIndex("qualityCheck")];
+		return new Contribution(
+				Boolean.TRUE.equals(state[persister.getPropertyIndex("confirmed")]),
+				batch != null ? batch.getId() : null,
+				product != null ? product.getId() : null,
+				inspector != null ? inspector.getId() : null,
+				qualityCheck != null ? qualityCheck.getId() : null,
+				quantity(state[persister.getPropertyIndex("quantityInspected")]),
+				quantity(state[persister.getPropertyIndex("quantityAccepted")]),
+				quantity(state[persister.getPropertyIndex("quantityRejected")]));
+	}
+
+	private static long quantity(Object value) {
+		return value != null ? ((Integer) value).longValue() : 0L;
+	}
+}
@@ -0,0 +1,20 @@
+package com.jovan.erp_v1.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jovan.erp_v1.service.LiveDashboard;
+
+/**
+ * Ukljucuje azuriranje LiveDashboard brojaca posle commit-a (vidi DashboardCommitListener).
+ */
+@Configuration
+public class LiveDashboardConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer liveDashboardHibernateCustomizer(ObjectProvider<LiveDashboard> liveDashboard) {
+		return properties -> HibernateIntegrators.add(properties, new DashboardIntegrator(liveDashboard));
+	}
+}
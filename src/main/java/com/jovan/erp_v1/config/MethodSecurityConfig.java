@@ -0,0 +1,33 @@
+package com.jovan.erp_v1.config;
+
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+
+import com.jovan.erp_v1.security.RoleGroupAuthorizationManager;
+
+/**
+ * @PreAuthorize se obradjuje preko RoleGroupAuthorizationManager-a (kompajlirane RoleGroups provere),
+ * a izrazi koji nisu cisti hasAnyRole/hasRole idu na standardni SpEL manager.
+ */
+@Configuration
+@EnableMethodSecurity(prePostEnabled = false)
+public class MethodSecurityConfig {
+
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	static Advisor preAuthorizeAuthorizationMethodInterceptor(ApplicationContext context) {
+		DefaultMethodSecurityExpressionHandler expressionHandler = new DefaultMethodSecurityExpressionHandler();
+		expressionHandler.setApplicationContext(context);
+		PreAuthorizeAuthorizationManager spelManager = new PreAuthorizeAuthorizationManager();
+		spelManager.setExpressionHandler(expressionHandler);
+		return AuthorizationManagerBeforeMethodInterceptor.preAuthorize(new RoleGroupAuthorizationManager(spelManager));
+	}
+}
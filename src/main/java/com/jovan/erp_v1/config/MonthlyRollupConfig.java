@@ -0,0 +1,20 @@
+package com.jovan.erp_v1.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jovan.erp_v1.service.MonthlyRollupService;
+
+/**
+ * Ukljucuje odmrzavanje meseci monthly_rollup tabele pri izmenama unazad (vidi MonthlyRollupListener).
+ */
+@Configuration
+public class MonthlyRollupConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer monthlyRollupHibernateCustomizer(ObjectProvider<MonthlyRollupService> rollupService) {
+		return properties -> HibernateIntegrators.add(properties, new MonthlyRollupIntegrator(rollupService));
+	}
+}
@@ -0,0 +1,101 @@
+package com.jovan.erp_v1.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.jovan.erp_v1.service.MonthlyRollupService;
+import com.jovan.erp_v1.service.MonthlyRollupService.Reopen;
+
+/**
+ * Odmrzava mesece monthly_rollup-a koje su insert/update/delete izvornih entiteta dotakli.
+ * Tokom flush-a se meseci samo skupljaju u Reopen sesije; pre commit-a se upisuju kao frozen = false u istoj
+ * transakciji (rollback ih vraca), a posle uspesnog commit-a se metrika na ovom cvoru oznacava kao zastarela.
+ */
+class MonthlyRollupListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient ObjectProvider<MonthlyRollupService> rollupService;
+	private final transient Map<SharedSessionContractImplementor, Reopen> pending = new ConcurrentHashMap<>();
+
+	MonthlyRollupListener(ObjectProvider<MonthlyRollupService> rollupService) {
+		this.rollupService = rollupService;
+	}
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		touch(event.getSession(), event.getPersister(), event.getState());
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		if (event.getOldState() == null) {
+			// update detached entiteta bez ucitanog starog stanja: stari mesec nije poznat
+			touchAll(event.getSession(), event.getPersister());
+			return;
+		}
+		touch(event.getSession(), event.getPersister(), event.getOldState());
+		touch(event.getSession(), event.getPersister(), event.getState());
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		if (event.getDeletedState() == null) {
+			touchAll(event.getSession(), event.getPersister());
+			return;
+		}
+		touch(event.getSession(), event.getPersister(), event.getDeletedState());
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		return false;
+	}
+
+	private void touch(EventSource session, EntityPersister persister, Object[] state) {
+		if (rollupService.getObject().isTracked(persister.getMappedClass())) {
+			reopenOf(session).touch(persister.getMappedClass(), property -> state[persister.getPropertyIndex(property)]);
+		}
+	}
+
+	private void touchAll(EventSource session, EntityPersister persister) {
+		if (rollupService.getObject().isTracked(persister.getMappedClass())) {
+			reopenOf(session).touchAll(persister.getMappedClass());
+		}
+	}
+
+	/**
+	 * Reopen tekuce transakcije sesije; pri prvoj izmeni registruje upis pre commit-a i ciscenje posle
+	 * zavrsetka (kod rollback-a se meseci odbacuju).
+	 */
+	private Reopen reopenOf(EventSource session) {
+		return pending.computeIfAbsent(session, key -> {
+			session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) completing -> {
+				Reopen reopen = pending.get(completing);
+				if (reopen != null && !reopen.isEmpty()) {
+					rollupService.getObject().reopen(reopen);
+				}
+			});
+			session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) (success, completed) -> {
+				Reopen reopen = pending.remove(completed);
+				if (success && reopen != null && !reopen.isEmpty()) {
+					rollupService.getObject().reopened(reopen);
+				}
+			});
+			return new Reopen();
+		});
+	}
+}
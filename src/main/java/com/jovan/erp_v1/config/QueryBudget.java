@@ -0,0 +1,20 @@
+package com.jovan.erp_v1.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Deklarisani budzet SQL iskaza za controller metodu.
+ * QueryMetricsFilter loguje i broji (erp.request.sql.budget.exceeded) svako prekoracenje,
+ * a testovi ga proveravaju preko QueryBudgetAssertions.withinQueryBudget().
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+	int maxStatements();
+}
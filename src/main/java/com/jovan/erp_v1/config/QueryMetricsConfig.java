@@ -0,0 +1,22 @@
+package com.jovan.erp_v1.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Ukljucuje SQL brojace po zahtevu u Hibernate (vidi QueryMetricsFilter).
+ */
+@Configuration
+public class QueryMetricsConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer queryStatsHibernateCustomizer() {
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+			properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, QueryStatsSessionListener.class.getName());
+			HibernateIntegrators.add(properties, new QueryStatsIntegrator());
+		};
+	}
+}
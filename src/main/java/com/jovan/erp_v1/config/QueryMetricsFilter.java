@@ -0,0 +1,88 @@
+package com.jovan.erp_v1.config;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Meri broj SQL iskaza, ucitanih redova i JDBC vreme po zahtevu i izvozi ih kao Micrometer metrike
+ * sa tagom endpoint = "Controller#metoda" (/actuator/metrics/erp.request.sql.*).
+ * Ako metoda ima @QueryBudget, prekoracenje se loguje i broji.
+ * Upiti iz StreamingResponseBody tela se izvrsavaju na async niti i ne ulaze u ove brojace.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+	public static final String STATS_ATTRIBUTE = QueryMetricsFilter.class.getName() + ".stats";
+	private static final String UNMAPPED = "unmapped";
+
+	private final MeterRegistry meterRegistry;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		RequestQueryStats stats = RequestQueryStats.begin();
+		request.setAttribute(STATS_ATTRIBUTE, stats);
+		try {
+			filterChain.doFilter(request, response);
+		}
+		finally {
+			RequestQueryStats.end();
+			record(request, stats);
+		}
+	}
+
+	private void record(HttpServletRequest request, RequestQueryStats stats) {
+		Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+		HandlerMethod method = handler instanceof HandlerMethod hm ? hm : null;
+		String endpoint = method != null ? endpointName(method) : UNMAPPED;
+		DistributionSummary.builder("erp.request.sql.statements")
+				.description("SQL statements per request")
+				.tag("endpoint", endpoint)
+				.register(meterRegistry)
+				.record(stats.getStatements());
+		DistributionSummary.builder("erp.request.sql.rows")
+				.description("Entities loaded per request")
+				.tag("endpoint", endpoint)
+				.register(meterRegistry)
+				.record(stats.getRows());
+		Timer.builder("erp.request.sql.time")
+				.description("JDBC execution time per request")
+				.tag("endpoint", endpoint)
+				.register(meterRegistry)
+				.record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+		QueryBudget budget = method != null ? method.getMethodAnnotation(QueryBudget.class) : null;
+		if (budget != null && stats.getStatements() > budget.maxStatements()) {
+			log.warn("Query budget exceeded for {}: {} statements (budget {})", endpoint, stats.getStatements(),
+					budget.maxStatements());
+			Counter.builder("erp.request.sql.budget.exceeded")
+					.tag("endpoint", endpoint)
+					.register(meterRegistry)
+					.increment();
+		}
+	}
+
+	public static String endpointName(HandlerMethod method) {
+		return method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+	}
+}
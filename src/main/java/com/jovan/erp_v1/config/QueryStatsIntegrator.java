@@ -0,0 +1,22 @@
+package com.jovan.erp_v1.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+
+/**
+ * Registruje PostLoad listener koji broji ucitane entitete (redove) u okviru tekuceg zahteva.
+ */
+public class QueryStatsIntegrator implements Integrator {
+
+	@Override
+	public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+		EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+		PostLoadEventListener rowCounter = event -> RequestQueryStats.rowLoaded();
+		registry.appendListeners(EventType.POST_LOAD, rowCounter);
+	}
+}
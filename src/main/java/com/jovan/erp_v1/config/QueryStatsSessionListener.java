@@ -0,0 +1,35 @@
+package com.jovan.erp_v1.config;
+
+import org.hibernate.engine.spi.SessionEventListener;
+
+/**
+ * Meri vreme izvrsavanja JDBC iskaza i batch-eva po sesiji i dodaje ga brojacima tekuceg zahteva.
+ * Hibernate pravi novu instancu za svaku sesiju (hibernate.session.events.auto).
+ */
+public class QueryStatsSessionListener implements SessionEventListener {
+
+	private static final long serialVersionUID = 1L;
+
+	private long statementStart;
+	private long batchStart;
+
+	@Override
+	public void jdbcExecuteStatementStart() {
+		statementStart = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteStatementEnd() {
+		RequestQueryStats.jdbcTime(System.nanoTime() - statementStart);
+	}
+
+	@Override
+	public void jdbcExecuteBatchStart() {
+		batchStart = System.nanoTime();
+	}
+
+	@Override
+	public void jdbcExecuteBatchEnd() {
+		RequestQueryStats.jdbcTime(System.nanoTime() - batchStart);
+	}
+}
@@ -0,0 +1,78 @@
+package com.jovan.erp_v1.config;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Primarna baza + read replika (datasource.replica.enabled=true).
+ * Oba pool-a su zasebni Hikari bean-ovi (pool "primary" i "replica"), pa actuator
+ * prikazuje hikaricp.* metrike posebno po pool tagu. JPA koristi @Primary proxy koji rutira po readOnly oznaci.
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+	/**
+	 * Primarni pool iz spring.datasource.* (ili iz JdbcConnectionDetails, npr. Testcontainers @ServiceConnection).
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties,
+			ObjectProvider<JdbcConnectionDetails> connectionDetails) {
+		DataSourceBuilder<HikariDataSource> builder = properties.initializeDataSourceBuilder().type(HikariDataSource.class);
+		JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+		if (details != null) {
+			builder.url(details.getJdbcUrl())
+					.username(details.getUsername())
+					.password(details.getPassword())
+					.driverClassName(details.getDriverClassName());
+		}
+		HikariDataSource dataSource = builder.build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	/**
+	 * Replika pool: datasource.replica.jdbc-url, username, password i ostala Hikari podesavanja.
+	 */
+	@Bean
+	@ConfigurationProperties("datasource.replica")
+	public HikariDataSource replicaDataSource() {
+		HikariDataSource dataSource = new HikariDataSource();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica,
+			@Value("${datasource.replica.read-your-writes-window:5s}") Duration readYourWritesWindow,
+			@Value("${datasource.replica.max-tracked-users:10000}") long maxTrackedUsers) {
+		ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(readYourWritesWindow, maxTrackedUsers);
+		routing.setTargetDataSources(Map.of(
+				ReplicaRoutingDataSource.Target.PRIMARY, primary,
+				ReplicaRoutingDataSource.Target.REPLICA, replica));
+		routing.setDefaultTargetDataSource(primary);
+		routing.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routing);
+	}
+}
@@ -0,0 +1,59 @@
+package com.jovan.erp_v1.config;
+
+import java.time.Duration;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Rutira konekcije na repliku za @Transactional(readOnly = true), a sve ostalo na primarnu bazu.
+ * Mora da stoji iza LazyConnectionDataSourceProxy, kako bi se konekcija uzela tek kada je
+ * readOnly oznaka transakcije vec postavljena.
+ * Read-your-writes: posle commit-a transakcije koja je pisala, read-only transakcije istog korisnika
+ * idu na primarnu bazu jos readYourWritesWindow (dok replika ne sustigne izmene).
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	public enum Target {
+		PRIMARY, REPLICA
+	}
+
+	// username -> vreme poslednjeg upisa, zapis istice posle readYourWritesWindow
+	private final Cache<String, Boolean> recentWriters;
+
+	public ReplicaRoutingDataSource(Duration readYourWritesWindow, long maxTrackedUsers) {
+		this.recentWriters = Caffeine.newBuilder()
+				.expireAfterWrite(readYourWritesWindow)
+				.maximumSize(maxTrackedUsers)
+				.build();
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		String user = currentUser();
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			boolean recentlyWrote = user != null && recentWriters.getIfPresent(user) != null;
+			return recentlyWrote ? Target.PRIMARY : Target.REPLICA;
+		}
+		if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					recentWriters.put(user, Boolean.TRUE);
+				}
+			});
+		}
+		return Target.PRIMARY;
+	}
+
+	private static String currentUser() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+	}
+}
@@ -0,0 +1,90 @@
+package com.jovan.erp_v1.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Brojaci SQL rada za tekuci HTTP zahtev (po niti).
+ * Puni ih Hibernate (SqlStatementCounter, QueryStatsSessionListener, QueryStatsIntegrator),
+ * a QueryMetricsFilter ih otvara na pocetku zahteva i izvozi kao Micrometer metrike na kraju.
+ * Van zahteva (scheduler, startup) nema aktivnih brojaca i pozivi se ignorisu.
+ * beginCapturingSql() uz brojace pamti i sam SQL (npr. za EXPLAIN upita koje Hibernate generise).
+ */
+public final class RequestQueryStats {
+
+	private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+	private int statements;
+	private long rows;
+	private long jdbcNanos;
+	private List<String> sql;
+
+	private RequestQueryStats() {
+	}
+
+	public static RequestQueryStats begin() {
+		RequestQueryStats stats = new RequestQueryStats();
+		CURRENT.set(stats);
+		return stats;
+	}
+
+	public static RequestQueryStats beginCapturingSql() {
+		RequestQueryStats stats = begin();
+		stats.sql = new ArrayList<>();
+		return stats;
+	}
+
+	public static void end() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * Vraca brojace tekuceg zahteva ili null ako nisu otvoreni.
+	 */
+	public static RequestQueryStats current() {
+		return CURRENT.get();
+	}
+
+	static void statementPrepared(String sql) {
+		RequestQueryStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.statements++;
+			if (stats.sql != null) {
+				stats.sql.add(sql);
+			}
+		}
+	}
+
+	static void rowLoaded() {
+		RequestQueryStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.rows++;
+		}
+	}
+
+	static void jdbcTime(long nanos) {
+		RequestQueryStats stats = CURRENT.get();
+		if (stats != null) {
+			stats.jdbcNanos += nanos;
+		}
+	}
+
+	public int getStatements() {
+		return statements;
+	}
+
+	public long getRows() {
+		return rows;
+	}
+
+	public long getJdbcNanos() {
+		return jdbcNanos;
+	}
+
+	/**
+	 * Pripremljeni SQL iskazi redom, ili prazna lista ako brojaci nisu otvoreni sa beginCapturingSql().
+	 */
+	public List<String> getSql() {
+		return sql != null ? List.copyOf(sql) : List.of();
+	}
+}
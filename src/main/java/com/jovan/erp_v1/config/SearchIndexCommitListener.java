@@ -0,0 +1,73 @@
+package com.jovan.erp_v1.config;
+
+import java.util.function.Function;
+
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.jovan.erp_v1.search.AutocompleteIndex;
+import com.jovan.erp_v1.search.SearchIndex;
+
+/**
+ * Prosledjuje SearchIndex-u i AutocompleteIndex-u novo stanje indeksiranih entiteta (ili brisanje)
+ * tek posle uspesnog commit-a.
+ */
+class SearchIndexCommitListener
+		implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+	private static final long serialVersionUID = 1L;
+
+	private final transient ObjectProvider<SearchIndex> searchIndex;
+	private final transient ObjectProvider<AutocompleteIndex> autocompleteIndex;
+
+	SearchIndexCommitListener(ObjectProvider<SearchIndex> searchIndex, ObjectProvider<AutocompleteIndex> autocompleteIndex) {
+		this.searchIndex = searchIndex;
+		this.autocompleteIndex = autocompleteIndex;
+	}
+
+	@Override
+	public void onPostInsert(PostInsertEvent event) {
+		apply(event.getPersister(), event.getId(), event.getState());
+	}
+
+	@Override
+	public void onPostUpdate(PostUpdateEvent event) {
+		apply(event.getPersister(), event.getId(), event.getState());
+	}
+
+	@Override
+	public void onPostDelete(PostDeleteEvent event) {
+		apply(event.getPersister(), event.getId(), null);
+	}
+
+	@Override
+	public void onPostInsertCommitFailed(PostInsertEvent event) {
+	}
+
+	@Override
+	public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+	}
+
+	@Override
+	public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+	}
+
+	@Override
+	public boolean requiresPostCommitHandling(EntityPersister persister) {
+		Class<?> type = persister.getMappedClass();
+		return searchIndex.getObject().isTracked(type) || autocompleteIndex.getObject().isTracked(type);
+	}
+
+	private void apply(EntityPersister persister, Object id, Object[] state) {
+		Class<?> type = persister.getMappedClass();
+		Function<String, Object> property = state != null ? name -> state[persister.getPropertyIndex(name)] : null;
+		searchIndex.getObject().apply(type, ((Number) id).longValue(), property);
+		autocompleteIndex.getObject().apply(type, ((Number) id).longValue(), property);
+	}
+}
@@ -0,0 +1,22 @@
+package com.jovan.erp_v1.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.jovan.erp_v1.search.AutocompleteIndex;
+import com.jovan.erp_v1.search.SearchIndex;
+
+/**
+ * Ukljucuje azuriranje SearchIndex-a i AutocompleteIndex-a posle commit-a (vidi SearchIndexCommitListener).
+ */
+@Configuration
+public class SearchIndexConfig {
+
+	@Bean
+	public HibernatePropertiesCustomizer searchIndexHibernateCustomizer(ObjectProvider<SearchIndex> searchIndex,
+			ObjectProvider<AutocompleteIndex> autocompleteIndex) {
+		return properties -> HibernateIntegrators.add(properties, new SearchIndexIntegrator(searchIndex, autocompleteIndex));
+	}
+}
@@ -0,0 +1,35 @@
+package com.jovan.erp_v1.config;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.jovan.erp_v1.search.AutocompleteIndex;
+import com.jovan.erp_v1.search.SearchIndex;
+
+/**
+ * Registruje SearchIndexCommitListener za POST_COMMIT_INSERT, POST_COMMIT_UPDATE i POST_COMMIT_DELETE.
+ */
+public class SearchIndexIntegrator implements Integrator {
+
+	private final ObjectProvider<SearchIndex> searchIndex;
+	private final ObjectProvider<AutocompleteIndex> autocompleteIndex;
+
+	public SearchIndexIntegrator(ObjectProvider<SearchIndex> searchIndex, ObjectProvider<AutocompleteIndex> autocompleteIndex) {
+		this.searchIndex = searchIndex;
+		this.autocompleteIndex = autocompleteIndex;
+	}
+
+	@Override
+	public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+		EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+		SearchIndexCommitListener listener = new SearchIndexCommitListener(searchIndex, autocompleteIndex);
+		registry.appendListeners(EventType.POST_COMMIT_INSERT, listener);
+		registry.appendListeners(EventType.POST_COMMIT_UPDATE, listener);
+		registry.appendListeners(EventType.POST_COMMIT_DELETE, listener);
+	}
+}
@@ -0,0 +1,17 @@
+package com.jovan.erp_v1.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Broji (i po potrebi pamti) svaki SQL iskaz koji Hibernate priprema u okviru tekuceg zahteva. SQL se ne menja.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public String inspect(String sql) {
+		RequestQueryStats.statementPrepared(sql);
+		return sql;
+	}
+}
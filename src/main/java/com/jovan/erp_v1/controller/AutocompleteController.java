@@ -0,0 +1,84 @@
+package com.jovan.erp_v1.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jovan.erp_v1.response.AutocompleteResponse;
+import com.jovan.erp_v1.search.AutocompleteIndex;
+import com.jovan.erp_v1.search.AutocompleteSource;
+import com.jovan.erp_v1.util.RoleGroups;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/autocomplete")
+@CrossOrigin("http://localhost:5173")
+@Tag(name = "Autocomplete", description = "Predlozi naziva za type-ahead polja (iz memorije, bez upita nad bazom)")
+public class AutocompleteController {
+
+    private final AutocompleteIndex autocompleteIndex;
+
+    @Operation(summary = "Proizvodi ciji naziv ima rec koja pocinje prefiksom")
+    @PreAuthorize(RoleGroups.PRODUCT_READ_ACCESS)
+    @GetMapping("/products")
+    public ResponseEntity<List<AutocompleteResponse>> products(@RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(complete(AutocompleteSource.PRODUCT, prefix, limit));
+    }
+
+    @Operation(summary = "Roba ciji naziv ima rec koja pocinje prefiksom")
+    @PreAuthorize(RoleGroups.GOODS_READ_ACCESS)
+    @GetMapping("/goods")
+    public ResponseEntity<List<AutocompleteResponse>> goods(@RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(complete(AutocompleteSource.GOODS, prefix, limit));
+    }
+
+    @Operation(summary = "Kupci ciji naziv firme ima rec koja pocinje prefiksom")
+    @PreAuthorize(RoleGroups.BUYER_READ_ACCESS)
+    @GetMapping("/buyers")
+    public ResponseEntity<List<AutocompleteResponse>> buyers(@RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(complete(AutocompleteSource.BUYER, prefix, limit));
+    }
+
+    @Operation(summary = "Dobavljaci ciji naziv ima rec koja pocinje prefiksom")
+    @PreAuthorize(RoleGroups.VENDOR_READ_ACCESS)
+    @GetMapping("/vendors")
+    public ResponseEntity<List<AutocompleteResponse>> vendors(@RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(complete(AutocompleteSource.VENDOR, prefix, limit));
+    }
+
+    @Operation(summary = "Materijali ciji naziv ima rec koja pocinje prefiksom")
+    @PreAuthorize(RoleGroups.MATERIAL_READ_ACCESS)
+    @GetMapping("/materials")
+    public ResponseEntity<List<AutocompleteResponse>> materials(@RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(complete(AutocompleteSource.MATERIAL, prefix, limit));
+    }
+
+    @Operation(summary = "Skladista ciji naziv ima rec koja pocinje prefiksom")
+    @PreAuthorize(RoleGroups.STORAGE_READ_ACCESS)
+    @GetMapping("/storages")
+    public ResponseEntity<List<AutocompleteResponse>> storages(@RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(complete(AutocompleteSource.STORAGE, prefix, limit));
+    }
+
+    private List<AutocompleteResponse> complete(AutocompleteSource source, String prefix, int limit) {
+        return autocompleteIndex.complete(source, prefix, limit).stream()
+                .map(AutocompleteResponse::of)
+                .toList();
+    }
+}
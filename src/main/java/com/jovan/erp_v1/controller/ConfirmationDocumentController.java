@@ -1,17 +1,14 @@
 package com.jovan.erp_v1.controller;
 
 import java.io.IOException;
-import java.net.MalformedURLException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
@@ -37,10 +34,13 @@ import com.jovan.erp_v1.request.ConfirmationDocumentRequest;
 import com.jovan.erp_v1.response.ConfirmationDocumentResponse;
 import com.jovan.erp_v1.save_as.ConfirmationDocumentSaveAsRequest;
 import com.jovan.erp_v1.search_request.ConfirmationDocumentSearchRequest;
+import com.jovan.erp_v1.service.FileDownloads;
 import com.jovan.erp_v1.service.IConfirmationDocumentService;
 import com.jovan.erp_v1.service.PdfGeneratorService;
 import com.jovan.erp_v1.util.RoleGroups;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -52,6 +52,7 @@ public class ConfirmationDocumentController {
 
     private final IConfirmationDocumentService confirmationDocumentService;
     private final PdfGeneratorService pdfGeneratorService;
+    private final FileDownloads fileDownloads;
 
     @PreAuthorize(RoleGroups.CONFIRMATION_DOCUMENT_FULL_ACCESS)
     @PostMapping("/create/new-confirm-document")
@@ -117,27 +118,9 @@ public class ConfirmationDocumentController {
 
     @PreAuthorize(RoleGroups.CONFIRMATION_DOCUMENT_ACCESS)
     @GetMapping("/download/{id}")
-    public ResponseEntity<Resource> downloadDocument(@PathVariable Long id) {
-        Optional<ConfirmationDocument> optDoc = confirmationDocumentService.getDocumentById(id);
-        if (optDoc.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-        ConfirmationDocument document = optDoc.get();
-        Path filePath = Paths.get(document.getFilePath());
-        if (!Files.exists(filePath)) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(null);
-        }
-        try {
-            Resource resource = new UrlResource(filePath.toUri());
-            String fileName = filePath.getFileName().toString();
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_PDF)
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
-                    .body(resource);
-        } catch (MalformedURLException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
-        }
+    public void downloadDocument(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        fileDownloads.send(confirmationDocumentService.downloadDocument(id), request, response);
     }
 
     @PreAuthorize(RoleGroups.CONFIRMATION_DOCUMENT_FULL_ACCESS)
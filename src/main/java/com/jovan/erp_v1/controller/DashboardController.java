@@ -1,6 +1,10 @@
 package com.jovan.erp_v1.controller;
 
+import java.util.Map;
+
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +12,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.jovan.erp_v1.response.DashboardResponse;
+import com.jovan.erp_v1.service.DashboardStream;
 import com.jovan.erp_v1.service.IDashboardService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequiredArgsConstructor
@@ -23,6 +29,7 @@ import lombok.RequiredArgsConstructor;
 public class DashboardController {
 
     private final IDashboardService dashboardService;
+    private final DashboardStream dashboardStream;
 
     @Operation(summary = "Vraća podatke za dashboard")
     @GetMapping
@@ -30,4 +37,10 @@ public class DashboardController {
         return ResponseEntity.ok(dashboardService.getDashboardData());
     }
 
+    @Operation(summary = "SSE tok dashboard podataka: prvo ceo snimak (event snapshot), zatim samo promenjena polja (event delta)")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<Map<String, Object>>> streamDashboardData() {
+        return dashboardStream.subscribe();
+    }
+
 }
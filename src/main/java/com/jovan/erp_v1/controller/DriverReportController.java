@@ -16,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.jovan.erp_v1.config.QueryBudget;
 import com.jovan.erp_v1.enumeration.DriverStatus;
 import com.jovan.erp_v1.enumeration.TripStatus;
 import com.jovan.erp_v1.response.DriverReportResponse;
@@ -37,6 +38,7 @@ public class DriverReportController {
         return ResponseEntity.ok(driverReportService.generateDriverReport(driverId));
     }
 	
+	@QueryBudget(maxStatements = 3)
 	@GetMapping("/drivers-report")
 	public ResponseEntity<List<DriverReportResponse>> generateAdvancedDriverReport(
 	        @RequestParam(value="startDate", required=false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
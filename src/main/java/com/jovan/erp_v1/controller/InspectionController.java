@@ -6,6 +6,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,13 +19,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.jovan.erp_v1.config.AsyncTimeout;
+import com.jovan.erp_v1.config.QueryBudget;
 import com.jovan.erp_v1.dto.InspectionQuantityAcceptedDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityAcceptedSummaryDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityInspectedDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityInspectedSummaryDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityRejectedDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityRejectedSummaryDTO;
+import com.jovan.erp_v1.enumeration.ExportFormat;
 import com.jovan.erp_v1.enumeration.GoodsType;
 import com.jovan.erp_v1.enumeration.InspectionResult;
 import com.jovan.erp_v1.enumeration.InspectionStatus;
@@ -39,6 +45,7 @@ import com.jovan.erp_v1.response.InspectionResponse;
 import com.jovan.erp_v1.save_as.InspectionSaveAsRequest;
 import com.jovan.erp_v1.search_request.InspectionSearchRequest;
 import com.jovan.erp_v1.service.InfInspectionService;
+import com.jovan.erp_v1.service.KeysetPaginator;
 import com.jovan.erp_v1.statistics.inspection.InspectionResultStatDTO;
 import com.jovan.erp_v1.statistics.inspection.InspectionTypeStatDTO;
 import com.jovan.erp_v1.statistics.inspection.QuantityAcceptedByBatchStatDTO;
@@ -88,6 +95,7 @@ public class InspectionController {
 	}
 	
 	@PreAuthorize(RoleGroups.INSPECTION_READ_ACCESS)
+	@QueryBudget(maxStatements = 5)
 	@GetMapping("/find-one/{id}")
 	public ResponseEntity<InspectionResponse> findOne(@PathVariable Long id){
 		InspectionResponse items = inspectionService.findOne(id);
@@ -95,8 +103,13 @@ public class InspectionController {
 	}
 	
 	@PreAuthorize(RoleGroups.INSPECTION_READ_ACCESS)
+	@QueryBudget(maxStatements = 10)
 	@GetMapping("/find-all")
-	public ResponseEntity<List<InspectionResponse>> findAll(){
+	public ResponseEntity<?> findAll(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer limit){
+		if(KeysetPaginator.isRequested(cursor, limit)) {
+			return ResponseEntity.ok(inspectionService.findAll(cursor, limit));
+		}
 		List<InspectionResponse> items = inspectionService.findAll();
 		return ResponseEntity.ok(items);
 	}
@@ -112,6 +125,18 @@ public class InspectionController {
 		return ResponseEntity.ok(items);
 	}
 	
+	@PreAuthorize(RoleGroups.INSPECTION_READ_ACCESS)
+	@AsyncTimeout("${streaming.timeout}")
+	@GetMapping(value = "/search-inspections/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamSearchInspections(
+			@RequestParam(required = false) String storageName, 
+			@RequestParam(required = false) String storageLocation,
+			@RequestParam(required = false) BigDecimal minCapacity, 
+			@RequestParam(required = false) BigDecimal maxCapacity){
+		StreamingResponseBody body = inspectionService.streamSearchInspections(storageName, storageLocation, minCapacity, maxCapacity);
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+	
 	@PreAuthorize(RoleGroups.INSPECTION_READ_ACCESS)
 	@GetMapping("/quantity-inspected/{inspectionId}")
 	public ResponseEntity<InspectionQuantityInspectedDTO> getQuantityInspected(@PathVariable Long inspectionId){
@@ -1048,8 +1073,33 @@ public class InspectionController {
 	
 	@PreAuthorize(RoleGroups.INSPECTION_FULL_ACCESS)
 	@PostMapping("/general-search")
-	public ResponseEntity<List<InspectionResponse>> generalSearch(@RequestBody InspectionSearchRequest request){
+	public ResponseEntity<?> generalSearch(@RequestBody InspectionSearchRequest request,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer limit){
+		if(KeysetPaginator.isRequested(cursor, limit)) {
+			return ResponseEntity.ok(inspectionService.generalSearch(request, cursor, limit));
+		}
 		List<InspectionResponse> items = inspectionService.generalSearch(request);
 		return ResponseEntity.ok(items);
 	}
+	
+	@PreAuthorize(RoleGroups.INSPECTION_FULL_ACCESS)
+	@AsyncTimeout("${streaming.timeout}")
+	@PostMapping(value = "/general-search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamGeneralSearch(@RequestBody InspectionSearchRequest request){
+		StreamingResponseBody body = inspectionService.streamGeneralSearch(request);
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+
+	@PreAuthorize(RoleGroups.INSPECTION_FULL_ACCESS)
+	@AsyncTimeout("${export.timeout}")
+	@PostMapping("/general-search/export")
+	public ResponseEntity<StreamingResponseBody> exportGeneralSearch(@RequestBody InspectionSearchRequest request,
+			@RequestParam(defaultValue = "CSV") ExportFormat format){
+		StreamingResponseBody body = inspectionService.exportGeneralSearch(request, format);
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(format.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + format.fileName("inspections"))
+				.body(body);
+	}
 }
@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -18,6 +20,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.jovan.erp_v1.config.AsyncTimeout;
+import com.jovan.erp_v1.config.QueryBudget;
+import com.jovan.erp_v1.enumeration.ExportFormat;
 import com.jovan.erp_v1.enumeration.InvoiceStatus;
 import com.jovan.erp_v1.enumeration.InvoiceTypeStatus;
 import com.jovan.erp_v1.enumeration.OrderStatus;
@@ -30,6 +36,7 @@ import com.jovan.erp_v1.response.InvoiceResponse;
 import com.jovan.erp_v1.save_as.InvoiceSaveAsRequest;
 import com.jovan.erp_v1.search_request.InvoiceSearchRequest;
 import com.jovan.erp_v1.service.IInvoiceService;
+import com.jovan.erp_v1.service.KeysetPaginator;
 import com.jovan.erp_v1.statistics.invoice.InvoiceStatByBuyerRequest;
 import com.jovan.erp_v1.statistics.invoice.InvoiceStatByPaymentRequest;
 import com.jovan.erp_v1.statistics.invoice.InvoiceStatBySalesOrderRequest;
@@ -82,8 +89,13 @@ public class InvoiceController {
 	}
 	
 	@PreAuthorize(RoleGroups.INVOICE_READ_ACCESS)
+	@QueryBudget(maxStatements = 10)
 	@GetMapping("/all-invoices")
-	public ResponseEntity<List<InvoiceResponse>> getAllInvoices(){
+	public ResponseEntity<?> getAllInvoices(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer limit){
+		if(KeysetPaginator.isRequested(cursor, limit)) {
+			return ResponseEntity.ok(invoiceService.getAllInvoices(cursor, limit));
+		}
 		List<InvoiceResponse> responses = invoiceService.getAllInvoices();
 		return ResponseEntity.ok(responses);
 	}
@@ -469,8 +481,33 @@ public class InvoiceController {
 	
 	@PreAuthorize(RoleGroups.INVOICE_FULL_ACCESS)
 	@PostMapping("/general-search")
-	public ResponseEntity<List<InvoiceResponse>> generalSearch(@RequestBody InvoiceSearchRequest request){
+	public ResponseEntity<?> generalSearch(@RequestBody InvoiceSearchRequest request,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer limit){
+		if(KeysetPaginator.isRequested(cursor, limit)) {
+			return ResponseEntity.ok(invoiceService.generalSearch(request, cursor, limit));
+		}
 		List<InvoiceResponse> items = invoiceService.generalSearch(request);
 		return ResponseEntity.ok(items);
 	}
+	
+	@PreAuthorize(RoleGroups.INVOICE_FULL_ACCESS)
+	@AsyncTimeout("${streaming.timeout}")
+	@PostMapping(value = "/general-search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamGeneralSearch(@RequestBody InvoiceSearchRequest request){
+		StreamingResponseBody body = invoiceService.streamGeneralSearch(request);
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+
+	@PreAuthorize(RoleGroups.INVOICE_FULL_ACCESS)
+	@AsyncTimeout("${export.timeout}")
+	@PostMapping("/general-search/export")
+	public ResponseEntity<StreamingResponseBody> exportGeneralSearch(@RequestBody InvoiceSearchRequest request,
+			@RequestParam(defaultValue = "CSV") ExportFormat format){
+		StreamingResponseBody body = invoiceService.exportGeneralSearch(request, format);
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(format.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + format.fileName("invoices"))
+				.body(body);
+	}
 }
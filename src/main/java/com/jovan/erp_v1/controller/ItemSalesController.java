@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.CrossOrigin;
@@ -18,6 +20,10 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import com.jovan.erp_v1.config.AsyncTimeout;
+import com.jovan.erp_v1.config.QueryBudget;
+import com.jovan.erp_v1.enumeration.ExportFormat;
 import com.jovan.erp_v1.enumeration.GoodsType;
 import com.jovan.erp_v1.enumeration.ItemSalesStatus;
 import com.jovan.erp_v1.enumeration.OrderStatus;
@@ -30,6 +36,7 @@ import com.jovan.erp_v1.response.ItemSalesResponse;
 import com.jovan.erp_v1.save_as.ItemSalesSaveAsRequest;
 import com.jovan.erp_v1.search_request.ItemSalesSearchRequest;
 import com.jovan.erp_v1.service.INTERItemSales;
+import com.jovan.erp_v1.service.KeysetPaginator;
 import com.jovan.erp_v1.statistics.item_sales.ItemSalesByProcurementRequest;
 import com.jovan.erp_v1.statistics.item_sales.ItemSalesBySalesOrderRequest;
 import com.jovan.erp_v1.statistics.item_sales.ItemSalesQuantityByGoodsStatDTO;
@@ -85,8 +92,13 @@ public class ItemSalesController {
 	}
 	
 	@PreAuthorize(RoleGroups.ITEM_SALES_READ_ACCESS)
+	@QueryBudget(maxStatements = 10)
 	@GetMapping("/get-all")
-	public ResponseEntity<List<ItemSalesResponse>> getAllItemSales(){
+	public ResponseEntity<?> getAllItemSales(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer limit){
+		if(KeysetPaginator.isRequested(cursor, limit)) {
+			return ResponseEntity.ok(itemSales.getAll(cursor, limit));
+		}
 		List<ItemSalesResponse> responses = itemSales.getAll();
 		return ResponseEntity.ok(responses);
 	}
@@ -384,11 +396,24 @@ public class ItemSalesController {
 	//swagger dokumentacija
 	@GetMapping("/search")
 	@PreAuthorize(RoleGroups.ITEM_SALES_READ_ACCESS)
-	public ResponseEntity<List<ItemSalesResponse>> search(@ParameterObject @ModelAttribute ItemSalesFilterRequest filterRequest) {
+	public ResponseEntity<?> search(@ParameterObject @ModelAttribute ItemSalesFilterRequest filterRequest,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer limit) {
+		if(KeysetPaginator.isRequested(cursor, limit)) {
+			return ResponseEntity.ok(itemSales.filter(filterRequest, cursor, limit));
+		}
 	    List<ItemSalesResponse> result = itemSales.filter(filterRequest);
 	    return ResponseEntity.ok(result);
 	}
 	
+	@AsyncTimeout("${streaming.timeout}")
+	@GetMapping(value = "/search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	@PreAuthorize(RoleGroups.ITEM_SALES_READ_ACCESS)
+	public ResponseEntity<StreamingResponseBody> searchStream(@ParameterObject @ModelAttribute ItemSalesFilterRequest filterRequest) {
+		StreamingResponseBody body = itemSales.streamFilter(filterRequest);
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+	
 	/*@PostMapping("/search")
 	public ResponseEntity<List<ItemSalesResponse>> searchPost(@RequestBody ItemSalesFilterRequest filterRequest) {
 	    List<ItemSalesResponse> result = itemSales.filter(filterRequest);
@@ -552,9 +577,33 @@ public class ItemSalesController {
 	
 	@PreAuthorize(RoleGroups.ITEM_SALES_FULL_ACCESS)
 	@PostMapping("/general-search")
-	public ResponseEntity<List<ItemSalesResponse>> generalSearch(@RequestBody ItemSalesSearchRequest request){
+	public ResponseEntity<?> generalSearch(@RequestBody ItemSalesSearchRequest request,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer limit){
+		if(KeysetPaginator.isRequested(cursor, limit)) {
+			return ResponseEntity.ok(itemSales.generalSearch(request, cursor, limit));
+		}
 		List<ItemSalesResponse> items = itemSales.generalSearch(request);
 		return ResponseEntity.ok(items);
 	}
 	
+	@PreAuthorize(RoleGroups.ITEM_SALES_FULL_ACCESS)
+	@AsyncTimeout("${streaming.timeout}")
+	@PostMapping(value = "/general-search/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> streamGeneralSearch(@RequestBody ItemSalesSearchRequest request){
+		StreamingResponseBody body = itemSales.streamGeneralSearch(request);
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+
+	@PreAuthorize(RoleGroups.ITEM_SALES_FULL_ACCESS)
+	@AsyncTimeout("${export.timeout}")
+	@PostMapping("/general-search/export")
+	public ResponseEntity<StreamingResponseBody> exportGeneralSearch(@RequestBody ItemSalesSearchRequest request,
+			@RequestParam(defaultValue = "CSV") ExportFormat format){
+		StreamingResponseBody body = itemSales.exportGeneralSearch(request, format);
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(format.getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + format.fileName("item-sales"))
+				.body(body);
+	}
 }
@@ -1,11 +1,10 @@
 package com.jovan.erp_v1.controller;
 
+import java.io.IOException;
 import java.time.LocalDateTime;
 import java.util.List;
 
-import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,9 +18,12 @@ import org.springframework.web.bind.annotation.RestController;
 import com.jovan.erp_v1.enumeration.ReportType;
 import com.jovan.erp_v1.request.ReportRequest;
 import com.jovan.erp_v1.response.ReportResponse;
+import com.jovan.erp_v1.service.FileDownloads;
 import com.jovan.erp_v1.service.IReportService;
 import com.jovan.erp_v1.util.RoleGroups;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -31,6 +33,7 @@ import lombok.RequiredArgsConstructor;
 public class ReportController {
 
     private final IReportService reportService;
+    private final FileDownloads fileDownloads;
 
     @PreAuthorize(RoleGroups.REPORT_FULL_ACCESS)
     @PostMapping("/generate")
@@ -40,11 +43,9 @@ public class ReportController {
 
     @PreAuthorize(RoleGroups.REPORT_READ_ACCESS)
     @GetMapping("/download/{id}")
-    public ResponseEntity<Resource> download(@PathVariable Long id) {
-        Resource resource = reportService.downloadReport(id);
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=report.pdf")
-                .body(resource);
+    public void download(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        fileDownloads.send(reportService.downloadReport(id), request, response);
     }
 
     @PreAuthorize(RoleGroups.REPORT_READ_ACCESS)
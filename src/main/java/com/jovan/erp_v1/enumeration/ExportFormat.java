@@ -0,0 +1,26 @@
+package com.jovan.erp_v1.enumeration;
+
+/**
+ * Formati izvoza rezultata pretrage i izvestaja (TabularExporter): content type i ekstenzija fajla.
+ */
+public enum ExportFormat {
+	CSV("text/csv", "csv"),
+	XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx"),
+	PDF("application/pdf", "pdf");
+
+	private final String contentType;
+	private final String extension;
+
+	ExportFormat(String contentType, String extension) {
+		this.contentType = contentType;
+		this.extension = extension;
+	}
+
+	public String getContentType() {
+		return contentType;
+	}
+
+	public String fileName(String baseName) {
+		return baseName + "." + extension;
+	}
+}
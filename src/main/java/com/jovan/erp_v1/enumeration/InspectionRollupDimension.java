@@ -0,0 +1,14 @@
+package com.jovan.erp_v1.enumeration;
+
+/**
+ * Dimenzija zbirnog reda u inspection_rollup.
+ * TOTAL broji sve inspekcije (get*Summary), ostale samo potvrdjene (countQuantity*By*).
+ */
+public enum InspectionRollupDimension {
+
+	TOTAL,
+	BATCH,
+	PRODUCT,
+	INSPECTOR,
+	QUALITY_CHECK
+}
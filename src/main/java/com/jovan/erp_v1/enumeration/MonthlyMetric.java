@@ -0,0 +1,12 @@
+package com.jovan.erp_v1.enumeration;
+
+/**
+ * Mesecne metrike koje se cuvaju u monthly_rollup tabeli.
+ */
+public enum MonthlyMetric {
+	BATCH_COUNT,
+	CAPACITY_PLANNING_COUNT,
+	DEFECT_COUNT,
+	FISCAL_YEAR_COUNT,
+	NET_PROFIT
+}
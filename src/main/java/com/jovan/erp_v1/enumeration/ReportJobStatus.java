@@ -0,0 +1,12 @@
+package com.jovan.erp_v1.enumeration;
+
+/**
+ * Stanja posla generisanja izvestaja (ReportJobs): QUEUED ceka slobodnog radnika, RUNNING se generise,
+ * COMPLETED je upisan u filePath, FAILED je prekinut greskom (errorMessage).
+ */
+public enum ReportJobStatus {
+	QUEUED,
+	RUNNING,
+	COMPLETED,
+	FAILED
+}
@@ -4,21 +4,24 @@ import java.util.Objects;
 
 import org.springframework.stereotype.Component;
 
+import com.jovan.erp_v1.enumeration.ExportFormat;
 import com.jovan.erp_v1.model.Report;
 import com.jovan.erp_v1.request.ReportRequest;
 import com.jovan.erp_v1.response.ReportResponse;
+import com.jovan.erp_v1.service.ReportJobs;
 import com.jovan.erp_v1.util.AbstractMapper;
 
 @Component
 public class ReportMapper extends AbstractMapper<ReportRequest> {
 
-    public Report toEntity(ReportRequest request,String filePath) {
+    /**
+     * Parametri posla generisanja; bez formata izvestaj je PDF.
+     */
+    public ReportJobs.Parameters toJobParameters(ReportRequest request) {
     	Objects.requireNonNull(request, "ReportRequest must not be null");
     	validateIdForCreate(request, ReportRequest::id);
-        Report report = new Report();
-        report.setType(request.type());
-        report.setFilePath(filePath);
-        return report;
+    	ExportFormat format = request.format() != null ? request.format() : ExportFormat.PDF;
+    	return new ReportJobs.Parameters(request.type(), format, request.from(), request.to());
     }
     
     public Report toEntityUpdate(Report report, ReportRequest request,String filePath) {
@@ -20,6 +20,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -34,7 +35,9 @@ import lombok.NoArgsConstructor;
 public class BarCode {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "bar_code_ids")
+	@TableGenerator(name = "bar_code_ids", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+			valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "bar_code", allocationSize = IdBlocks.ALLOCATION_SIZE)
 	private Long id;
 	
 	@Column(nullable = false, unique = true)
@@ -25,6 +25,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -39,7 +40,9 @@ import lombok.NoArgsConstructor;
 public class Batch {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "batch_ids")
+	@TableGenerator(name = "batch_ids", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+			valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "batch", allocationSize = IdBlocks.ALLOCATION_SIZE)
 	private Long id;
 	
 	@Column(nullable = false, unique = true)
@@ -15,6 +15,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
@@ -30,7 +31,9 @@ import lombok.NoArgsConstructor;
 public class Buyer {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "buyer_ids")
+	@TableGenerator(name = "buyer_ids", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+			valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "buyer", allocationSize = IdBlocks.ALLOCATION_SIZE)
 	private Long id;
 	
 	@Column(nullable = false)
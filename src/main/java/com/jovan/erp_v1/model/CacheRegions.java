@@ -0,0 +1,26 @@
+package com.jovan.erp_v1.model;
+
+/**
+ * Nazivi regiona Hibernate second-level kesa za referentne entitete koji se retko menjaju.
+ * Politika (velicina, istek) za svaki region je u application.conf (caffeine.jcache),
+ * a statistike su na /actuator/metrics/hibernate.second.level.cache.* (tag region).
+ */
+public final class CacheRegions {
+
+	// Goods je koren JOINED hijerarhije, pa Product deli region sa Goods
+	public static final String GOODS = "goods";
+	public static final String STORAGE = "storage";
+	public static final String SHELF = "shelf";
+	public static final String ACCOUNT = "account";
+	public static final String TAX_RATE = "taxRate";
+	public static final String LANGUAGE = "language";
+	public static final String OPTION = "option";
+	public static final String LOCALIZED_OPTION = "localizedOption";
+	public static final String ROLE = "role";
+	public static final String ROLE_PERMISSIONS = "role.permissions";
+	public static final String PERMISSION = "permission";
+	public static final String WORK_CENTER = "workCenter";
+
+	private CacheRegions() {
+	}
+}
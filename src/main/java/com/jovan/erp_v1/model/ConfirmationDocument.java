@@ -20,6 +20,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -34,12 +35,22 @@ import lombok.NoArgsConstructor;
 public class ConfirmationDocument {
 
 	@Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "confirmation_document_ids")
+    @TableGenerator(name = "confirmation_document_ids", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+            valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "confirmation_document", allocationSize = IdBlocks.ALLOCATION_SIZE)
     private Long id;
 
 	@Column
     private String filePath;
 
+    /** originalno ime upload-ovanog fajla; sadrzaj se cuva pod hash-om (DocumentStore) */
+    @Column(name = "file_name")
+    private String fileName;
+
+    /** SHA-256 sadrzaja; jak ETag pri preuzimanju */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
     @Column(nullable = false)
     private LocalDateTime createdAt;
 
@@ -23,6 +23,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -40,7 +41,9 @@ import lombok.NoArgsConstructor;
 public class Defect {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "defect_ids")
+	@TableGenerator(name = "defect_ids", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+			valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "defect", allocationSize = IdBlocks.ALLOCATION_SIZE)
 	private Long id;
 	
 	@Column(unique = true, nullable = false)
@@ -13,12 +13,20 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@NamedEntityGraph(name = FetchPlans.DELIVERY_ITEM_RESPONSE, attributeNodes = {
+		@NamedAttributeNode("product"),
+		@NamedAttributeNode("inboundDelivery"),
+		@NamedAttributeNode("outboundDelivery")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,7 +34,9 @@ import lombok.NoArgsConstructor;
 public class DeliveryItem {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "delivery_item_ids")
+    @TableGenerator(name = "delivery_item_ids", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+            valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "delivery_item", allocationSize = IdBlocks.ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne
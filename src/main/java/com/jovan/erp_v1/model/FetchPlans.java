@@ -0,0 +1,19 @@
+package com.jovan.erp_v1.model;
+
+/**
+ * Nazivi fetch-plan profila (named entity graph-ova) za response tipove koji se citaju u listama.
+ * Profil ucitava sve to-one veze koje konstruktor response-a dodiruje u istom upitu,
+ * a kolekcije (npr. Inspection.defects) se ucitavaju batch fetch-om (hibernate.default_batch_fetch_size),
+ * pa je broj upita po listi fiksan i ne zavisi od broja redova.
+ */
+public final class FetchPlans {
+
+	public static final String INSPECTION_RESPONSE = "Inspection.response";
+	public static final String ITEM_SALES_RESPONSE = "ItemSales.response";
+	public static final String INVOICE_RESPONSE = "Invoice.response";
+	public static final String DELIVERY_ITEM_RESPONSE = "DeliveryItem.response";
+	public static final String INVENTORY_ITEMS_RESPONSE = "InventoryItems.response";
+
+	private FetchPlans() {
+	}
+}
@@ -0,0 +1,18 @@
+package com.jovan.erp_v1.model;
+
+/**
+ * Zajednicka podesavanja table hi/lo (pooled) generatora id-eva za entitete koji se cuvaju kroz saveAll.
+ * Id-evi se rezervisu u blokovima od ALLOCATION_SIZE vrednosti, pa Hibernate zna id pre INSERT-a
+ * i moze da grupise INSERT-e u JDBC batch (sa IDENTITY kolonom to nije moguce).
+ * Pocetne vrednosti blokova se usklade sa postojecim podacima pri pokretanju (IdBlockInitializer).
+ */
+public final class IdBlocks {
+
+	public static final String TABLE = "id_blocks";
+	public static final String SEGMENT_COLUMN = "entity_name";
+	public static final String VALUE_COLUMN = "next_val";
+	public static final int ALLOCATION_SIZE = 50;
+
+	private IdBlocks() {
+	}
+}
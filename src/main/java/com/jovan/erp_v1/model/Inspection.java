@@ -26,9 +26,12 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -39,6 +42,12 @@ import lombok.NoArgsConstructor;
  */
 @EntityListeners(AuditingEntityListener.class)
 @Entity
+@NamedEntityGraph(name = FetchPlans.INSPECTION_RESPONSE, attributeNodes = {
+		@NamedAttributeNode("batch"),
+		@NamedAttributeNode("product"),
+		@NamedAttributeNode("inspector"),
+		@NamedAttributeNode("qualityCheck")
+})
 @Data
 @NoArgsConstructor
 @Builder
@@ -46,7 +55,9 @@ import lombok.NoArgsConstructor;
 public class Inspection {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "inspection_ids")
+	@TableGenerator(name = "inspection_ids", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+			valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "inspection", allocationSize = IdBlocks.ALLOCATION_SIZE)
 	private Long id;
 	
 	@Column(unique = true, nullable = false)
@@ -0,0 +1,67 @@
+package com.jovan.erp_v1.model;
+
+import java.io.Serializable;
+
+import com.jovan.erp_v1.enumeration.InspectionRollupDimension;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Zbirni brojaci inspekcija po dimenziji (batch, proizvod, inspektor, quality-check, ukupno).
+ * Azuriraju se u istoj transakciji kao insert/update/delete Inspection-a (InspectionRollupListener),
+ * a InspectionRollupService ih periodicno proverava i po potrebi ponovo gradi iz inspection tabele.
+ */
+@Entity
+@Table(name = "inspection_rollup")
+@IdClass(InspectionRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InspectionRollup {
+
+	/** dimension_id za TOTAL red */
+	public static final long TOTAL_ID = 0L;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private InspectionRollupDimension dimension;
+
+	@Id
+	@Column(name = "dimension_id")
+	private Long dimensionId;
+
+	@Column(nullable = false)
+	private Long inspectionCount;
+
+	@Column(nullable = false)
+	private Long quantityInspected;
+
+	@Column(nullable = false)
+	private Long quantityAccepted;
+
+	@Column(nullable = false)
+	private Long quantityRejected;
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private InspectionRollupDimension dimension;
+		private Long dimensionId;
+	}
+}
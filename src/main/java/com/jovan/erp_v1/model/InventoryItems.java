@@ -14,13 +14,20 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@NamedEntityGraph(name = FetchPlans.INVENTORY_ITEMS_RESPONSE, attributeNodes = {
+		@NamedAttributeNode("inventory"),
+		@NamedAttributeNode("product")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -29,7 +36,9 @@ import lombok.NoArgsConstructor;
 public class InventoryItems {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "inventory_items_ids")
+	@TableGenerator(name = "inventory_items_ids", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+			valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "inventory_items", allocationSize = IdBlocks.ALLOCATION_SIZE)
 	private Long id;
 	
 	@ManyToOne
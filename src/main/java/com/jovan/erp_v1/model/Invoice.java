@@ -22,7 +22,10 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -30,6 +33,13 @@ import lombok.NoArgsConstructor;
 
 @EntityListeners(AuditingEntityListener.class)
 @Entity
+@NamedEntityGraph(name = FetchPlans.INVOICE_RESPONSE, attributeNodes = {
+		@NamedAttributeNode("buyer"),
+		@NamedAttributeNode("relatedSales"),
+		@NamedAttributeNode("payment"),
+		@NamedAttributeNode("salesOrder"),
+		@NamedAttributeNode("createdBy")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -37,7 +47,9 @@ import lombok.NoArgsConstructor;
 public class Invoice {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "invoice_ids")
+    @TableGenerator(name = "invoice_ids", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+            valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "invoice", allocationSize = IdBlocks.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false, unique = true)
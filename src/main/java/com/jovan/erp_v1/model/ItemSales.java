@@ -14,12 +14,21 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@NamedEntityGraph(name = FetchPlans.ITEM_SALES_RESPONSE, attributeNodes = {
+		@NamedAttributeNode("goods"),
+		@NamedAttributeNode("sales"),
+		@NamedAttributeNode("procurement"),
+		@NamedAttributeNode("salesOrder")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -27,7 +36,9 @@ import lombok.NoArgsConstructor;
 public class ItemSales {
 
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "item_sales_ids")
+	@TableGenerator(name = "item_sales_ids", table = IdBlocks.TABLE, pkColumnName = IdBlocks.SEGMENT_COLUMN,
+			valueColumnName = IdBlocks.VALUE_COLUMN, pkColumnValue = "item_sales", allocationSize = IdBlocks.ALLOCATION_SIZE)
 	private Long id;
 	
 	@ManyToOne
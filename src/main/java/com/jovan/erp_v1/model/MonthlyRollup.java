@@ -0,0 +1,74 @@
+package com.jovan.erp_v1.model;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+import com.jovan.erp_v1.enumeration.MonthlyMetric;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Vrednost mesecne metrike za (metric, dimension, year, month). Zatvoreni meseci su zamrznuti (frozen),
+ * a tekuci i buduci meseci se ponovo racunaju iz izvorne tabele (vidi MonthlyRollupService).
+ */
+@Entity
+@Table(name = "monthly_rollup")
+@IdClass(MonthlyRollup.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MonthlyRollup {
+
+	/** dimension_id za metrike bez dimenzije */
+	public static final long NO_DIMENSION = 0L;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(length = 40)
+	private MonthlyMetric metric;
+
+	@Id
+	@Column(name = "dimension_id")
+	private Long dimensionId;
+
+	@Id
+	@Column(name = "period_year")
+	private Integer year;
+
+	@Id
+	@Column(name = "period_month")
+	private Integer month;
+
+	@Column(nullable = false)
+	private Long count;
+
+	@Column(precision = 19, scale = 2)
+	private BigDecimal amount;
+
+	@Column(nullable = false)
+	private Boolean frozen;
+
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private MonthlyMetric metric;
+		private Long dimensionId;
+		private Integer year;
+		private Integer month;
+	}
+}
@@ -1,8 +1,12 @@
 package com.jovan.erp_v1.model;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.jovan.erp_v1.enumeration.PermissionActionType;
 import com.jovan.erp_v1.enumeration.PermissionResourceType;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -16,6 +20,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.PERMISSION)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -8,6 +8,8 @@ import org.springframework.data.annotation.LastModifiedBy;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.jovan.erp_v1.enumeration.ExportFormat;
+import com.jovan.erp_v1.enumeration.ReportJobStatus;
 import com.jovan.erp_v1.enumeration.ReportType;
 
 import jakarta.persistence.Column;
@@ -18,12 +20,18 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @EntityListeners(AuditingEntityListener.class)
 @Entity
+@Table(indexes = {
+		@Index(name = "idx_report_parameters_hash", columnList = "parameters_hash"),
+		@Index(name = "idx_report_status", columnList = "status")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -42,6 +50,44 @@ public class Report {
 
     @Column
     private String filePath;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private ExportFormat format;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private ReportJobStatus status;
+
+    /** parametri u kanonskom obliku (type, format, from, to); isti parametri = isti izvestaj */
+    @Column(length = 500)
+    private String parameters;
+
+    /** SHA-256 od parameters, za deduplikaciju i kes rezultata */
+    @Column(name = "parameters_hash", length = 64)
+    private String parametersHash;
+
+    /** procenat generisanja 0-100 */
+    @Column
+    private Integer progress;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    /** poslednji znak zivota radnika koji drzi posao (preuzimanje, napredak, ReportJobs.poll); po njemu se posao vraca u red */
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    /** oznaka tekuceg preuzimanja posla (ReportJobs); upisi radnika koji ga je izgubio se odbacuju */
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    /** SHA-256 sadrzaja generisanog fajla; jak ETag pri preuzimanju */
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
     
     @CreatedDate
     @Column(name = "created_at", updatable = false)
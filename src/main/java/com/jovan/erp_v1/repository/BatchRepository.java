@@ -18,7 +18,6 @@ import com.jovan.erp_v1.enumeration.SupplierType;
 import com.jovan.erp_v1.enumeration.UnitMeasure;
 import com.jovan.erp_v1.model.Batch;
 import com.jovan.erp_v1.statistics.batch.BatchConfirmedStatDTO;
-import com.jovan.erp_v1.statistics.batch.BatchMonthlyStatDTO;
 import com.jovan.erp_v1.statistics.batch.BatchStatusStatDTO;
 
 
@@ -115,12 +114,4 @@ public interface BatchRepository extends JpaRepository<Batch, Long>, JpaSpecific
 			"FROM Batch b GROUP BY b.confirmed")
 	List<BatchConfirmedStatDTO> countBatchesByConfirmed();
 	
-	@Query("SELECT new com.jovan.erp_v1.statistics.batch.BatchMonthlyStatDTO(" +
-		       "CAST(FUNCTION('YEAR', b.productionDate) AS integer), "+
-				"CAST(FUNCTION('MONTH', b.productionDate) AS integer), "+
-		       	"COUNT(b)) "+
-				"FROM Batch b "+
-		       	"GROUP BY FUNCTION('YEAR', b.productionDate), FUNCTION('MONTH', b.productionDate) "+
-				"ORDER BY FUNCTION('YEAR', b.productionDate), FUNCTION('MONTH', b.productionDate)")
-	List<BatchMonthlyStatDTO> countBatchesByYearAndMonth();
 }
@@ -13,7 +13,6 @@ import org.springframework.stereotype.Repository;
 
 import com.jovan.erp_v1.model.CapacityPlanning;
 import com.jovan.erp_v1.statistics.capacity_planning.CapacityPlanningAvailableCapacityStatDTO;
-import com.jovan.erp_v1.statistics.capacity_planning.CapacityPlanningMonthlyStatDTO;
 import com.jovan.erp_v1.statistics.capacity_planning.CapacityPlanningPlannedLoadStatDTO;
 
 @Repository
@@ -56,15 +55,6 @@ public interface CapacityPlanningRepository extends JpaRepository<CapacityPlanni
     		"FROM CapacityPlanning cp GROUP BY cp.availableCapacity")
     List<CapacityPlanningAvailableCapacityStatDTO> countCapacityPlanningByAvailableCapacity();
     
-    @Query("SELECT new com.jovan.erp_v1.statistics.capacity_planning.CapacityPlanningMonthlyStatDTO(" +
-		       "CAST(FUNCTION('YEAR', cp.date) AS integer), "+
-			   "CAST(FUNCTION('MONTH', cp.date) AS integer), "+
-		       "COUNT(cp)) "+
-			   "FROM CapacityPlanning cp "+
-		       "GROUP BY FUNCTION('YEAR', cp.date), FUNCTION('MONTH', cp.date) "+
-			   "ORDER BY FUNCTION('YEAR', cp.date), FUNCTION('MONTH', cp.date)")
-    List<CapacityPlanningMonthlyStatDTO> countCapacityPlanningsByYearAndMonth();
-    
     @Query("SELECT SUM(cp.availableCapacity) FROM CapacityPlanning cp")
     BigDecimal getTotalAvailableCapacity();
     @Query("SELECT SUM(cp.plannedLoad) FROM CapacityPlanning cp")
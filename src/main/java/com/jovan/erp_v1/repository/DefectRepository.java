@@ -12,7 +12,6 @@ import com.jovan.erp_v1.enumeration.DefectStatus;
 import com.jovan.erp_v1.enumeration.SeverityLevel;
 import com.jovan.erp_v1.model.Defect;
 import com.jovan.erp_v1.statistics.defects.DefectConfirmedStatDTO;
-import com.jovan.erp_v1.statistics.defects.DefectMonthlyStatDTO;
 import com.jovan.erp_v1.statistics.defects.DefectSeverityStatDTO;
 import com.jovan.erp_v1.statistics.defects.DefectStatusSeverityStatDTO;
 import com.jovan.erp_v1.statistics.defects.DefectStatusStatDTO;
@@ -116,13 +115,4 @@ public interface DefectRepository extends JpaRepository<Defect, Long> {
 	@Query("SELECT new com.jovan.erp_v1.statistics.defects.DefectStatusSeverityStatDTO(d.status, d.severity, COUNT(d)) " +
 		       "FROM Defect d GROUP BY d.status, d.severity")
 	List<DefectStatusSeverityStatDTO> countDefectsByStatusAndSeverity();
-
-	@Query("SELECT new com.jovan.erp_v1.statistics.defects.DefectMonthlyStatDTO(" +
-		       "CAST(FUNCTION('YEAR', d.createdDate) AS integer), " +
-		       "CAST(FUNCTION('MONTH', d.createdDate) AS integer), " +
-		       "COUNT(d)) " +
-		       "FROM Defect d " +
-		       "GROUP BY FUNCTION('YEAR', d.createdDate), FUNCTION('MONTH', d.createdDate) " +
-		       "ORDER BY FUNCTION('YEAR', d.createdDate), FUNCTION('MONTH', d.createdDate)")
-	List<DefectMonthlyStatDTO> countDefectsByYearAndMonth();
 }
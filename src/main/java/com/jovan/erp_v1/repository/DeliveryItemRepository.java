@@ -5,6 +5,8 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -18,44 +20,76 @@ import com.jovan.erp_v1.enumeration.StorageType;
 import com.jovan.erp_v1.enumeration.SupplierType;
 import com.jovan.erp_v1.enumeration.UnitMeasure;
 import com.jovan.erp_v1.model.DeliveryItem;
+import com.jovan.erp_v1.model.FetchPlans;
 
 @Repository
 public interface DeliveryItemRepository extends JpaRepository<DeliveryItem, Long>, JpaSpecificationExecutor<DeliveryItem> {
 
+    @Override
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
+    List<DeliveryItem> findAll();
+
+    @Override
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
+    List<DeliveryItem> findAll(Specification<DeliveryItem> spec);
+
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByInboundDeliveryId(Long inboundId);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDeliveryId(Long outboundId);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByQuantity(BigDecimal quantity);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByQuantityGreaterThan(BigDecimal quantity);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByQuantityLessThan(BigDecimal quantity);
     @Query("SELECT d FROM DeliveryItem d WHERE d.product.id = :productId")
     DeliveryItem findByProductId(@Param("productId") Long productId);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_Name(String name);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByInboundDelivery_DeliveryDateBetween(LocalDate start, LocalDate end);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_DeliveryDateBetween(LocalDate start, LocalDate end);
     
     //nove metode
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_CurrentQuantity(BigDecimal currentQuantity);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_CurrentQuantityGreaterThan(BigDecimal currentQuantity);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_CurrentQuantityLessThan(BigDecimal currentQuantity);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_UnitMeasure(UnitMeasure unitMeasure);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_SupplierType(SupplierType supplierType);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_StorageType(StorageType storageType);
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_GoodsType(GoodsType goodsType);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.storage.id = :storageId")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_Storage_Id(@Param("storageId") Long storageId);
     @Query("SELECT di FROM DeliveryItem di WHERE LOWER (di.product.storage.name) LIKE LOWER (CONCAT('%', :storageName, '%'))")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_Storage_NameContainingIgnoreCase(@Param("storageName") String storageName);
     @Query("SELECT di FROM DeliveryItem di WHERE LOWER(di.product.storage.location) LIKE LOWER(CONCAT('%', :storageLocation, '%'))")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_Storage_LocationContainingIgnoreCase(@Param("storageLocation") String storageLocation);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.storage.capacity = :storageCapacity")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_Storage_Capacity(@Param("storageCapacity") BigDecimal storageCapacity);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.storage.capacity >= :storageCapacity")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_Storage_CapacityGreaterThan(@Param("storageCapacity") BigDecimal storageCapacity);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.storage.capacity <= :storageCapacity")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_Storage_CapacityLessThan(@Param("storageCapacity") BigDecimal storageCapacity);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.storage.type = :type")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_Storage_StorageType(@Param("type") StorageType type);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.storage.status = :status")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProduct_Storage_StorageStatus(@Param("status") StorageStatus status);
     @Query("""
     	    SELECT COALESCE(SUM(di.quantity), 0) 
@@ -77,59 +111,86 @@ public interface DeliveryItemRepository extends JpaRepository<DeliveryItem, Long
     	""")
     BigDecimal sumOutboundQuantityByStorageId(Long storageId);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.supply.id = :supplyId")	
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProductSupplyId(@Param("supplyId") Long supplyId);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.shelf.id = :shelfId")	
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProductShelfId(@Param("shelfId") Long shelfId);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.shelf.rowCount = :rowCount")	
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProductShelfRowCount(@Param("rowCount") Integer rowCount);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.shelf.cols = :cols")	
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByProductShelfCols(@Param("cols") Integer cols);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.shelf IS NULL")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findProductsWithoutShelf();
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByInboundDelivery_DeliveryDate(LocalDate start);
     @Query("SELECT di FROM DeliveryItem di WHERE di.inboundDelivery.supply.id = :supplyId")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByInboundDelivery_Supply_Id(@Param("supplyId") Long supplyId );
     @Query("SELECT di FROM DeliveryItem di WHERE di.inboundDelivery.status = :status")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByInboundDelivery_Status(@Param("status") DeliveryStatus status);
     @Query("SELECT di FROM DeliveryItem di WHERE di.inboundDelivery.status  = 'PENDING'")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByInboundDelivery_Status_Pending();
     @Query("SELECT di FROM DeliveryItem di WHERE di.inboundDelivery.status  = 'IN_TRANSIT'")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByInboundDelivery_Status_InTransit();
     @Query("SELECT di FROM DeliveryItem di WHERE di.inboundDelivery.status  = 'DELIVERED'")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByInboundDelivery_Status_Delivered();
     @Query("SELECT di FROM DeliveryItem di WHERE di.inboundDelivery.status  = 'CANCELLED'")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByInboundDelivery_Status_Cancelled();
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_DeliveryDate(LocalDate deliveryDate);
     @Query("SELECT di FROM DeliveryItem di WHERE di.outboundDelivery.status = :status")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_Status(@Param("status") DeliveryStatus status);
     @Query("SELECT di FROM DeliveryItem di WHERE di.outboundDelivery.status  = 'PENDING'")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_Status_Pending();
     @Query("SELECT di FROM DeliveryItem di WHERE di.outboundDelivery.status  = 'IN_TRANSIT'")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_Status_InTransit();
     @Query("SELECT di FROM DeliveryItem di WHERE di.outboundDelivery.status  = 'DELIVERED'")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_Status_Delivered();
     @Query("SELECT di FROM DeliveryItem di WHERE di.outboundDelivery.status  = 'CANCELLED'")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_Status_Cancelled();
     @Query("SELECT di FROM DeliveryItem di WHERE di.outboundDelivery.buyer.id = :buyerId")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_BuyerId(@Param("buyerId") Long buyerId);
     @Query("SELECT di FROM DeliveryItem di WHERE LOWER(di.outboundDelivery.buyer.companyName) LIKE LOWER(CONCAT('%', :companyName ,'%'))")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_BuyerNameContainingIgnoreCase(@Param("companyName") String companyName);
     @Query("SELECT di FROM DeliveryItem di WHERE di.outboundDelivery.buyer.address = :address")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_BuyerAddress(@Param("buyerId") String address);
     @Query("SELECT di FROM DeliveryItem di WHERE LOWER(di.outboundDelivery.buyer.email) LIKE LOWER(CONCAT('%', :buyerEmail, '%'))")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_BuyerEmailLikeIgnoreCase(@Param("buyerEmail") String buyerEmail);
     @Query("SELECT di FROM DeliveryItem di WHERE LOWER(di.outboundDelivery.buyer.phoneNumber) LIKE LOWER(CONCAT('%', :phoneNumber, '%'))")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_BuyerPhoneNumberLikeIgnoreCase(@Param("phoneNumber") String phoneNumber);
     @Query("SELECT di FROM DeliveryItem di WHERE LOWER(di.outboundDelivery.buyer.contactPerson) LIKE LOWER(CONCAT('%', :contactPerson, '%'))")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> findByOutboundDelivery_BuyerContactPersonContainingIgnoreCase(@Param("phoneNumber") String contactPerson);
     
     //nove metode
     @Query("SELECT di FROM DeliveryItem di WHERE di.id = :id")
     Optional<DeliveryItem> trackDeliveryItem(@Param("id") Long id);
     @Query("SELECT di FROM DeliveryItem di WHERE di.product.id = :productId")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> trackByProduct(@Param("productId") Long productId);
     @Query("SELECT di FROM DeliveryItem di WHERE di.inboundDelivery.id = :deliveryId")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> trackByInboundDelivery(@Param("deliveryId") Long deliveryId);
     @Query("SELECT di FROM DeliveryItem di WHERE di.outboundDelivery.id = :deliveryId")
+    @EntityGraph(FetchPlans.DELIVERY_ITEM_RESPONSE)
     List<DeliveryItem> trackByOutboundDelivery(@Param("deliveryId") Long deliveryId);
 }
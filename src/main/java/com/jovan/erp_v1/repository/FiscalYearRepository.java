@@ -11,7 +11,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.jovan.erp_v1.model.FiscalYear;
-import com.jovan.erp_v1.statistics.fiscal_year.FiscalYearMonthlyStatDTO;
 import com.jovan.erp_v1.statistics.fiscal_year.FiscalYearQuarterStatDTO;
 import com.jovan.erp_v1.statistics.fiscal_year.FiscalYearStatusStatDTO;
 import com.jovan.erp_v1.enumeration.FiscalQuarterStatus;
@@ -80,16 +79,6 @@ public interface FiscalYearRepository extends JpaRepository<FiscalYear, Long>, J
     @Query("SELECT f FROM FiscalYear f LEFT JOIN FETCH f.quarters WHERE f.id = :id")
     List<FiscalYear> trackFiscalYear(@Param("id") Long id);
 
-    @Query("""
-            SELECT new com.jovan.erp_v1.statistics.fiscal_year.FiscalYearMonthlyStatDTO(
-            CAST(FUNCTION('YEAR', f.startDate) as Integer),
-            CAST(FUNCTION('MONTH', f.startDate) as Integer),
-            COUNT(f)) FROM FiscalYear f
-            GROUP BY FUNCTION('YEAR' , f.startDate), FUNCTION('MONTH' , f.startDate)
-            ORDER BY FUNCTION('YEAR' , f.startDate), FUNCTION('MONTH' , f.startDate)
-            """)
-    List<FiscalYearMonthlyStatDTO> countFiscalYearsByYearAndMonth();
-
     @Query("SELECT new com.jovan.erp_v1.statistics.fiscal_year.FiscalYearStatusStatDTO(f.yearStatus, COUNT(f))"
             + "FROM FiscalYear f GROUP BY f.yearStatus")
     List<FiscalYearStatusStatDTO> countByFiscalYearStatus();
@@ -64,12 +64,6 @@ public interface IncomeStatementRepository extends JpaRepository<IncomeStatement
     BigDecimal sumRevenueByFiscalYearStatus(@Param("yearStatus") FiscalYearStatus yearStatus);
     List<IncomeStatement> findByFiscalYear_StartDate(LocalDate startDate);
     List<IncomeStatement> findByFiscalYear_EndDate(LocalDate endDate);
-    @Query("SELECT MONTH(i.periodStart) AS mesec, YEAR(i.periodStart) AS godina, SUM(i.netProfit) AS ukupnaDobit " +
-    	       "FROM IncomeStatement i " +
-    	       "WHERE YEAR(i.periodStart) = :year " +
-    	       "GROUP BY YEAR(i.periodStart), MONTH(i.periodStart) " +
-    	       "ORDER BY mesec")
-    List<Object[]> findMonthlyNetProfitByYear(@Param("year") Integer year);
     @Query("SELECT SUM(i.totalRevenue) FROM IncomeStatement i WHERE i.periodStart >= :start AND i.periodEnd <= :end")
     BigDecimal sumTotalRevenue(@Param("start") LocalDate start, @Param("end") LocalDate end);
     @Query("SELECT SUM(i.totalExpenses) FROM IncomeStatement i WHERE i.periodStart >= :start AND i.periodEnd <= :end")
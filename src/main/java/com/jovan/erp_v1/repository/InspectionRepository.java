@@ -6,6 +6,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -24,6 +26,7 @@ import com.jovan.erp_v1.enumeration.ReferenceType;
 import com.jovan.erp_v1.enumeration.StorageType;
 import com.jovan.erp_v1.enumeration.SupplierType;
 import com.jovan.erp_v1.enumeration.UnitMeasure;
+import com.jovan.erp_v1.model.FetchPlans;
 import com.jovan.erp_v1.model.Inspection;
 import com.jovan.erp_v1.statistics.inspection.InspectionResultStatDTO;
 import com.jovan.erp_v1.statistics.inspection.InspectionTypeStatDTO;
@@ -44,99 +47,174 @@ import com.jovan.erp_v1.statistics.inspection.QuantityRejectedByQualityCheckStat
 @Repository
 public interface InspectionRepository extends JpaRepository<Inspection, Long>, JpaSpecificationExecutor<Inspection> {
 
+	@Override
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
+	List<Inspection> findAll();
+
+	@Override
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
+	List<Inspection> findAll(Specification<Inspection> spec);
+
 	boolean existsByCode(String code);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByCode(String code);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByType(InspectionType type);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByResult(InspectionResult result);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByNotes(String notes);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByTypeAndResult(InspectionType type, InspectionResult result);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByNotesAndType(String notes, InspectionType type);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByNotesAndResult(String notes, InspectionResult result);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByInspectionDate(LocalDateTime inspectionDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByInspectionDateBefore(LocalDateTime inspectionDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByInspectionDateAfter(LocalDateTime inspectionDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByInspectionDateBetween(LocalDateTime start, LocalDateTime end);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByInspectionDateAndResult(LocalDateTime inspectionDate, InspectionResult result);
 	
 	//batch
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatchId(Long batchId);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatchCode(String batchCode);
 	boolean existsByBatchCode(String batchCode);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ExpiryDate(LocalDate expiryDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ExpiryDateAfter(LocalDate expiryDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ExpiryDateBefore(LocalDate expiryDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ExpiryDateBetween(LocalDate start, LocalDate end);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductionDate(LocalDate productionDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductionDateAfter(LocalDate productionDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductionDateBefore(LocalDate productionDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductionDateBetween(LocalDate productionDateStart, LocalDate productionDateEnd);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductionDateEquals(LocalDate today);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ExpiryDateLessThanEqual(LocalDate today);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductionDateGreaterThanEqual(LocalDate today);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ExpiryDateGreaterThanEqual(LocalDate expiryDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductionDateLessThanEqual(LocalDate productionDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ExpiryDateGreaterThan(LocalDate today);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ExpiryDateIsNotNull();
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductionDateIsNull();
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductionDateIsNotNull();
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ExpiryDateIsNull();
 	
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_QuantityProduced(Integer quantityProduced);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_QuantityProducedGreaterThan(Integer quantityProduced);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_QuantityProducedLessThan(Integer quantityProduced);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_QuantityProducedBetween(Integer min, Integer max);
 	//batch -> Product
 	@Query("SELECT i FROM Inspection i  WHERE i.batch.product.id = :productId")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductId(@Param("productId") Long productId);
 	@Query("SELECT i FROM Inspection i  WHERE i.batch.product.currentQuantity = :currentQuantity")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductCurrentQuantity(@Param("currentQuantity") BigDecimal currentQuantity);
 	@Query("SELECT i FROM Inspection i  WHERE i.batch.product.currentQuantity >= :currentQuantity")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductCurrentQuantityGreaterThan(@Param("currentQuantity") BigDecimal currentQuantity);
 	@Query("SELECT i FROM Inspection i  WHERE i.batch.product.currentQuantity <= :currentQuantity")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductCurrentQuantityLessThan(@Param("currentQuantity") BigDecimal currentQuantity);
 	@Query("SELECT i FROM Inspection i  WHERE i.batch.product.currentQuantity  BETWEEN :min AND :max")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductCurrentQuantityBetween(@Param("min") BigDecimal min, @Param("max") BigDecimal max);
 	@Query("SELECT i FROM Inspection i  WHERE LOWER(i.batch.product.name) LIKE LOWER(CONCAT('%', :productName, '%'))")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductNameContainingIgnoreCase(@Param("productName") String productName);
 	@Query("SELECT i FROM Inspection i WHERE i.batch.product.unitMeasure = :unitMeasure")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductUnitMeasure(@Param("unitMeasure") UnitMeasure unitMeasure); 
 	@Query("SELECT i FROM Inspection i WHERE i.batch.product.supplierType = :supplierType")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductSupplierType(@Param("supplierType") SupplierType supplierType);
 	@Query("SELECT i FROM Inspection i WHERE i.batch.product.storageType = :storageType")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductStorageType(@Param("storageType") StorageType storageType);
 	@Query("SELECT i FROM Inspection i WHERE i.batch.product.goodsType = :goodsType")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_ProductGoodsType(@Param("goodsType") GoodsType goodsType);
 	@Query("SELECT i FROM Inspection i WHERE i.batch.product.storage.id = :storageId")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_Product_StorageId(@Param("storageId") Long storageId);
 	@Query("SELECT i FROM Inspection i WHERE i.batch.product.shelf.id = :shelfId")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_Product_ShelfId(@Param("shelfId") Long shelfId);
 	@Query("SELECT i FROM Inspection i WHERE i.batch.product.supply.id = :supplyId")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByBatch_Product_SupplyId(@Param("supplyId") Long supplyId);
 	//Inspector
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByInspectorId(Long inspectorId);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByInspectorFirstNameContainingIgnoreCaseAndInspectorLastNameContainingIgnoreCase(String firstName, String lastName);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByInspectorEmailLikeIgnoreCase(String inspectorEmail);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByInspectorPhoneNumberLikeIgnoreCase(String inspectorPhoneNumber);
 	//product
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProductId(Long productId);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProductCurrentQuantity(BigDecimal currentQuantity);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProductCurrentQuantityGreaterThan(BigDecimal currentQuantity);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProductCurrentQuantityLessThan(BigDecimal currentQuantity);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProductCurrentQuantityBetween(BigDecimal min, BigDecimal max);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProductNameContainingIgnoreCase(String productName);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProductUnitMeasure(UnitMeasure unitMeasure);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProductSupplierType(SupplierType supplierType);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProductStorageType(StorageType storageType);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProductGoodsType(GoodsType goodsType);
 	@Query("SELECT i FROM Inspection i WHERE i.product.supply.id = :supplyId")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProduct_SupplyId(@Param("supplyId") Long supplyId);
 	@Query("SELECT i FROM Inspection i WHERE i.product.shelf.id = :shelfId")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProduct_ShelfId(@Param("shelfId") Long shelfId);
 	@Query("SELECT i FROM Inspection i WHERE i.product.storage.hasShelvesFor IS NULL")
 	Optional<Inspection>findByProduct_StorageHasShelvesForIsNull();
 	@Query("SELECT i FROM Inspection i WHERE i.product.shelf.rowCount = :rowCount")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProduct_ShelfRowCount(@Param("rowCount") Integer rowCount);
 	@Query("SELECT i FROM Inspection i WHERE i.product.shelf.cols = :cols")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProduct_ShelfCols(@Param("cols") Integer cols);
 	@Query("""
 		       SELECT i 
@@ -144,6 +222,7 @@ public interface InspectionRepository extends JpaRepository<Inspection, Long>, J
 		       WHERE (:row IS NULL OR i.product.shelf.rowCount = :row)
 		         AND (:col IS NULL OR i.product.shelf.cols = :col)
 		       """)
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProduct_ShelfRowAndColNullable(@Param("row") Integer row,@Param("col") Integer col);
 	@Query("""
 		    SELECT i 
@@ -153,21 +232,34 @@ public interface InspectionRepository extends JpaRepository<Inspection, Long>, J
 		      AND (:colMin IS NULL OR i.product.shelf.cols >= :colMin)
 		      AND (:colMax IS NULL OR i.product.shelf.cols <= :colMax)
 		""")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByProduct_ShelfRowAndColBetweenNullable(@Param("rowMin") Integer rowMin,@Param("rowMax") Integer rowMax, @Param("colMin") Integer colMin, @Param("colMax") Integer colMax);
 	
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityInspected(Integer quantityInspected);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityInspectedGreaterThan(Integer quantityInspected);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityInspectedLessThan(Integer quantityInspected);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityInspectedBetween(Integer min, Integer max);
 	
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityAccepted(Integer quantityAccepted);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityAcceptedGreaterThan(Integer quantityAccepted);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityAcceptedLessThan(Integer quantityAccepted);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityAcceptedBetween(Integer min, Integer max);
 	
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityRejected(Integer quantityRejected);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityRejectedGreaterThan(Integer quantityRejected);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityRejectedLessThan(Integer quantityRejected);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQuantityRejectedBetween(Integer min, Integer max);
 	
 	@Query("SELECT new com.jovan.erp_v1.dto.InspectionQuantityInspectedSummaryDTO(COUNT(i), SUM(i.quantityInspected)) " +
@@ -182,33 +274,53 @@ public interface InspectionRepository extends JpaRepository<Inspection, Long>, J
 	           "FROM Inspection i")
 	InspectionQuantityRejectedSummaryDTO getQuantityRejectedSummary();
 	//quality-check
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckId(Long qualityCheckId);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckLocDate(LocalDateTime locDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckLocDateAfter(LocalDateTime locDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckLocDateBefore(LocalDateTime locDate);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckLocDateBetween(LocalDateTime start, LocalDateTime end);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckNotes(String notes);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckReferenceId(Long referenceId);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckReferenceType(ReferenceType referenceType);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheck_CheckType(QualityCheckType checkType);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheck_Status(QualityCheckStatus status);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheck_ReferenceTypeAndQualityCheck_CheckType(ReferenceType referenceType, QualityCheckType checkType);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheck_ReferenceTypeAndQualityCheck_Status(ReferenceType referenceType, QualityCheckStatus status);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheck_CheckTypeAndQualityCheck_Status(QualityCheckType checkType, QualityCheckStatus status);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckInspectorId(Long inspectorId);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckInspectorEmailLikeIgnoreCase(String inspectorEmail);
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckInspectorPhoneNumberLikeIgnoreCase(String inspectorPhoneNumber);
 	@Query("SELECT i FROM Inspection i WHERE LOWER(i.qualityCheck.inspector.firstName) LIKE LOWER(CONCAT('%', :firstName,'%')) AND LOWER(i.qualityCheck.inspector.firstName) LIKE LOWER(CONCAT('%', :lastName,'%'))")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByQualityCheckInspectorFirstNameContainingIgnoreCaseAndQualityCheckInspectorLastNameContainingIgnoreCase(@Param("firstName") String firstName,@Param("lastName") String lastName);
 	
 	//nove metode
 	@Query("SELECT i FROM Inspection i LEFT JOIN FETCH i.defects WHERE i.id = :id")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> trackInspectionByInspectionDefect(@Param("id") Long id);
 	@Query("SELECT i FROM Inspection i LEFT JOIN FETCH i.measurements WHERE i.id = :id")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> trackInspectionByTestMeasurement(@Param("id") Long id);
 	
 	@Query("SELECT i FROM Inspection i WHERE (:id IS NULL OR i.id = :id) "
 			+ "AND (:notes IS NULL OR LOWER(i.notes) LIKE LOWER(CONCAT('%', :notes, '%')))")
+	@EntityGraph(FetchPlans.INSPECTION_RESPONSE)
 	List<Inspection> findByReports(@Param("id") Long id, @Param("notes") String notes);
 	@Query("""
 			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityInspectedByBatchStatDTO(
@@ -0,0 +1,125 @@
+package com.jovan.erp_v1.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.jovan.erp_v1.model.InspectionRollup;
+import com.jovan.erp_v1.statistics.inspection.QuantityAcceptedByBatchStatDTO;
+import com.jovan.erp_v1.statistics.inspection.QuantityAcceptedByInspectorStatDTO;
+import com.jovan.erp_v1.statistics.inspection.QuantityAcceptedByProductStatDTO;
+import com.jovan.erp_v1.statistics.inspection.QuantityAcceptedByQualityCheckStatDTO;
+import com.jovan.erp_v1.statistics.inspection.QuantityInspectedByBatchStatDTO;
+import com.jovan.erp_v1.statistics.inspection.QuantityInspectedByInspectorStatDTO;
+import com.jovan.erp_v1.statistics.inspection.QuantityInspectedByProductStatDTO;
+import com.jovan.erp_v1.statistics.inspection.QuantityInspectedByQualityCheckStatDTO;
+import com.jovan.erp_v1.statistics.inspection.QuantityRejectedByBatchStatDTO;
+import com.jovan.erp_v1.statistics.inspection.QuantityRejectedByInspectorStatDTO;
+import com.jovan.erp_v1.statistics.inspection.QuantityRejectedByProductStatDTO;
+import com.jovan.erp_v1.statistics.inspection.QuantityRejectedByQualityCheckStatDTO;
+
+/**
+ * Citanje inspekcijskih statistika iz inspection_rollup umesto GROUP BY nad inspection tabelom.
+ * Nazivi (batch code, ime proizvoda, inspektor) se spajaju po id-u iz malih tabela.
+ */
+@Repository
+public interface InspectionRollupRepository extends JpaRepository<InspectionRollup, InspectionRollup.Key> {
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityInspectedByBatchStatDTO(
+			r.inspectionCount, CAST(r.quantityInspected AS integer), b.id, b.code)
+			FROM InspectionRollup r JOIN Batch b ON b.id = r.dimensionId
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.BATCH AND r.inspectionCount > 0
+			""")
+	List<QuantityInspectedByBatchStatDTO> countQuantityInspectedByBatch();
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityRejectedByBatchStatDTO(
+			r.inspectionCount, CAST(r.quantityRejected AS integer), b.id, b.code)
+			FROM InspectionRollup r JOIN Batch b ON b.id = r.dimensionId
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.BATCH AND r.inspectionCount > 0
+			""")
+	List<QuantityRejectedByBatchStatDTO> countQuantityRejectedByBatch();
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityAcceptedByBatchStatDTO(
+			r.inspectionCount, CAST(r.quantityAccepted AS integer), b.id, b.code)
+			FROM InspectionRollup r JOIN Batch b ON b.id = r.dimensionId
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.BATCH AND r.inspectionCount > 0
+			""")
+	List<QuantityAcceptedByBatchStatDTO> countQuantityAcceptedByBatch();
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityInspectedByProductStatDTO(
+			r.inspectionCount, CAST(r.quantityInspected AS integer), p.id, p.name)
+			FROM InspectionRollup r JOIN Product p ON p.id = r.dimensionId
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.PRODUCT AND r.inspectionCount > 0
+			""")
+	List<QuantityInspectedByProductStatDTO> countQuantityInspectedByProduct();
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityAcceptedByProductStatDTO(
+			r.inspectionCount, CAST(r.quantityAccepted AS integer), p.id, p.name)
+			FROM InspectionRollup r JOIN Product p ON p.id = r.dimensionId
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.PRODUCT AND r.inspectionCount > 0
+			""")
+	List<QuantityAcceptedByProductStatDTO> countQuantityAcceptedByProduct();
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityRejectedByProductStatDTO(
+			r.inspectionCount, CAST(r.quantityRejected AS integer), p.id, p.name)
+			FROM InspectionRollup r JOIN Product p ON p.id = r.dimensionId
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.PRODUCT AND r.inspectionCount > 0
+			""")
+	List<QuantityRejectedByProductStatDTO> countQuantityRejectedByProduct();
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityInspectedByInspectorStatDTO(
+			r.inspectionCount, CAST(r.quantityInspected AS integer), u.id, u.firstName, u.lastName)
+			FROM InspectionRollup r JOIN User u ON u.id = r.dimensionId
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.INSPECTOR AND r.inspectionCount > 0
+			""")
+	List<QuantityInspectedByInspectorStatDTO> countQuantityInspectedByInspector();
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityAcceptedByInspectorStatDTO(
+			r.inspectionCount, CAST(r.quantityAccepted AS integer), u.id, u.firstName, u.lastName)
+			FROM InspectionRollup r JOIN User u ON u.id = r.dimensionId
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.INSPECTOR AND r.inspectionCount > 0
+			""")
+	List<QuantityAcceptedByInspectorStatDTO> countQuantityAcceptedByInspector();
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityRejectedByInspectorStatDTO(
+			r.inspectionCount, CAST(r.quantityRejected AS integer), u.id, u.firstName, u.lastName)
+			FROM InspectionRollup r JOIN User u ON u.id = r.dimensionId
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.INSPECTOR AND r.inspectionCount > 0
+			""")
+	List<QuantityRejectedByInspectorStatDTO> countQuantityRejectedByInspector();
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityInspectedByQualityCheckStatDTO(
+			r.inspectionCount, CAST(r.quantityInspected AS integer), r.dimensionId)
+			FROM InspectionRollup r
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.QUALITY_CHECK AND r.inspectionCount > 0
+			""")
+	List<QuantityInspectedByQualityCheckStatDTO> countQuantityInspectedByQualityCheck();
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityAcceptedByQualityCheckStatDTO(
+			r.inspectionCount, CAST(r.quantityAccepted AS integer), r.dimensionId)
+			FROM InspectionRollup r
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.QUALITY_CHECK AND r.inspectionCount > 0
+			""")
+	List<QuantityAcceptedByQualityCheckStatDTO> countQuantityAcceptedByQualityCheck();
+
+	@Query("""
+			SELECT new com.jovan.erp_v1.statistics.inspection.QuantityRejectedByQualityCheckStatDTO(
+			r.inspectionCount, CAST(r.quantityRejected AS integer), r.dimensionId)
+			FROM InspectionRollup r
+			WHERE r.dimension = com.jovan.erp_v1.enumeration.InspectionRollupDimension.QUALITY_CHECK AND r.inspectionCount > 0
+			""")
+	List<QuantityRejectedByQualityCheckStatDTO> countQuantityRejectedByQualityCheck();
+}
@@ -6,6 +6,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
@@ -19,6 +21,7 @@ import com.jovan.erp_v1.enumeration.StorageStatus;
 import com.jovan.erp_v1.enumeration.StorageType;
 import com.jovan.erp_v1.enumeration.SupplierType;
 import com.jovan.erp_v1.enumeration.UnitMeasure;
+import com.jovan.erp_v1.model.FetchPlans;
 import com.jovan.erp_v1.model.InventoryItems;
 import com.jovan.erp_v1.request.InventoryItemCalculateRequest;
 import com.jovan.erp_v1.response.InventoryItemStorageCapacityResponse;
@@ -34,12 +37,26 @@ import jakarta.transaction.Transactional;
 @Repository
 public interface InventoryItemsRepository extends JpaRepository<InventoryItems, Long>, JpaSpecificationExecutor<InventoryItems> {
 
+	@Override
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
+	List<InventoryItems> findAll();
+
+	@Override
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
+	List<InventoryItems> findAll(Specification<InventoryItems> spec);
+
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventoryId(Long inventoryId);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProductId(Long productId);
 	@Query("SELECT it FROM InventoryItems it WHERE it.product.name = :productName")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProductName(@Param("productName") String productName);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByDifferenceGreaterThan(BigDecimal threshold);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByQuantity(BigDecimal quantity);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByItemCondition(BigDecimal itemCondition);
 	// void deleteAllByInventoryId(Long inventoryId);
 	@Modifying
@@ -49,12 +66,19 @@ public interface InventoryItemsRepository extends JpaRepository<InventoryItems,
 	void deleteAllById(Long inventoryId);
 
 	//nove metode
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByDifference(BigDecimal difference);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByDifferenceLessThan(BigDecimal difference);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByQuantityGreaterThan(BigDecimal quantity);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByQuantityLessThan(BigDecimal quantity);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByItemConditionGreaterThan(BigDecimal itemCondition);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByItemConditionLessThan(BigDecimal itemCondition);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByItemConditionAndQuantity(BigDecimal itemCondition, BigDecimal quantity);
 	@Query("SELECT new com.jovan.erp_v1.request.InventoryItemCalculateRequest(i.id, i.quantity, i.itemCondition) " +
 		       "FROM InventoryItems i WHERE i.inventory.id = :inventoryId")
@@ -63,48 +87,75 @@ public interface InventoryItemsRepository extends JpaRepository<InventoryItems,
 		       "FROM InventoryItems i WHERE i.inventory.id = :inventoryId")
 	List<InventoryItemCalculateRequest> findItemsForShortageAllowed(@Param("inventoryId") Long inventoryId);
 	@Query("SELECT i FROM InventoryItems i WHERE i.inventory.storageEmployee.id = :storageEmployeeId")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventory_StorageEmployee_Id(@Param("storageEmployeeId") Long storageEmployeeId);
 	@Query("SELECT i FROM InventoryItems i WHERE i.inventory.storageForeman.id = :storageForemanId")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventory_StorageForeman_Id(@Param("storageEmployeeId") Long storageForemanId);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventoryDate(LocalDate date);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventoryDateBetween(LocalDate start, LocalDate end);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventoryDateAfter(LocalDate date);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventoryDateBefore(LocalDate date);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventory_Status(InventoryStatus status);
 	Boolean existsByInventory_Aligned(Boolean aligned);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventoryAlignedFalse();
 	@Query("SELECT i FROM InventoryItems i WHERE i.inventory.status = :status AND i.inventory.storageEmployee.id = :storageEmployeeId")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventoryStatusAndInventoryStorageEmployeeId(@Param("status") InventoryStatus status,@Param("storageEmployeeId") Long storageEmployeeId);
 	@Query("SELECT i FROM InventoryItems i WHERE i.inventory.status = :status AND i.inventory.storageForeman.id = :storageForemanId")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventoryStatusAndInventoryStorageForemanId(@Param("status") InventoryStatus status,@Param("storageForemanId") Long storageForemanId);
 	Boolean existsByInventoryAlignedFalseAndInventoryStorageEmployeeId(Long employeeId);
 	@Query("SELECT i FROM InventoryItems i WHERE i.difference IS NOT NULL AND i.difference <> 0")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findItemsWithNonZeroDifference();
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventoryStatusAndInventoryAlignedFalse(InventoryStatus status);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByInventoryDateAndInventoryStorageForemanId(LocalDate date, Long foremanId);
 	@Query("SELECT new com.jovan.erp_v1.response.InventorySummaryResponse(i.inventory.id, COUNT(i), SUM(i.quantity)) " +
 		       "FROM InventoryItems i GROUP BY i.inventory.id")
 	List<InventorySummaryResponse> fetchInventorySummaries();
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_CurrentQuantity(BigDecimal currentQuantity);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_CurrentQuantityGreaterThan(BigDecimal currentQuantity);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_CurrentQuantityLessThan(BigDecimal currentQuantity);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_UnitMeasure(UnitMeasure unitMeasure);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_SupplierType(SupplierType supplierType);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_StorageType(StorageType storageType);
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_GoodsType(GoodsType type);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.storage.id = :storageId")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_StorageId(@Param("storageId") Long storageId);
 	@Query("SELECT i FROM InventoryItems i WHERE LOWER(i.product.storage.name) LIKE LOWER(CONCAT('%', :storageName, '%'))")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_StorageNameContainingIgnoreCase(@Param("storageName") String storageName);
 	@Query("SELECT i FROM InventoryItems i WHERE LOWER(i.product.storage.location) LIKE LOWER(CONCAT('%', :storageLocation, '%'))")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_StorageLocationContainingIgnoreCase(@Param("storageLocation") String storageLocation);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.storage.capacity = :capacity")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_StorageCapacity(@Param("capacity") BigDecimal capacity);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.storage.capacity >= :capacity")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_StorageCapacityGreaterThan(@Param("capacity") BigDecimal capacity);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.storage.capacity <= :capacity")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_StorageCapacityLessThan(@Param("capacity") BigDecimal capacity);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.storage.status = :status")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_Storage_Status(@Param("status") StorageStatus status);
 	@Query("SELECT new com.jovan.erp_v1.response.InventoryItemStorageCapacityResponse(i.id, p.id, s.id, s.usedCapacity) " +
 		       "FROM InventoryItems i " +
@@ -147,35 +198,49 @@ public interface InventoryItemsRepository extends JpaRepository<InventoryItems,
 		""")
 	List<StorageCapacityAndInventorySummaryResponse> fetchDetailedStorageStats();
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.supply.id = :supplyId")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_SupplyId(@Param("supplyId") Long supplyId);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.supply.quantity = :quantity")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_SupplyQuantity(@Param("quantity") BigDecimal quantity);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.supply.quantity >= :quantity")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_SupplyQuantityGreaterThan(@Param("quantity") BigDecimal quantity);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.supply.quantity <= :quantity")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_SupplyQuantityLessThan(@Param("quantity") BigDecimal quantity);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.supply.updates = :updates")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_SupplyUpdates(@Param("updates") LocalDateTime updates);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.supply.updates BETWEEN :start AND :end")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_SupplyUpdatesBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.supply.storage.id = :storageId")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_SupplyStorageId(@Param("storageId") Long storageId);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.shelf.id = :shelfId")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_ShelfId(@Param("shelfId") Long shelfId);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.shelf.rowCount = :rowCount")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_ShelfRowCount(@Param("rowCount") Integer rowCount);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.shelf.cols = :cols")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_ShelfCols(@Param("cols") Integer cols);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.shelf IS NULL")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findInventoryItemsWithoutShelf();
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> findByProduct_ShelfIsNotNull();
 	
 	//nove metode
 	@Query("SELECT i FROM InventoryItems i WHERE i.id = :id")
 	Optional<InventoryItems> trackInventoryItems(@Param("id") Long id);
 	@Query("SELECT i FROM InventoryItems i WHERE i.inventory.id = :inventoryId")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> trackInventoryItemsByInventory(@Param("inventoryId") Long inventoryId);
 	@Query("SELECT i FROM InventoryItems i WHERE i.product.id = :productId")
+	@EntityGraph(FetchPlans.INVENTORY_ITEMS_RESPONSE)
 	List<InventoryItems> trackInventoryItemsByProduct(@Param("productId") Long productId);
 	
 	@Query("""
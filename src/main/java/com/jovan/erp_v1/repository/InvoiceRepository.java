@@ -5,6 +5,8 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -14,6 +16,7 @@ import com.jovan.erp_v1.enumeration.InvoiceStatus;
 import com.jovan.erp_v1.enumeration.OrderStatus;
 import com.jovan.erp_v1.enumeration.PaymentMethod;
 import com.jovan.erp_v1.enumeration.PaymentStatus;
+import com.jovan.erp_v1.model.FetchPlans;
 import com.jovan.erp_v1.model.Invoice;
 import com.jovan.erp_v1.statistics.invoice.InvoiceTotalAmountByBuyerStatDTO;
 import com.jovan.erp_v1.statistics.invoice.InvoiceTotalAmountByPaymentStatDTO;
@@ -23,49 +26,93 @@ import com.jovan.erp_v1.statistics.invoice.InvoiceTotalAmountBySalesStatDTO;
 @Repository
 public interface InvoiceRepository extends JpaRepository<Invoice, Long>, JpaSpecificationExecutor<Invoice> {
 
+	@Override
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
+	List<Invoice> findAll();
+
+	@Override
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
+	List<Invoice> findAll(Specification<Invoice> spec);
+
 	Optional<Invoice> findByInvoiceNumber(String invocieNumber);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByStatus(InvoiceStatus status);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByIssueDateBetween(LocalDateTime start, LocalDateTime end);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByDueDateBefore(LocalDateTime date);
 	@Query("SELECT i FROM Invoice i WHERE i.payment.status = :status")
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByPaymentStatus(@Param("status") PaymentStatus status);
 	boolean existsByInvoiceNumber(String invoiceNumber);
 	@Query("SELECT i FROM Invoice i WHERE i.buyer.id = :buyerId ORDER BY i.issueDate DESC")
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByBuyerIdOrderByIssueDateDesc(@Param("buyerId") Long buyerId);
 	@Query("SELECT i FROM Invoice i WHERE i.buyer.id = :buyerId AND i.status = :status")
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByBuyerIdAndStatus(@Param("buyerId") Long buyerId, @Param("status") InvoiceStatus status);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByInvoiceNumberContainingIgnoreCase(String fragment);
 	@Query("SELECT i FROM Invoice i WHERE i.buyer.id = :buyerId ORDER BY i.issueDate DESC")
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findInvoicesByBuyerSortedByIssueDate(@Param("buyerId") Long buyerId);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByTotalAmount(BigDecimal totalAmount);
 	//nove metode
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByNoteContainingIgnoreCase(String note);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByBuyerId(Long buyerId);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByBuyerCompanyNameContainingIgnoreCase(String companyName);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByBuyerPib(String pib);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByBuyerEmailContainingIgnoreCase(String email);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByBuyerPhoneNumber(String phoneNumber);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByRelatedSales_Id(Long relatedSalesId);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByRelatedSales_TotalPrice(BigDecimal totalPrice);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByRelatedSales_TotalPriceGreaterThan(BigDecimal totalPrice);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByRelatedSales_TotalPriceLessThan(BigDecimal totalPrice);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByPayment_Id(Long paymentId);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByPayment_Amount(BigDecimal amount);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByPayment_PaymentDate(LocalDateTime paymentDate);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByPayment_PaymentDateBetween(LocalDateTime paymentDateStart, LocalDateTime paymentDateEnd);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByPayment_Method(PaymentMethod method);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByPayment_ReferenceNumberContainingIgnoreCase(String referenceNumber);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findBySalesOrder_Id(Long salesOrderId);
 	boolean existsBySalesOrder_OrderNumber(String orderNumber);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findBySalesOrder_OrderDate(LocalDateTime orderDate);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findBySalesOrder_OrderDateBetween(LocalDateTime orderDateStart, LocalDateTime orderDateEnd);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findBySalesOrder_TotalAmount(BigDecimal totalAmount);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findBySalesOrder_TotalAmountGreaterThan(BigDecimal totalAmount);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findBySalesOrder_TotalAmountLessThan(BigDecimal totalAmount);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findBySalesOrder_Status(OrderStatus status);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findBySalesOrder_NoteContainingIgnoreCase(String note);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByCreatedBy_Id(Long createdById);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByCreatedBy_EmailContainingIgnoreCase(String createdByEmail);
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByCreatedBy_FirstNameContainingIgnoreCaseAndCreatedBy_LastNameContainingIgnoreCase(String createdByFirstName, String createdByLastName);
 	boolean existsByBuyer_Pib(String pib);
 	Integer countByIssueDateBetween(LocalDateTime atStartOfDay, LocalDateTime atStartOfDay2);
@@ -76,15 +123,20 @@ public interface InvoiceRepository extends JpaRepository<Invoice, Long>, JpaSpec
 	Optional<Invoice> trackInvoice(@Param("id") Long id);
 	
 	@Query("SELECT i FROM Invoice i WHERE i.buyer.id = :buyerId")
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> trackInvoiceByBuyer(@Param("buyerId") Long buyerId);
 	@Query("SELECT i FROM Invoice i WHERE i.relatedSales.id = :salesId")
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> trackInvoiceBySales(@Param("salesId") Long salesId);
 	@Query("SELECT i FROM Invoice i WHERE i.payment.id = :paymentId")
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> trackInvoiceByPayment(@Param("paymentId") Long paymentId);
 	@Query("SELECT i FROM Invoice i WHERE i.salesOrder.id = :salesOrderId")
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> trackInvoiceBySalesOrder(@Param("salesOrderId") Long salesOrderId);
 	@Query("SELECT i FROM Invoice i WHERE (:id IS NULL OR i.id = :id)"
 			+ "AND (:note IS NULL OR LOWER(i.note) LIKE LOWER(CONCAT('%', :note, '%')))")
+	@EntityGraph(FetchPlans.INVOICE_RESPONSE)
 	List<Invoice> findByReports(@Param("id") Long id, @Param("note") String note);
 	@Query("""
 	        SELECT new com.jovan.erp_v1.statistics.invoice.InvoiceTotalAmountByBuyerStatDTO(
@@ -6,6 +6,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -18,6 +20,7 @@ import com.jovan.erp_v1.enumeration.StorageType;
 import com.jovan.erp_v1.enumeration.SupplierType;
 import com.jovan.erp_v1.enumeration.UnitMeasure;
 import com.jovan.erp_v1.model.Goods;
+import com.jovan.erp_v1.model.FetchPlans;
 import com.jovan.erp_v1.model.ItemSales;
 import com.jovan.erp_v1.statistics.item_sales.ItemSalesQuantityByGoodsStatDTO;
 import com.jovan.erp_v1.statistics.item_sales.ItemSalesQuantityByProcurementStatDTO;
@@ -32,117 +35,171 @@ import com.jovan.erp_v1.statistics.item_sales.ItemSalesUnitPriceBySalesStatDTO;
 @Repository
 public interface ItemSalesRepository extends JpaRepository<ItemSales, Long>, JpaSpecificationExecutor<ItemSales> {
 
+	@Override
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
+	List<ItemSales> findAll();
+
+	@Override
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
+	List<ItemSales> findAll(Specification<ItemSales> spec);
+
 	// goods
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods(Goods goods);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods_Id(Long goodsId);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods_NameContainingIgnoreCase(String goodsName);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods_UnitMeasure(UnitMeasure unitMeasure);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods_SupplierType(SupplierType supplierType);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods_StorageType(StorageType storageType);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods_GoodsType(GoodsType goodsType);
 
 	@Query("SELECT is FROM ItemSales is WHERE is.goods.storage.id = :storageId ")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods_Storage_Id(@Param("storageId") Long storageId);
 
 	@Query("SELECT is FROM ItemSales is WHERE is.goods.supply.id = :supplyId")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods_Supply_Id(@Param("supplyId") Long supplyId);
 
 	@Query("SELECT is FROM ItemSales is WHERE is.goods.shelf.id = :shelfId")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods_Shelf_Id(@Param("shelfId") Long shelfId);
 
 	@Query("SELECT is FROM ItemSales is WHERE is.goods.shelf.rowCount = :rowCount")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods_Shelf_RowCount(@Param("rowCount") Integer rowCount);
 
 	@Query("SELECT is FROM ItemSales is WHERE is.goods.shelf.cols = :cols")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByGoods_Shelf_Cols(@Param("cols") Integer cols);
 
 	// sales
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySales_Id(Long salesId);
 
 	@Query("SELECT is FROM ItemSales is WHERE is.sales.buyer.id = :buyerId")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySales_Buyer_Id(@Param("buyerId") Long buyerId);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySales_CreatedAt(LocalDateTime createdAt);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySales_CreatedAtBetween(LocalDateTime createdAtStart, LocalDateTime createdAtEnd);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySales_TotalPrice(BigDecimal totalPrice);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySales_TotalPriceGreaterThan(BigDecimal totalPrice);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySales_TotalPriceLessThan(BigDecimal totalPrice);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySales_SalesDescription(String salesDescription);
 
 	// procurement
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByProcurement_Id(Long procurementId);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByProcurement_Date(LocalDateTime date);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByProcurement_DateBetween(LocalDateTime dateStart, LocalDateTime dateEnd);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByProcurement_TotalCost(BigDecimal totalCost);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByProcurement_TotalCostGreaterThan(BigDecimal totalCost);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByProcurement_TotalCostLessThan(BigDecimal totalCost);
 
 	// salesOrder
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySalesOrder_Id(Long salesOrderId);
 
 	boolean existsBySalesOrder_OrderNumber(String orderNumber);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySalesOrder_OrderNumber(String orderNumber);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySalesOrder_OrderDate(LocalDateTime orderDate);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySalesOrder_OrderDateBetween(LocalDateTime orderDateStart, LocalDateTime orderDateEnd);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySalesOrder_TotalAmount(BigDecimal totalAmount);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySalesOrder_TotalAmountGreaterThan(BigDecimal totalAmount);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySalesOrder_TotalAmountLessThan(BigDecimal totalAmount);
 
 	@Query("SELECT is FROM  ItemSales is WHERE is.salesOrder.buyer.id = :buyerId")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySalesOrder_Buyer_Id(@Param("buyerId") Long buyerId);
 
 	@Query("SELECT is FROM ItemSales is WHERE is.salesOrder.status = :status")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySalesOrder_OrderStatus(@Param("status") OrderStatus status);
 
 	@Query("SELECT is FROM  ItemSales is WHERE is.salesOrder.invoice.id = :invoiceId")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findBySalesOrder_Invoice_Id(@Param("invoiceId") Long invoiceId);
 
 	// itemSales
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByQuantity(BigDecimal quantity);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByQuantityLessThan(BigDecimal quantity);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByQuantityGreaterThan(BigDecimal quantity);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByUnitPrice(BigDecimal unitPrice);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByUnitPriceGreaterThan(BigDecimal unitPrice);
 
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> findByUnitPriceLessThan(BigDecimal unitPrice);
 
 	// nove metode
 	@Query("SELECT i FROM ItemSales i WHERE i.goods.id = :goodsId")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> trackItemSalesByGoods(@Param("goodsId") Long goodsId);
 
 	@Query("SELECT i FROM ItemSales i WHERE i.sales.id = :salesId")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> trackItemSalesBySales(@Param("salesId") Long salesId);
 
 	@Query("SELECT i FROM ItemSales i WHERE i.procurement.id = :procurementId")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> trackItemSalesByProcurement(@Param("procurementId") Long procurementId);
 
 	@Query("SELECT i FROM ItemSales i WHERE i.salesOrder.id = :salesOrderId")
+	@EntityGraph(FetchPlans.ITEM_SALES_RESPONSE)
 	List<ItemSales> trackItemSalesBySalesOrder(@Param("salesOrderId") Long salesOrderId);
 
 	@Query("SELECT i FROM ItemSales i WHERE i.id = :id")
@@ -2,17 +2,23 @@ package com.jovan.erp_v1.repository;
 
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.jovan.erp_v1.enumeration.LanguageCodeType;
 import com.jovan.erp_v1.enumeration.LanguageNameType;
 import com.jovan.erp_v1.model.Language;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface LanguageRepository extends JpaRepository<Language, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Language> findByLanguageCodeType(LanguageCodeType languageCodeType);
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Language> findByLanguageNameType(LanguageNameType languageNameType);
 }
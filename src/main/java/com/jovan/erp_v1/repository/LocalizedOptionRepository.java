@@ -3,7 +3,9 @@ package com.jovan.erp_v1.repository;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.jovan.erp_v1.enumeration.LanguageCodeType;
@@ -11,11 +13,14 @@ import com.jovan.erp_v1.enumeration.LanguageNameType;
 import com.jovan.erp_v1.enumeration.OptionCategory;
 import com.jovan.erp_v1.model.LocalizedOption;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface LocalizedOptionRepository extends JpaRepository<LocalizedOption, Long> {
 
     List<LocalizedOption> findByOptionId(Long optionId);
     List<LocalizedOption> findByLanguageId(Long languageId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<LocalizedOption> findByOptionIdAndLanguageId(Long optionId, Long languageId);
     Optional<LocalizedOption> findByLocalizedLabel(String localizedLabel);
     void deleteByOptionId(Long optionId);
@@ -24,6 +29,7 @@ public interface LocalizedOptionRepository extends JpaRepository<LocalizedOption
     List<LocalizedOption> findByOption_Value(String value);
     List<LocalizedOption> findByOption_Category(OptionCategory category);
     List<LocalizedOption> findByLanguage_Id(Long languageId);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<LocalizedOption> findByLanguage_LanguageCodeType(LanguageCodeType languageCodeType);
     List<LocalizedOption> findByLanguage_LanguageNameType(LanguageNameType languageNameType);
     boolean existsByLanguage_Id(Long languageId);
@@ -0,0 +1,34 @@
+package com.jovan.erp_v1.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.jovan.erp_v1.enumeration.MonthlyMetric;
+import com.jovan.erp_v1.model.MonthlyRollup;
+
+public interface MonthlyRollupRepository extends JpaRepository<MonthlyRollup, MonthlyRollup.Key> {
+
+	/**
+	 * Meseci metrike u opsegu [from, to], gde je period year * 100 + month.
+	 */
+	@Query("""
+			SELECT r FROM MonthlyRollup r
+			WHERE r.metric = :metric AND r.dimensionId = :dimensionId
+			AND r.year BETWEEN :fromYear AND :toYear
+			AND r.year * 100 + r.month BETWEEN :from AND :to
+			ORDER BY r.year, r.month
+			""")
+	List<MonthlyRollup> findRange(@Param("metric") MonthlyMetric metric, @Param("dimensionId") Long dimensionId,
+			@Param("fromYear") int fromYear, @Param("toYear") int toYear, @Param("from") int from, @Param("to") int to);
+
+	@Query("""
+			SELECT MIN(r.year * 100 + r.month) FROM MonthlyRollup r
+			WHERE r.metric = :metric AND r.frozen = false
+			""")
+	Integer findFirstOpenPeriod(@Param("metric") MonthlyMetric metric);
+
+	boolean existsByMetric(MonthlyMetric metric);
+}
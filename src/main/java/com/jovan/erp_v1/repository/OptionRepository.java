@@ -2,19 +2,25 @@ package com.jovan.erp_v1.repository;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.jovan.erp_v1.model.Option;
 import com.jovan.erp_v1.enumeration.OptionCategory;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface OptionRepository extends JpaRepository<Option, Long> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Option> findByCategory(OptionCategory category);
     Option findByLabel(String label);
     Option findByValue(String value);
     //dodate metode
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Option> findByCategoryAndActiveTrue(OptionCategory category);
     boolean existsByValue(String value);
     boolean existsByLabel(String label);
@@ -1,18 +1,23 @@
 package com.jovan.erp_v1.repository;
 
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 import com.jovan.erp_v1.enumeration.PermissionActionType;
 import com.jovan.erp_v1.enumeration.PermissionResourceType;
 import com.jovan.erp_v1.model.Permission;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface PermissionRepository extends JpaRepository<Permission, Long> {
 
     List<Permission> findByActionType(PermissionActionType actionType);
     List<Permission> findByResourceType(PermissionResourceType resourceType);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Permission> findByActionTypeAndResourceType(PermissionActionType actionType, PermissionResourceType resourceType);
 
     boolean existsByActionType(PermissionActionType actionType);
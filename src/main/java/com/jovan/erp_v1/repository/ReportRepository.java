@@ -1,12 +1,18 @@
 package com.jovan.erp_v1.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.jovan.erp_v1.enumeration.ReportJobStatus;
 import com.jovan.erp_v1.enumeration.ReportType;
 import com.jovan.erp_v1.model.Report;
 
@@ -16,4 +22,70 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
     Optional<Report> findByType(ReportType reportType);
 
     List<Report> findByGeneratedAt(LocalDateTime generatedAt);
+
+    Optional<Report> findFirstByParametersHashAndStatusInOrderByIdDesc(String parametersHash, Collection<ReportJobStatus> statuses);
+
+    Optional<Report> findFirstByParametersHashAndStatusAndGeneratedAtAfterOrderByIdDesc(String parametersHash,
+            ReportJobStatus status, LocalDateTime generatedAfter);
+
+    @Query("SELECT r.id FROM Report r WHERE r.status = com.jovan.erp_v1.enumeration.ReportJobStatus.QUEUED ORDER BY r.id")
+    List<Long> findQueuedIds(Pageable pageable);
+
+    /**
+     * Preuzima posao za jednog radnika: uspeva (vraca 1) samo ako je posao jos QUEUED.
+     * claimToken oznacava ovo preuzimanje; kasniji upisi istog radnika vaze samo dok je token isti.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Report r SET r.status = com.jovan.erp_v1.enumeration.ReportJobStatus.RUNNING, r.startedAt = :now, r.heartbeatAt = :now,
+                r.progress = 0, r.claimToken = :claimToken
+            WHERE r.id = :id AND r.status = com.jovan.erp_v1.enumeration.ReportJobStatus.QUEUED
+            """)
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now, @Param("claimToken") String claimToken);
+
+    /**
+     * Vraca u red RUNNING poslove ciji se radnik nije javio od heartbeatBefore (npr. instanca je pala usred generisanja).
+     * Posao koji traje duze, ali mu radnik i dalje salje heartbeat, ostaje RUNNING.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Report r SET r.status = com.jovan.erp_v1.enumeration.ReportJobStatus.QUEUED, r.progress = 0
+            WHERE r.status = com.jovan.erp_v1.enumeration.ReportJobStatus.RUNNING
+                AND COALESCE(r.heartbeatAt, r.startedAt) < :heartbeatBefore
+            """)
+    int requeueStale(@Param("heartbeatBefore") LocalDateTime heartbeatBefore);
+
+    /**
+     * Osvezava heartbeat samo dok posao drzi isto preuzimanje (0 = posao je vracen u red ili ga je preuzeo drugi radnik).
+     */
+    @Modifying
+    @Query("""
+            UPDATE Report r SET r.heartbeatAt = :now
+            WHERE r.id = :id AND r.status = com.jovan.erp_v1.enumeration.ReportJobStatus.RUNNING AND r.claimToken = :claimToken
+            """)
+    int heartbeat(@Param("id") Long id, @Param("claimToken") String claimToken, @Param("now") LocalDateTime now);
+
+    /**
+     * Upisuje napredak (i heartbeat) samo dok posao drzi isto preuzimanje.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Report r SET r.progress = :progress, r.heartbeatAt = :now
+            WHERE r.id = :id AND r.status = com.jovan.erp_v1.enumeration.ReportJobStatus.RUNNING AND r.claimToken = :claimToken
+            """)
+    int updateProgress(@Param("id") Long id, @Param("claimToken") String claimToken, @Param("progress") int progress,
+            @Param("now") LocalDateTime now);
+
+    /**
+     * Zavrsava posao samo dok drzi isto preuzimanje; red ostaje zakljucan do kraja transakcije.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Report r SET r.status = :status, r.progress = :progress, r.errorMessage = :errorMessage, r.generatedAt = :finishedAt,
+                r.contentHash = :contentHash
+            WHERE r.id = :id AND r.status = com.jovan.erp_v1.enumeration.ReportJobStatus.RUNNING AND r.claimToken = :claimToken
+            """)
+    int finish(@Param("id") Long id, @Param("claimToken") String claimToken, @Param("status") ReportJobStatus status,
+            @Param("progress") int progress, @Param("errorMessage") String errorMessage, @Param("finishedAt") LocalDateTime finishedAt,
+            @Param("contentHash") String contentHash);
 }
@@ -1,7 +1,6 @@
 package com.jovan.erp_v1.repository;
 
 import java.math.BigDecimal;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -11,11 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import com.jovan.erp_v1.dto.DailySalesDTO;
 import com.jovan.erp_v1.model.Sales;
 
-import jakarta.persistence.MapKeyColumn;
-
 @Repository
 public interface SalesRepository extends JpaRepository<Sales, Long>, JpaSpecificationExecutor<Sales> {
 
@@ -23,9 +19,11 @@ public interface SalesRepository extends JpaRepository<Sales, Long>, JpaSpecific
 	List<Sales> findByTotalPrice(BigDecimal totalPrice);
 	Sales findSalesById(Long id);
 	List<Sales> findByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
-	@Query("SELECT s.createdAt.toLocalDate() AS date, SUM(s.totalPrice) FROM Sales s WHERE s.createdAt >= :fromDate GROUP BY s.createdAt.toLocalDate()")
-	@MapKeyColumn(name = "date")
-	List<DailySalesDTO> getDailySalesLast7Days(@Param("fromDate") LocalDate fromDate);
+	/**
+	 * Dan, zbir totalPrice i broj prodaja po danu od datuma from (LiveDashboard).
+	 */
+	@Query("SELECT CAST(s.createdAt AS LocalDate), SUM(s.totalPrice), COUNT(s) FROM Sales s WHERE s.createdAt >= :from GROUP BY CAST(s.createdAt AS LocalDate)")
+	List<Object[]> sumDailySalesSince(@Param("from") LocalDateTime from);
 	@Query("SELECT SUM(s.totalPrice) FROM Sales s")
 	BigDecimal sumAllSalesRevenue();
 	
@@ -17,8 +17,8 @@ public interface ShiftRepository extends JpaRepository<Shift, Long> {
 
     List<Shift> findByStartTimeBetween(LocalDateTime start, LocalDateTime end);
 
-    @Query("SELECT COUNT(s) FROM Shift s WHERE s.endTime IS NULL OR s.endTime > CURRENT_TIMESTAMP")
-    Integer countActiveShifts();
+    @Query("SELECT s.endTime FROM Shift s WHERE s.endTime > :now")
+    List<LocalDateTime> findEndTimesAfter(@Param("now") LocalDateTime now);
     
     //nove metode
     List<Shift> findByEndTimeBefore(LocalDateTime time);
@@ -2,8 +2,10 @@ package com.jovan.erp_v1.repository;
 
 import java.util.List;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,6 +14,8 @@ import com.jovan.erp_v1.enumeration.TaxType;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface TaxRateRepository extends JpaRepository<TaxRate, Long> {
 
@@ -25,6 +29,7 @@ public interface TaxRateRepository extends JpaRepository<TaxRate, Long> {
     List<TaxRate> findOverlapping(@Param("start") LocalDate start, @Param("end") LocalDate end);
     List<TaxRate> findByStartDate(LocalDate startDate);
     List<TaxRate> findByEndDate(LocalDate endDate);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT t FROM TaxRate t WHERE t.type = :type AND :date BETWEEN t.startDate AND t.endDate")
     List<TaxRate> findActiveByType(@Param("type") TaxType type, @Param("date") LocalDate date);
 
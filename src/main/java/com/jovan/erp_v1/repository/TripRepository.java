@@ -73,49 +73,37 @@ public interface TripRepository extends JpaRepository<Trip, Long>, JpaSpecificat
 
 	Long countByDriver_IdAndStatus(Long driverId, TripStatus status);
 
-	@Query("""
-			SELECT COUNT(t) FROM Trip t
-			WHERE t.driver.id = :driverId
-			AND t.startTime >= :startDate
-			AND t.endTime <= :endDate
-			""")
-	Long countByDriver_IdAndDateBetween(@Param("driverId") Long driverId, @Param("startDate") LocalDate startDate,
-			@Param("endDate") LocalDate endDate);
-
-	@Query("""
-			SELECT COUNT(t) FROM Trip t
-			WHERE t.driver.id = :driverId
-			AND t.status IN :statuses
-			AND t.startTime >= :startDate
-			AND t.endTime <= :endDate
-			""")
-	Long countByDriver_IdAndStatusInAndDateBetween(Long driverId, List<TripStatus> statusES, LocalDate startDate,
-			LocalDate endDate);
-
+	/**
+	 * Metrike svih vozaca koji prolaze filtere, u jednom prolazu kroz trip (LEFT JOIN, pa i vozaci bez voznji).
+	 * Red: id, first_name, last_name, phone, ukupno, zavrsene, otkazane, u toku, prosecno trajanje (h), prihod.
+	 * Prazna lista statusa se ne moze vezati u IN, pa anyTripStatus/anyDriverStatus iskljucuju taj filter.
+	 */
 	@Query(value = """
-			    SELECT COALESCE(AVG(TIMESTAMPDIFF(SECOND, t.start_time, t.end_time)) / 3600, 0)
-			    FROM trip t
-			    WHERE t.driver_id = :driverId
-			      AND (:startDate IS NULL OR t.start_time >= :startDate)
-			      AND (:endDate IS NULL OR t.end_time < DATE_ADD(:endDate, INTERVAL 1 DAY))
-			      AND t.end_time IS NOT NULL
-			""", nativeQuery = true)
-	BigDecimal calculateAverageDuration(
-			@Param("driverId") Long driverId,
-			@Param("startDate") LocalDate startDate,
-			@Param("endDate") LocalDate endDate);
-
-	@Query(value = """
-			    SELECT COALESCE(SUM(t.fare), 0)
-			    FROM trip t
-			    WHERE t.driver_id = :driverId
-			      AND (:startDate IS NULL OR t.start_time >= :startDate)
-			      AND (:endDate IS NULL OR t.end_time < DATE_ADD(:endDate, INTERVAL 1 DAY))
+			SELECT d.id, d.first_name, d.last_name, d.phone,
+				COUNT(t.id),
+				COALESCE(SUM(t.status = 'COMPLETED'), 0),
+				COALESCE(SUM(t.status = 'CANCELLED'), 0),
+				COALESCE(SUM(t.status = 'IN_PROGRESS'), 0),
+				COALESCE(AVG(TIMESTAMPDIFF(SECOND, t.start_time, t.end_time)) / 3600, 0),
+				COALESCE(SUM(t.fare), 0)
+			FROM driver d
+			LEFT JOIN trip t ON t.driver_id = d.id
+				AND (:startDate IS NULL OR t.start_time >= :startDate)
+				AND (:endDate IS NULL OR t.end_time < DATE_ADD(:endDate, INTERVAL 1 DAY))
+				AND (:anyTripStatus = true OR t.status IN (:tripStatuses))
+			WHERE (:anyDriverStatus = true OR d.status IN (:driverStatuses))
+				AND (:confirmed IS NULL OR d.confirmed = :confirmed)
+			GROUP BY d.id, d.first_name, d.last_name, d.phone
+			ORDER BY d.id
 			""", nativeQuery = true)
-	BigDecimal calculateTotalRevenue(
-			@Param("driverId") Long driverId,
+	List<Object[]> summarizeTripsByDriver(
 			@Param("startDate") LocalDate startDate,
-			@Param("endDate") LocalDate endDate);
+			@Param("endDate") LocalDate endDate,
+			@Param("anyTripStatus") boolean anyTripStatus,
+			@Param("tripStatuses") List<String> tripStatuses,
+			@Param("anyDriverStatus") boolean anyDriverStatus,
+			@Param("driverStatuses") List<String> driverStatuses,
+			@Param("confirmed") Boolean confirmed);
 
 	// prosecno trajanje u satima
 	@Query(value = """
@@ -17,6 +17,7 @@ import com.jovan.erp_v1.enumeration.StorageType;
 import com.jovan.erp_v1.enumeration.SupplierType;
 import com.jovan.erp_v1.enumeration.UnitMeasure;
 import com.jovan.erp_v1.model.Inspection;
+import com.jovan.erp_v1.search.SearchField;
 import com.jovan.erp_v1.search_request.InspectionSearchRequest;
 
 import jakarta.persistence.criteria.Join;
@@ -197,7 +198,7 @@ public class InspectionSpecifications {
 	public static Specification<Inspection> hasNote(String note){
 		return(root, query, cb) -> {
 			if(note == null || note.isBlank()) return null;
-			return cb.like(cb.lower(root.get("notes")), "%" +note.toLowerCase().trim() + "%");
+			return TextSearchPredicates.contains(cb, root, SearchField.INSPECTION_NOTES, note.trim());
 		};
 	}
 	
@@ -339,7 +340,7 @@ public class InspectionSpecifications {
 	public static Specification<Inspection> hasProductName(String name){
 		return(root, query, cb) -> {
 			if(name == null || name.isBlank()) return null;
-			return cb.like(cb.lower(root.get("product").get("name")), "%" + name.toLowerCase().trim() + "%");
+			return TextSearchPredicates.contains(cb, root.get("product"), SearchField.GOODS_NAME, name.trim());
 		};
 	}
 	
@@ -533,7 +534,7 @@ public class InspectionSpecifications {
 	public static Specification<Inspection> hasInspectionCode(String code){
 		return(root, query, cb) -> {
 			if(code == null || code.isBlank()) return null;
-			return cb.like(cb.lower(root.get("code")), "%" + code.toLowerCase().trim() + "%");
+			return TextSearchPredicates.contains(cb, root, SearchField.INSPECTION_CODE, code.trim());
 		};
 	}
 
@@ -541,7 +542,7 @@ public class InspectionSpecifications {
         return (root, query, cb) -> {
             if (storageName == null || storageName.isBlank()) return null;
             Join<Object, Object> storage = root.join("product").join("storage", JoinType.INNER);
-            return cb.like(cb.lower(storage.get("name")), "%" + storageName.toLowerCase() + "%");
+            return TextSearchPredicates.contains(cb, storage, SearchField.STORAGE_NAME, storageName);
         };
     }
 
@@ -549,7 +550,7 @@ public class InspectionSpecifications {
         return (root, query, cb) -> {
             if (storageLocation == null || storageLocation.isBlank()) return null;
             Join<Object, Object> storage = root.join("product").join("storage", JoinType.INNER);
-            return cb.like(cb.lower(storage.get("location")), "%" + storageLocation.toLowerCase() + "%");
+            return TextSearchPredicates.contains(cb, storage, SearchField.STORAGE_LOCATION, storageLocation);
         };
     }
 
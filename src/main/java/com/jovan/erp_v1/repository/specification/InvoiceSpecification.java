@@ -11,6 +11,7 @@ import com.jovan.erp_v1.enumeration.InvoiceTypeStatus;
 import com.jovan.erp_v1.enumeration.PaymentMethod;
 import com.jovan.erp_v1.enumeration.PaymentStatus;
 import com.jovan.erp_v1.model.Invoice;
+import com.jovan.erp_v1.search.SearchField;
 import com.jovan.erp_v1.search_request.InvoiceSearchRequest;
 import com.jovan.erp_v1.statistics.invoice.InvoiceSpecificationRequest;
 import com.jovan.erp_v1.statistics.invoice.InvoiceStatByBuyerRequest;
@@ -428,42 +429,42 @@ public class InvoiceSpecification {
 	public static Specification<Invoice> hasPhoneNumber(String num){
 		return(root, query, cb) -> {
 			if(num == null || num.isBlank()) return null;
-			return cb.like(cb.lower(root.get("buyer").get("phoneNumber")), "%" + num.toLowerCase().trim() + "%");
+			return TextSearchPredicates.contains(cb, root.get("buyer"), SearchField.BUYER_PHONE_NUMBER, num.trim());
 		};
 	}
 	
 	public static Specification<Invoice> hasBuyerEmail(String em){
 		return(root, query, cb) -> {
 			if(em == null || em.isBlank()) return null;
-			return cb.like(cb.lower(root.get("buyer").get("email")), "%" + em.toLowerCase().trim() + "%");
+			return TextSearchPredicates.contains(cb, root.get("buyer"), SearchField.BUYER_EMAIL, em.trim());
 		};
 	}
 	
 	public static Specification<Invoice> hasContactPerson(String cp){
 		return(root, query, cb) -> {
 			if(cp == null || cp.isBlank()) return null;
-			return cb.like(cb.lower(root.get("buyer").get("contactPerson")), "%" + cp.toLowerCase().trim() + "%");
+			return TextSearchPredicates.contains(cb, root.get("buyer"), SearchField.BUYER_CONTACT_PERSON, cp.trim());
 		};
 	}
 	
 	public static Specification<Invoice> hasAddress(String adr){
 		return(root, query, cb) -> {
 			if(adr == null || adr.isBlank()) return null;
-			return cb.like(cb.lower(root.get("buyer").get("address")), "%" + adr.toLowerCase().trim() + "%");
+			return TextSearchPredicates.contains(cb, root.get("buyer"), SearchField.BUYER_ADDRESS, adr.trim());
 		};
 	}
 	
 	public static Specification<Invoice> hasPib(String pib){
 		return(root, query, cb) -> {
 			if(pib == null || pib.isBlank()) return null;
-			return cb.like(cb.lower(root.get("buyer").get("pib")), "%" + pib.toLowerCase().trim() + "%");
+			return TextSearchPredicates.contains(cb, root.get("buyer"), SearchField.BUYER_PIB, pib.trim());
 		};
 	}
 	
 	public static Specification<Invoice> hasCompanyName(String name){
 		return(root, query, cb) ->{
 			if(name == null || name.isBlank()) return null;
-			return cb.like(cb.lower(root.get("buyer").get("companyName")), "%" + name.toLowerCase().trim() + "%");
+			return TextSearchPredicates.contains(cb, root.get("buyer"), SearchField.BUYER_COMPANY_NAME, name.trim());
 		};
 	}
 	
@@ -566,7 +567,7 @@ public class InvoiceSpecification {
 	public static Specification<Invoice> hasInvoiceNumber(String num){
 		return(root, query, cb) -> {
 			if(num == null || num.isBlank()) return null;
-			return cb.like(cb.lower(root.get("invoiceNumber")), "%" + num.toLowerCase().trim() + "%");
+			return TextSearchPredicates.contains(cb, root, SearchField.INVOICE_NUMBER, num.trim());
 		};
 	}
 	
@@ -581,7 +582,7 @@ public class InvoiceSpecification {
 	public static Specification<Invoice> hasNote(String note){
 		return(root ,query, cb) -> {
 			if(note == null || note.isBlank()) return null;
-			return cb.like(cb.lower(root.get("note")), "%" + note.toLowerCase().trim() + "%");
+			return TextSearchPredicates.contains(cb, root, SearchField.INVOICE_NOTE, note.trim());
 		};
 	}
 	
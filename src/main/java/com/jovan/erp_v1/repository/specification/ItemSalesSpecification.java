@@ -14,6 +14,7 @@ import com.jovan.erp_v1.enumeration.StorageType;
 import com.jovan.erp_v1.enumeration.SupplierType;
 import com.jovan.erp_v1.enumeration.UnitMeasure;
 import com.jovan.erp_v1.model.ItemSales;
+import com.jovan.erp_v1.search.SearchField;
 import com.jovan.erp_v1.search_request.ItemSalesSearchRequest;
 import com.jovan.erp_v1.statistics.item_sales.ItemSalesSpecificationRequest;
 import com.jovan.erp_v1.statistics.item_sales.ItemSalesStatsRequest;
@@ -141,7 +142,7 @@ public class ItemSalesSpecification {
 	public static Specification<ItemSales> hasSalesOrderNote(String str){
 		return(root, query, cb) -> {
 			if(str == null || str.trim().isBlank()) return null;
-			return cb.like(cb.lower(root.get("salesOrder").get("note")), "%" + str.trim().toLowerCase() + "%");
+			return TextSearchPredicates.contains(cb, root.get("salesOrder"), SearchField.SALES_ORDER_NOTE, str.trim());
 		};
 	}
 	
@@ -232,7 +233,7 @@ public class ItemSalesSpecification {
 	public static Specification<ItemSales> hasSalesOrderNumber(String str){
 		return(root, query, cb) -> {
 			if(str == null || str.trim().isBlank()) return null;
-			return cb.like(cb.lower(root.get("salesOrder").get("orderNumber")), "%" + str.trim().toLowerCase() + "%");
+			return TextSearchPredicates.contains(cb, root.get("salesOrder"), SearchField.SALES_ORDER_NUMBER, str.trim());
 		};
 	}
 	
@@ -323,7 +324,7 @@ public class ItemSalesSpecification {
 	public static Specification<ItemSales> hasSalesDescription(String str){
 		return(root, query, cb) -> {
 			if(str == null || str.trim().isBlank()) return null;
-			return cb.like(cb.lower(root.get("sales").get("salesDescription")), "%" + str.trim().toLowerCase() + "%");
+			return TextSearchPredicates.contains(cb, root.get("sales"), SearchField.SALES_DESCRIPTION, str.trim());
 		};
 	}
 	
@@ -487,7 +488,7 @@ public class ItemSalesSpecification {
 	public static Specification<ItemSales> hasGoodsName(String name){
 		return(root ,query, cb) -> {
 			if (name == null || name.trim().isBlank()) return null;
-			return cb.like(cb.lower(root.get("goods").get("name")), "%" + name.trim().toLowerCase() + "%");
+			return TextSearchPredicates.contains(cb, root.get("goods"), SearchField.GOODS_NAME, name.trim());
 		};
 	}
 	
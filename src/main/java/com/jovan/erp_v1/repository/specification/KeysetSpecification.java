@@ -0,0 +1,110 @@
+package com.jovan.erp_v1.repository.specification;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jovan.erp_v1.exception.ValidationException;
+import com.jovan.erp_v1.util.KeysetCursor;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Seek predikat za keyset paginaciju po (sortKey, id).
+ * MySQL sortira NULL vrednosti prve za ASC i poslednje za DESC, pa predikat prati isti redosled.
+ */
+public class KeysetSpecification {
+
+	public static final String ID = "id";
+
+	public static Sort sort(String sortKey, Sort.Direction direction) {
+		if (ID.equals(sortKey)) {
+			return Sort.by(direction, ID);
+		}
+		return Sort.by(direction, sortKey).and(Sort.by(direction, ID));
+	}
+
+	public static <T> Specification<T> after(KeysetCursor cursor) {
+		return (root, query, cb) -> {
+			if (cursor == null) {
+				return null;
+			}
+			Path<Long> id = root.get(ID);
+			boolean asc = cursor.direction().isAscending();
+			Predicate idAfter = asc ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+			if (ID.equals(cursor.sortKey())) {
+				return idAfter;
+			}
+			Path<Comparable<Object>> key = path(root, cursor.sortKey());
+			if (cursor.value() == null) {
+				Predicate sameNullKey = cb.and(cb.isNull(key), idAfter);
+				return asc ? cb.or(sameNullKey, cb.isNotNull(key)) : sameNullKey;
+			}
+			Comparable<Object> value = parse(cursor.value(), key.getJavaType());
+			Predicate keyAfter = asc ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+			Predicate sameKey = cb.and(cb.equal(key, value), idAfter);
+			Predicate next = cb.or(keyAfter, sameKey);
+			return asc ? next : cb.or(next, cb.isNull(key));
+		};
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Path<Comparable<Object>> path(Root<T> root, String sortKey) {
+		Path<?> path = root;
+		for (String part : sortKey.split("\\.")) {
+			path = path.get(part);
+		}
+		return (Path<Comparable<Object>>) path;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Comparable<Object> parse(String value, Class<?> type) {
+		try {
+			return (Comparable<Object>) convert(value, type);
+		}
+		catch (RuntimeException e) {
+			if (e instanceof ValidationException ve) {
+				throw ve;
+			}
+			throw new ValidationException("Invalid pagination cursor");
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Object convert(String value, Class<?> type) {
+		Object parsed;
+		if (type == String.class) {
+			parsed = value;
+		}
+		else if (type == LocalDateTime.class) {
+			parsed = LocalDateTime.parse(value);
+		}
+		else if (type == LocalDate.class) {
+			parsed = LocalDate.parse(value);
+		}
+		else if (type == Long.class || type == long.class) {
+			parsed = Long.valueOf(value);
+		}
+		else if (type == Integer.class || type == int.class) {
+			parsed = Integer.valueOf(value);
+		}
+		else if (type == BigDecimal.class) {
+			parsed = new BigDecimal(value);
+		}
+		else if (type == Boolean.class || type == boolean.class) {
+			parsed = Boolean.valueOf(value);
+		}
+		else if (type.isEnum()) {
+			parsed = Enum.valueOf((Class<Enum>) type, value);
+		}
+		else {
+			throw new ValidationException("Unsupported keyset sort key type: " + type.getSimpleName());
+		}
+		return parsed;
+	}
+}
@@ -0,0 +1,47 @@
+package com.jovan.erp_v1.repository.specification;
+
+import java.util.List;
+
+import com.jovan.erp_v1.search.SearchField;
+import com.jovan.erp_v1.search.SearchIndex;
+import com.jovan.erp_v1.search.TrigramIndex;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * "Sadrzi term" predikat nad indeksiranim poljem: entity je putanja do entiteta polja (root ili veza),
+ * a uslov postaje entity.id IN (id-jevi iz SearchIndex-a). Kada indeks ne moze da odgovori, koristi se LIKE
+ * nad kolonom u kojoj su slova bez dekompozicije zamenjena kao u TrigramIndex.normalize, pa oba puta nalaze iste redove.
+ */
+public final class TextSearchPredicates {
+
+	private TextSearchPredicates() {
+	}
+
+	public static Predicate contains(CriteriaBuilder cb, Path<?> entity, SearchField field, String term) {
+		List<Long> ids = SearchIndex.idsContaining(field, term);
+		if (ids == null) {
+			return cb.like(folded(cb, entity.get(field.property())), "%" + TrigramIndex.normalize(term) + "%");
+		}
+		if (ids.isEmpty()) {
+			return cb.disjunction();
+		}
+		return entity.get("id").in(ids);
+	}
+
+	/**
+	 * lower(kolona) sa REPLACE za svako slovo iz TrigramIndex.FOLDED_LETTERS; dijakritike i velika slova
+	 * izjednacava *_ai_ci kolacija kolone.
+	 */
+	private static Expression<String> folded(CriteriaBuilder cb, Path<String> column) {
+		Expression<String> text = cb.lower(column);
+		for (String letter : TrigramIndex.FOLDED_LETTERS) {
+			text = cb.function("replace", String.class, text, cb.literal(letter),
+					cb.literal(TrigramIndex.normalize(letter)));
+		}
+		return text;
+	}
+}
@@ -1,7 +1,9 @@
 package com.jovan.erp_v1.request;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+import com.jovan.erp_v1.enumeration.ExportFormat;
 import com.jovan.erp_v1.enumeration.ReportType;
 
 import jakarta.validation.constraints.NotNull;
@@ -10,7 +12,10 @@ public record ReportRequest(
 
         Long id,
         @NotNull ReportType type,
-        LocalDateTime generatedAt
+        LocalDateTime generatedAt,
+        ExportFormat format,
+        LocalDate from,
+        LocalDate to
         ) {
 
 }
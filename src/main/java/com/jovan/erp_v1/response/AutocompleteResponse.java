@@ -0,0 +1,13 @@
+package com.jovan.erp_v1.response;
+
+import com.jovan.erp_v1.search.PrefixIndex;
+
+/**
+ * Jedan predlog autocomplete-a: id entiteta i njegov naziv.
+ */
+public record AutocompleteResponse(Long id, String name) {
+
+	public static AutocompleteResponse of(PrefixIndex.Match match) {
+		return new AutocompleteResponse(match.id(), match.name());
+	}
+}
@@ -0,0 +1,11 @@
+package com.jovan.erp_v1.response;
+
+import java.util.List;
+
+/**
+ * Jedna strana keyset (seek) paginacije. nextCursor je neproziran token koji se salje
+ * kao cursor parametar za sledecu stranu; null je kada vise nema podataka.
+ */
+public record CursorPageResponse<T>(List<T> items, String nextCursor, boolean hasNext, int limit) {
+
+}
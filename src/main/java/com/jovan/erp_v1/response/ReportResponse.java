@@ -2,6 +2,8 @@ package com.jovan.erp_v1.response;
 
 import java.time.LocalDateTime;
 
+import com.jovan.erp_v1.enumeration.ExportFormat;
+import com.jovan.erp_v1.enumeration.ReportJobStatus;
 import com.jovan.erp_v1.enumeration.ReportType;
 import com.jovan.erp_v1.model.Report;
 
@@ -18,11 +20,19 @@ public class ReportResponse {
     private ReportType type;
     private LocalDateTime generatedAt;
     private String filePath;
+    private ExportFormat format;
+    private ReportJobStatus status;
+    private Integer progress;
+    private String errorMessage;
 
     public ReportResponse(Report report) {
         this.id = report.getId();
         this.type = report.getType();
         this.generatedAt = report.getGeneratedAt();
         this.filePath = report.getFilePath();
+        this.format = report.getFormat();
+        this.status = report.getStatus();
+        this.progress = report.getProgress();
+        this.errorMessage = report.getErrorMessage();
     }
 }
@@ -1,19 +1,24 @@
 package com.jovan.erp_v1.save_as;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jovan.erp_v1.exception.ValidationException;
 
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  *Apstraktna/bazna klasa sablona za cuvanje - save_all
  *Parametri apstraktne klase su: entitet i response-objekat
+ *Cuvanje ide u delovima (chunk) od getChunkSize() entiteta: svaki deo se flush-uje kao JDBC batch
+ *(hibernate.jdbc.batch_size, id-evi iz IdBlocks generatora), mapira u response i zatim se iz
+ *persistence context-a odvajaju samo entiteti tog dela, pa memorija ne raste sa brojem stavki.
+ *Ostali entiteti u transakciji pozivaoca ostaju managed.
  */
 @Slf4j
 public abstract class AbstractSaveAllService<T, R> {
@@ -21,6 +26,19 @@ public abstract class AbstractSaveAllService<T, R> {
     protected abstract JpaRepository<T, Long> getRepository();
 
     protected abstract Function<T, R> toResponse();
+
+    public static final int DEFAULT_CHUNK_SIZE = 1000;
+
+    protected int getChunkSize() {
+        return DEFAULT_CHUNK_SIZE;
+    }
+
+    /**
+     * Bulk razresavanje stranih kljuceva iz zahteva pre mapiranja u entitete (vidi ReferenceResolver).
+     */
+    public <Q> ReferenceResolver<Q> references(List<Q> requests) {
+        return new ReferenceResolver<>(requests);
+    }
     
     /**
      * Opcioni hook — koji se moze pregaziti u konkretnim servisima
@@ -33,6 +51,7 @@ public abstract class AbstractSaveAllService<T, R> {
     
     /**
      * Opcioni hook — poziva se nakon sto su entiteti sacuvani.
+     * Kada lista ima vise od jednog dela, entiteti ranijih delova su vec odvojeni (detached).
      */
     protected void afterSaveAll(List<T> savedEntities) {
         log.info("Successfully saved {} entities of type {}", 
@@ -48,11 +67,26 @@ public abstract class AbstractSaveAllService<T, R> {
         }
         beforeSaveAll(entities);
         long start = System.currentTimeMillis();
-        List<T> saved = getRepository().saveAll(entities);
-        long end = System.currentTimeMillis();
-        long duration = end - start;
-        log.info("Batch save completed: {} records, duration: {} ms", saved.size(), duration);
+        JpaRepository<T, Long> repository = getRepository();
+        EntityManager entityManager = SaveAllPersistenceContext.entityManager();
+        Function<T, R> mapper = toResponse();
+        int chunkSize = Math.max(1, getChunkSize());
+        List<T> saved = new ArrayList<>(entities.size());
+        List<R> responses = new ArrayList<>(entities.size());
+        for (int from = 0; from < entities.size(); from += chunkSize) {
+            List<T> chunk = repository.saveAllAndFlush(entities.subList(from, Math.min(from + chunkSize, entities.size())));
+            saved.addAll(chunk);
+            // mapiranje pre detach-a, dok su lazy veze jos dostupne
+            chunk.forEach(entity -> responses.add(mapper.apply(entity)));
+            boolean lastChunk = from + chunkSize >= entities.size();
+            if (entityManager != null && !lastChunk) {
+                chunk.forEach(entityManager::detach);
+            }
+        }
+        long duration = System.currentTimeMillis() - start;
+        log.info("Batch save completed: {} records, duration: {} ms, {} records/s", saved.size(), duration,
+                duration > 0 ? saved.size() * 1000L / duration : saved.size());
         afterSaveAll(saved);
-        return saved.stream().map(toResponse()).collect(Collectors.toList());
+        return responses;
     }
 }
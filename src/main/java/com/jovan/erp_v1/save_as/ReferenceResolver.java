@@ -0,0 +1,115 @@
+package com.jovan.erp_v1.save_as;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.jovan.erp_v1.exception.ValidationException;
+
+/**
+ *Bulk razresavanje stranih kljuceva za saveAll putanje.
+ *Umesto findById po svakom redu, skupljaju se razliciti id-evi iz svih zahteva i ucitavaju
+ *jednim findAllById po tipu entiteta. Sve greske (null id, nepostojeci id) se skupljaju
+ *i prijavljuju zajedno u verify(), pre nego sto krene cuvanje.
+ *R je tip zahteva (npr. VehicleLocationRequest).
+ */
+public class ReferenceResolver<R> {
+
+    private final List<R> requests;
+    private final List<String> errors = new ArrayList<>();
+
+    public ReferenceResolver(List<R> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ValidationException("Request list must not be empty.");
+        }
+        this.requests = requests;
+    }
+
+    /**
+     * Ucitava sve entitete na koje zahtevi upucuju preko datih referenci (jedan upit za sve reference).
+     * @param label naziv entiteta u porukama o gresci
+     * @param idOf id ucitanog entiteta, npr. Vehicle::getId
+     * @param references id iz zahteva, npr. VehicleLocationRequest::vehicleId
+     * @return mapa id -> entitet; nepostojeci id-evi se evidentiraju kao greske
+     */
+    @SafeVarargs
+    public final <E> Map<Long, E> resolve(String label, JpaRepository<E, Long> repository, Function<E, Long> idOf,
+            Function<R, Long>... references) {
+        Set<Long> ids = new LinkedHashSet<>();
+        List<Integer> nullRows = new ArrayList<>();
+        for (int row = 0; row < requests.size(); row++) {
+            R request = requests.get(row);
+            for (Function<R, Long> reference : references) {
+                Long id = reference.apply(request);
+                if (id == null) {
+                    nullRows.add(row);
+                }
+                else {
+                    ids.add(id);
+                }
+            }
+        }
+        if (!nullRows.isEmpty()) {
+            errors.add(label + " ID must not be null (rows " + nullRows + ")");
+        }
+        return load(label, repository, idOf, ids);
+    }
+
+    /**
+     * Kao resolve, za reference koje su lista id-eva u zahtevu (npr. proizvodi stavki jednog zahteva).
+     * @param references id-evi iz zahteva, npr. req -> req.items().stream().map(ItemRequest::productId).toList()
+     */
+    public <E> Map<Long, E> resolveAll(String label, JpaRepository<E, Long> repository, Function<E, Long> idOf,
+            Function<R, Collection<Long>> references) {
+        Set<Long> ids = new LinkedHashSet<>();
+        List<Integer> nullRows = new ArrayList<>();
+        for (int row = 0; row < requests.size(); row++) {
+            Collection<Long> rowIds = references.apply(requests.get(row));
+            if (rowIds == null) {
+                continue;
+            }
+            for (Long id : rowIds) {
+                if (id == null) {
+                    nullRows.add(row);
+                }
+                else {
+                    ids.add(id);
+                }
+            }
+        }
+        if (!nullRows.isEmpty()) {
+            errors.add(label + " ID must not be null (rows " + nullRows + ")");
+        }
+        return load(label, repository, idOf, ids);
+    }
+
+    private <E> Map<Long, E> load(String label, JpaRepository<E, Long> repository, Function<E, Long> idOf, Set<Long> ids) {
+        Map<Long, E> resolved = new HashMap<>();
+        if (!ids.isEmpty()) {
+            for (E entity : repository.findAllById(ids)) {
+                resolved.put(idOf.apply(entity), entity);
+            }
+        }
+        if (resolved.size() < ids.size()) {
+            List<Long> missing = ids.stream().filter(id -> !resolved.containsKey(id)).toList();
+            errors.add(label + " not found with ids " + missing);
+        }
+        return resolved;
+    }
+
+    /**
+     * Baca jedan ValidationException sa svim greskama iz prethodnih resolve poziva.
+     */
+    public void verify() {
+        if (!errors.isEmpty()) {
+            throw new ValidationException(String.join("; ", errors));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.jovan.erp_v1.save_as;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Deljeni (transakcioni) EntityManager za AbstractSaveAllService.
+ * Pomocnici za saveAll su anonimne klase u servisima, a ne bean-ovi, pa do njega dolaze preko ove reference.
+ */
+@Component
+public class SaveAllPersistenceContext {
+
+	private static volatile SaveAllPersistenceContext active;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * EntityManager vezan za tekucu transakciju, ili null dok kontekst nije podignut.
+	 */
+	static EntityManager entityManager() {
+		SaveAllPersistenceContext context = active;
+		return context != null ? context.entityManager : null;
+	}
+
+	@PostConstruct
+	void activate() {
+		active = this;
+	}
+
+	@PreDestroy
+	void deactivate() {
+		if (active == this) {
+			active = null;
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.jovan.erp_v1.search;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Prefiksni indeksi naziva iz AutocompleteSource za /autocomplete endpoint-e, umesto *ContainingIgnoreCase upita
+ * na svaki pritisak tastera. Ucitavanje, izmene posle commit-a i rebuild su zajednicki sa SearchIndex-om
+ * (EntityTextIndexes).
+ */
+@Component
+public class AutocompleteIndex extends EntityTextIndexes<AutocompleteSource, PrefixIndex> {
+
+	@Value("${autocomplete.max-limit:50}")
+	private int maxLimit;
+
+	public AutocompleteIndex(PlatformTransactionManager transactionManager) {
+		super(AutocompleteSource.class, PrefixIndex::of, transactionManager);
+	}
+
+	/**
+	 * Najvise limit (ogranicen na autocomplete.max-limit) naziva cija neka rec pocinje prefiksom.
+	 * Dok indeksi nisu ucitani vraca praznu listu.
+	 */
+	public List<PrefixIndex.Match> complete(AutocompleteSource source, String prefix, int limit) {
+		PrefixIndex index = index(source);
+		if (index == null || prefix == null) {
+			return List.of();
+		}
+		return index.complete(prefix, Math.min(limit, maxLimit));
+	}
+
+	@Override
+	@Scheduled(cron = "${autocomplete.rebuild-cron:0 10 5 * * *}")
+	public void rebuild() {
+		super.rebuild();
+	}
+}
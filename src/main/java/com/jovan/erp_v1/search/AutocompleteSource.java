@@ -0,0 +1,39 @@
+package com.jovan.erp_v1.search;
+
+import com.jovan.erp_v1.model.Buyer;
+import com.jovan.erp_v1.model.Goods;
+import com.jovan.erp_v1.model.Material;
+import com.jovan.erp_v1.model.Product;
+import com.jovan.erp_v1.model.Storage;
+import com.jovan.erp_v1.model.Vendor;
+
+/**
+ * Nazivi koje AutocompleteIndex nudi: entitet (ukljucujuci podklase) i svojstvo naziva.
+ */
+public enum AutocompleteSource implements IndexedProperty {
+
+	PRODUCT(Product.class, "name"),
+	GOODS(Goods.class, "name"),
+	BUYER(Buyer.class, "companyName"),
+	VENDOR(Vendor.class, "name"),
+	MATERIAL(Material.class, "name"),
+	STORAGE(Storage.class, "name");
+
+	private final Class<?> entity;
+	private final String property;
+
+	AutocompleteSource(Class<?> entity, String property) {
+		this.entity = entity;
+		this.property = property;
+	}
+
+	@Override
+	public Class<?> entity() {
+		return entity;
+	}
+
+	@Override
+	public String property() {
+		return property;
+	}
+}
@@ -0,0 +1,150 @@
+package com.jovan.erp_v1.search;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Zajednicki zivotni ciklus memorijskih indeksa tekstualnih svojstava (SearchIndex, AutocompleteIndex): po jedan
+ * indeks za svako svojstvo iz enum-a F, pravi ga factory od (id -> tekst) redova iz baze.
+ * Indeksi se pune pri pokretanju, posle toga ih menja SearchIndexCommitListener posle svakog commit-a,
+ * a periodicni rebuild (cron u podklasi) ispravlja ono sto listener ne vidi (bulk JPQL/SQL izmene).
+ */
+@Slf4j
+public abstract class EntityTextIndexes<F extends Enum<F> & IndexedProperty, I extends TextIndex> {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final Class<F> propertyType;
+	private final Function<Map<Long, String>, I> factory;
+	private final TransactionTemplate readOnlyTransaction;
+	private final Object lock = new Object();
+	/** null dok se indeksi prvi put ne ucitaju */
+	private volatile Map<F, I> indexes;
+	/** izmene pristigle tokom rebuild-a, primenjuju se na nove indekse pre zamene; null van rebuild-a; guarded by lock */
+	private List<Change<F>> pending;
+
+	@Value("${streaming.fetch-size:500}")
+	private int fetchSize;
+
+	protected EntityTextIndexes(Class<F> propertyType, Function<Map<Long, String>, I> factory,
+			PlatformTransactionManager transactionManager) {
+		this.propertyType = propertyType;
+		this.factory = factory;
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	/**
+	 * Indeks svojstva, ili null dok se indeksi prvi put ne ucitaju.
+	 */
+	protected I index(F property) {
+		Map<F, I> current = indexes;
+		return current != null ? current.get(property) : null;
+	}
+
+	public boolean isTracked(Class<?> type) {
+		for (F property : propertyType.getEnumConstants()) {
+			if (property.appliesTo(type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Primenjuje stanje entiteta posle commit-a; property vraca vrednost svojstva iz stanja, null property znaci brisanje.
+	 */
+	public void apply(Class<?> type, long id, Function<String, Object> property) {
+		List<Change<F>> changes = new ArrayList<>();
+		for (F indexed : propertyType.getEnumConstants()) {
+			if (indexed.appliesTo(type)) {
+				changes.add(new Change<>(indexed, id, property != null ? (String) property.apply(indexed.property()) : null));
+			}
+		}
+		synchronized (lock) {
+			if (pending != null) {
+				pending.addAll(changes);
+			}
+			Map<F, I> current = indexes;
+			if (current != null) {
+				changes.forEach(change -> change.applyTo(current));
+			}
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		rebuild();
+	}
+
+	/**
+	 * Ucitava sve indekse iz baze u nove strukture (stari se i dalje koriste) i zamenjuje ih.
+	 * Izmene koje stignu tokom ucitavanja se pamte i ponovo primene na nove indekse, pa poslednja izmena uvek pobedjuje.
+	 */
+	public void rebuild() {
+		synchronized (lock) {
+			if (pending != null) {
+				return;
+			}
+			pending = new ArrayList<>();
+		}
+		Map<F, I> fresh = null;
+		try {
+			fresh = readOnlyTransaction.execute(status -> load());
+		}
+		finally {
+			synchronized (lock) {
+				if (fresh != null) {
+					for (Change<F> change : pending) {
+						change.applyTo(fresh);
+					}
+					indexes = fresh;
+				}
+				pending = null;
+			}
+		}
+		log.info("{} loaded ({} properties)", getClass().getSimpleName(), fresh.size());
+	}
+
+	private Map<F, I> load() {
+		Map<F, I> loaded = new EnumMap<>(propertyType);
+		for (F property : propertyType.getEnumConstants()) {
+			// rastuci id-jevi: svaka posting lista se puni dodavanjem na kraj, bez pomeranja niza
+			Map<Long, String> texts = new LinkedHashMap<>();
+			String jpql = "SELECT e.id, e." + property.property() + " FROM " + property.entity().getSimpleName()
+					+ " e WHERE e." + property.property() + " IS NOT NULL ORDER BY e.id";
+			try (Stream<Object[]> rows = entityManager.createQuery(jpql, Object[].class)
+					.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+					.setHint(HibernateHints.HINT_READ_ONLY, true)
+					.getResultStream()) {
+				rows.forEach(row -> texts.put(((Number) row[0]).longValue(), (String) row[1]));
+			}
+			loaded.put(property, factory.apply(texts));
+		}
+		return loaded;
+	}
+
+	private record Change<F>(F property, long id, String text) {
+
+		void applyTo(Map<F, ? extends TextIndex> target) {
+			target.get(property).put(id, text);
+		}
+	}
+}
@@ -0,0 +1,18 @@
+package com.jovan.erp_v1.search;
+
+/**
+ * Tekstualno svojstvo entiteta koje drzi memorijski indeks (SearchField, AutocompleteSource).
+ */
+public interface IndexedProperty {
+
+	Class<?> entity();
+
+	String property();
+
+	/**
+	 * Da li se svojstvo odnosi na tip (ukljucujuci podklase entiteta, npr. Product za Goods).
+	 */
+	default boolean appliesTo(Class<?> type) {
+		return entity().isAssignableFrom(type);
+	}
+}
@@ -0,0 +1,57 @@
+package com.jovan.erp_v1.search;
+
+import java.util.Arrays;
+
+/**
+ * Sortirana lista id-jeva bez duplikata, u primitivnom nizu (8 bajtova po id-u).
+ * Novi id-jevi su obicno veci od postojecih, pa je dodavanje najcesce append; ostalo je binarna pretraga + pomeranje.
+ */
+final class PostingList {
+
+	private long[] ids = new long[4];
+	private int size;
+
+	int size() {
+		return size;
+	}
+
+	long get(int index) {
+		return ids[index];
+	}
+
+	void add(long id) {
+		if (size == 0 || ids[size - 1] < id) {
+			ensureCapacity();
+			ids[size++] = id;
+			return;
+		}
+		int index = Arrays.binarySearch(ids, 0, size, id);
+		if (index >= 0) {
+			return;
+		}
+		int insertAt = -index - 1;
+		ensureCapacity();
+		System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+		ids[insertAt] = id;
+		size++;
+	}
+
+	void remove(long id) {
+		int index = Arrays.binarySearch(ids, 0, size, id);
+		if (index < 0) {
+			return;
+		}
+		System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+		size--;
+	}
+
+	boolean contains(long id) {
+		return Arrays.binarySearch(ids, 0, size, id) >= 0;
+	}
+
+	private void ensureCapacity() {
+		if (size == ids.length) {
+			ids = Arrays.copyOf(ids, size * 2);
+		}
+	}
+}
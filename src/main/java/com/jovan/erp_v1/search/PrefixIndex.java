@@ -0,0 +1,186 @@
+package com.jovan.erp_v1.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefiksni indeks naziva za autocomplete: svaki naziv se indeksira od pocetka svake reci ("novi sad" i "sad"),
+ * kljucevi su normalizovani kao u TrigramIndex-u (mala slova, bez dijakritika).
+ * Osnova je sortiran niz (kljuc, id) u kojem se prefiks nalazi binarnom pretragom; izmene posle izgradnje idu
+ * u mali sortiran dodatak i skup zastarelih id-jeva osnove, a kada dodatak preraste COMPACT_RATIO osnove,
+ * osnova se ponovo gradi.
+ */
+public final class PrefixIndex implements TextIndex {
+
+	private static final int MIN_DELTA = 1024;
+	private static final int COMPACT_RATIO = 8;
+	private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key).thenComparingLong(Entry::id);
+
+	public record Match(long id, String name) {
+	}
+
+	private record Entry(String key, long id) {
+	}
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	/** id -> naziv kako je u bazi */
+	private final Map<Long, String> names = new HashMap<>();
+	private String[] keys = new String[0];
+	private long[] ids = new long[0];
+	/** id-jevi cije stavke u osnovi vise ne vaze (izmenjeni ili obrisani posle izgradnje) */
+	private final Set<Long> stale = new HashSet<>();
+	private final NavigableSet<Entry> added = new TreeSet<>(ORDER);
+
+	public static PrefixIndex of(Map<Long, String> names) {
+		PrefixIndex index = new PrefixIndex();
+		index.names.putAll(names);
+		index.compact();
+		return index;
+	}
+
+	/**
+	 * Postavlja naziv reda id (null brise red).
+	 */
+	@Override
+	public void put(long id, String name) {
+		lock.writeLock().lock();
+		try {
+			String previous = name != null ? names.put(id, name) : names.remove(id);
+			if (previous != null) {
+				for (String key : keysOf(previous)) {
+					added.remove(new Entry(key, id));
+				}
+			}
+			stale.add(id);
+			if (name != null) {
+				for (String key : keysOf(name)) {
+					added.add(new Entry(key, id));
+				}
+			}
+			if (added.size() + stale.size() > Math.max(MIN_DELTA, keys.length / COMPACT_RATIO)) {
+				compact();
+			}
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return names.size();
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Najvise limit naziva cija neka rec pocinje prefiksom, po abecedi kljuca (pa id-u); svaki id najvise jednom.
+	 */
+	public List<Match> complete(String prefix, int limit) {
+		String normalized = TrigramIndex.normalize(prefix).strip();
+		if (normalized.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		lock.readLock().lock();
+		try {
+			Map<Long, String> found = new LinkedHashMap<>();
+			int base = lowerBound(normalized);
+			Iterator<Entry> delta = added.tailSet(new Entry(normalized, Long.MIN_VALUE), true).iterator();
+			Entry next = nextMatching(delta, normalized);
+			while (found.size() < limit) {
+				while (base < keys.length && keys[base].startsWith(normalized) && stale.contains(ids[base])) {
+					base++;
+				}
+				boolean baseMatches = base < keys.length && keys[base].startsWith(normalized);
+				if (!baseMatches && next == null) {
+					break;
+				}
+				if (baseMatches && (next == null || ORDER.compare(new Entry(keys[base], ids[base]), next) < 0)) {
+					found.putIfAbsent(ids[base], names.get(ids[base]));
+					base++;
+				}
+				else {
+					found.putIfAbsent(next.id(), names.get(next.id()));
+					next = nextMatching(delta, normalized);
+				}
+			}
+			List<Match> matches = new ArrayList<>(found.size());
+			found.forEach((id, name) -> matches.add(new Match(id, name)));
+			return matches;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static Entry nextMatching(Iterator<Entry> delta, String prefix) {
+		if (delta.hasNext()) {
+			Entry entry = delta.next();
+			if (entry.key().startsWith(prefix)) {
+				return entry;
+			}
+		}
+		return null;
+	}
+
+	private int lowerBound(String key) {
+		int index = Arrays.binarySearch(keys, key);
+		if (index < 0) {
+			return -index - 1;
+		}
+		while (index > 0 && keys[index - 1].equals(key)) {
+			index--;
+		}
+		return index;
+	}
+
+	private void compact() {
+		List<Entry> entries = new ArrayList<>(names.size() * 2);
+		names.forEach((id, name) -> {
+			for (String key : keysOf(name)) {
+				entries.add(new Entry(key, id));
+			}
+		});
+		entries.sort(ORDER);
+		String[] newKeys = new String[entries.size()];
+		long[] newIds = new long[entries.size()];
+		for (int i = 0; i < entries.size(); i++) {
+			newKeys[i] = entries.get(i).key();
+			newIds[i] = entries.get(i).id();
+		}
+		keys = newKeys;
+		ids = newIds;
+		stale.clear();
+		added.clear();
+	}
+
+	/**
+	 * Kljucevi naziva: normalizovan naziv od pocetka svake reci (rec pocinje slovom ili cifrom posle drugog znaka).
+	 */
+	private static Set<String> keysOf(String name) {
+		String normalized = TrigramIndex.normalize(name).strip();
+		Set<String> keys = new HashSet<>();
+		for (int i = 0; i < normalized.length(); i++) {
+			if (Character.isLetterOrDigit(normalized.charAt(i))
+					&& (i == 0 || !Character.isLetterOrDigit(normalized.charAt(i - 1)))) {
+				keys.add(normalized.substring(i));
+			}
+		}
+		return keys;
+	}
+}
@@ -0,0 +1,50 @@
+package com.jovan.erp_v1.search;
+
+import com.jovan.erp_v1.model.Buyer;
+import com.jovan.erp_v1.model.Goods;
+import com.jovan.erp_v1.model.Inspection;
+import com.jovan.erp_v1.model.Invoice;
+import com.jovan.erp_v1.model.Sales;
+import com.jovan.erp_v1.model.SalesOrder;
+import com.jovan.erp_v1.model.Storage;
+
+/**
+ * Tekstualna polja koja SearchIndex indeksira: entitet (ukljucujuci podklase, npr. Product za Goods) i naziv svojstva.
+ */
+public enum SearchField implements IndexedProperty {
+
+	SALES_ORDER_NOTE(SalesOrder.class, "note"),
+	SALES_ORDER_NUMBER(SalesOrder.class, "orderNumber"),
+	SALES_DESCRIPTION(Sales.class, "salesDescription"),
+	GOODS_NAME(Goods.class, "name"),
+	BUYER_COMPANY_NAME(Buyer.class, "companyName"),
+	BUYER_PIB(Buyer.class, "pib"),
+	BUYER_ADDRESS(Buyer.class, "address"),
+	BUYER_CONTACT_PERSON(Buyer.class, "contactPerson"),
+	BUYER_EMAIL(Buyer.class, "email"),
+	BUYER_PHONE_NUMBER(Buyer.class, "phoneNumber"),
+	INVOICE_NUMBER(Invoice.class, "invoiceNumber"),
+	INVOICE_NOTE(Invoice.class, "note"),
+	INSPECTION_CODE(Inspection.class, "code"),
+	INSPECTION_NOTES(Inspection.class, "notes"),
+	STORAGE_NAME(Storage.class, "name"),
+	STORAGE_LOCATION(Storage.class, "location");
+
+	private final Class<?> entity;
+	private final String property;
+
+	SearchField(Class<?> entity, String property) {
+		this.entity = entity;
+		this.property = property;
+	}
+
+	@Override
+	public Class<?> entity() {
+		return entity;
+	}
+
+	@Override
+	public String property() {
+		return property;
+	}
+}
@@ -0,0 +1,66 @@
+package com.jovan.erp_v1.search;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Trigram indeksi polja iz SearchField, za LIKE '%term%' predikate specifikacija (vidi TextSearchPredicates).
+ * Ucitavanje, izmene posle commit-a i rebuild su zajednicki sa AutocompleteIndex-om (EntityTextIndexes).
+ * Dok indeksi nisu ucitani, idsContaining vraca null i specifikacije koriste LIKE.
+ */
+@Component
+public class SearchIndex extends EntityTextIndexes<SearchField, TrigramIndex> {
+
+	/** specifikacije su staticke, pa do indeksa dolaze preko ove reference */
+	private static volatile SearchIndex active;
+
+	@Value("${search.index.max-ids:5000}")
+	private int maxIds;
+
+	public SearchIndex(PlatformTransactionManager transactionManager) {
+		super(SearchField.class, TrigramIndex::of, transactionManager);
+	}
+
+	/**
+	 * Id-jevi redova ciji field sadrzi term (bez obzira na velika/mala slova i dijakritike), ili null kada indeks
+	 * ne moze da odgovori: nije ucitan, term je kraci od 3 znaka, sadrzi LIKE dzoker znakove ili pogadja vise od
+	 * search.index.max-ids redova (tada je LIKE nad tabelom jeftiniji od IN liste).
+	 */
+	public static List<Long> idsContaining(SearchField field, String term) {
+		SearchIndex index = active;
+		return index != null ? index.find(field, term) : null;
+	}
+
+	public List<Long> find(SearchField field, String term) {
+		TrigramIndex index = index(field);
+		if (index == null || term == null || term.indexOf('%') >= 0 || term.indexOf('_') >= 0) {
+			return null;
+		}
+		return index.search(term, maxIds);
+	}
+
+	@PostConstruct
+	void activate() {
+		active = this;
+	}
+
+	@PreDestroy
+	void deactivate() {
+		if (active == this) {
+			active = null;
+		}
+	}
+
+	@Override
+	@Scheduled(cron = "${search.index.rebuild-cron:0 0 5 * * *}")
+	public void rebuild() {
+		super.rebuild();
+	}
+}
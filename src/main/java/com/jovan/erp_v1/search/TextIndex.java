@@ -0,0 +1,12 @@
+package com.jovan.erp_v1.search;
+
+/**
+ * Indeks tekstova jednog svojstva po id-ju reda (TrigramIndex, PrefixIndex).
+ */
+public interface TextIndex {
+
+	/**
+	 * Postavlja tekst reda id (null brise red).
+	 */
+	void put(long id, String text);
+}
@@ -0,0 +1,164 @@
+package com.jovan.erp_v1.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Invertovani indeks trigrama jednog tekstualnog polja: trigram -> sortirani id-jevi redova ciji tekst ga sadrzi.
+ * Pretraga "sadrzi term" preseca liste trigrama terma (od najkrace) i kandidate proverava nad sacuvanim tekstom,
+ * pa je rezultat isti kao LIKE '%term%' (bez lazno pozitivnih).
+ * Tekst i term se normalizuju: mala slova, bez dijakritika (NFD pa brisanje oznaka, c sa kvacicom = c), a slova
+ * koja se ne rastavljaju na osnovno slovo i oznaku se preslikavaju eksplicitno (d sa crtom = d, l sa crtom = l,
+ * o sa crtom = o, ae, oe, ss). To nije isto sto i MySQL *_ai_ci kolacija, koja npr. d sa crtom ne izjednacava sa d,
+ * pa LIKE fallback (TextSearchPredicates) ista slova iz FOLDED_LETTERS zamenjuje u koloni pre poredjenja.
+ */
+public final class TrigramIndex implements TextIndex {
+
+	public static final int MIN_TERM_LENGTH = 3;
+
+	/** mala slova koja normalize preslikava eksplicitno; normalize(slovo) je njihova zamena */
+	public static final List<String> FOLDED_LETTERS = List.of("\u0111", "\u0142", "\u00f8", "\u0131", "\u00e6",
+			"\u0153", "\u00df");
+
+	private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Map<Long, PostingList> postings = new HashMap<>();
+	private final Map<Long, String> texts = new HashMap<>();
+
+	public static String normalize(String text) {
+		String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+		String stripped = MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+		StringBuilder normalized = new StringBuilder(stripped.length());
+		for (int i = 0; i < stripped.length(); i++) {
+			char c = stripped.charAt(i);
+			switch (c) {
+				case '\u0111' -> normalized.append('d');
+				case '\u0142' -> normalized.append('l');
+				case '\u00f8' -> normalized.append('o');
+				case '\u0131' -> normalized.append('i');
+				case '\u00e6' -> normalized.append("ae");
+				case '\u0153' -> normalized.append("oe");
+				case '\u00df' -> normalized.append("ss");
+				default -> normalized.append(c);
+			}
+		}
+		return normalized.toString();
+	}
+
+	public static TrigramIndex of(Map<Long, String> texts) {
+		TrigramIndex index = new TrigramIndex();
+		texts.forEach(index::put);
+		return index;
+	}
+
+	/**
+	 * Postavlja tekst reda id (null brise red iz indeksa).
+	 */
+	@Override
+	public void put(long id, String text) {
+		String normalized = text != null ? normalize(text) : null;
+		lock.writeLock().lock();
+		try {
+			String previous = normalized != null ? texts.put(id, normalized) : texts.remove(id);
+			if (previous != null) {
+				for (long trigram : trigramsOf(previous)) {
+					PostingList list = postings.get(trigram);
+					list.remove(id);
+					if (list.size() == 0) {
+						postings.remove(trigram);
+					}
+				}
+			}
+			if (normalized != null) {
+				for (long trigram : trigramsOf(normalized)) {
+					postings.computeIfAbsent(trigram, t -> new PostingList()).add(id);
+				}
+			}
+		}
+		finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public void remove(long id) {
+		put(id, null);
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return texts.size();
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Id-jevi (rastuce) redova ciji tekst sadrzi term, ili null ako je term kraci od MIN_TERM_LENGTH
+	 * ili rezultat ima vise od maxIds id-jeva (tada indeks ne pomaze i treba koristiti LIKE).
+	 */
+	public List<Long> search(String term, int maxIds) {
+		String normalized = normalize(term);
+		if (normalized.length() < MIN_TERM_LENGTH) {
+			return null;
+		}
+		Set<Long> trigrams = trigramsOf(normalized);
+		lock.readLock().lock();
+		try {
+			List<PostingList> lists = new ArrayList<>(trigrams.size());
+			PostingList shortest = null;
+			for (long trigram : trigrams) {
+				PostingList list = postings.get(trigram);
+				if (list == null) {
+					return List.of();
+				}
+				lists.add(list);
+				if (shortest == null || list.size() < shortest.size()) {
+					shortest = list;
+				}
+			}
+			List<Long> result = new ArrayList<>();
+			for (int i = 0; i < shortest.size(); i++) {
+				long id = shortest.get(i);
+				if (containsInAll(lists, shortest, id) && texts.get(id).contains(normalized)) {
+					if (result.size() == maxIds) {
+						return null;
+					}
+					result.add(id);
+				}
+			}
+			return result;
+		}
+		finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private static boolean containsInAll(List<PostingList> lists, PostingList skip, long id) {
+		for (PostingList list : lists) {
+			if (list != skip && !list.contains(id)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Set<Long> trigramsOf(String text) {
+		Set<Long> trigrams = new HashSet<>();
+		for (int i = 0; i + MIN_TERM_LENGTH <= text.length(); i++) {
+			trigrams.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+		}
+		return trigrams;
+	}
+}
@@ -0,0 +1,132 @@
+package com.jovan.erp_v1.security;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Kes za autentifikovane korisnike i stanje JWT tokena koji koristi JwtAuthenticationFilter.
+ * Bez kesa svaki zahtev radi loadUserByUsername i findByToken nad bazom.
+ * Zivotni vek stavki je vezan za jwt.access.token.validity, a revokacija tokena
+ * ili izmena korisnika odmah izbacuje stavke iz kesa (i ponovo posle commit-a).
+ * Korisnici se kesiraju pod username-om (UserDetails.getUsername()), bez obzira da li je JWT subject
+ * username ili email, pa evictPrincipal(username) vazi za svaki token tog korisnika.
+ */
+@Component
+public class AuthenticationCache {
+
+	public static final String PRINCIPAL_CACHE = "jwtPrincipalCache";
+	public static final String TOKEN_CACHE = "jwtTokenCache";
+
+	// username -> UserDetails
+	private final Cache<String, UserDetails> principals;
+	// JWT subject (username ili email) -> username
+	private final Cache<String, String> usernames;
+	// jwt -> true, samo aktivni (ne revokovani i ne istekli) tokeni se kesiraju
+	private final Cache<String, Boolean> activeTokens;
+
+	public AuthenticationCache(
+			@Value("${jwt.access.token.validity}") long accessTokenValidity,
+			@Value("${jwt.cache.principals.max-size:10000}") long maxPrincipals,
+			@Value("${jwt.cache.tokens.max-size:50000}") long maxTokens,
+			MeterRegistry meterRegistry) {
+		Duration ttl = Duration.ofMillis(accessTokenValidity);
+		this.principals = Caffeine.newBuilder()
+				.expireAfterWrite(ttl)
+				.maximumSize(maxPrincipals)
+				.recordStats()
+				.build();
+		this.usernames = Caffeine.newBuilder()
+				.expireAfterWrite(ttl)
+				.maximumSize(maxPrincipals)
+				.build();
+		this.activeTokens = Caffeine.newBuilder()
+				.expireAfterWrite(ttl)
+				.maximumSize(maxTokens)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, principals, PRINCIPAL_CACHE);
+		CaffeineCacheMetrics.monitor(meterRegistry, activeTokens, TOKEN_CACHE);
+	}
+
+	public UserDetails getPrincipal(String subject, Function<String, UserDetails> loader) {
+		String username = usernames.getIfPresent(subject);
+		UserDetails cached = username != null ? principals.getIfPresent(username) : null;
+		if (cached != null) {
+			return cached;
+		}
+		UserDetails loaded = loader.apply(subject);
+		usernames.put(subject, loaded.getUsername());
+		principals.put(loaded.getUsername(), loaded);
+		return loaded;
+	}
+
+	/**
+	 * Vraca true ako je token aktivan. Negativni rezultati se ne kesiraju,
+	 * pa neaktivan token uvek ponovo ide do baze.
+	 */
+	public boolean isTokenActive(String jwt, Supplier<Boolean> loader) {
+		if (activeTokens.getIfPresent(jwt) != null) {
+			return true;
+		}
+		boolean active = Boolean.TRUE.equals(loader.get());
+		if (active) {
+			activeTokens.put(jwt, Boolean.TRUE);
+		}
+		return active;
+	}
+
+	public void evictToken(String jwt) {
+		evictNowAndAfterCommit(() -> activeTokens.invalidate(jwt));
+	}
+
+	public void evictTokens(Collection<String> jwts) {
+		if (jwts.isEmpty()) {
+			return;
+		}
+		evictNowAndAfterCommit(() -> activeTokens.invalidateAll(jwts));
+	}
+
+	public void evictPrincipal(String username) {
+		if (username == null) {
+			return;
+		}
+		evictNowAndAfterCommit(() -> principals.invalidate(username));
+	}
+
+	public void evictAllPrincipals() {
+		evictNowAndAfterCommit(() -> {
+			principals.invalidateAll();
+			usernames.invalidateAll();
+		});
+	}
+
+	/**
+	 * Izbacivanje odmah, i jos jednom posle commit-a, kako paralelni zahtev
+	 * ne bi vratio u kes stanje procitano pre nego sto je transakcija zavrsena.
+	 */
+	private void evictNowAndAfterCommit(Runnable eviction) {
+		eviction.run();
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					eviction.run();
+				}
+			});
+		}
+	}
+}
@@ -31,15 +31,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Qualifier("userService")
     private final UserDetailsService userDetailsService;
     private final TokenService tokenService;
+    private final AuthenticationCache authenticationCache;
   
     @Autowired
     public JwtAuthenticationFilter(
             JwtService jwtService,
             @Qualifier("userService") @Lazy UserDetailsService userDetailsService,
-            TokenService tokenService) {
+            TokenService tokenService,
+            AuthenticationCache authenticationCache) {
         this.jwtService = jwtService;
         this.userDetailsService = userDetailsService;
         this.tokenService = tokenService;
+        this.authenticationCache = authenticationCache;
     }
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -58,10 +61,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         System.out.println("authHeader: " + authHeader);
         System.out.println("jwt: " + jwt);
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-            boolean isTokenValid = tokenService.findByToken(jwt)
+            UserDetails userDetails = authenticationCache.getPrincipal(username, userDetailsService::loadUserByUsername);
+            boolean isTokenValid = authenticationCache.isTokenActive(jwt, () -> tokenService.findByToken(jwt)
                 .filter(token -> !token.isExpired() && !token.isRevoked())
-                .isPresent();
+                .isPresent());
             if (jwtService.isTokenValid(jwt, userDetails) && isTokenValid) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
@@ -0,0 +1,185 @@
+package com.jovan.erp_v1.security;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.jovan.erp_v1.util.RoleGroups;
+
+/**
+ * AuthorizationManager za @PreAuthorize koji izraze oblika hasAnyRole('A','B',...) i hasRole('A')
+ * kompajlira jednom u bitset uloga, umesto da se SpEL evaluira pri svakom pozivu.
+ * Sve konstante iz RoleGroups se kompajliraju pri pokretanju i odredjuju skup poznatih uloga.
+ * Uloge korisnika se pretvaraju u bitset jednom po Authentication objektu, pa je provera jedan AND.
+ * Svaki izraz koji nije tog oblika (ili sadrzi nepoznatu ulogu) ide na standardni SpEL delegate,
+ * tako da su odluke iste kao ranije.
+ */
+public class RoleGroupAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+	private static final String ROLE_PREFIX = "ROLE_";
+
+	private static final Pattern ROLE_EXPRESSION = Pattern.compile(
+			"^\\s*(hasAnyRole|hasRole)\\(\\s*('[^']*'(?:\\s*,\\s*'[^']*')*)\\s*\\)\\s*$");
+	private static final Pattern QUOTED = Pattern.compile("'([^']*)'");
+
+	// Oznaka za metode cija se provera prepusta SpEL delegatu
+	private static final long[] DELEGATE = new long[0];
+
+	private final AuthorizationManager<MethodInvocation> delegate;
+	// "ROLE_X" -> redni broj bita
+	private final Map<String, Integer> roleIndex;
+	// izraz -> bitset dozvoljenih uloga
+	private final Map<String, long[]> compiledExpressions = new ConcurrentHashMap<>();
+	// metoda -> bitset dozvoljenih uloga ili DELEGATE
+	private final Map<MethodKey, long[]> compiledMethods = new ConcurrentHashMap<>();
+	private final Cache<Authentication, long[]> authenticationBits = Caffeine.newBuilder()
+			.weakKeys()
+			.maximumSize(10_000)
+			.build();
+	private final int words;
+
+	public RoleGroupAuthorizationManager(AuthorizationManager<MethodInvocation> delegate) {
+		this.delegate = delegate;
+		List<String> groupExpressions = roleGroupExpressions();
+		Set<String> roles = new LinkedHashSet<>();
+		for (String expression : groupExpressions) {
+			List<String> parsed = parseRoles(expression);
+			if (parsed != null) {
+				roles.addAll(parsed);
+			}
+		}
+		Map<String, Integer> index = new HashMap<>();
+		for (String role : roles) {
+			index.put(role, index.size());
+		}
+		this.roleIndex = Collections.unmodifiableMap(index);
+		this.words = Math.max(1, (index.size() + 63) / 64);
+		for (String expression : groupExpressions) {
+			compiledExpressions.put(expression, compile(expression));
+		}
+	}
+
+	@Override
+	public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+		long[] required = compiledMethods.computeIfAbsent(methodKey(invocation), this::resolve);
+		if (required == DELEGATE) {
+			return delegate.check(authentication, invocation);
+		}
+		Authentication current = authentication.get();
+		long[] granted = current != null ? authenticationBits.get(current, this::toBits) : new long[words];
+		for (int i = 0; i < words; i++) {
+			if ((required[i] & granted[i]) != 0) {
+				return new AuthorizationDecision(true);
+			}
+		}
+		return new AuthorizationDecision(false);
+	}
+
+	private long[] resolve(MethodKey key) {
+		Class<?> targetClass = key.targetClass();
+		Method method = AopUtils.getMostSpecificMethod(key.method(), targetClass);
+		PreAuthorize preAuthorize = AnnotatedElementUtils.findMergedAnnotation(method, PreAuthorize.class);
+		if (preAuthorize == null && targetClass != null) {
+			preAuthorize = AnnotatedElementUtils.findMergedAnnotation(targetClass, PreAuthorize.class);
+		}
+		if (preAuthorize == null) {
+			return DELEGATE;
+		}
+		return compiledExpressions.computeIfAbsent(preAuthorize.value(), this::compile);
+	}
+
+	private long[] compile(String expression) {
+		List<String> roles = parseRoles(expression);
+		if (roles == null) {
+			return DELEGATE;
+		}
+		long[] bits = new long[words];
+		for (String role : roles) {
+			Integer bit = roleIndex.get(role);
+			if (bit == null) {
+				return DELEGATE;
+			}
+			bits[bit >>> 6] |= 1L << (bit & 63);
+		}
+		return bits;
+	}
+
+	private long[] toBits(Authentication authentication) {
+		long[] bits = new long[words];
+		for (GrantedAuthority authority : authentication.getAuthorities()) {
+			Integer bit = authority.getAuthority() != null ? roleIndex.get(authority.getAuthority()) : null;
+			if (bit != null) {
+				bits[bit >>> 6] |= 1L << (bit & 63);
+			}
+		}
+		return bits;
+	}
+
+	/**
+	 * Vraca uloge sa ROLE_ prefiksom (kao SecurityExpressionRoot), ili null ako izraz nije
+	 * cist hasAnyRole/hasRole poziv. hasRole sa vise argumenata se ne kompajlira jer ga ni SpEL ne prihvata.
+	 */
+	static List<String> parseRoles(String expression) {
+		Matcher matcher = ROLE_EXPRESSION.matcher(expression);
+		if (!matcher.matches()) {
+			return null;
+		}
+		List<String> roles = new ArrayList<>();
+		Matcher quoted = QUOTED.matcher(matcher.group(2));
+		while (quoted.find()) {
+			String role = quoted.group(1);
+			roles.add(role.startsWith(ROLE_PREFIX) ? role : ROLE_PREFIX + role);
+		}
+		if ("hasRole".equals(matcher.group(1)) && roles.size() != 1) {
+			return null;
+		}
+		return roles;
+	}
+
+	private static List<String> roleGroupExpressions() {
+		List<String> expressions = new ArrayList<>();
+		for (Field field : RoleGroups.class.getDeclaredFields()) {
+			int modifiers = field.getModifiers();
+			if (Modifier.isStatic(modifiers) && Modifier.isFinal(modifiers) && field.getType() == String.class) {
+				try {
+					expressions.add((String) field.get(null));
+				}
+				catch (IllegalAccessException e) {
+					throw new IllegalStateException("Cannot read RoleGroups." + field.getName(), e);
+				}
+			}
+		}
+		return expressions;
+	}
+
+	private static MethodKey methodKey(MethodInvocation invocation) {
+		Object target = invocation.getThis();
+		Class<?> targetClass = target != null ? AopUtils.getTargetClass(target) : null;
+		return new MethodKey(invocation.getMethod(), targetClass);
+	}
+
+	private record MethodKey(Method method, Class<?> targetClass) {
+	}
+}
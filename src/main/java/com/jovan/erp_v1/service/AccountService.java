@@ -341,7 +341,6 @@ public class AccountService implements IAccountService {
 	};
 	
 	private final AbstractSaveAllService<Account, AccountResponse> saveAllHelper = new AbstractSaveAllService<Account, AccountResponse>() {
-		
 		@Override
 		protected Function<Account, AccountResponse> toResponse() {
 			return AccountResponse::new;
@@ -32,6 +32,7 @@ import com.jovan.erp_v1.request.BalanceSheetSearchRequest;
 import com.jovan.erp_v1.response.BalanceSheetResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.BalanceSheetSaveAsRequest;
 import com.jovan.erp_v1.search_request.BalanceSheetGeneralSearchRequest;
 import com.jovan.erp_v1.util.DateValidator;
@@ -481,7 +482,6 @@ public class BalanceSheetService implements IBalanceSheetService {
 	};
 	
 	private final AbstractSaveAllService<BalanceSheet, BalanceSheetResponse> saveAllHelper = new AbstractSaveAllService<BalanceSheet, BalanceSheetResponse>() {
-		
 		@Override
 		protected Function<BalanceSheet, BalanceSheetResponse> toResponse() {
 			return BalanceSheetResponse::new;
@@ -507,13 +507,16 @@ public class BalanceSheetService implements IBalanceSheetService {
 	@Transactional
 	@Override
 	public List<BalanceSheetResponse> saveAll(List<BalanceSheetRequest> requests) {
+		ReferenceResolver<BalanceSheetRequest> references = saveAllHelper.references(requests);
+		Map<Long, FiscalYear> fiscalYears = references.resolve("FiscalYear", fiscalYearRepository, FiscalYear::getId, BalanceSheetRequest::fiscalYearId);
+		references.verify();
 		List<BalanceSheet> items = requests.stream()
 				.map(req -> BalanceSheet.builder()
 						.id(req.id())
 						.totalAssets(req.totalAssets())
 						.totalEquity(req.totalEquity())
 						.totalLiabilities(req.totalLiabilities())
-						.fiscalYear(validatefiscalYear(req.fiscalYearId()))
+						.fiscalYear(fiscalYears.get(req.fiscalYearId()))
 						.status(req.status())
 						.confirmed(req.confirmed())
 						.build())
@@ -30,6 +30,7 @@ import com.jovan.erp_v1.request.BarCodeRequest;
 import com.jovan.erp_v1.response.BarCodeResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.BarCodeSaveAsRequest;
 import com.jovan.erp_v1.search_request.BarCodeSearchRequest;
 import com.jovan.erp_v1.util.DateValidator;
@@ -283,7 +284,6 @@ public class BarCodeService implements IBarcodeService {
 	};
 	
 	private final AbstractSaveAllService<BarCode, BarCodeResponse> saveAllHelper = new AbstractSaveAllService<BarCode, BarCodeResponse>() {
-		
 		@Override
 		protected Function<BarCode, BarCodeResponse> toResponse() {
 			return BarCodeResponse::new;
@@ -306,12 +306,16 @@ public class BarCodeService implements IBarcodeService {
 	@Transactional
 	@Override
 	public List<BarCodeResponse> saveAll(List<BarCodeRequest> request) {
+		ReferenceResolver<BarCodeRequest> references = saveAllHelper.references(request);
+		Map<Long, User> users = references.resolve("User", userRepository, User::getId, BarCodeRequest::scannedById);
+		Map<Long, Goods> goods = references.resolve("Goods", goodsRepository, Goods::getId, BarCodeRequest::goodsId);
+		references.verify();
 		List<BarCode> items = request.stream()
 				.map(req -> BarCode.builder()
 						.id(req.id())
 						.code(req.code())
-						.scannedBy(validateScannedById(req.scannedById()))
-						.goods(validateGoodsId(req.goodsId()))
+						.scannedBy(users.get(req.scannedById()))
+						.goods(goods.get(req.goodsId()))
 						.status(req.status())
 						.confirmed(req.confirmed())
 						.build())
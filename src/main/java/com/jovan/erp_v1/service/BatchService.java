@@ -18,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.jovan.erp_v1.enumeration.BatchStatus;
 import com.jovan.erp_v1.enumeration.GoodsType;
 import com.jovan.erp_v1.enumeration.InspectionStatus;
+import com.jovan.erp_v1.enumeration.MonthlyMetric;
 import com.jovan.erp_v1.enumeration.StorageStatus;
 import com.jovan.erp_v1.enumeration.StorageType;
 import com.jovan.erp_v1.enumeration.SupplierType;
@@ -26,6 +27,7 @@ import com.jovan.erp_v1.exception.NoDataFoundException;
 import com.jovan.erp_v1.exception.ValidationException;
 import com.jovan.erp_v1.mapper.BatchMapper;
 import com.jovan.erp_v1.model.Batch;
+import com.jovan.erp_v1.model.MonthlyRollup;
 import com.jovan.erp_v1.model.Product;
 import com.jovan.erp_v1.model.Shelf;
 import com.jovan.erp_v1.model.Storage;
@@ -40,6 +42,7 @@ import com.jovan.erp_v1.request.BatchRequest;
 import com.jovan.erp_v1.response.BatchResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.BatchSaveAsRequest;
 import com.jovan.erp_v1.search_request.BatchSearchRequest;
 import com.jovan.erp_v1.statistics.batch.BatchConfirmedStatDTO;
@@ -54,6 +57,8 @@ import lombok.RequiredArgsConstructor;
 public class BatchService implements IBatchService {
 
 	private final BatchRepository batchRepository;
+
+	private final MonthlyRollupService monthlyRollupService;
 	private final BatchMapper batchMapper;
 	private final StorageRepository storageRepository;
 	private final ShelfRepository shelfRepository;
@@ -815,17 +820,12 @@ public class BatchService implements IBatchService {
 
 	@Override
 	public List<BatchMonthlyStatDTO> countBatchesByYearAndMonth() {
-		List<BatchMonthlyStatDTO> items = batchRepository.countBatchesByYearAndMonth();
+		List<MonthlyRollup> items = monthlyRollupService.all(MonthlyMetric.BATCH_COUNT);
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No batch count for year and month, found");
 		}
 		return items.stream()
-				.map(item -> {
-					Integer year = item.getYear();
-					Integer month = item.getMonth();
-					Long count = item.getCount();
-					return new BatchMonthlyStatDTO(year, month, count);
-				})
+				.map(item -> new BatchMonthlyStatDTO(item.getYear(), item.getMonth(), item.getCount()))
 				.toList();
 	}
 
@@ -931,7 +931,6 @@ public class BatchService implements IBatchService {
 	};
 	
 	private final AbstractSaveAllService<Batch, BatchResponse> saveAllHelper = new AbstractSaveAllService<Batch, BatchResponse>() {
-		
 		@Override
 		protected Function<Batch, BatchResponse> toResponse() {
 			return BatchResponse::new;
@@ -958,11 +957,14 @@ public class BatchService implements IBatchService {
 	@Transactional
 	@Override
 	public List<BatchResponse> saveAll(List<BatchRequest> requests) {
+		ReferenceResolver<BatchRequest> references = saveAllHelper.references(requests);
+		Map<Long, Product> products = references.resolve("Product", productRepository, Product::getId, BatchRequest::productId);
+		references.verify();
 		List<Batch> items = requests.stream()
 				.map(req -> Batch.builder()
 						.id(req.id())
 						.code(req.code())
-						.product(validateProductId(req.productId()))
+						.product(products.get(req.productId()))
 						.quantityProduced(req.quantityProduced())
 						.productionDate(LocalDate.now())
 						.expiryDate(req.expiryDate())
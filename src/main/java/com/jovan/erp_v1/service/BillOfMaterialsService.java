@@ -38,6 +38,7 @@ import com.jovan.erp_v1.request.BillOfMaterialsRequest;
 import com.jovan.erp_v1.response.BillOfMaterialsResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.BillOfMaterialsSaveAsRequest;
 import com.jovan.erp_v1.search_request.BillOfMaterialsSearchRequest;
 
@@ -724,7 +725,6 @@ public class BillOfMaterialsService implements IBillOfMaterialsService {
 	};
 	
 	private final AbstractSaveAllService<BillOfMaterials, BillOfMaterialsResponse> saveAllHelper = new AbstractSaveAllService<BillOfMaterials, BillOfMaterialsResponse>() {
-		
 		@Override
 		protected Function<BillOfMaterials, BillOfMaterialsResponse> toResponse() {
 			return BillOfMaterialsResponse::new;
@@ -753,11 +753,14 @@ public class BillOfMaterialsService implements IBillOfMaterialsService {
 	@Transactional
 	@Override
 	public List<BillOfMaterialsResponse> saveAll(List<BillOfMaterialsRequest> requests) {
+		ReferenceResolver<BillOfMaterialsRequest> references = saveAllHelper.references(requests);
+		Map<Long, Product> products = references.resolve("Product", productRepository, Product::getId, BillOfMaterialsRequest::parentProductId, BillOfMaterialsRequest::componentId);
+		references.verify();
 		List<BillOfMaterials> items = requests.stream()
 				.map(req -> BillOfMaterials.builder()
 						.id(req.id())
-						.parentProduct(validateParentProductId(req.parentProductId()))
-						.component(validateComponentId(req.componentId()))
+						.parentProduct(products.get(req.parentProductId()))
+						.component(products.get(req.componentId()))
 						.quantity(req.quantity())
 						.confirmed(req.confirmed())
 						.status(req.status())
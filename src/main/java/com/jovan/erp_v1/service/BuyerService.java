@@ -325,7 +325,6 @@ public class BuyerService implements IBuyerService {
 	};
 	
 	private final AbstractSaveAllService<Buyer, BuyerResponse> saveAllHelper = new AbstractSaveAllService<Buyer, BuyerResponse>() {
-		
 		@Override
 		protected Function<Buyer, BuyerResponse> toResponse() {
 			return BuyerResponse::new;
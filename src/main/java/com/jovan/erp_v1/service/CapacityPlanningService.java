@@ -16,12 +16,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jovan.erp_v1.enumeration.CapacityPlanningStatus;
+import com.jovan.erp_v1.enumeration.MonthlyMetric;
 import com.jovan.erp_v1.exception.CapacityPlanningErrorException;
 import com.jovan.erp_v1.exception.NoDataFoundException;
 import com.jovan.erp_v1.exception.ValidationException;
 import com.jovan.erp_v1.exception.WorkCenterErrorException;
 import com.jovan.erp_v1.mapper.CapacityPlanningMapper;
 import com.jovan.erp_v1.model.CapacityPlanning;
+import com.jovan.erp_v1.model.MonthlyRollup;
 import com.jovan.erp_v1.model.WorkCenter;
 import com.jovan.erp_v1.repository.CapacityPlanningRepository;
 import com.jovan.erp_v1.repository.WorkCenterRepository;
@@ -30,6 +32,7 @@ import com.jovan.erp_v1.request.CapacityPlanningRequest;
 import com.jovan.erp_v1.response.CapacityPlanningResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.CapacityPlanningSaveAsRequest;
 import com.jovan.erp_v1.search_request.CapacityPlanningSearchRequest;
 import com.jovan.erp_v1.statistics.capacity_planning.CapacityPlanningAvailableCapacityStatDTO;
@@ -43,6 +46,8 @@ import lombok.RequiredArgsConstructor;
 public class CapacityPlanningService implements ICapacityPlanningService {
 
     private final CapacityPlanningRepository capacityPlanningRepository;
+
+    private final MonthlyRollupService monthlyRollupService;
     private final CapacityPlanningMapper capacityPlanningMapper;
     private final WorkCenterRepository workCenterRepository;
 
@@ -403,17 +408,12 @@ public class CapacityPlanningService implements ICapacityPlanningService {
 
 	@Override
 	public List<CapacityPlanningMonthlyStatDTO> countCapacityPlanningsByYearAndMonth() {
-		List<CapacityPlanningMonthlyStatDTO> items = capacityPlanningRepository.countCapacityPlanningsByYearAndMonth();
+		List<MonthlyRollup> items = monthlyRollupService.all(MonthlyMetric.CAPACITY_PLANNING_COUNT);
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No CapacityPlanning found for year and month");
 		}
 		return items.stream()
-				.map(item -> {
-					Integer year = item.getYear();
-					Integer month = item.getMonth();
-					Long count = item.getCount();
-					return new CapacityPlanningMonthlyStatDTO(year, month, count);
-				})
+				.map(item -> new CapacityPlanningMonthlyStatDTO(item.getYear(), item.getMonth(), item.getCount()))
 				.toList();
 	}
 
@@ -513,7 +513,6 @@ public class CapacityPlanningService implements ICapacityPlanningService {
 	};
 	
 	private final AbstractSaveAllService<CapacityPlanning, CapacityPlanningResponse> saveAllHelper = new AbstractSaveAllService<CapacityPlanning, CapacityPlanningResponse>() {
-		
 		@Override
 		protected Function<CapacityPlanning, CapacityPlanningResponse> toResponse() {
 			return CapacityPlanningResponse::new;
@@ -538,10 +537,13 @@ public class CapacityPlanningService implements ICapacityPlanningService {
 	@Transactional
 	@Override
 	public List<CapacityPlanningResponse> saveAll(List<CapacityPlanningRequest> requests) {
+		ReferenceResolver<CapacityPlanningRequest> references = saveAllHelper.references(requests);
+		Map<Long, WorkCenter> workCenters = references.resolve("WorkCenter", workCenterRepository, WorkCenter::getId, CapacityPlanningRequest::workCenterId);
+		references.verify();
 		List<CapacityPlanning> items = requests.stream()
 				.map(req -> CapacityPlanning.builder()
 						.id(req.id())
-						.workCenter(validateWorkCenterId(req.workCenterId()))
+						.workCenter(workCenters.get(req.workCenterId()))
 						.availableCapacity(req.availableCapacity())
 						.plannedLoad(req.plannedLoad())
 						.date(LocalDate.now()) 
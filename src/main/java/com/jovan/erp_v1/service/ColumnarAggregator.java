@@ -0,0 +1,87 @@
+package com.jovan.erp_v1.service;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jovan.erp_v1.statistics.columnar.ColumnarSnapshot;
+import com.jovan.erp_v1.statistics.columnar.GroupedAggregate;
+import com.jovan.erp_v1.statistics.columnar.Measure;
+import com.jovan.erp_v1.statistics.columnar.ParallelAggregation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Agregira ColumnarSnapshot sekvencijalno ili paralelno, u zavisnosti od broja redova.
+ * Paralelna agregacija radi u posebnom ForkJoinPool-u (ne u common pool-u ni na Tomcat nitima),
+ * a broj istovremenih paralelnih agregacija je ogranicen semaforom; kada nema slobodnog mesta,
+ * zahtev se agregira sekvencijalno na svojoj niti, pa ukupna CPU potrosnja ostaje ogranicena.
+ */
+@Slf4j
+@Component
+public class ColumnarAggregator implements DisposableBean {
+
+	private final ForkJoinPool pool;
+	private final Semaphore permits;
+	private final MeterRegistry meterRegistry;
+
+	@Value("${stats.parallel.min-rows:50000}")
+	private int minRows;
+
+	@Value("${stats.parallel.chunk-rows:16384}")
+	private int chunkRows;
+
+	public ColumnarAggregator(MeterRegistry meterRegistry,
+			@Value("${stats.parallel.parallelism:0}") int parallelism,
+			@Value("${stats.parallel.max-concurrent:2}") int maxConcurrent) {
+		this.meterRegistry = meterRegistry;
+		int threads = parallelism > 0 ? parallelism : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+		this.pool = new ForkJoinPool(threads, pool -> {
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("stats-aggregation-" + thread.getPoolIndex());
+			return thread;
+		}, null, false);
+		this.permits = new Semaphore(maxConcurrent);
+	}
+
+	public GroupedAggregate aggregate(ColumnarSnapshot snapshot, Measure... measures) {
+		if (snapshot.rowCount() < minRows) {
+			return snapshot.aggregate(measures);
+		}
+		if (!permits.tryAcquire()) {
+			count("sequential-fallback");
+			return snapshot.aggregate(measures);
+		}
+		try {
+			count("parallel");
+			return ParallelAggregation.aggregate(pool, snapshot, chunkRows, measures);
+		}
+		finally {
+			permits.release();
+		}
+	}
+
+	private void count(String mode) {
+		Counter.builder("erp.stats.aggregation")
+				.description("Large columnar aggregations by execution mode")
+				.tag("mode", mode)
+				.register(meterRegistry)
+				.increment();
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		pool.shutdown();
+		if (!pool.awaitTermination(10, TimeUnit.SECONDS)) {
+			log.warn("Statistics aggregation pool did not terminate in time");
+			pool.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.jovan.erp_v1.service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.jovan.erp_v1.statistics.columnar.ColumnarSnapshot;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Puni ColumnarSnapshot projekcijom samo potrebnih kolona (kljucevi, iznosi, label) za isti Specification
+ * koji koristi MEMORY strategija, umesto findAll nad celim entitetima.
+ * Redovi se citaju kursorom i odmah upisuju u primitivne kolone; persistence context ostaje prazan.
+ * Putanje su u obliku "buyer.id" ili "salesOrder.orderNumber"; veze se spajaju LEFT JOIN-om,
+ * pa redovi sa null vezom ostaju (kljuc NULL_KEY).
+ */
+@Component
+public class ColumnarLoader {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${streaming.fetch-size:500}")
+	private int fetchSize;
+
+	/**
+	 * Definicija kolona snimka: putanje kljuceva, putanje iznosa (BigDecimal) i opciona putanja label-a.
+	 */
+	public record Columns(List<String> keys, List<String> values, String label, int scale) {
+
+		public static Columns of(List<String> keys, List<String> values, int scale) {
+			return new Columns(keys, values, null, scale);
+		}
+
+		public Columns withLabel(String label) {
+			return new Columns(keys, values, label, scale);
+		}
+	}
+
+	public <E> ColumnarSnapshot load(Class<E> type, Specification<E> spec, Columns columns) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<E> root = query.from(type);
+		Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		Map<String, Join<?, ?>> joins = new HashMap<>();
+		List<Selection<?>> selections = new ArrayList<>();
+		for (String key : columns.keys()) {
+			selections.add(path(root, joins, key));
+		}
+		for (String value : columns.values()) {
+			selections.add(path(root, joins, value));
+		}
+		if (columns.label() != null) {
+			selections.add(path(root, joins, columns.label()));
+		}
+		query.multiselect(selections);
+
+		int keyCount = columns.keys().size();
+		int valueCount = columns.values().size();
+		ColumnarSnapshot.Builder builder = ColumnarSnapshot.builder(keyCount, valueCount, columns.label() != null, columns.scale());
+		try (Stream<Tuple> rows = entityManager.createQuery(query)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream()) {
+			rows.forEach(row -> {
+				for (int k = 0; k < keyCount; k++) {
+					builder.key(k, row.get(k, Long.class));
+				}
+				for (int v = 0; v < valueCount; v++) {
+					builder.value(v, row.get(keyCount + v, BigDecimal.class));
+				}
+				if (columns.label() != null) {
+					builder.label(row.get(keyCount + valueCount, String.class));
+				}
+				builder.next();
+			});
+		}
+		return builder.build();
+	}
+
+	static Path<?> path(Root<?> root, Map<String, Join<?, ?>> joins, String dotted) {
+		String[] parts = dotted.split("\\.");
+		From<?, ?> from = root;
+		StringBuilder prefix = new StringBuilder();
+		for (int i = 0; i < parts.length - 1; i++) {
+			prefix.append(parts[i]).append('.');
+			From<?, ?> parent = from;
+			String attribute = parts[i];
+			from = joins.computeIfAbsent(prefix.toString(), p -> parent.join(attribute, JoinType.LEFT));
+		}
+		return from.get(parts[parts.length - 1]);
+	}
+}
@@ -1,6 +1,7 @@
 package com.jovan.erp_v1.service;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -8,14 +9,17 @@ import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.jovan.erp_v1.enumeration.ConfirmationDocumentStatus;
@@ -36,6 +40,7 @@ import com.jovan.erp_v1.request.ConfirmationDocumentRequest;
 import com.jovan.erp_v1.response.ConfirmationDocumentResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.ConfirmationDocumentSaveAsRequest;
 import com.jovan.erp_v1.search_request.ConfirmationDocumentSearchRequest;
 import lombok.RequiredArgsConstructor;
@@ -48,7 +53,7 @@ public class ConfirmationDocumentService implements IConfirmationDocumentService
 	private final UserRepository userRepository;
 	private final ShiftRepository shiftRepository;
 	private final ConfirmationDocumentMapper mapper;
-	private final String FILE_DIRECTORY = "C:/Users/Admin/erp";
+	private final DocumentStore documentStore;
 
 	@Transactional
 	public ConfirmationDocument saveDocument(ConfirmationDocument document) {
@@ -82,22 +87,45 @@ public class ConfirmationDocumentService implements IConfirmationDocumentService
 		User user = userRepository.findById(userId).orElseThrow(() -> new UserNotFoundException("User not found"));
 		Shift shift = shiftRepository.findById(shiftId)
 				.orElseThrow(() -> new NoSuchShiftErrorException("Shift not found"));
-		// cuvanje fajla na disku
-		String fileName = UUID.randomUUID() + "_" + file.getOriginalFilename();
-		Path filePath = Paths.get(FILE_DIRECTORY, fileName);
-		Files.createDirectories(filePath.getParent());
-		Files.write(filePath, file.getBytes());
+		// strimovanje sadrzaja u skladiste (isti sadrzaj se cuva jednom)
+		DocumentStore.Stored stored;
+		try (InputStream content = file.getInputStream()) {
+			stored = documentStore.store(content);
+		}
 		// kreiranje i cuvanje dokumenta
 		ConfirmationDocument document = new ConfirmationDocument();
-		document.setFilePath(fileName);
+		document.setFilePath(stored.key());
+		String originalName = file.getOriginalFilename();
+		document.setFileName(originalName != null ? StringUtils.getFilename(StringUtils.cleanPath(originalName)) : null);
+		document.setContentHash(stored.contentHash());
 		document.setCreatedAt(LocalDateTime.now());
 		document.setCreatedBy(user);
 		document.setShift(shift);
 		return confirmationDocumentRepository.save(document);
 	}
 
-	private Path resolveFilePath(String fileName) {
-		return Paths.get(FILE_DIRECTORY, fileName);
+	/**
+	 * Fajl dokumenta za preuzimanje; upload cuva key relativan na DocumentStore, a generate punu putanju.
+	 */
+	@Transactional(readOnly = true)
+	@Override
+	public FileDownloads.Download downloadDocument(Long id) {
+		ConfirmationDocument document = confirmationDocumentRepository.findById(id)
+				.orElseThrow(() -> new ConfirmationDocumentNotFoundException("Document not found " + id));
+		if (document.getFilePath() == null) {
+			throw new ConfirmationDocumentNotFoundException("Document " + id + " has no file");
+		}
+		Path filePath = Paths.get(document.getFilePath());
+		if (!filePath.isAbsolute() && !Files.exists(filePath)) {
+			filePath = documentStore.resolve(document.getFilePath());
+		}
+		if (!Files.isRegularFile(filePath)) {
+			throw new ConfirmationDocumentNotFoundException("File for document " + id + " not found");
+		}
+		String fileName = document.getFileName() != null ? document.getFileName() : filePath.getFileName().toString();
+		return new FileDownloads.Download(filePath, fileName,
+				MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM),
+				document.getContentHash());
 	}
 
 	@Transactional
@@ -123,6 +151,11 @@ public class ConfirmationDocumentService implements IConfirmationDocumentService
 				.orElseThrow(() -> new UserNotFoundException("User not found"));
 		Shift shift = shiftRepository.findById(request.shiftId())
 				.orElseThrow(() -> new NoSuchShiftErrorException("Shift not found"));
+		if (!Objects.equals(doc.getFilePath(), request.filePath())) {
+			// drugi fajl: hash i ime vise ne vaze
+			doc.setContentHash(null);
+			doc.setFileName(null);
+		}
 		doc.setFilePath(request.filePath());
 		doc.setCreatedAt(request.createdAt());
 		doc.setCreatedBy(user);
@@ -202,7 +235,6 @@ public class ConfirmationDocumentService implements IConfirmationDocumentService
 	}
 	
 	private final AbstractSaveAllService<ConfirmationDocument, ConfirmationDocumentResponse> saveAllHelper = new AbstractSaveAllService<ConfirmationDocument, ConfirmationDocumentResponse>() {
-		
 		@Override
 		protected Function<ConfirmationDocument, ConfirmationDocumentResponse> toResponse() {
 			return ConfirmationDocumentResponse::new;
@@ -253,12 +285,16 @@ public class ConfirmationDocumentService implements IConfirmationDocumentService
 	@Transactional
 	@Override
 	public List<ConfirmationDocumentResponse> saveAll(List<ConfirmationDocumentRequest> requests) {
+		ReferenceResolver<ConfirmationDocumentRequest> references = saveAllHelper.references(requests);
+		Map<Long, User> users = references.resolve("User", userRepository, User::getId, ConfirmationDocumentRequest::userId);
+		Map<Long, Shift> shifts = references.resolve("Shift", shiftRepository, Shift::getId, ConfirmationDocumentRequest::shiftId);
+		references.verify();
 		List<ConfirmationDocument> items = requests.stream()
 				.map(req -> ConfirmationDocument.builder()
 						.id(req.id())
 						.filePath(req.filePath())
-						.createdBy(validateUserId(req.userId()))
-						.shift(validateShiftId(req.shiftId()))
+						.createdBy(users.get(req.userId()))
+						.shift(shifts.get(req.shiftId()))
 						.confirmed(req.confirmed())
 						.status(req.status())
 						.build())
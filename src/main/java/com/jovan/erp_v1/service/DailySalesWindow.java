@@ -0,0 +1,62 @@
+package com.jovan.erp_v1.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Kruzni bafer dnevnog prometa za poslednjih DAYS dana (danas ukljucen), slot = epochDay % DAYS.
+ * Slot koji pripada starijem danu se pri upisu novog dana prazni, pa nema posebnog "pomeranja" prozora.
+ * Nije thread-safe; koristi ga LiveDashboard pod svojim lock-om.
+ */
+final class DailySalesWindow {
+
+	static final int DAYS = 7;
+
+	private final long[] days = new long[DAYS];
+	private final long[] counts = new long[DAYS];
+	private final BigDecimal[] totals = new BigDecimal[DAYS];
+
+	DailySalesWindow() {
+		Arrays.fill(days, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Dodaje iznos i broj prodaja dana day (negativni za brisanje); dani van prozora se ignorisu.
+	 */
+	void add(LocalDate day, BigDecimal amount, long count, LocalDate today) {
+		if (day == null || day.isAfter(today) || day.isBefore(today.minusDays(DAYS - 1))) {
+			return;
+		}
+		int slot = slotOf(day.toEpochDay());
+		if (days[slot] != day.toEpochDay()) {
+			days[slot] = day.toEpochDay();
+			counts[slot] = 0;
+			totals[slot] = null;
+		}
+		counts[slot] += count;
+		if (amount != null) {
+			totals[slot] = totals[slot] == null ? amount : totals[slot].add(amount);
+		}
+	}
+
+	/**
+	 * Dani sa bar jednom prodajom, od najstarijeg ka danasnjem, kao GROUP BY nad sales tabelom.
+	 */
+	Map<LocalDate, BigDecimal> toMap(LocalDate today) {
+		Map<LocalDate, BigDecimal> result = new LinkedHashMap<>();
+		for (LocalDate day = today.minusDays(DAYS - 1); !day.isAfter(today); day = day.plusDays(1)) {
+			int slot = slotOf(day.toEpochDay());
+			if (days[slot] == day.toEpochDay() && counts[slot] > 0) {
+				result.put(day, totals[slot]);
+			}
+		}
+		return result;
+	}
+
+	private static int slotOf(long epochDay) {
+		return (int) Math.floorMod(epochDay, DAYS);
+	}
+}
@@ -0,0 +1,132 @@
+package com.jovan.erp_v1.service;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+
+import com.jovan.erp_v1.response.DashboardResponse;
+
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * SSE kanal dashboard-a: svaki pretplatnik prvo dobija ceo snimak ("snapshot"), a zatim samo polja
+ * koja su se promenila ("delta", sa novim vrednostima). Pretplata na zajednicki tok pocinje pre citanja
+ * snimka, pa izmena koja stigne izmedju njih stize kao delta (ili se odbacuje ako je snimak vec sadrzi).
+ * LiveDashboard se cita jednom po prozoru (dashboard.stream.window) za sve pretplatnike zajedno, pa se
+ * vise izmena u istom prozoru spaja u jednu poruku. Tok se vraca kao Flux (async servlet), pa pretplatnik
+ * koji ceka ne drzi servlet nit; izvor radi samo dok postoji bar jedan pretplatnik.
+ * Veza se zatvara posle dashboard.stream.timeout, a EventSource se ponovo povezuje i dobija novi snimak.
+ */
+@Component
+public class DashboardStream {
+
+	private final LiveDashboard liveDashboard;
+	private final Flux<Reading> states;
+	private final Flux<ServerSentEvent<Map<String, Object>>> heartbeats;
+	private final Duration timeout;
+
+	/** broj citanja LiveDashboard-a; guarded by this */
+	private long readings;
+
+	/**
+	 * Polja LiveDashboard-a i redni broj citanja; vece number znaci isto ili novije stanje.
+	 */
+	private record Reading(long number, Map<String, Object> fields) {
+	}
+
+	@Autowired
+	public DashboardStream(LiveDashboard liveDashboard,
+			@Value("${dashboard.stream.window:1s}") Duration window,
+			@Value("${dashboard.stream.heartbeat:25s}") Duration heartbeat,
+			@Value("${dashboard.stream.timeout:30m}") Duration timeout) {
+		this(liveDashboard, Flux.interval(window, Schedulers.boundedElastic()), Flux.interval(heartbeat), timeout);
+	}
+
+	/**
+	 * windows zadaje kada se LiveDashboard cita za sve pretplatnike, a heartbeatTicks kada ide keep-alive
+	 * (testovi ih emituju rucno).
+	 */
+	DashboardStream(LiveDashboard liveDashboard, Flux<?> windows, Flux<?> heartbeatTicks, Duration timeout) {
+		this.liveDashboard = liveDashboard;
+		this.timeout = timeout;
+		this.states = windows
+				.onBackpressureDrop()
+				.map(tick -> read())
+				.distinctUntilChanged(Reading::fields)
+				.publish()
+				.refCount();
+		this.heartbeats = heartbeatTicks
+				.map(tick -> ServerSentEvent.<Map<String, Object>>builder().comment("keep-alive").build())
+				.publish()
+				.refCount();
+	}
+
+	public Flux<ServerSentEvent<Map<String, Object>>> subscribe() {
+		Flux<ServerSentEvent<Map<String, Object>>> updates = Flux.defer(() -> {
+			// pretplata na states pre snimka; dok se snimak cita cuva se samo poslednje stanje
+			Disposable.Swap connection = Disposables.swap();
+			Flux<Reading> live = states.replay(1).autoConnect(0, connection::update);
+			Map<String, Object> sent = new LinkedHashMap<>();
+			return Mono.fromSupplier(this::read)
+					.subscribeOn(Schedulers.boundedElastic())
+					// stanje procitano pre snimka nije novije od njega, pa bi samo vratilo stare vrednosti
+					.flatMapMany(snapshot -> live
+							.filter(reading -> reading.number() > snapshot.number())
+							.startWith(snapshot))
+					.map(Reading::fields)
+					.doFinally(signal -> connection.dispose())
+					.onBackpressureLatest()
+					.<ServerSentEvent<Map<String, Object>>>handle((state, sink) -> {
+						boolean first = sent.isEmpty();
+						Map<String, Object> changed = first ? state : delta(sent, state);
+						if (!changed.isEmpty()) {
+							sent.putAll(changed);
+							sink.next(ServerSentEvent.builder(changed).event(first ? "snapshot" : "delta").build());
+						}
+					});
+		});
+		return updates.mergeWith(heartbeats).take(timeout);
+	}
+
+	/**
+	 * Citanja su serijalizovana, pa redni broj prati redosled stanja i kada se snimak i prozor citaju istovremeno.
+	 */
+	private synchronized Reading read() {
+		return new Reading(++readings, fields(liveDashboard.snapshot()));
+	}
+
+	private static Map<String, Object> delta(Map<String, Object> sent, Map<String, Object> state) {
+		Map<String, Object> changed = new LinkedHashMap<>();
+		state.forEach((field, value) -> {
+			if (!Objects.equals(sent.get(field), value)) {
+				changed.put(field, value);
+			}
+		});
+		return changed;
+	}
+
+	private static Map<String, Object> fields(DashboardResponse response) {
+		Map<String, Object> fields = new LinkedHashMap<>();
+		fields.put("totalUsers", response.getTotalUsers());
+		fields.put("totalInventories", response.getTotalInventories());
+		fields.put("totalSalesOrders", response.getTotalSalesOrders());
+		fields.put("totalVendors", response.getTotalVendors());
+		fields.put("totalProducts", response.getTotalProducts());
+		fields.put("totalRevenue", response.getTotalRevenue());
+		fields.put("totalProcurementCost", response.getTotalProcurementCost());
+		fields.put("activeShifts", response.getActiveShifts());
+		fields.put("pendingOrders", response.getPendingOrders());
+		fields.put("dailySalesLast7Days", response.getDailySalesLast7Days());
+		return fields;
+	}
+}
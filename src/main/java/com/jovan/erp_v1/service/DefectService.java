@@ -18,11 +18,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 
 import com.jovan.erp_v1.enumeration.DefectStatus;
+import com.jovan.erp_v1.enumeration.MonthlyMetric;
 import com.jovan.erp_v1.enumeration.SeverityLevel;
 import com.jovan.erp_v1.exception.NoDataFoundException;
 import com.jovan.erp_v1.exception.ValidationException;
 import com.jovan.erp_v1.mapper.DefectMapper;
 import com.jovan.erp_v1.model.Defect;
+import com.jovan.erp_v1.model.MonthlyRollup;
 import com.jovan.erp_v1.repository.DefectRepository;
 import com.jovan.erp_v1.request.DefectRequest;
 import com.jovan.erp_v1.response.DefectResponse;
@@ -44,6 +46,8 @@ import lombok.RequiredArgsConstructor;
 public class DefectService  implements IDefectService {
 
 	private final DefectRepository defectRepository;
+
+	private final MonthlyRollupService monthlyRollupService;
 	private final DefectMapper defectMapper;
 	
 
@@ -595,17 +599,12 @@ public class DefectService  implements IDefectService {
 
 	@Override
 	public List<DefectMonthlyStatDTO> countDefectsByYearAndMonth() {
-		List<DefectMonthlyStatDTO> items = defectRepository.countDefectsByYearAndMonth();
+		List<MonthlyRollup> items = monthlyRollupService.all(MonthlyMetric.DEFECT_COUNT);
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No defcts count for year and month, found");
 		}
 		return items.stream()
-				.map(item -> {
-					Integer year = item.getYear();
-					Integer month = item.getMonth();
-					Long count = item.getCount();
-					return new DefectMonthlyStatDTO(year, month, count);
-				})
+				.map(item -> new DefectMonthlyStatDTO(item.getYear(), item.getMonth(), item.getCount()))
 				.toList();
 	}
 	
@@ -52,6 +52,7 @@ import com.jovan.erp_v1.request.DeliveryItemRequest;
 import com.jovan.erp_v1.response.DeliveryItemResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.DeliveryItemSaveAsRequest;
 import com.jovan.erp_v1.search_request.DeliveryItemSearchRequest;
 import com.jovan.erp_v1.util.DateValidator;
@@ -820,7 +821,6 @@ public class DeliveryItemService implements IDeliveryItemService {
 	};
 	
 	private final AbstractSaveAllService<DeliveryItem, DeliveryItemResponse> saveAllHelper = new AbstractSaveAllService<DeliveryItem, DeliveryItemResponse>() {
-		
 		@Override
 		protected Function<DeliveryItem, DeliveryItemResponse> toResponse() {
 			return DeliveryItemResponse::new;
@@ -848,13 +848,18 @@ public class DeliveryItemService implements IDeliveryItemService {
 	@Transactional
 	@Override
 	public List<DeliveryItemResponse> saveAll(List<DeliveryItemRequest> requests) {
+		ReferenceResolver<DeliveryItemRequest> references = saveAllHelper.references(requests);
+		Map<Long, Product> products = references.resolve("Product", productRepository, Product::getId, DeliveryItemRequest::productId);
+		Map<Long, InboundDelivery> inbounds = references.resolve("InboundDelivery", inboundDeliveryRepository, InboundDelivery::getId, DeliveryItemRequest::inboundDeliveryId);
+		Map<Long, OutboundDelivery> outbounds = references.resolve("OutboundDelivery", outboundDeliveryRepository, OutboundDelivery::getId, DeliveryItemRequest::outboundDeliveryId);
+		references.verify();
 		List<DeliveryItem> items = requests.stream()
 				.map(req -> DeliveryItem.builder()
 						.id(req.id())
 						.quantity(req.quantity())
-						.product(validateProductId(req.productId()))
-						.inboundDelivery(validateInboundDelivery(req.inboundDeliveryId()))
-						.outboundDelivery(validateOutboundDelivery(req.outboundDeliveryId()))
+						.product(products.get(req.productId()))
+						.inboundDelivery(inbounds.get(req.inboundDeliveryId()))
+						.outboundDelivery(outbounds.get(req.outboundDeliveryId()))
 						.confirmed(req.confirmed())
 						.status(req.status())
 						.build())
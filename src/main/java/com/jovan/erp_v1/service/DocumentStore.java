@@ -0,0 +1,130 @@
+package com.jovan.erp_v1.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Skladiste dokumenata adresirano sadrzajem: fajl se cuva pod svojim SHA-256 (ab/abcdef...), pa se isti sadrzaj
+ * cuva samo jednom. Upload se strimuje kroz jedan direktni bafer u privremeni fajl u istom direktorijumu (hash se
+ * racuna usput), a zatim se atomicno objavljuje na konacnom mestu; memorija ne zavisi od velicine fajla.
+ */
+@Slf4j
+@Component
+public class DocumentStore {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+	private static final String TEMP_DIRECTORY = ".tmp";
+
+	/**
+	 * Sacuvan sadrzaj: key je putanja relativna na direktorijum skladista.
+	 */
+	public record Stored(String key, String contentHash, long size, boolean deduplicated) {
+	}
+
+	private final Path directory;
+
+	public DocumentStore(@Value("${documents.directory:C:/Users/Admin/erp}") Path directory) {
+		this.directory = directory;
+	}
+
+	public Stored store(InputStream content) throws IOException {
+		Path tempDirectory = Files.createDirectories(directory.resolve(TEMP_DIRECTORY));
+		Path temp = Files.createTempFile(tempDirectory, "upload-", ".part");
+		try {
+			MessageDigest digest = sha256();
+			long size = 0;
+			try (ReadableByteChannel source = Channels.newChannel(content);
+					FileChannel target = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+				ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+				while (source.read(buffer) >= 0) {
+					buffer.flip();
+					buffer.mark();
+					digest.update(buffer);
+					buffer.reset();
+					while (buffer.hasRemaining()) {
+						size += target.write(buffer);
+					}
+					buffer.clear();
+				}
+				target.force(true);
+			}
+			String hash = HexFormat.of().formatHex(digest.digest());
+			String key = keyOf(hash);
+			Path destination = resolve(key);
+			if (Files.exists(destination)) {
+				return new Stored(key, hash, size, true);
+			}
+			Files.createDirectories(destination.getParent());
+			try {
+				publish(temp, destination);
+			}
+			catch (FileAlreadyExistsException e) {
+				// isti sadrzaj je upravo sacuvao drugi upload
+				return new Stored(key, hash, size, true);
+			}
+			return new Stored(key, hash, size, false);
+		}
+		finally {
+			deleteQuietly(temp);
+		}
+	}
+
+	/**
+	 * Putanja sadrzaja za key; relativne putanje (stari upload-i) se razresavaju u odnosu na skladiste.
+	 */
+	public Path resolve(String key) {
+		return directory.resolve(key);
+	}
+
+	/**
+	 * Hard link ne zamenjuje postojeci fajl, pa od istovremenih upload-a istog sadrzaja tacno jedan dobija
+	 * deduplicated=false; ATOMIC_MOVE na Linux-u tiho prepisuje cilj i koristi se samo kada link nije podrzan.
+	 */
+	private static void publish(Path temp, Path destination) throws IOException {
+		try {
+			Files.createLink(destination, temp);
+		}
+		catch (UnsupportedOperationException e) {
+			Files.move(temp, destination, StandardCopyOption.ATOMIC_MOVE);
+		}
+	}
+
+	static String keyOf(String hash) {
+		return hash.substring(0, 2) + "/" + hash;
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void deleteQuietly(Path path) {
+		try {
+			Files.deleteIfExists(path);
+		}
+		catch (IOException e) {
+			log.warn("Could not delete {}", path, e);
+		}
+	}
+}
@@ -6,7 +6,6 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
@@ -28,7 +27,6 @@ import com.lowagie.text.Paragraph;
 import com.lowagie.text.pdf.PdfPTable;
 import com.lowagie.text.pdf.PdfWriter;
 
-import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -62,45 +60,47 @@ public class DriverReportService {
         );
 	}
 	
+	/**
+	 * Izvestaj za sve vozace koji prolaze filtere, jednim grupisanim upitom nad trip tabelom
+	 * (ranije po sest upita za svakog vozaca). Filter tripStatuses vazi za sve metrike vozaca.
+	 */
 	public List<DriverReportResponse> generateAdvancedDriverReport(LocalDate startDate,
 	        LocalDate endDate,List<TripStatus> tripStatuses,List<Long> driverGroupIds,List<DriverStatus> driverStatuses,Boolean confirmed) {
-		List<Driver> drivers = driverRepository.findAll((root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            if (driverStatuses != null && !driverStatuses.isEmpty()) {
-                predicates.add(root.get("status").in(driverStatuses));
-            }
-            if (confirmed != null) {
-                predicates.add(cb.equal(root.get("confirmed"), confirmed));
-            }
-            if (driverGroupIds != null && !driverGroupIds.isEmpty()) {
-                predicates.add(root.get("groupId").in(driverGroupIds)); // ako postoji groupId
-            }
-            return cb.and(predicates.toArray(new Predicate[0]));
-        });
-        return drivers.stream().map(driver -> {
-            Long totalTrips = tripRepository.countByDriver_IdAndDateBetween(driver.getId(), startDate, endDate);
-            Long completedTrips = tripRepository.countByDriver_IdAndStatusInAndDateBetween(driver.getId(),
-                    List.of(TripStatus.COMPLETED), startDate, endDate);
-            Long cancelledTrips = tripRepository.countByDriver_IdAndStatusInAndDateBetween(driver.getId(),
-                    List.of(TripStatus.CANCELLED), startDate, endDate);
-            Long activeTrips = tripRepository.countByDriver_IdAndStatusInAndDateBetween(driver.getId(),
-                    List.of(TripStatus.IN_PROGRESS), startDate, endDate);
+		if (driverGroupIds != null && !driverGroupIds.isEmpty()) {
+			throw new ValidationException("Driver groups are not supported, driver has no group");
+		}
+		boolean anyTripStatus = tripStatuses == null || tripStatuses.isEmpty();
+		boolean anyDriverStatus = driverStatuses == null || driverStatuses.isEmpty();
+		List<Object[]> rows = tripRepository.summarizeTripsByDriver(startDate, endDate,
+				anyTripStatus, namesOf(tripStatuses),
+				anyDriverStatus, namesOf(driverStatuses),
+				confirmed);
+		return rows.stream().map(row -> new DriverReportResponse(
+				((Number) row[0]).longValue(),
+				row[1] + " " + row[2],
+				(String) row[3],
+				((Number) row[4]).longValue(),
+				((Number) row[5]).longValue(),
+				((Number) row[6]).longValue(),
+				((Number) row[7]).longValue(),
+				toBigDecimal(row[8]),
+				toBigDecimal(row[9])))
+				.toList();
+	}
 
-            BigDecimal avgDuration = tripRepository.calculateAverageDuration(driver.getId(), startDate, endDate);
-            BigDecimal totalRevenue = tripRepository.calculateTotalRevenue(driver.getId(), startDate, endDate);
+	// IN () nije ispravan SQL, pa prazna lista dobija vrednost koja nikad ne odgovara (filter je tada iskljucen)
+	private static List<String> namesOf(List<? extends Enum<?>> values) {
+		if (values == null || values.isEmpty()) {
+			return List.of("");
+		}
+		return values.stream().map(Enum::name).toList();
+	}
 
-            return new DriverReportResponse(
-                    driver.getId(),
-                    driver.getFirstName() + " " + driver.getLastName(),
-                    driver.getPhone(),
-                    totalTrips,
-                    completedTrips,
-                    cancelledTrips,
-                    activeTrips,
-                    avgDuration,
-                    totalRevenue
-            );
-        }).toList();
+	private static BigDecimal toBigDecimal(Object value) {
+		if (value == null) {
+			return null;
+		}
+		return value instanceof BigDecimal decimal ? decimal : new BigDecimal(value.toString());
 	}
 	
 	//za generisanje PDF izvestaja
@@ -268,7 +268,6 @@ public class DriverService implements IDriverService {
 	};
 	
 	private final AbstractSaveAllService<Driver, DriverResponse> saveAllHelper = new AbstractSaveAllService<Driver, DriverResponse>() {
-		
 		@Override
 		protected Function<Driver, DriverResponse> toResponse() {
 			return DriverResponse::new;
@@ -0,0 +1,232 @@
+package com.jovan.erp_v1.service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Slanje fajlova sa diska (izvestaji, potvrde): jak ETag iz SHA-256 sadrzaja i Last-Modified, uslovni zahtevi
+ * (If-None-Match / If-Modified-Since -> 304, If-Match / If-Unmodified-Since -> 412) i jedan Range opseg (206,
+ * If-Range). Telo ide bez kopiranja kroz heap: Tomcat sendfile kada ga konektor podrzava, inace FileChannel.transferTo.
+ * Hash se uzima iz baze kada je poznat, a ostalo se racuna jednom i kesira po putanji, velicini i vremenu izmene.
+ */
+@Component
+public class FileDownloads {
+
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+	private static final int HASH_BUFFER = 64 * 1024;
+
+	/**
+	 * Fajl za slanje; contentHash je SHA-256 (hex) sadrzaja ako je vec poznat, inace null.
+	 */
+	public record Download(Path file, String fileName, MediaType contentType, String contentHash) {
+	}
+
+	private record FileVersion(Path file, long size, long lastModified) {
+	}
+
+	private final Cache<FileVersion, String> hashes;
+
+	public FileDownloads(@Value("${download.hash-cache.max-size:10000}") long hashCacheSize) {
+		this.hashes = Caffeine.newBuilder().maximumSize(hashCacheSize).build();
+	}
+
+	public void send(Download download, HttpServletRequest request, HttpServletResponse response) throws IOException {
+		Path file = download.file().toAbsolutePath();
+		BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+		long length = attributes.size();
+		// Last-Modified ima preciznost sekunde
+		long lastModified = attributes.lastModifiedTime().toMillis() / 1000 * 1000;
+		String etag = "\"" + contentHash(download, file, length, lastModified) + "\"";
+
+		if (preconditionFailed(request, etag, lastModified)) {
+			response.setStatus(HttpStatus.PRECONDITION_FAILED.value());
+			return;
+		}
+		if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+			return;
+		}
+		response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+		response.setContentType(download.contentType().toString());
+		response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+				.filename(download.fileName(), StandardCharsets.UTF_8).build().toString());
+
+		long start = 0;
+		long end = length - 1;
+		HttpRange range = requestedRange(request, etag, lastModified);
+		if (range != null) {
+			if (length == 0 || !satisfiable(range, length)) {
+				response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+				response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+				return;
+			}
+			start = range.getRangeStart(length);
+			end = range.getRangeEnd(length);
+			response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+			response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+		}
+		long count = end - start + 1;
+		response.setContentLengthLong(count);
+		if (HttpMethod.HEAD.matches(request.getMethod()) || count == 0) {
+			return;
+		}
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			// Tomcat salje fajl (sendfile) posle povratka iz kontrolera; kraj je iskljucen
+			request.setAttribute(SENDFILE_FILENAME, file.toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, end + 1);
+			return;
+		}
+		transfer(file, start, count, Channels.newChannel(response.getOutputStream()));
+	}
+
+	/**
+	 * If-Match (jako poredjenje, "*" odgovara svakom fajlu) i If-Unmodified-Since; ServletWebRequest ih proverava
+	 * samo za metode koje menjaju stanje, a ovde vaze i za GET i HEAD.
+	 */
+	private static boolean preconditionFailed(HttpServletRequest request, String etag, long lastModified) {
+		String ifMatch = request.getHeader(HttpHeaders.IF_MATCH);
+		if (ifMatch != null) {
+			for (String tag : ifMatch.split(",")) {
+				String candidate = tag.strip();
+				if (candidate.equals("*") || candidate.equals(etag)) {
+					return false;
+				}
+			}
+			return true;
+		}
+		String ifUnmodifiedSince = request.getHeader(HttpHeaders.IF_UNMODIFIED_SINCE);
+		if (ifUnmodifiedSince != null) {
+			try {
+				return lastModified > parseDate(ifUnmodifiedSince);
+			}
+			catch (IllegalArgumentException e) {
+				return false;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Range se postuje samo za jedan opseg i samo ako If-Range (ako postoji) odgovara trenutnoj verziji;
+	 * neispravan ili visestruki Range se ignorise i salje se ceo fajl.
+	 */
+	private static HttpRange requestedRange(HttpServletRequest request, String etag, long lastModified) {
+		String header = request.getHeader(HttpHeaders.RANGE);
+		if (header == null || !ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag, lastModified)) {
+			return null;
+		}
+		try {
+			List<HttpRange> ranges = HttpRange.parseRanges(header);
+			return ranges.size() == 1 ? ranges.get(0) : null;
+		}
+		catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	private static boolean ifRangeMatches(String ifRange, String etag, long lastModified) {
+		if (ifRange == null) {
+			return true;
+		}
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+			// slab validator nikad ne odgovara jakom ETag-u
+			return ifRange.equals(etag);
+		}
+		try {
+			return parseDate(ifRange) == lastModified;
+		}
+		catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private static long parseDate(String value) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.set(HttpHeaders.DATE, value);
+		return headers.getFirstDate(HttpHeaders.DATE);
+	}
+
+	/**
+	 * HttpRange ne proverava pocetak opsega u odnosu na duzinu ("bytes=100-" za 100 bajtova, "bytes=-0").
+	 */
+	private static boolean satisfiable(HttpRange range, long length) {
+		try {
+			return range.getRangeStart(length) < length;
+		}
+		catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	private static void transfer(Path file, long position, long count, WritableByteChannel target) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			while (count > 0) {
+				long sent = channel.transferTo(position, count, target);
+				if (sent <= 0) {
+					throw new EOFException("File " + file + " is shorter than announced");
+				}
+				position += sent;
+				count -= sent;
+			}
+		}
+	}
+
+	private String contentHash(Download download, Path file, long length, long lastModified) {
+		if (download.contentHash() != null) {
+			return download.contentHash();
+		}
+		return hashes.get(new FileVersion(file, length, lastModified), version -> sha256(version.file()));
+	}
+
+	static String sha256(Path file) {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			ByteBuffer buffer = ByteBuffer.allocateDirect(HASH_BUFFER);
+			while (channel.read(buffer) >= 0) {
+				buffer.flip();
+				digest.update(buffer);
+				buffer.clear();
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -30,6 +30,7 @@ import com.jovan.erp_v1.request.FiscalQuarterRequest;
 import com.jovan.erp_v1.response.FiscalQuarterResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.FiscalQuarterSaveAsRequest;
 import com.jovan.erp_v1.search_request.FiscalQuarterSearchRequest;
 import com.jovan.erp_v1.util.DateValidator;
@@ -546,7 +547,6 @@ public class FiscalQuarterService implements IFiscalQuarterService {
 	};
 	
 	private final AbstractSaveAllService<FiscalQuarter, FiscalQuarterResponse> saveAllHelper = new AbstractSaveAllService<FiscalQuarter, FiscalQuarterResponse>() {
-		
 		@Override
 		protected Function<FiscalQuarter, FiscalQuarterResponse> toResponse() {
 			return FiscalQuarterResponse::new;
@@ -573,11 +573,14 @@ public class FiscalQuarterService implements IFiscalQuarterService {
 	@Transactional
 	@Override
 	public List<FiscalQuarterResponse> saveAll(List<FiscalQuarterRequest> requests) {
+		ReferenceResolver<FiscalQuarterRequest> references = saveAllHelper.references(requests);
+		Map<Long, FiscalYear> fiscalYears = references.resolve("FiscalYear", fiscalYearRepository, FiscalYear::getId, FiscalQuarterRequest::fiscalYearId);
+		references.verify();
 		List<FiscalQuarter> items = requests.stream()
 				.map(req -> FiscalQuarter.builder()
 						.id(req.id())
 						.endDate(req.endDate())
-						.fiscalYear(validateFiscalYearId(req.fiscalYearId()))
+						.fiscalYear(fiscalYears.get(req.fiscalYearId()))
 						.status(req.status())
 						.confirmed(req.confirmed())
 						.quarterStatus(req.quarterStatus())
@@ -17,11 +17,13 @@ import org.springframework.transaction.annotation.Transactional;
 import com.jovan.erp_v1.enumeration.FiscalQuarterStatus;
 import com.jovan.erp_v1.enumeration.FiscalYearStatus;
 import com.jovan.erp_v1.enumeration.FiscalYearTypeStatus;
+import com.jovan.erp_v1.enumeration.MonthlyMetric;
 import com.jovan.erp_v1.exception.FiscalYearErrorException;
 import com.jovan.erp_v1.exception.NoDataFoundException;
 import com.jovan.erp_v1.exception.ValidationException;
 import com.jovan.erp_v1.mapper.FiscalYearMapper;
 import com.jovan.erp_v1.model.FiscalYear;
+import com.jovan.erp_v1.model.MonthlyRollup;
 import com.jovan.erp_v1.repository.FiscalYearRepository;
 import com.jovan.erp_v1.repository.specification.FiscalYearSpecification;
 import com.jovan.erp_v1.request.FiscalQuarterRequest;
@@ -43,6 +45,8 @@ import lombok.RequiredArgsConstructor;
 public class FiscalYearService implements IFiscalYearService {
 
     private final FiscalYearRepository fiscalYearRepository;
+
+    private final MonthlyRollupService monthlyRollupService;
     private final FiscalYearMapper fiscalYearMapper;
 
     @Transactional
@@ -297,17 +301,12 @@ public class FiscalYearService implements IFiscalYearService {
     @Transactional
 	@Override
 	public List<FiscalYearMonthlyStatDTO> countFiscalYearsByYearAndMonth() {
-    	List<FiscalYearMonthlyStatDTO> items = fiscalYearRepository.countFiscalYearsByYearAndMonth();
+    	List<MonthlyRollup> items = monthlyRollupService.all(MonthlyMetric.FISCAL_YEAR_COUNT);
     	if(items.isEmpty()) {
     		throw new NoDataFoundException("No FiscalYear found for given year and month");
     	}
 		return items.stream()
-				.map(item -> {
-					Integer year = item.getYear();
-					Integer month = item.getMonth();
-					Long count = item.getCount();
-					return new FiscalYearMonthlyStatDTO(year,month,count);
-				})
+				.map(item -> new FiscalYearMonthlyStatDTO(item.getYear(), item.getMonth(), item.getCount()))
 				.toList();
 	}
 
@@ -381,7 +380,6 @@ public class FiscalYearService implements IFiscalYearService {
 	};
 	
 	private final AbstractSaveAllService<FiscalYear, FiscalYearResponse> saveAllHelper = new AbstractSaveAllService<FiscalYear, FiscalYearResponse>() {
-		
 		@Override
 		protected Function<FiscalYear, FiscalYearResponse> toResponse() {
 			return FiscalYearResponse::new;
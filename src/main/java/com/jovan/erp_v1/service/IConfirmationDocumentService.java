@@ -23,6 +23,7 @@ public interface IConfirmationDocumentService {
 	List<ConfirmationDocument> getDocumentsCreatedAfter(LocalDateTime date);
 	void deleteDocument(Long id);
 	ConfirmationDocument uploadDocument(MultipartFile file, Long userId, Long shiftId) throws IOException;
+	FileDownloads.Download downloadDocument(Long id);
 	ConfirmationDocument update(Long id, ConfirmationDocumentRequest request);
 	//nove metode
 	
@@ -3,12 +3,16 @@ package com.jovan.erp_v1.service;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import com.jovan.erp_v1.enumeration.ExportFormat;
 import com.jovan.erp_v1.enumeration.InvoiceStatus;
 import com.jovan.erp_v1.enumeration.InvoiceTypeStatus;
 import com.jovan.erp_v1.enumeration.OrderStatus;
 import com.jovan.erp_v1.enumeration.PaymentMethod;
 import com.jovan.erp_v1.enumeration.PaymentStatus;
 import com.jovan.erp_v1.request.InvoiceRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.jovan.erp_v1.response.CursorPageResponse;
 import com.jovan.erp_v1.response.InvoiceResponse;
 import com.jovan.erp_v1.save_as.InvoiceSaveAsRequest;
 import com.jovan.erp_v1.search_request.InvoiceSearchRequest;
@@ -27,6 +31,7 @@ public interface IInvoiceService {
 	InvoiceResponse updateInvoice(Long id, InvoiceRequest request);
     InvoiceResponse getInvoiceById(Long id);
     List<InvoiceResponse> getAllInvoices();
+    CursorPageResponse<InvoiceResponse> getAllInvoices(String cursor, Integer limit);
     void deleteInvoice(Long id);
     InvoiceResponse findByInvoiceNumber(String invocieNumber);
 	List<InvoiceResponse> findByStatus(InvoiceStatus status);
@@ -89,4 +94,7 @@ public interface IInvoiceService {
 	InvoiceResponse saveAs(InvoiceSaveAsRequest request);
 	List<InvoiceResponse> saveAll(List<InvoiceRequest> requests);
 	List<InvoiceResponse> generalSearch(InvoiceSearchRequest request);
+	CursorPageResponse<InvoiceResponse> generalSearch(InvoiceSearchRequest request, String cursor, Integer limit);
+	StreamingResponseBody streamGeneralSearch(InvoiceSearchRequest request);
+	StreamingResponseBody exportGeneralSearch(InvoiceSearchRequest request, ExportFormat format);
 }
@@ -3,6 +3,7 @@ package com.jovan.erp_v1.service;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import com.jovan.erp_v1.enumeration.ExportFormat;
 import com.jovan.erp_v1.enumeration.GoodsType;
 import com.jovan.erp_v1.enumeration.ItemSalesStatus;
 import com.jovan.erp_v1.enumeration.OrderStatus;
@@ -11,6 +12,9 @@ import com.jovan.erp_v1.enumeration.SupplierType;
 import com.jovan.erp_v1.enumeration.UnitMeasure;
 import com.jovan.erp_v1.request.ItemSalesFilterRequest;
 import com.jovan.erp_v1.request.ItemSalesRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.jovan.erp_v1.response.CursorPageResponse;
 import com.jovan.erp_v1.response.ItemSalesResponse;
 import com.jovan.erp_v1.save_as.ItemSalesSaveAsRequest;
 import com.jovan.erp_v1.search_request.ItemSalesSearchRequest;
@@ -34,6 +38,7 @@ public interface INTERItemSales {
 	void delete(Long id);
 	ItemSalesResponse getById(Long id);
 	List<ItemSalesResponse> getAll();
+	CursorPageResponse<ItemSalesResponse> getAll(String cursor, Integer limit);
 	//goods
 	List<ItemSalesResponse> findByGoods_Id(Long goodsId);
 	List<ItemSalesResponse> findByGoods_NameContainingIgnoreCase(String goodsName);
@@ -82,6 +87,8 @@ public interface INTERItemSales {
 	List<ItemSalesResponse> findByUnitPriceLessThan(BigDecimal unitPrice);
 	// filter
 	List<ItemSalesResponse> filter(ItemSalesFilterRequest filterRequest);
+	CursorPageResponse<ItemSalesResponse> filter(ItemSalesFilterRequest filterRequest, String cursor, Integer limit);
+	StreamingResponseBody streamFilter(ItemSalesFilterRequest filterRequest);
 	
 	//nove metode
 	
@@ -107,4 +114,7 @@ public interface INTERItemSales {
 	ItemSalesResponse saveAs(ItemSalesSaveAsRequest request);
 	List<ItemSalesResponse> saveAll(List<ItemSalesRequest> request);
 	List<ItemSalesResponse> generalSearch(ItemSalesSearchRequest request);
+	CursorPageResponse<ItemSalesResponse> generalSearch(ItemSalesSearchRequest request, String cursor, Integer limit);
+	StreamingResponseBody streamGeneralSearch(ItemSalesSearchRequest request);
+	StreamingResponseBody exportGeneralSearch(ItemSalesSearchRequest request, ExportFormat format);
 }
@@ -45,6 +45,7 @@ import com.jovan.erp_v1.request.InboundDeliveryRequest;
 import com.jovan.erp_v1.response.InboundDeliveryResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.InboundDeliverySaveAsRequest;
 import com.jovan.erp_v1.search_request.InboundDeliverySearchRequest;
 import com.jovan.erp_v1.util.DateValidator;
@@ -631,7 +632,6 @@ public class InboundDeliveryService implements InterfejsInboundDeliveryService {
 	};
 	
 	private final AbstractSaveAllService<InboundDelivery, InboundDeliveryResponse> saveAllHelper = new AbstractSaveAllService<InboundDelivery, InboundDeliveryResponse>() {
-		
 		@Override
 		protected Function<InboundDelivery, InboundDeliveryResponse> toResponse() {
 			return InboundDeliveryResponse::new;
@@ -657,12 +657,20 @@ public class InboundDeliveryService implements InterfejsInboundDeliveryService {
 	@Transactional
 	@Override
 	public List<InboundDeliveryResponse> saveAll(List<InboundDeliveryRequest> request) {
+		ReferenceResolver<InboundDeliveryRequest> references = saveAllHelper.references(request);
+		Map<Long, Supply> supplies = references.resolve("Supply", supplyRepository, Supply::getId, InboundDeliveryRequest::supplyId);
+		Map<Long, InboundDelivery> deliveries = references.resolve("InboundDelivery", inboundDeliveryRepository,
+				InboundDelivery::getId, InboundDeliveryRequest::id);
+		Map<Long, Product> products = references.resolveAll("Product", productRepository, Product::getId,
+				req -> req.itemRequest() == null ? null
+						: req.itemRequest().stream().map(DeliveryItemInboundRequest::productId).toList());
+		references.verify();
 		List<InboundDelivery> items = request.stream()
 				.map(req -> InboundDelivery.builder()
 						.id(req.id())
-						.supply(validateSupplyId(req.supplyId()))
+						.supply(supplies.get(req.supplyId()))
 						.status(req.status())
-						.items(mapInboundDeliveryItems(req.itemRequest(), validateInboundDeliveryId(req.id())))
+						.items(mapInboundDeliveryItems(req.itemRequest(), deliveries.get(req.id()), products))
 						.build())
 				.toList();
 		return saveAllHelper.saveAll(items);
@@ -712,6 +720,17 @@ public class InboundDeliveryService implements InterfejsInboundDeliveryService {
     	    notFound.removeAll(productMap.keySet());
     	    throw new ProductNotFoundException("Products not found: " + notFound);
     	}
+    	return mapInboundDeliveryItems(itemRequests, delivery, productMap);
+    }
+
+    /**
+     * Mapira stavke sa vec ucitanim proizvodima (saveAll ih ucitava jednim upitom za sve zahteve).
+     */
+    private List<DeliveryItem> mapInboundDeliveryItems(List<DeliveryItemInboundRequest> itemRequests, InboundDelivery delivery,
+    		Map<Long, Product> productMap) {
+    	if (itemRequests == null || itemRequests.isEmpty()) {
+    	    return Collections.emptyList();
+    	}
         return itemRequests.stream()
             .map(itemReq -> {
             	Product product = productMap.get(itemReq.productId());
@@ -2,8 +2,8 @@ package com.jovan.erp_v1.service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +20,7 @@ import com.jovan.erp_v1.dto.MonthlyNetProfitDTO;
 import com.jovan.erp_v1.enumeration.FiscalQuarterStatus;
 import com.jovan.erp_v1.enumeration.FiscalYearStatus;
 import com.jovan.erp_v1.enumeration.IncomeStatementStatus;
+import com.jovan.erp_v1.enumeration.MonthlyMetric;
 import com.jovan.erp_v1.exception.IncomeStatementErrorException;
 import com.jovan.erp_v1.exception.NoDataFoundException;
 import com.jovan.erp_v1.exception.ValidationException;
@@ -33,6 +34,7 @@ import com.jovan.erp_v1.request.IncomeStatementRequest;
 import com.jovan.erp_v1.response.IncomeStatementResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.IncomeStatementSaveAsRequest;
 import com.jovan.erp_v1.search_request.IncomeStatementSearchRequest;
 import com.jovan.erp_v1.statistics.income_statement.IncomeStatementExpensesStatDTO;
@@ -47,6 +49,7 @@ import lombok.RequiredArgsConstructor;
 public class IncomeStatementService implements IntIncomeStatementService {
 
     private final IncomeStatementRepository incomeStatementRepository;
+    private final MonthlyRollupService monthlyRollupService;
     private final IncomeStatementMapper incomeStatementMapper;
     private final FiscalYearRepository fiscalYearRepository;
 
@@ -262,15 +265,10 @@ public class IncomeStatementService implements IntIncomeStatementService {
     
     @Override
     public List<MonthlyNetProfitDTO> getMonthlyNetProfitForYear(Integer year) {
-        List<Object[]> results = incomeStatementRepository.findMonthlyNetProfitByYear(year);
-        List<MonthlyNetProfitDTO> dtos = new ArrayList<>();
-        for (Object[] row : results) {
-            int month = ((Integer) row[0]);
-            int yr = ((Integer) row[1]);
-            BigDecimal netProfit = (BigDecimal) row[2];
-            dtos.add(new MonthlyNetProfitDTO(month, yr, netProfit));
-        }
-        return dtos;
+    	validateInteger(year);
+        return monthlyRollupService.range(MonthlyMetric.NET_PROFIT, YearMonth.of(year, 1), YearMonth.of(year, 12)).stream()
+        		.map(item -> new MonthlyNetProfitDTO(item.getMonth(), item.getYear(), item.getAmount()))
+        		.toList();
     }
     
     @Override
@@ -622,7 +620,6 @@ public class IncomeStatementService implements IntIncomeStatementService {
 	}
 	
 	private final AbstractSaveAllService<IncomeStatement, IncomeStatementResponse> saveAllHelper = new AbstractSaveAllService<IncomeStatement, IncomeStatementResponse>() {
-		
 		@Override
 		protected Function<IncomeStatement, IncomeStatementResponse> toResponse() {
 			return IncomeStatementResponse::new;
@@ -640,9 +637,13 @@ public class IncomeStatementService implements IntIncomeStatementService {
 		if (requests == null || requests.isEmpty()) {
 	        throw new ValidationException("IncomeStatement request list must not be empty.");
 	    }
+		ReferenceResolver<IncomeStatementRequest> references = saveAllHelper.references(requests);
+		Map<Long, FiscalYear> fiscalYears = references.resolve("FiscalYear", fiscalYearRepository, FiscalYear::getId,
+				IncomeStatementRequest::fiscalYearId);
+		references.verify();
 		List<IncomeStatement> items = requests.stream()
 				.map(req -> {
-					FiscalYear fy = validateFiscalYear(req.fiscalYearId());
+					FiscalYear fy = fiscalYears.get(req.fiscalYearId());
 					//provera da li periodStart i periodEnd spadaju u opseg godine
 					if(req.periodStart().isBefore(fy.getStartDate()) || req.periodEnd().isAfter(fy.getEndDate())) {
 						throw new ValidationException("Income statement period must fall within the fiscal year period for ID: " + req.id());
@@ -670,7 +671,7 @@ public class IncomeStatementService implements IntIncomeStatementService {
 							.totalRevenue(req.totalRevenue())
 							.totalExpenses(req.totalExpenses())
 							.netProfit(req.netProfit())
-							.fiscalYear(validateFiscalYear(req.fiscalYearId()))
+							.fiscalYear(fy)
 							.confirmed(req.confirmed())
 							.status(req.status())
 							.build();
@@ -4,12 +4,15 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
 import com.jovan.erp_v1.dto.InspectionQuantityAcceptedDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityAcceptedSummaryDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityInspectedDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityInspectedSummaryDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityRejectedDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityRejectedSummaryDTO;
+import com.jovan.erp_v1.enumeration.ExportFormat;
 import com.jovan.erp_v1.enumeration.GoodsType;
 import com.jovan.erp_v1.enumeration.InspectionResult;
 import com.jovan.erp_v1.enumeration.InspectionStatus;
@@ -21,6 +24,7 @@ import com.jovan.erp_v1.enumeration.StorageType;
 import com.jovan.erp_v1.enumeration.SupplierType;
 import com.jovan.erp_v1.enumeration.UnitMeasure;
 import com.jovan.erp_v1.request.InspectionRequest;
+import com.jovan.erp_v1.response.CursorPageResponse;
 import com.jovan.erp_v1.response.InspectionResponse;
 import com.jovan.erp_v1.save_as.InspectionSaveAsRequest;
 import com.jovan.erp_v1.search_request.InspectionSearchRequest;
@@ -46,8 +50,10 @@ public interface InfInspectionService {
 	void delete(Long id);
 	InspectionResponse findOne(Long id);
 	List<InspectionResponse> findAll();
+	CursorPageResponse<InspectionResponse> findAll(String cursor, Integer limit);
 	
 	List<InspectionResponse> searchInspections(String storageName, String storageLocation,BigDecimal minCapacity, BigDecimal maxCapacity);
+	StreamingResponseBody streamSearchInspections(String storageName, String storageLocation,BigDecimal minCapacity, BigDecimal maxCapacity);
 	InspectionQuantityInspectedDTO getQuantityInspected(Long inspectionId);
 	InspectionQuantityAcceptedDTO getQuantityAccepted(Long inspectionId);
 	InspectionQuantityRejectedDTO getQuantityRejected(Long inspectionId);
@@ -181,6 +187,9 @@ public interface InfInspectionService {
 	InspectionResponse saveAs(InspectionSaveAsRequest request);
 	List<InspectionResponse> saveAll(List<InspectionRequest> requests);
 	List<InspectionResponse> generalSearch(InspectionSearchRequest request);
+	CursorPageResponse<InspectionResponse> generalSearch(InspectionSearchRequest request, String cursor, Integer limit);
+	StreamingResponseBody streamGeneralSearch(InspectionSearchRequest request);
+	StreamingResponseBody exportGeneralSearch(InspectionSearchRequest request, ExportFormat format);
 	List<QuantityInspectedByBatchStatDTO> countQuantityInspectedByBatch();
 	List<QuantityRejectedByBatchStatDTO> countQuantityRejectedByBatch();
 	List<QuantityAcceptedByBatchStatDTO> countQuantityAcceptedByBatch();
@@ -48,6 +48,7 @@ import com.jovan.erp_v1.request.InspectionDefectRequest;
 import com.jovan.erp_v1.response.InspectionDefectResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.InspectionDefectSaveAsRequest;
 import com.jovan.erp_v1.search_request.InspectionDefectSearchRequest;
 import com.jovan.erp_v1.statistics.inspection_defect.InspectionDefectQuantityAffectedSummaryDTO;
@@ -1036,7 +1037,6 @@ public class InspectionDefectService implements InfInspectionDefectService {
 	};
 	
 	private final AbstractSaveAllService<InspectionDefect, InspectionDefectResponse> saveAllHelper = new AbstractSaveAllService<InspectionDefect, InspectionDefectResponse>() {
-		
 		@Override
 		protected Function<InspectionDefect, InspectionDefectResponse> toResponse() {
 			return InspectionDefectResponse::new;
@@ -1061,12 +1061,16 @@ public class InspectionDefectService implements InfInspectionDefectService {
 	@Transactional
 	@Override
 	public List<InspectionDefectResponse> saveAll(List<InspectionDefectRequest> request) {
+		ReferenceResolver<InspectionDefectRequest> references = saveAllHelper.references(request);
+		Map<Long, Inspection> inspections = references.resolve("Inspection", inspectionRepository, Inspection::getId, InspectionDefectRequest::inspectionId);
+		Map<Long, Defect> defects = references.resolve("Defect", defectRepository, Defect::getId, InspectionDefectRequest::defectId);
+		references.verify();
 		List<InspectionDefect> items = request.stream()
 				.map(req -> InspectionDefect.builder()
 						.id(req.id())
 						.quantityAffected(req.quantityAffected())
-						.inspection(validateInspectionId(req.inspectionId()))
-						.defect(validateDefectId(req.defectId()))
+						.inspection(inspections.get(req.inspectionId()))
+						.defect(defects.get(req.defectId()))
 						.build())
 				.toList();		
 		return saveAllHelper.saveAll(items);
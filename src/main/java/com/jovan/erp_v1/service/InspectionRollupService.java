@@ -0,0 +1,247 @@
+package com.jovan.erp_v1.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jovan.erp_v1.dto.InspectionQuantityAcceptedSummaryDTO;
+import com.jovan.erp_v1.dto.InspectionQuantityInspectedSummaryDTO;
+import com.jovan.erp_v1.dto.InspectionQuantityRejectedSummaryDTO;
+import com.jovan.erp_v1.enumeration.InspectionRollupDimension;
+import com.jovan.erp_v1.model.Inspection;
+import com.jovan.erp_v1.model.InspectionRollup;
+import com.jovan.erp_v1.repository.InspectionRollupRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Odrzava inspection_rollup: primenjuje promene inspekcija (InspectionRollupListener ih sabira u Delta
+ * tokom transakcije i predaje jednom, pre commit-a, na istoj konekciji) i ponovo gradi tabelu iz inspection
+ * tabele pri pokretanju (ako je prazna) i kada periodicna provera nadje odstupanje.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InspectionRollupService {
+
+	private static final String UPSERT = """
+			INSERT INTO inspection_rollup (dimension, dimension_id, inspection_count, quantity_inspected, quantity_accepted, quantity_rejected)
+			VALUES (?, ?, ?, ?, ?, ?)
+			ON DUPLICATE KEY UPDATE
+				inspection_count = inspection_count + VALUES(inspection_count),
+				quantity_inspected = quantity_inspected + VALUES(quantity_inspected),
+				quantity_accepted = quantity_accepted + VALUES(quantity_accepted),
+				quantity_rejected = quantity_rejected + VALUES(quantity_rejected)
+			""";
+
+	private static final String AGGREGATE = """
+			SELECT '%s' AS dimension, %s AS dimension_id, COUNT(*) AS inspection_count,
+				COALESCE(SUM(quantity_inspected), 0) AS quantity_inspected, COALESCE(SUM(quantity_accepted), 0) AS quantity_accepted,
+				COALESCE(SUM(quantity_rejected), 0) AS quantity_rejected
+			FROM inspection
+			%s
+			""";
+
+	private static final Map<InspectionRollupDimension, String> COLUMNS = Map.of(
+			InspectionRollupDimension.BATCH, "batch_id",
+			InspectionRollupDimension.PRODUCT, "product_id",
+			InspectionRollupDimension.INSPECTOR, "inspector_id",
+			InspectionRollupDimension.QUALITY_CHECK, "quality_check_id");
+
+	/** redosled upisa: isti za sve transakcije, pa se zakljucavanja redova ne ukrstaju */
+	private static final Comparator<InspectionRollup.Key> KEY_ORDER = Comparator
+			.comparing(InspectionRollup.Key::getDimension)
+			.thenComparing(InspectionRollup.Key::getDimensionId);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final InspectionRollupRepository inspectionRollupRepository;
+	private final MeterRegistry meterRegistry;
+
+	/**
+	 * Doprinos jedne inspekcije zbirovima. TOTAL dobija sve inspekcije, dimenzije samo potvrdjene,
+	 * isto kao WHERE i.confirmed = true u ranijim GROUP BY upitima.
+	 */
+	public record Contribution(boolean confirmed, Long batchId, Long productId, Long inspectorId, Long qualityCheckId,
+			long inspected, long accepted, long rejected) {
+
+		public static Contribution of(Inspection inspection) {
+			return new Contribution(Boolean.TRUE.equals(inspection.getConfirmed()),
+					inspection.getBatch() != null ? inspection.getBatch().getId() : null,
+					inspection.getProduct() != null ? inspection.getProduct().getId() : null,
+					inspection.getInspector() != null ? inspection.getInspector().getId() : null,
+					inspection.getQualityCheck() != null ? inspection.getQualityCheck().getId() : null,
+					valueOf(inspection.getQuantityInspected()),
+					valueOf(inspection.getQuantityAccepted()),
+					valueOf(inspection.getQuantityRejected()));
+		}
+
+		private static long valueOf(Integer quantity) {
+			return quantity != null ? quantity : 0L;
+		}
+
+		private Long idOf(InspectionRollupDimension dimension) {
+			return switch (dimension) {
+				case TOTAL -> InspectionRollup.TOTAL_ID;
+				case BATCH -> batchId;
+				case PRODUCT -> productId;
+				case INSPECTOR -> inspectorId;
+				case QUALITY_CHECK -> qualityCheckId;
+			};
+		}
+	}
+
+	/**
+	 * Zbir doprinosa jedne transakcije po redu rollup-a. Vise izmena istog reda (i TOTAL reda) postaje
+	 * jedan red upsert-a, a redovi cija se promena ponisti se ne upisuju.
+	 */
+	public static final class Delta {
+
+		private final Map<InspectionRollup.Key, long[]> rows = new TreeMap<>(KEY_ORDER);
+
+		/**
+		 * Dodaje (sign = 1) ili oduzima (sign = -1) doprinos inspekcije.
+		 */
+		public void add(Contribution contribution, int sign) {
+			for (InspectionRollupDimension dimension : InspectionRollupDimension.values()) {
+				if (dimension != InspectionRollupDimension.TOTAL && !contribution.confirmed()) {
+					continue;
+				}
+				Long id = contribution.idOf(dimension);
+				if (id == null) {
+					continue;
+				}
+				long[] row = rows.computeIfAbsent(new InspectionRollup.Key(dimension, id), key -> new long[4]);
+				row[0] += sign;
+				row[1] += sign * contribution.inspected();
+				row[2] += sign * contribution.accepted();
+				row[3] += sign * contribution.rejected();
+			}
+		}
+
+		public void replace(Contribution before, Contribution after) {
+			if (Objects.equals(before, after)) {
+				return;
+			}
+			add(before, -1);
+			add(after, 1);
+		}
+	}
+
+	/**
+	 * Upisuje deltu jednim batch upsert-om, redom KEY_ORDER.
+	 */
+	public void apply(Delta delta) {
+		List<Object[]> rows = new ArrayList<>();
+		delta.rows.forEach((key, row) -> {
+			if (row[0] != 0 || row[1] != 0 || row[2] != 0 || row[3] != 0) {
+				rows.add(new Object[] { key.getDimension().name(), key.getDimensionId(), row[0], row[1], row[2], row[3] });
+			}
+		});
+		if (!rows.isEmpty()) {
+			jdbcTemplate.batchUpdate(UPSERT, rows);
+		}
+	}
+
+	@Transactional(readOnly = true)
+	public InspectionQuantityInspectedSummaryDTO getQuantityInspectedSummary() {
+		return inspectionRollupRepository.findById(totalKey())
+				.filter(r -> r.getInspectionCount() > 0)
+				.map(r -> new InspectionQuantityInspectedSummaryDTO(r.getInspectionCount(), r.getQuantityInspected()))
+				.orElseGet(() -> new InspectionQuantityInspectedSummaryDTO(0L, null));
+	}
+
+	@Transactional(readOnly = true)
+	public InspectionQuantityAcceptedSummaryDTO getQuantityAcceptedSummary() {
+		return inspectionRollupRepository.findById(totalKey())
+				.filter(r -> r.getInspectionCount() > 0)
+				.map(r -> new InspectionQuantityAcceptedSummaryDTO(r.getInspectionCount(), r.getQuantityAccepted()))
+				.orElseGet(() -> new InspectionQuantityAcceptedSummaryDTO(0L, null));
+	}
+
+	@Transactional(readOnly = true)
+	public InspectionQuantityRejectedSummaryDTO getQuantityRejectedSummary() {
+		return inspectionRollupRepository.findById(totalKey())
+				.filter(r -> r.getInspectionCount() > 0)
+				.map(r -> new InspectionQuantityRejectedSummaryDTO(r.getInspectionCount(), r.getQuantityRejected()))
+				.orElseGet(() -> new InspectionQuantityRejectedSummaryDTO(0L, null));
+	}
+
+	/**
+	 * Pri pokretanju gradi rollup ako jos ne postoji (prvo pokretanje posle uvodjenja tabele).
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional
+	public void initialize() {
+		if (inspectionRollupRepository.count() == 0) {
+			rebuild();
+		}
+	}
+
+	/**
+	 * Uporedjuje rollup sa svezim GROUP BY nad inspection tabelom i ponovo ga gradi ako se razlikuju
+	 * (npr. posle bulk JPQL/SQL izmena koje zaobilaze listener).
+	 */
+	@Scheduled(cron = "${stats.rollup.inspection.verify-cron:0 30 3 * * *}")
+	@Transactional
+	public void verify() {
+		Map<String, List<Long>> expected = toMap(jdbcTemplate.queryForList(aggregateSql()));
+		Map<String, List<Long>> actual = toMap(jdbcTemplate.queryForList("""
+				SELECT dimension, dimension_id, inspection_count, quantity_inspected, quantity_accepted, quantity_rejected
+				FROM inspection_rollup WHERE inspection_count <> 0
+				"""));
+		if (!expected.equals(actual)) {
+			log.warn("Inspection rollup drifted from inspection table ({} expected rows, {} actual), rebuilding",
+					expected.size(), actual.size());
+			meterRegistry.counter("erp.rollup.inspection.drift").increment();
+			rebuild();
+		}
+	}
+
+	@Transactional
+	public void rebuild() {
+		jdbcTemplate.update("DELETE FROM inspection_rollup");
+		int rows = jdbcTemplate.update("""
+				INSERT INTO inspection_rollup (dimension, dimension_id, inspection_count, quantity_inspected, quantity_accepted, quantity_rejected)
+				""" + aggregateSql());
+		log.info("Inspection rollup rebuilt with {} rows", rows);
+	}
+
+	private static String aggregateSql() {
+		List<String> parts = new ArrayList<>();
+		parts.add(AGGREGATE.formatted(InspectionRollupDimension.TOTAL.name(), InspectionRollup.TOTAL_ID, "HAVING COUNT(*) > 0"));
+		COLUMNS.forEach((dimension, column) -> parts.add(AGGREGATE.formatted(dimension.name(), column,
+				"WHERE confirmed = true AND " + column + " IS NOT NULL GROUP BY " + column)));
+		return String.join(" UNION ALL ", parts);
+	}
+
+	private static Map<String, List<Long>> toMap(List<Map<String, Object>> rows) {
+		Map<String, List<Long>> result = new HashMap<>();
+		for (Map<String, Object> row : rows) {
+			result.put(row.get("dimension") + ":" + longOf(row, "dimension_id"), List.of(
+					longOf(row, "inspection_count"), longOf(row, "quantity_inspected"),
+					longOf(row, "quantity_accepted"), longOf(row, "quantity_rejected")));
+		}
+		return result;
+	}
+
+	private static long longOf(Map<String, Object> row, String column) {
+		return ((Number) row.get(column)).longValue();
+	}
+
+	private static InspectionRollup.Key totalKey() {
+		return new InspectionRollup.Key(InspectionRollupDimension.TOTAL, InspectionRollup.TOTAL_ID);
+	}
+}
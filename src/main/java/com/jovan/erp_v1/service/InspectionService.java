@@ -11,10 +11,12 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.jovan.erp_v1.dto.InspectionQuantityAcceptedDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityAcceptedSummaryDTO;
@@ -22,6 +24,7 @@ import com.jovan.erp_v1.dto.InspectionQuantityInspectedDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityInspectedSummaryDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityRejectedDTO;
 import com.jovan.erp_v1.dto.InspectionQuantityRejectedSummaryDTO;
+import com.jovan.erp_v1.enumeration.ExportFormat;
 import com.jovan.erp_v1.enumeration.GoodsType;
 import com.jovan.erp_v1.enumeration.InspectionResult;
 import com.jovan.erp_v1.enumeration.InspectionStatus;
@@ -36,6 +39,7 @@ import com.jovan.erp_v1.exception.NoDataFoundException;
 import com.jovan.erp_v1.exception.ValidationException;
 import com.jovan.erp_v1.mapper.InspectionMapper;
 import com.jovan.erp_v1.model.Batch;
+import com.jovan.erp_v1.model.FetchPlans;
 import com.jovan.erp_v1.model.Inspection;
 import com.jovan.erp_v1.model.Product;
 import com.jovan.erp_v1.model.QualityCheck;
@@ -45,6 +49,7 @@ import com.jovan.erp_v1.model.Supply;
 import com.jovan.erp_v1.model.User;
 import com.jovan.erp_v1.repository.BatchRepository;
 import com.jovan.erp_v1.repository.InspectionRepository;
+import com.jovan.erp_v1.repository.InspectionRollupRepository;
 import com.jovan.erp_v1.repository.ProductRepository;
 import com.jovan.erp_v1.repository.QualityCheckRepository;
 import com.jovan.erp_v1.repository.ShelfRepository;
@@ -53,9 +58,11 @@ import com.jovan.erp_v1.repository.SupplyRepository;
 import com.jovan.erp_v1.repository.UserRepository;
 import com.jovan.erp_v1.repository.specification.InspectionSpecifications;
 import com.jovan.erp_v1.request.InspectionRequest;
+import com.jovan.erp_v1.response.CursorPageResponse;
 import com.jovan.erp_v1.response.InspectionResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.InspectionSaveAsRequest;
 import com.jovan.erp_v1.search_request.InspectionSearchRequest;
 import com.jovan.erp_v1.statistics.inspection.InspectionResultStatDTO;
@@ -80,7 +87,15 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class InspectionService implements InfInspectionService {
 
+	/** kolone izvoza opste pretrage (CSV/XLSX) */
+	public static final List<TabularExporter.Column> EXPORT_COLUMNS = TabularExporter.columns(
+			"id", "code", "type", "inspectionDate", "batch.id", "product.id", "product.name", "inspector.id",
+			"quantityInspected", "quantityAccepted", "quantityRejected", "notes", "result", "qualityCheck.id",
+			"status", "confirmed");
+
 	private final InspectionRepository inspectionRepository;
+	private final InspectionRollupRepository inspectionRollupRepository;
+	private final InspectionRollupService inspectionRollupService;
 	private final InspectionMapper inspectionMapper;
 	private final QualityCheckRepository qualityCheckRepository;
 	private final ProductRepository productRepository;
@@ -89,6 +104,9 @@ public class InspectionService implements InfInspectionService {
 	private final BatchRepository batchRepository;
 	private final UserRepository userRepository;
 	private final StorageRepository storageRepository;
+	private final KeysetPaginator keysetPaginator;
+	private final NdjsonStreamer ndjsonStreamer;
+	private final TabularExporter tabularExporter;
 
 	@Transactional
 	@Override
@@ -158,16 +176,32 @@ public class InspectionService implements InfInspectionService {
 		return items.stream().map(inspectionMapper::toResponse).collect(Collectors.toList());
 	}
 
+	@Override
+	public CursorPageResponse<InspectionResponse> findAll(String cursor, Integer limit) {
+		return keysetPaginator.page(inspectionRepository, null, FetchPlans.INSPECTION_RESPONSE, "id", Sort.Direction.ASC, cursor, limit, inspectionMapper::toResponse);
+	}
+
 	@Override
 	public List<InspectionResponse> searchInspections(String storageName, String storageLocation,
 			BigDecimal minCapacity, BigDecimal maxCapacity) {
-		Specification<Inspection> spec = Specification.where(null);
+	    List<Inspection> items = inspectionRepository.findAll(storageSpec(storageName, storageLocation, minCapacity, maxCapacity));
+		return items.stream().map(inspectionMapper::toResponse).collect(Collectors.toList());
+	}
 
+	@Override
+	public StreamingResponseBody streamSearchInspections(String storageName, String storageLocation,
+			BigDecimal minCapacity, BigDecimal maxCapacity) {
+		return ndjsonStreamer.stream(Inspection.class, storageSpec(storageName, storageLocation, minCapacity, maxCapacity),
+				FetchPlans.INSPECTION_RESPONSE, inspectionMapper::toResponse);
+	}
+
+	private Specification<Inspection> storageSpec(String storageName, String storageLocation,
+			BigDecimal minCapacity, BigDecimal maxCapacity) {
+		Specification<Inspection> spec = Specification.where(null);
 	    spec = spec.and(InspectionSpecifications.hasStorageNameLike(storageName));
 	    spec = spec.and(InspectionSpecifications.hasStorageLocationLike(storageLocation));
 	    spec = spec.and(InspectionSpecifications.hasStorageCapacityBetween(minCapacity, maxCapacity));
-	    List<Inspection> items = inspectionRepository.findAll(spec);
-		return items.stream().map(inspectionMapper::toResponse).collect(Collectors.toList());
+	    return spec;
 	}
 	
 	@Override
@@ -202,17 +236,17 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public InspectionQuantityInspectedSummaryDTO getQuantityInspectedSummary() {
-		return inspectionRepository.getQuantityInspectedSummary();
+		return inspectionRollupService.getQuantityInspectedSummary();
 	}
 
 	@Override
 	public InspectionQuantityAcceptedSummaryDTO getQuantityAcceptedSummary() {
-		return inspectionRepository.getQuantityAcceptedSummary();
+		return inspectionRollupService.getQuantityAcceptedSummary();
 	}
 
 	@Override
 	public InspectionQuantityRejectedSummaryDTO getQuantityRejectedSummary() {
-		return inspectionRepository.getQuantityRejectedSummary();
+		return inspectionRollupService.getQuantityRejectedSummary();
 	}
 
 	@Override
@@ -1517,7 +1551,6 @@ public class InspectionService implements InfInspectionService {
 	}
 	
 	private final AbstractSaveAllService<Inspection, InspectionResponse> saveAllHelper = new AbstractSaveAllService<Inspection, InspectionResponse>() {
-		
 		@Override
 		protected Function<Inspection, InspectionResponse> toResponse() {
 			return InspectionResponse::new;
@@ -1532,28 +1565,32 @@ public class InspectionService implements InfInspectionService {
 	@Transactional
 	@Override
 	public List<InspectionResponse> saveAll(List<InspectionRequest> requests) {
+		ReferenceResolver<InspectionRequest> references = saveAllHelper.references(requests);
+		Map<Long, Batch> batches = references.resolve("Batch", batchRepository, Batch::getId, InspectionRequest::batchId);
+		Map<Long, Product> products = references.resolve("Product", productRepository, Product::getId, InspectionRequest::productId);
+		Map<Long, User> inspectors = references.resolve("Inspector", userRepository, User::getId, InspectionRequest::inspectorId);
+		Map<Long, QualityCheck> qualityChecks = references.resolve("QualityCheck", qualityCheckRepository, QualityCheck::getId, InspectionRequest::qualityCheckId);
+		references.verify();
 		List<Inspection> items = requests.stream()
 				.map(item -> Inspection.builder()
 						.id(item.id())
 						.code(item.code())
 						.type(item.type())
-						.batch(validateBatchId(item.batchId()))
-						.product(validateProductId(item.productId()))
-						.inspector(validateUserId(item.inspectorId()))
+						.batch(batches.get(item.batchId()))
+						.product(products.get(item.productId()))
+						.inspector(inspectors.get(item.inspectorId()))
 						.quantityInspected(item.quantityInspected())
 						.quantityAccepted(item.quantityAccepted())
 						.quantityRejected(item.quantityRejected())
 						.notes(item.notes())
 						.result(item.result())
-						.qualityCheck(validateQualityCheckId(item.qualityCheckId()))
+						.qualityCheck(qualityChecks.get(item.qualityCheckId()))
 						.status(item.status())
 						.confirmed(item.confirmed())
 						.build())
 				.map(this::validateAndNormalizeQuantities)
 				.toList();
-		List<Inspection> saved = inspectionRepository.saveAll(items);
-		saved.forEach(this::validateAndNormalizeQuantities);;
-		return saveAllHelper.saveAll(saved);
+		return saveAllHelper.saveAll(items);
 	}
 	
 	private Inspection validateAndNormalizeQuantities(Inspection inspection) {
@@ -1585,9 +1622,26 @@ public class InspectionService implements InfInspectionService {
 		return items.stream().map(inspectionMapper::toResponse).collect(Collectors.toList());
 	}
 
+	@Override
+	public CursorPageResponse<InspectionResponse> generalSearch(InspectionSearchRequest request, String cursor, Integer limit) {
+		Specification<Inspection> spec = InspectionSpecifications.fromRequest(request);
+		return keysetPaginator.page(inspectionRepository, spec, FetchPlans.INSPECTION_RESPONSE, "inspectionDate", Sort.Direction.DESC, cursor, limit, inspectionMapper::toResponse);
+	}
+
+	@Override
+	public StreamingResponseBody streamGeneralSearch(InspectionSearchRequest request) {
+		return ndjsonStreamer.stream(Inspection.class, InspectionSpecifications.fromRequest(request),
+				FetchPlans.INSPECTION_RESPONSE, inspectionMapper::toResponse);
+	}
+
+	@Override
+	public StreamingResponseBody exportGeneralSearch(InspectionSearchRequest request, ExportFormat format) {
+		return tabularExporter.export(Inspection.class, InspectionSpecifications.fromRequest(request), EXPORT_COLUMNS, format);
+	}
+
 	@Override
 	public List<QuantityInspectedByBatchStatDTO> countQuantityInspectedByBatch() {
-		List<QuantityInspectedByBatchStatDTO> items = inspectionRepository.countQuantityInspectedByBatch();
+		List<QuantityInspectedByBatchStatDTO> items = inspectionRollupRepository.countQuantityInspectedByBatch();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Inspection for count quantity-inspected by batch, found");
 		}
@@ -1604,7 +1658,7 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public List<QuantityRejectedByBatchStatDTO> countQuantityRejectedByBatch() {
-		List<QuantityRejectedByBatchStatDTO> items = inspectionRepository.countQuantityRejectedByBatch();
+		List<QuantityRejectedByBatchStatDTO> items = inspectionRollupRepository.countQuantityRejectedByBatch();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Inspection for count quantity-rejected by batch, found");
 		}
@@ -1621,7 +1675,7 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public List<QuantityAcceptedByBatchStatDTO> countQuantityAcceptedByBatch() {
-		List<QuantityAcceptedByBatchStatDTO> items = inspectionRepository.countQuantityAcceptedByBatch();
+		List<QuantityAcceptedByBatchStatDTO> items = inspectionRollupRepository.countQuantityAcceptedByBatch();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Inspection for count quantity-accepted by batch, found");
 		}
@@ -1638,7 +1692,7 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public List<QuantityInspectedByProductStatDTO> countQuantityInspectedByProduct() {
-		List<QuantityInspectedByProductStatDTO> items = inspectionRepository.countQuantityInspectedByProduct();
+		List<QuantityInspectedByProductStatDTO> items = inspectionRollupRepository.countQuantityInspectedByProduct();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Inspection for count quantity-inspected by product, found");
 		}
@@ -1655,7 +1709,7 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public List<QuantityAcceptedByProductStatDTO> countQuantityAcceptedByProduct() {
-		List<QuantityAcceptedByProductStatDTO> items = inspectionRepository.countQuantityAcceptedByProduct();
+		List<QuantityAcceptedByProductStatDTO> items = inspectionRollupRepository.countQuantityAcceptedByProduct();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Inspection fro count quantity-accepted by product, found");
 		}
@@ -1672,7 +1726,7 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public List<QuantityRejectedByProductStatDTO> countQuantityRejectedByProduct() {
-		List<QuantityRejectedByProductStatDTO> items = inspectionRepository.countQuantityRejectedByProduct();
+		List<QuantityRejectedByProductStatDTO> items = inspectionRollupRepository.countQuantityRejectedByProduct();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Inspection for count quantity-rejected by product, found");
 		}
@@ -1689,7 +1743,7 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public List<QuantityInspectedByInspectorStatDTO> countQuantityInspectedByInspector() {
-		List<QuantityInspectedByInspectorStatDTO> items = inspectionRepository.countQuantityInspectedByInspector();
+		List<QuantityInspectedByInspectorStatDTO> items = inspectionRollupRepository.countQuantityInspectedByInspector();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Insepction fro count quantity-inspected by given inspector, found");
 		}
@@ -1707,7 +1761,7 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public List<QuantityAcceptedByInspectorStatDTO> countQuantityAcceptedByInspector() {
-		List<QuantityAcceptedByInspectorStatDTO> items = inspectionRepository.countQuantityAcceptedByInspector();
+		List<QuantityAcceptedByInspectorStatDTO> items = inspectionRollupRepository.countQuantityAcceptedByInspector();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Inspection for count quantity-accepted by given inspector, found");
 		}
@@ -1725,7 +1779,7 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public List<QuantityRejectedByInspectorStatDTO> countQuantityRejectedByInspector() {
-		List<QuantityRejectedByInspectorStatDTO> items = inspectionRepository.countQuantityRejectedByInspector();
+		List<QuantityRejectedByInspectorStatDTO> items = inspectionRollupRepository.countQuantityRejectedByInspector();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Inspection for count quality-rejected by particular inspector, found");
 		}
@@ -1743,7 +1797,7 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public List<QuantityInspectedByQualityCheckStatDTO> countQuantityInspectedByQualityCheck() {
-		List<QuantityInspectedByQualityCheckStatDTO> items = inspectionRepository.countQuantityInspectedByQualityCheck();
+		List<QuantityInspectedByQualityCheckStatDTO> items = inspectionRollupRepository.countQuantityInspectedByQualityCheck();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Inspection for count quantity-inspected by quality-check, found");
 		}
@@ -1759,7 +1813,7 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public List<QuantityAcceptedByQualityCheckStatDTO> countQuantityAcceptedByQualityCheck() {
-		List<QuantityAcceptedByQualityCheckStatDTO> items = inspectionRepository.countQuantityAcceptedByQualityCheck();
+		List<QuantityAcceptedByQualityCheckStatDTO> items = inspectionRollupRepository.countQuantityAcceptedByQualityCheck();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Inspection for count quality-accepted by quality-check, found");
 		}
@@ -1775,7 +1829,7 @@ public class InspectionService implements InfInspectionService {
 
 	@Override
 	public List<QuantityRejectedByQualityCheckStatDTO> countQuantityRejectedByQualityCheck() {
-		List<QuantityRejectedByQualityCheckStatDTO> items = inspectionRepository.countQuantityRejectedByQualityCheck();
+		List<QuantityRejectedByQualityCheckStatDTO> items = inspectionRollupRepository.countQuantityRejectedByQualityCheck();
 		if(items.isEmpty()) {
 			throw new NoDataFoundException("No Inspection for count quality-rejected by quality check, found");
 		}
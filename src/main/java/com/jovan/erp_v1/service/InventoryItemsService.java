@@ -55,6 +55,7 @@ import com.jovan.erp_v1.response.StorageCapacityResponse;
 import com.jovan.erp_v1.response.StorageItemSummaryResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.InventoryItemsSaveAsRequest;
 import com.jovan.erp_v1.search_request.InventoryItemsSearchRequest;
 import com.jovan.erp_v1.statistics.inventory_items.InventoryStatRequest;
@@ -1109,7 +1110,6 @@ public class InventoryItemsService implements IInventoryItemsService {
 	}
 	
 	private final AbstractSaveAllService<InventoryItems, InventoryItemsResponse> saveAllHelper = new AbstractSaveAllService<InventoryItems, InventoryItemsResponse>() {
-		
 		@Override
 		protected Function<InventoryItems, InventoryItemsResponse> toResponse() {
 			return InventoryItemsResponse::new;
@@ -1133,8 +1133,10 @@ public class InventoryItemsService implements IInventoryItemsService {
 		if (requests == null || requests.isEmpty()) {
 	        throw new ValidationException("InventoryItems request list must not be empty.");
 	    }
-		Map<Long, Inventory> inventoryCache = new HashMap<>();
-	    Map<Long, Product> productCache = new HashMap<>();
+		ReferenceResolver<InventoryItemsRequest> references = saveAllHelper.references(requests);
+		Map<Long, Inventory> inventories = references.resolve("Inventory", inventoryRepository, Inventory::getId, InventoryItemsRequest::inventoryId);
+		Map<Long, Product> products = references.resolve("Product", productRepository, Product::getId, InventoryItemsRequest::productId);
+		references.verify();
 	    List<InventoryItems> items = requests.stream()
 	        .map(item -> {
 	            if (item.quantity() == null || item.condition() == null) {
@@ -1143,8 +1145,8 @@ public class InventoryItemsService implements IInventoryItemsService {
 	            if (item.condition().compareTo(item.quantity()) > 0) {
 	                throw new ValidationException("Item condition cannot be greater than quantity for product ID: " + item.productId());
 	            }
-	            Inventory inventory = inventoryCache.computeIfAbsent(item.inventoryId(), this::validateInventory);
-	            Product product = productCache.computeIfAbsent(item.productId(), this::validateProduct);
+	            Inventory inventory = inventories.get(item.inventoryId());
+	            Product product = products.get(item.productId());
 	            BigDecimal totalDiff = calculateDifference(item.quantity(), item.condition());
 	            return InventoryItems.builder()
 	                    .inventory(inventory)
@@ -39,6 +39,7 @@ import com.jovan.erp_v1.request.InventoryRequest;
 import com.jovan.erp_v1.response.InventoryResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.InventoryItemSaveAsRequest;
 import com.jovan.erp_v1.save_as.InventorySaveAsWithItemsRequest;
 import com.jovan.erp_v1.search_request.InventorySearchRequest;
@@ -668,7 +669,6 @@ public class InventoryService implements IInventoryService {
 	}
 	
 	private final AbstractSaveAllService<Inventory, InventoryResponse> saveAllHelper = new AbstractSaveAllService<Inventory, InventoryResponse>() {
-		
 		@Override
 		protected Function<Inventory, InventoryResponse> toResponse() {
 			return InventoryResponse::new;
@@ -692,10 +692,25 @@ public class InventoryService implements IInventoryService {
 		if (requests == null || requests.isEmpty()) {
 	        throw new ValidationException("Inventory request list must not be empty.");
 	    }
+		ReferenceResolver<InventoryRequest> references = saveAllHelper.references(requests);
+		Map<Long, User> users = references.resolve("User", userRepository, User::getId,
+				InventoryRequest::storageEmployeeId, InventoryRequest::storageForemanId);
+		references.verify();
+		List<InventoryItemsRequest> itemRequests = requests.stream()
+				.filter(item -> item.inventoryItems() != null)
+				.flatMap(item -> item.inventoryItems().stream())
+				.toList();
+		Map<Long, Product> products = Map.of();
+		if (!itemRequests.isEmpty()) {
+			ReferenceResolver<InventoryItemsRequest> itemReferences = saveAllHelper.references(itemRequests);
+			products = itemReferences.resolve("Product", productRepository, Product::getId, InventoryItemsRequest::productId);
+			itemReferences.verify();
+		}
+		Map<Long, Product> productsById = products;
 		List<Inventory> inventories = requests.stream()
 				.map(item -> {
-					User storageEmployee = validateStorageEmployee(item.storageEmployeeId());
-					User storageForeman = validateStorageForeman(item.storageForemanId());
+					User storageEmployee = users.get(item.storageEmployeeId());
+					User storageForeman = users.get(item.storageForemanId());
 					if(item.inventoryItems() == null || item.inventoryItems().isEmpty()) {
 						throw new ValidationException("Inventory must contain at least one item.");
 					}
@@ -709,7 +724,7 @@ public class InventoryService implements IInventoryService {
 					            }
 					            BigDecimal difference = itemReq.quantity().subtract(itemReq.condition()).max(BigDecimal.ZERO);
 					            return InventoryItems.builder()
-					                    .product(validateProductId(itemReq.productId()))
+					                    .product(productsById.get(itemReq.productId()))
 					                    .quantity(itemReq.quantity())
 					                    .itemCondition(itemReq.condition())
 					                    .difference(difference)
@@ -731,8 +746,7 @@ public class InventoryService implements IInventoryService {
 			        return inventory;
 				})
 				.toList();
-		List<Inventory> savedInventories = inventoryRepository.saveAll(inventories);
-		return saveAllHelper.saveAll(savedInventories);
+		return saveAllHelper.saveAll(inventories);
 	}
 
 	@Override
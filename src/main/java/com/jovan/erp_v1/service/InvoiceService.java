@@ -11,10 +11,12 @@ import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import com.jovan.erp_v1.enumeration.ExportFormat;
 import com.jovan.erp_v1.enumeration.InvoiceStatus;
 import com.jovan.erp_v1.enumeration.InvoiceTypeStatus;
 import com.jovan.erp_v1.enumeration.OrderStatus;
@@ -30,6 +32,7 @@ import com.jovan.erp_v1.exception.UserNotFoundException;
 import com.jovan.erp_v1.exception.ValidationException;
 import com.jovan.erp_v1.mapper.InvoiceMapper;
 import com.jovan.erp_v1.model.Buyer;
+import com.jovan.erp_v1.model.FetchPlans;
 import com.jovan.erp_v1.model.Invoice;
 import com.jovan.erp_v1.model.Payment;
 import com.jovan.erp_v1.model.Sales;
@@ -43,17 +46,21 @@ import com.jovan.erp_v1.repository.SalesRepository;
 import com.jovan.erp_v1.repository.UserRepository;
 import com.jovan.erp_v1.repository.specification.InvoiceSpecification;
 import com.jovan.erp_v1.request.InvoiceRequest;
+import com.jovan.erp_v1.response.CursorPageResponse;
 import com.jovan.erp_v1.response.InvoiceResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.InvoiceSaveAsRequest;
 import com.jovan.erp_v1.search_request.InvoiceSearchRequest;
+import com.jovan.erp_v1.statistics.columnar.ColumnarSnapshot;
+import com.jovan.erp_v1.statistics.columnar.GroupMapper;
+import com.jovan.erp_v1.statistics.columnar.Measure;
 import com.jovan.erp_v1.statistics.invoice.InvoiceSpecificationRequest;
 import com.jovan.erp_v1.statistics.invoice.InvoiceStatByBuyerRequest;
 import com.jovan.erp_v1.statistics.invoice.InvoiceStatByPaymentRequest;
 import com.jovan.erp_v1.statistics.invoice.InvoiceStatBySalesOrderRequest;
 import com.jovan.erp_v1.statistics.invoice.InvoiceStatBySalesRequest;
-import com.jovan.erp_v1.statistics.invoice.InvoiceStatStrategy;
 import com.jovan.erp_v1.statistics.invoice.InvoiceTotalAmountByBuyerStatDTO;
 import com.jovan.erp_v1.statistics.invoice.InvoiceTotalAmountByPaymentStatDTO;
 import com.jovan.erp_v1.statistics.invoice.InvoiceTotalAmountBySalesOrderStatDTO;
@@ -61,6 +68,7 @@ import com.jovan.erp_v1.statistics.invoice.InvoiceTotalAmountBySalesStatDTO;
 import com.jovan.erp_v1.util.DateValidator;
 
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -69,6 +77,15 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class InvoiceService  implements IInvoiceService {
 
+	// Invoice.totalAmount je DECIMAL(15,3)
+	private static final int AMOUNT_SCALE = 3;
+	private static final StatStrategyPlanner.Source INVOICE_STATS = new StatStrategyPlanner.Source("invoice", "invoice", "issue_date");
+
+	/** kolone izvoza opste pretrage (CSV/XLSX) */
+	public static final List<TabularExporter.Column> EXPORT_COLUMNS = TabularExporter.columns(
+			"id", "invoiceNumber", "issueDate", "dueDate", "status", "totalAmount", "buyer.id", "buyer.companyName",
+			"buyer.pib", "note", "typeStatus", "confirmed", "createdAt");
+
 	private final InvoiceRepository invoiceRepository;
 	private final BuyerRepository buyerRepository;
 	private final SalesRepository salesRepository;
@@ -76,6 +93,12 @@ public class InvoiceService  implements IInvoiceService {
 	private final InvoiceMapper invoiceMapper;
 	private final SalesOrderRepository salesOrderRepository;
 	private final UserRepository userRepository;
+	private final KeysetPaginator keysetPaginator;
+	private final StatStrategyPlanner statStrategyPlanner;
+	private final ColumnarLoader columnarLoader;
+	private final ColumnarAggregator columnarAggregator;
+	private final NdjsonStreamer ndjsonStreamer;
+	private final TabularExporter tabularExporter;
 
 	@Transactional
 	@Override
@@ -178,6 +201,11 @@ public class InvoiceService  implements IInvoiceService {
 				.collect(Collectors.toList());
 	}
 
+	@Override
+	public CursorPageResponse<InvoiceResponse> getAllInvoices(String cursor, Integer limit) {
+		return keysetPaginator.page(invoiceRepository, null, FetchPlans.INVOICE_RESPONSE, "issueDate", Sort.Direction.DESC, cursor, limit, invoiceMapper::toResponse);
+	}
+
 	@Transactional
 	@Override
 	public void deleteInvoice(Long id) {
@@ -680,186 +708,37 @@ public class InvoiceService  implements IInvoiceService {
 	@Transactional(readOnly = true)
 	@Override
 	public List<InvoiceTotalAmountByBuyerStatDTO> getInvoiceStatisticsByBuyer(InvoiceStatByBuyerRequest request) {
-	    long totalInvoices = invoiceRepository.count();
-	    InvoiceStatStrategy strategy = 
-	        request.strategy() != null ? request.strategy() : InvoiceStatStrategy.AUTO;
-	    switch (strategy) {
-	        case SQL -> {
-	            if (totalInvoices < 10000) {
-	                return aggregateInMemory(request,
-	                		inv -> inv.getBuyer().getId(),
-	                		list -> new InvoiceTotalAmountByBuyerStatDTO((long)list.size(),
-	                				list.get(0).getInvoiceNumber(),
-	                				list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-	                				list.get(0).getRelatedSales().getId()));
-	            } else {
-	                return invoiceRepository.countInvoiceTotalAmountByBuyer(
-	                        request.buyerId(),
-	                        request.fromDate(),
-	                        request.toDate()
-	                );
-	            }
-	        }
-	        case MEMORY -> {
-	        	return aggregateInMemory(request,
-                		inv -> inv.getBuyer().getId(),
-                		list -> new InvoiceTotalAmountByBuyerStatDTO((long)list.size(),
-                				list.get(0).getInvoiceNumber(),
-                				list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-                				list.get(0).getRelatedSales().getId()));
-	        }
-	        case AUTO -> {
-	            // AUTO odlucuje sam na osnovu velicine dataset-a
-	        	if (totalInvoices < 10000) {
-	                return aggregateInMemory(request,
-	                		inv -> inv.getBuyer().getId(),
-	                		list -> new InvoiceTotalAmountByBuyerStatDTO((long)list.size(),
-	                				list.get(0).getInvoiceNumber(),
-	                				list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-	                				list.get(0).getRelatedSales().getId()));
-	            } else {
-	                return invoiceRepository.countInvoiceTotalAmountByBuyer(
-	                        request.buyerId(),
-	                        request.fromDate(),
-	                        request.toDate()
-	                );
-	            }
-	        }
-	        default -> throw new ValidationException("Unknown strategy: " + strategy);
-	    }
+		return statStrategyPlanner.execute("invoice.byBuyer", INVOICE_STATS, request.strategy(), request.fromDate(), request.toDate(),
+				() -> invoiceRepository.countInvoiceTotalAmountByBuyer(request.buyerId(), request.fromDate(), request.toDate()),
+				() -> aggregateInMemory(request, "buyer.id",
+						(agg, g) -> new InvoiceTotalAmountByBuyerStatDTO(agg.count(g), agg.label(g), agg.sum(0, g), agg.key(0, g))));
 	}
 	
 	@Transactional(readOnly = true)
 	@Override
 	public List<InvoiceTotalAmountBySalesStatDTO> getInvoiceStatisticsBySales(InvoiceStatBySalesRequest request) {
-		long totalInvoices = invoiceRepository.count();
-		InvoiceStatStrategy strategy = request.strategy() != null ? request.strategy() : InvoiceStatStrategy.AUTO;
-		switch (strategy) {
-			case SQL -> {
-				if(totalInvoices < 10000) {
-					return aggregateInMemory(request,
-							inv -> inv.getRelatedSales().getId(),
-							list -> new InvoiceTotalAmountBySalesStatDTO((long)list.size(),
-									list.get(0).getInvoiceNumber(),
-									list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-									list.get(0).getRelatedSales().getId()));
-				}
-				else {
-					return invoiceRepository.countInvoiceTotalAmountBySales(request.salesId(), request.fromDate(), request.toDate());
-				}
-			}
-			case MEMORY -> {
-				return aggregateInMemory(request,
-						inv -> inv.getRelatedSales().getId(),
-						list -> new InvoiceTotalAmountBySalesStatDTO((long)list.size(),
-								list.get(0).getInvoiceNumber(),
-								list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-								list.get(0).getRelatedSales().getId()));
-			}
-			case AUTO -> {
-				if(totalInvoices < 10000) {
-					return aggregateInMemory(request,
-							inv -> inv.getRelatedSales().getId(),
-							list -> new InvoiceTotalAmountBySalesStatDTO((long)list.size(),
-									list.get(0).getInvoiceNumber(),
-									list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-									list.get(0).getRelatedSales().getId()));
-				}
-				else {
-					return invoiceRepository.countInvoiceTotalAmountBySales(request.salesId(), request.fromDate(), request.toDate());
-				}
-			}
-			default -> throw new ValidationException("Unknown strategy: " + strategy);
-		}
+		return statStrategyPlanner.execute("invoice.bySales", INVOICE_STATS, request.strategy(), request.fromDate(), request.toDate(),
+				() -> invoiceRepository.countInvoiceTotalAmountBySales(request.salesId(), request.fromDate(), request.toDate()),
+				() -> aggregateInMemory(request, "relatedSales.id",
+						(agg, g) -> new InvoiceTotalAmountBySalesStatDTO(agg.count(g), agg.label(g), agg.sum(0, g), agg.key(0, g))));
 	}
 	
 	@Transactional(readOnly = true)
 	@Override
 	public List<InvoiceTotalAmountByPaymentStatDTO> getInvoiceStatisticsByPayment(InvoiceStatByPaymentRequest request) {
-		long totalInvoices = invoiceRepository.count();
-		InvoiceStatStrategy strategy = request.strategy() != null ? request.strategy() : InvoiceStatStrategy.AUTO;
-		switch(strategy) {
-			case SQL -> {
-				if(totalInvoices < 10000) {
-					return aggregateInMemory(request,
-						inv -> inv.getPayment().getId(),
-						list -> new InvoiceTotalAmountByPaymentStatDTO((long)list.size(),
-								list.get(0).getInvoiceNumber(),
-								list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-								list.get(0).getPayment().getId()));
-			}
-			else {
-				return invoiceRepository.countInvoiceTotalAmountByPayment(request.paymentId(), request.fromDate(), request.toDate());
-			}
-		}
-			case MEMORY -> {
-				return aggregateInMemory(request,
-						inv -> inv.getPayment().getId(),
-						list -> new InvoiceTotalAmountByPaymentStatDTO((long)list.size(),
-								list.get(0).getInvoiceNumber(),
-								list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-								list.get(0).getPayment().getId()));
-			}
-			case AUTO -> {
-				if(totalInvoices < 10000) {
-					return aggregateInMemory(request,
-							inv -> inv.getPayment().getId(),
-							list -> new InvoiceTotalAmountByPaymentStatDTO((long)list.size(),
-									list.get(0).getInvoiceNumber(),
-									list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-									list.get(0).getPayment().getId()));
-				}
-				else {
-					return invoiceRepository.countInvoiceTotalAmountByPayment(request.paymentId(), request.fromDate(), request.toDate());
-				}
-			}
-			default -> throw new ValidationException("Unknown strategy: " + strategy);
-		}
+		return statStrategyPlanner.execute("invoice.byPayment", INVOICE_STATS, request.strategy(), request.fromDate(), request.toDate(),
+				() -> invoiceRepository.countInvoiceTotalAmountByPayment(request.paymentId(), request.fromDate(), request.toDate()),
+				() -> aggregateInMemory(request, "payment.id",
+						(agg, g) -> new InvoiceTotalAmountByPaymentStatDTO(agg.count(g), agg.label(g), agg.sum(0, g), agg.key(0, g))));
 	}
 
 	@Transactional(readOnly = true)
 	@Override
-	public List<InvoiceTotalAmountBySalesOrderStatDTO> getInvoiceStatisticsBySalesOrder(
-			InvoiceStatBySalesOrderRequest request) {
-		long totalInvoices = invoiceRepository.count();
-		InvoiceStatStrategy strategy = request.strategy() != null ? request.strategy() : InvoiceStatStrategy.AUTO;
-		switch(strategy) {
-		case SQL -> {
-			if(totalInvoices < 10000) {
-				return aggregateInMemory(request,
-						inv -> inv.getSalesOrder().getId(),
-						list -> new InvoiceTotalAmountBySalesOrderStatDTO((long)list.size(),
-								list.get(0).getInvoiceNumber(),
-								list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-								list.get(0).getSalesOrder().getId()));
-			}
-			else {
-				return invoiceRepository.countInvoiceTotalAmountBySalesOrder(request.salesOrderId(), request.fromDate(), request.toDate());
-			}
-		}
-		case MEMORY -> {
-			return aggregateInMemory(request,
-					inv -> inv.getSalesOrder().getId(),
-					list -> new InvoiceTotalAmountBySalesOrderStatDTO((long)list.size(),
-							list.get(0).getInvoiceNumber(),
-							list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-							list.get(0).getSalesOrder().getId()));
-		}
-		case AUTO -> {
-			if(totalInvoices < 10000) {
-				return aggregateInMemory(request,
-						inv -> inv.getSalesOrder().getId(),
-						list -> new InvoiceTotalAmountBySalesOrderStatDTO((long)list.size(),
-								list.get(0).getInvoiceNumber(),
-								list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-								list.get(0).getSalesOrder().getId()));
-			}
-			else {
-				return invoiceRepository.countInvoiceTotalAmountBySalesOrder(request.salesOrderId(), request.fromDate(), request.toDate());
-			}
-		}
-		default -> throw new ValidationException("Unknown strategy " + strategy);
-		}
+	public List<InvoiceTotalAmountBySalesOrderStatDTO> getInvoiceStatisticsBySalesOrder(InvoiceStatBySalesOrderRequest request) {
+		return statStrategyPlanner.execute("invoice.bySalesOrder", INVOICE_STATS, request.strategy(), request.fromDate(), request.toDate(),
+				() -> invoiceRepository.countInvoiceTotalAmountBySalesOrder(request.salesOrderId(), request.fromDate(), request.toDate()),
+				() -> aggregateInMemory(request, "salesOrder.id",
+						(agg, g) -> new InvoiceTotalAmountBySalesOrderStatDTO(agg.count(g), agg.label(g), agg.sum(0, g), agg.key(0, g))));
 	}
 	
 	@Transactional(readOnly = true)
@@ -1000,7 +879,6 @@ public class InvoiceService  implements IInvoiceService {
 	}
 	
 	private final AbstractSaveAllService<Invoice, InvoiceResponse> saveAllHelper = new AbstractSaveAllService<Invoice, InvoiceResponse>() {
-		
 		@Override
 		protected Function<Invoice, InvoiceResponse> toResponse() {
 			return InvoiceResponse::new;
@@ -1024,18 +902,25 @@ public class InvoiceService  implements IInvoiceService {
 		if (requests == null || requests.isEmpty()) {
 	        throw new ValidationException("Invoice request list must not be empty.");
 	    }
+		ReferenceResolver<InvoiceRequest> references = saveAllHelper.references(requests);
+		Map<Long, Buyer> buyers = references.resolve("Buyer", buyerRepository, Buyer::getId, InvoiceRequest::buyerId);
+		Map<Long, Sales> sales = references.resolve("Sales", salesRepository, Sales::getId, InvoiceRequest::salesId);
+		Map<Long, Payment> payments = references.resolve("Payment", paymentRepository, Payment::getId, InvoiceRequest::paymentId);
+		Map<Long, SalesOrder> salesOrders = references.resolve("SalesOrder", salesOrderRepository, SalesOrder::getId, InvoiceRequest::salesOrderId);
+		Map<Long, User> users = references.resolve("CreatedBy", userRepository, User::getId, InvoiceRequest::createdById);
+		references.verify();
 		List<Invoice> items = requests.stream()
 				.map(item -> Invoice.builder()
 						.id(item.id())
 						.dueDate(item.dueDate())
 						.status(item.status())
 						.totalAmount(item.totalAmount())
-						.buyer(fetchBuyer(item.buyerId()))
-						.relatedSales(fetchSales(item.salesId()))
-						.payment(fetchPayment(item.paymentId()))
+						.buyer(buyers.get(item.buyerId()))
+						.relatedSales(sales.get(item.salesId()))
+						.payment(payments.get(item.paymentId()))
 						.note(item.note())
-						.salesOrder(fetchSalesOrder(item.salesOrderId()))
-						.createdBy(fetchCreatedBy(item.createdById()))
+						.salesOrder(salesOrders.get(item.salesOrderId()))
+						.createdBy(users.get(item.createdById()))
 						.typeStatus(item.typeStatus())
 						.confirmed(item.confirmed())
 						.build())
@@ -1052,6 +937,23 @@ public class InvoiceService  implements IInvoiceService {
 		}
 		return items.stream().map(invoiceMapper::toResponse).collect(Collectors.toList());
 	}
+
+	@Override
+	public CursorPageResponse<InvoiceResponse> generalSearch(InvoiceSearchRequest request, String cursor, Integer limit) {
+		Specification<Invoice> spec = InvoiceSpecification.fromRequest(request);
+		return keysetPaginator.page(invoiceRepository, spec, FetchPlans.INVOICE_RESPONSE, "issueDate", Sort.Direction.DESC, cursor, limit, invoiceMapper::toResponse);
+	}
+
+	@Override
+	public StreamingResponseBody streamGeneralSearch(InvoiceSearchRequest request) {
+		return ndjsonStreamer.stream(Invoice.class, InvoiceSpecification.fromRequest(request),
+				FetchPlans.INVOICE_RESPONSE, invoiceMapper::toResponse);
+	}
+
+	@Override
+	public StreamingResponseBody exportGeneralSearch(InvoiceSearchRequest request, ExportFormat format) {
+		return tabularExporter.export(Invoice.class, InvoiceSpecification.fromRequest(request), EXPORT_COLUMNS, format);
+	}
 	
 	@Transactional(readOnly = true)
 	@Override
@@ -1097,24 +999,13 @@ public class InvoiceService  implements IInvoiceService {
 		return new InvoiceResponse(inv);
 	}
 	
-	private List<InvoiceTotalAmountByBuyerStatDTO> aggregateInMemoryByBuyer(InvoiceStatByBuyerRequest request) {
-	    return aggregateInMemory(request,
-	    		inv -> inv.getBuyer().getId(),
-	    		list -> new InvoiceTotalAmountByBuyerStatDTO((long)list.size(),
-	    				list.get(0).getInvoiceNumber(),
-	    				list.stream().map(Invoice::getTotalAmount).reduce(BigDecimal.ZERO, BigDecimal::add),
-	    				list.get(0).getBuyer().getId()
-	    		)
-	    );
-	}
-	
-	private <T,R extends InvoiceSpecificationRequest> List<T> aggregateInMemory(R request, Function<Invoice, Long> groupByFn, Function<List<Invoice>, T> dtoMapper){
-		List<Invoice> invoices = invoiceRepository.findAll(InvoiceSpecification.withDynamicFilters(request));
-		return invoices.stream().collect(Collectors.groupingBy(groupByFn))
-				.values()
-				.stream()
-				.map(dtoMapper)
-				.toList();
+	/**
+	 * MEMORY strategija: kolonski snimak (kljuc grupe, totalAmount, invoiceNumber) umesto ucitavanja celih faktura.
+	 */
+	private <T, R extends InvoiceSpecificationRequest> List<T> aggregateInMemory(R request, String groupByPath, GroupMapper<T> mapper) {
+		ColumnarSnapshot snapshot = columnarLoader.load(Invoice.class, InvoiceSpecification.withDynamicFilters(request),
+				ColumnarLoader.Columns.of(List.of(groupByPath), List.of("totalAmount"), AMOUNT_SCALE).withLabel("invoiceNumber"));
+		return columnarAggregator.aggregate(snapshot, Measure.sum(0)).toList(mapper);
 	}
 	
 	private void validateBigDecimalNonNegative(BigDecimal num) {
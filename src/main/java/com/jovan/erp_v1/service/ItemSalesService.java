@@ -3,23 +3,23 @@ package com.jovan.erp_v1.service;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.jovan.erp_v1.enumeration.ExportFormat;
 import com.jovan.erp_v1.enumeration.GoodsType;
-import com.jovan.erp_v1.enumeration.ItemSalesStatStrategy;
 import com.jovan.erp_v1.enumeration.ItemSalesStatus;
 import com.jovan.erp_v1.enumeration.OrderStatus;
 import com.jovan.erp_v1.enumeration.StorageType;
@@ -39,6 +39,7 @@ import com.jovan.erp_v1.exception.SupplyNotFoundException;
 import com.jovan.erp_v1.exception.ValidationException;
 import com.jovan.erp_v1.mapper.ItemSalesMapper;
 import com.jovan.erp_v1.model.Buyer;
+import com.jovan.erp_v1.model.FetchPlans;
 import com.jovan.erp_v1.model.Goods;
 import com.jovan.erp_v1.model.Invoice;
 import com.jovan.erp_v1.model.ItemSales;
@@ -61,11 +62,16 @@ import com.jovan.erp_v1.repository.SupplyRepository;
 import com.jovan.erp_v1.repository.specification.ItemSalesSpecification;
 import com.jovan.erp_v1.request.ItemSalesFilterRequest;
 import com.jovan.erp_v1.request.ItemSalesRequest;
+import com.jovan.erp_v1.response.CursorPageResponse;
 import com.jovan.erp_v1.response.ItemSalesResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.ItemSalesSaveAsRequest;
 import com.jovan.erp_v1.search_request.ItemSalesSearchRequest;
+import com.jovan.erp_v1.statistics.columnar.ColumnarSnapshot;
+import com.jovan.erp_v1.statistics.columnar.GroupMapper;
+import com.jovan.erp_v1.statistics.columnar.Measure;
 import com.jovan.erp_v1.statistics.item_sales.ItemSalesByProcurementRequest;
 import com.jovan.erp_v1.statistics.item_sales.ItemSalesBySalesOrderRequest;
 import com.jovan.erp_v1.statistics.item_sales.ItemSalesQuantityByGoodsStatDTO;
@@ -89,6 +95,26 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class ItemSalesService implements INTERItemSales {
 
+	// datum iz zahteva se poredi sa procurement.locdate ili salesOrder.orderDate; za procenu se koristi order_date
+	private static final StatStrategyPlanner.Source ITEM_SALES_STATS = new StatStrategyPlanner.Source("item_sales", "sales_order", "order_date");
+	// kolone za MEMORY strategiju; quantity i unitPrice su DECIMAL(15,3)
+	private static final int AMOUNT_SCALE = 3;
+	private static final ColumnarLoader.Columns STATS = ColumnarLoader.Columns.of(
+			List.of("goods.id", "sales.id", "procurement.id", "salesOrder.id"), List.of("quantity", "unitPrice"), AMOUNT_SCALE);
+	private static final ColumnarLoader.Columns QUANTITY_BY_PROCUREMENT = ColumnarLoader.Columns.of(
+			List.of("procurement.id"), List.of("quantity"), AMOUNT_SCALE);
+	private static final ColumnarLoader.Columns QUANTITY_BY_SALES_ORDER = ColumnarLoader.Columns.of(
+			List.of("salesOrder.id"), List.of("quantity"), AMOUNT_SCALE).withLabel("salesOrder.orderNumber");
+	private static final ColumnarLoader.Columns UNIT_PRICE_BY_SALES_ORDER = ColumnarLoader.Columns.of(
+			List.of("salesOrder.id"), List.of("unitPrice"), AMOUNT_SCALE).withLabel("salesOrder.orderNumber");
+	private static final ColumnarLoader.Columns UNIT_PRICE_BY_PROCUREMENT = ColumnarLoader.Columns.of(
+			List.of("procurement.id"), List.of("unitPrice"), AMOUNT_SCALE);
+
+	/** kolone izvoza opste pretrage (CSV/XLSX) */
+	public static final List<TabularExporter.Column> EXPORT_COLUMNS = TabularExporter.columns(
+			"id", "goods.id", "goods.name", "sales.id", "procurement.id", "salesOrder.id", "salesOrder.orderNumber",
+			"quantity", "unitPrice", "status", "confirmed");
+
 	private final ItemSalesRepository itemSalesRepository;
     private final GoodsRepository goodsRepository;
     private final SalesRepository salesRepository;
@@ -100,6 +126,12 @@ public class ItemSalesService implements INTERItemSales {
     private final ShelfRepository shelfRepository;
     private final SupplyRepository supplyRepository;
     private final StorageRepository storageRepository;
+    private final KeysetPaginator keysetPaginator;
+    private final StatStrategyPlanner statStrategyPlanner;
+    private final ColumnarLoader columnarLoader;
+    private final ColumnarAggregator columnarAggregator;
+    private final NdjsonStreamer ndjsonStreamer;
+    private final TabularExporter tabularExporter;
 	
     @Transactional
 	@Override
@@ -157,6 +189,11 @@ public class ItemSalesService implements INTERItemSales {
                 .map(itemSalesMapper::toResponse)
                 .collect(Collectors.toList());
     }
+
+	@Override
+	public CursorPageResponse<ItemSalesResponse> getAll(String cursor, Integer limit) {
+		return keysetPaginator.page(itemSalesRepository, null, FetchPlans.ITEM_SALES_RESPONSE, "id", Sort.Direction.ASC, cursor, limit, itemSalesMapper::toResponse);
+	}
 	
 	@Override
 	public List<ItemSalesResponse> findByGoods_Id(Long goodsId) {
@@ -662,6 +699,22 @@ public class ItemSalesService implements INTERItemSales {
 	
 	@Override
 	public List<ItemSalesResponse> filter(ItemSalesFilterRequest filterRequest) {
+	    List<ItemSales> result = itemSalesRepository.findAll(buildFilterSpec(filterRequest));
+	    return result.stream().map(itemSalesMapper::toResponse).collect(Collectors.toList());
+	}
+
+	@Override
+	public CursorPageResponse<ItemSalesResponse> filter(ItemSalesFilterRequest filterRequest, String cursor, Integer limit) {
+		return keysetPaginator.page(itemSalesRepository, buildFilterSpec(filterRequest), FetchPlans.ITEM_SALES_RESPONSE, "id", Sort.Direction.ASC, cursor, limit, itemSalesMapper::toResponse);
+	}
+
+	@Override
+	public StreamingResponseBody streamFilter(ItemSalesFilterRequest filterRequest) {
+		return ndjsonStreamer.stream(ItemSales.class, buildFilterSpec(filterRequest),
+				FetchPlans.ITEM_SALES_RESPONSE, itemSalesMapper::toResponse);
+	}
+
+	private Specification<ItemSales> buildFilterSpec(ItemSalesFilterRequest filterRequest) {
 	    Specification<ItemSales> spec = Specification.where(null);
 
 	    if (filterRequest.goodsId() != null) {
@@ -681,25 +734,20 @@ public class ItemSalesService implements INTERItemSales {
 	    if (filterRequest.orderStatus() != null) {
 	        spec = spec.and(ItemSalesSpecification.hasSalesOrderStatus(filterRequest.orderStatus()));
 	    }
-	    List<ItemSales> result = itemSalesRepository.findAll(spec);
-	    return result.stream().map(itemSalesMapper::toResponse).collect(Collectors.toList());
+	    return spec;
 	}
 	
 	@Transactional(readOnly = true)
 	@Override
 	public List<ItemSalesStatsDTO> getStats(ItemSalesStatsRequest req) {
-		long totalCount = itemSalesRepository.count();
-		ItemSalesStatStrategy strategy = resolveStrategy(req.strategy(), totalCount);
-		if(strategy == ItemSalesStatStrategy.SQL) {
-			return itemSalesRepository.findItemSalesStatsSQL(req.goodsId(), req.salesId(), req.procurementId(), req.salesOrderId(),
-					req.fromDate() != null ? req.fromDate().atStartOfDay() : null,
-			        req.toDate() != null ? req.toDate().atTime(23, 59, 59) : null);
-		}
-		else {
-			//MEMORY obrada
-			List<ItemSales> all = itemSalesRepository.findAll(ItemSalesSpecification.withDynamicFilters(req));
-			return aggregateInMemory(all);
-		}
+		return statStrategyPlanner.execute("itemSales.stats", ITEM_SALES_STATS, req.strategy(), req.fromDate(), req.toDate(),
+				() -> itemSalesRepository.findItemSalesStatsSQL(req.goodsId(), req.salesId(), req.procurementId(), req.salesOrderId(),
+						req.fromDate() != null ? req.fromDate().atStartOfDay() : null,
+						req.toDate() != null ? req.toDate().atTime(23, 59, 59) : null),
+				() -> columnarAggregator.aggregate(columnarLoader.load(ItemSales.class, ItemSalesSpecification.withDynamicFilters(req), STATS),
+								Measure.sum(0), Measure.sumOfProducts(0, 1))
+						.toList((agg, g) -> new ItemSalesStatsDTO(agg.key(0, g), agg.key(1, g), agg.key(2, g), agg.key(3, g),
+								agg.sum(0, g), agg.sum(1, g))));
 	}
 	
 	@Transactional(readOnly = true)
@@ -741,111 +789,20 @@ public class ItemSalesService implements INTERItemSales {
 	@Override
 	public List<ItemSalesQuantityByProcurementStatDTO> countItemSalesQuantityByProcurement(
 			ItemSalesByProcurementRequest request) {
-		long totalItemSales = itemSalesRepository.count();
-		ItemSalesStatStrategy strategy = request.strategy() != null ? request.strategy() : ItemSalesStatStrategy.AUTO;
-		switch (strategy) {
-		case SQL -> {
-			if(totalItemSales < 10000) {
-				return aggregateInMemory(request,
-						i -> i.getProcurement() != null ? i.getProcurement().getId() : null,
-						safeMapToDto(list -> {
-							ItemSales first = list.get(0);
-							BigDecimal quantity = list.stream().map(ItemSales::getQuantity).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-							Long procurementId = first.getProcurement() != null ? first.getProcurement().getId() : null;
-							return new ItemSalesQuantityByProcurementStatDTO(procurementId,quantity,procurementId);
-						})
-				);
-			}
-			else {
-				return itemSalesRepository.countItemSalesQuantityByProcurement(request.procurementId(), request.fromDate(), request.toDate());
-			}
-		}
-		case MEMORY -> {
-			return aggregateInMemory(request,
-					i -> i.getProcurement() != null ? i.getProcurement().getId() : null,
-					safeMapToDto(list -> {
-						ItemSales first = list.get(0);
-						BigDecimal quantity = list.stream().map(ItemSales::getQuantity).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-						Long procurementId = first.getProcurement() != null ? first.getProcurement().getId() : null;
-						return new ItemSalesQuantityByProcurementStatDTO(procurementId,quantity,procurementId);
-					})
-			);
-		}
-		case AUTO -> {
-			if(totalItemSales < 10000) {
-				return aggregateInMemory(request,
-						i -> i.getProcurement() != null ? i.getProcurement().getId() : null,
-						safeMapToDto(list -> {
-							ItemSales first = list.get(0);
-							BigDecimal quantity = list.stream().map(ItemSales::getQuantity).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-							Long procurementId = first.getProcurement() != null ? first.getProcurement().getId() : null;
-							return new ItemSalesQuantityByProcurementStatDTO(procurementId,quantity,procurementId);
-						})
-				);
-			}
-			else {
-				return itemSalesRepository.countItemSalesQuantityByProcurement(request.procurementId(), request.fromDate(), request.toDate());
-			}
-		}
-		default -> throw new ValidationException("Unknown strategy " + strategy);
-		}
+		return statStrategyPlanner.execute("itemSales.quantityByProcurement", ITEM_SALES_STATS, request.strategy(), request.fromDate(), request.toDate(),
+				() -> itemSalesRepository.countItemSalesQuantityByProcurement(request.procurementId(), request.fromDate(), request.toDate()),
+				() -> aggregateInMemory(request, QUANTITY_BY_PROCUREMENT,
+						(agg, g) -> new ItemSalesQuantityByProcurementStatDTO(agg.count(g), agg.sum(0, g), agg.key(0, g))));
 	}
 
 	@Transactional(readOnly = true)
 	@Override
 	public List<ItemSalesQuantityBySalesOrderStatDTO> countItemSalesQuantityBySalesOrder(
 			ItemSalesBySalesOrderRequest request) {
-		long totalItemSales = itemSalesRepository.count();
-		ItemSalesStatStrategy strategy = request.strategy() != null ? request.strategy() : ItemSalesStatStrategy.AUTO;
-		switch(strategy) {
-		case SQL -> {
-			if(totalItemSales > 10000) {
-				return aggregateInMemory(request,
-						i -> i.getSalesOrder() != null ? i.getSalesOrder().getId() : null,		
-						safeMapToDto(list -> {
-							ItemSales first = list.get(0);
-							String orderNumber = first.getSalesOrder() != null ? first.getSalesOrder().getOrderNumber() : null;
-							BigDecimal totalQuantity = list.stream().map(ItemSales::getQuantity).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-							Long salesOrderId = first.getSalesOrder() != null ? first.getSalesOrder().getId() : null;
-							return new ItemSalesQuantityBySalesOrderStatDTO(salesOrderId, orderNumber, totalQuantity, salesOrderId);
-						})
-					);
-			}
-			else {
-				return itemSalesRepository.countItemSalesQuantityBySalesOrder(request.salesOrderId(), request.fromDate(), request.toDate());
-			}
-		}
-		case MEMORY -> {
-			return aggregateInMemory(request,
-					i -> i.getSalesOrder() != null ? i.getSalesOrder().getId() : null,		
-					safeMapToDto(list -> {
-						ItemSales first = list.get(0);
-						String orderNumber = first.getSalesOrder() != null ? first.getSalesOrder().getOrderNumber() : null;
-						BigDecimal totalQuantity = list.stream().map(ItemSales::getQuantity).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-						Long salesOrderId = first.getSalesOrder() != null ? first.getSalesOrder().getId() : null;
-						return new ItemSalesQuantityBySalesOrderStatDTO(salesOrderId, orderNumber, totalQuantity, salesOrderId);
-					})
-				);
-		}
-		case AUTO -> {
-			if(totalItemSales > 10000) {
-				return aggregateInMemory(request,
-						i -> i.getSalesOrder() != null ? i.getSalesOrder().getId() : null,		
-						safeMapToDto(list -> {
-							ItemSales first = list.get(0);
-							String orderNumber = first.getSalesOrder() != null ? first.getSalesOrder().getOrderNumber() : null;
-							BigDecimal totalQuantity = list.stream().map(ItemSales::getQuantity).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-							Long salesOrderId = first.getSalesOrder() != null ? first.getSalesOrder().getId() : null;
-							return new ItemSalesQuantityBySalesOrderStatDTO(salesOrderId, orderNumber, totalQuantity, salesOrderId);
-						})
-					);
-			}
-			else {
-				return itemSalesRepository.countItemSalesQuantityBySalesOrder(request.salesOrderId(), request.fromDate(), request.toDate());
-			}
-		}
-		default -> throw new ValidationException("Unknown strategy " + strategy);
-		}
+		return statStrategyPlanner.execute("itemSales.quantityBySalesOrder", ITEM_SALES_STATS, request.strategy(), request.fromDate(), request.toDate(),
+				() -> itemSalesRepository.countItemSalesQuantityBySalesOrder(request.salesOrderId(), request.fromDate(), request.toDate()),
+				() -> aggregateInMemory(request, QUANTITY_BY_SALES_ORDER,
+						(agg, g) -> new ItemSalesQuantityBySalesOrderStatDTO(agg.count(g), agg.label(g), agg.sum(0, g), agg.key(0, g))));
 	}
 
 	@Transactional(readOnly = true)
@@ -887,105 +844,20 @@ public class ItemSalesService implements INTERItemSales {
 	@Override
 	public List<ItemSalesUnitPriceBySalesOrderStatDTO> countItemSalesUnitPriceBySalesOrderStatDTO(
 			ItemSalesByProcurementRequest request) {
-		long totalItemSales = itemSalesRepository.count();
-		ItemSalesStatStrategy strategy = request.strategy() != null ? request.strategy() : ItemSalesStatStrategy.AUTO;
-		switch (strategy) {
-		case SQL -> {
-			if(totalItemSales > 10000) {
-				return aggregateInMemory(request,
-						i -> i.getSalesOrder() != null ? i.getSalesOrder().getId() : null,
-						safeMapToDto(list -> {
-							ItemSales first = list.get(0);
-							String orderNumber = first.getSalesOrder() != null ? first.getSalesOrder().getOrderNumber() : null;
-							BigDecimal unitPrice = list.stream().map(ItemSales::getUnitPrice).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-							Long salesOrderId = first.getSalesOrder() != null ? first.getSalesOrder().getId() : null;
-							return new ItemSalesUnitPriceBySalesOrderStatDTO(salesOrderId, orderNumber, unitPrice, salesOrderId);
-						}));
-			}
-			else {
-				return itemSalesRepository.countItemSalesUnitPriceBySalesOrderStatDTO(request.salesOrderId(), request.fromDate(), request.toDate());
-			}
-		}
-		case MEMORY -> {
-			return aggregateInMemory(request,
-					i -> i.getSalesOrder() != null ? i.getSalesOrder().getId() : null,
-					safeMapToDto(list -> {
-						ItemSales first = list.get(0);
-						String orderNumber = first.getSalesOrder() != null ? first.getSalesOrder().getOrderNumber() : null;
-						BigDecimal unitPrice = list.stream().map(ItemSales::getUnitPrice).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-						Long salesOrderId = first.getSalesOrder() != null ? first.getSalesOrder().getId() : null;
-						return new ItemSalesUnitPriceBySalesOrderStatDTO(salesOrderId, orderNumber, unitPrice, salesOrderId);
-					}));
-		}
-		case AUTO -> {
-			if(totalItemSales > 10000) {
-				return aggregateInMemory(request,
-						i -> i.getSalesOrder() != null ? i.getSalesOrder().getId() : null,
-						safeMapToDto(list -> {
-							ItemSales first = list.get(0);
-							String orderNumber = first.getSalesOrder() != null ? first.getSalesOrder().getOrderNumber() : null;
-							BigDecimal unitPrice = list.stream().map(ItemSales::getUnitPrice).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-							Long salesOrderId = first.getSalesOrder() != null ? first.getSalesOrder().getId() : null;
-							return new ItemSalesUnitPriceBySalesOrderStatDTO(salesOrderId, orderNumber, unitPrice, salesOrderId);
-						}));
-			}
-			else {
-				return itemSalesRepository.countItemSalesUnitPriceBySalesOrderStatDTO(request.salesOrderId(), request.fromDate(), request.toDate());
-			}
-		}
-		default -> throw new ValidationException("Unknown strategy "+ strategy);
-		}
+		return statStrategyPlanner.execute("itemSales.unitPriceBySalesOrder", ITEM_SALES_STATS, request.strategy(), request.fromDate(), request.toDate(),
+				() -> itemSalesRepository.countItemSalesUnitPriceBySalesOrderStatDTO(request.salesOrderId(), request.fromDate(), request.toDate()),
+				() -> aggregateInMemory(request, UNIT_PRICE_BY_SALES_ORDER,
+						(agg, g) -> new ItemSalesUnitPriceBySalesOrderStatDTO(agg.count(g), agg.label(g), agg.sum(0, g), agg.key(0, g))));
 	}
 
 	@Transactional(readOnly = true)
 	@Override
 	public List<ItemSalesUnitPriceByProcurementStatDTO> countItemSalesUnitPriceByProcurementStatDTO(
 			ItemSalesBySalesOrderRequest request) {
-		long totalItemSales = itemSalesRepository.count();
-		ItemSalesStatStrategy strategy = request.strategy() != null ? request.strategy() : ItemSalesStatStrategy.AUTO;
-		switch (strategy) {
-		case SQL -> {
-			if(totalItemSales > 10000) {
-				return aggregateInMemory(request,
-						i -> i.getProcurement() != null ? i.getProcurement().getId() : null,
-						safeMapToDto(list -> {
-							ItemSales first = list.get(0);
-							BigDecimal unitPrice = list.stream().map(ItemSales::getUnitPrice).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-							Long procurementId = first.getProcurement() != null ? first.getProcurement().getId() : null;
-							return new ItemSalesUnitPriceByProcurementStatDTO(procurementId, unitPrice, procurementId);
-						}));
-			}
-			else {
-				return itemSalesRepository.countItemSalesUnitPriceByProcurementStatDTO(request.procurementId(), request.fromDate(), request.toDate());
-				}
-		}
-		case MEMORY -> {
-			return aggregateInMemory(request,
-					i -> i.getProcurement() != null ? i.getProcurement().getId() : null,
-					safeMapToDto(list -> {
-						ItemSales first = list.get(0);
-						BigDecimal unitPrice = list.stream().map(ItemSales::getUnitPrice).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-						Long procurementId = first.getProcurement() != null ? first.getProcurement().getId() : null;
-						return new ItemSalesUnitPriceByProcurementStatDTO(procurementId, unitPrice, procurementId);
-					}));
-		}
-		case AUTO -> {
-			if(totalItemSales > 10000) {
-				return aggregateInMemory(request,
-						i -> i.getProcurement() != null ? i.getProcurement().getId() : null,
-						safeMapToDto(list -> {
-							ItemSales first = list.get(0);
-							BigDecimal unitPrice = list.stream().map(ItemSales::getUnitPrice).filter(Objects::nonNull).reduce(BigDecimal.ZERO, BigDecimal::add);
-							Long procurementId = first.getProcurement() != null ? first.getProcurement().getId() : null;
-							return new ItemSalesUnitPriceByProcurementStatDTO(procurementId, unitPrice, procurementId);
-						}));
-			}
-			else {
-				return itemSalesRepository.countItemSalesUnitPriceByProcurementStatDTO(request.procurementId(), request.fromDate(), request.toDate());
-				}
-		}
-		default -> throw new ValidationException("Unknown strategy "+ strategy);
-		}
+		return statStrategyPlanner.execute("itemSales.unitPriceByProcurement", ITEM_SALES_STATS, request.strategy(), request.fromDate(), request.toDate(),
+				() -> itemSalesRepository.countItemSalesUnitPriceByProcurementStatDTO(request.procurementId(), request.fromDate(), request.toDate()),
+				() -> aggregateInMemory(request, UNIT_PRICE_BY_PROCUREMENT,
+						(agg, g) -> new ItemSalesUnitPriceByProcurementStatDTO(agg.count(g), agg.sum(0, g), agg.key(0, g))));
 	}
 
 	@Transactional(readOnly = true)
@@ -1174,7 +1046,6 @@ public class ItemSalesService implements INTERItemSales {
 	}
 	
 	private final AbstractSaveAllService<ItemSales, ItemSalesResponse> saveAllHelper = new AbstractSaveAllService<ItemSales, ItemSalesResponse>() {
-		
 		@Override
 		protected Function<ItemSales, ItemSalesResponse> toResponse() {
 			return ItemSalesResponse::new;
@@ -1198,6 +1069,12 @@ public class ItemSalesService implements INTERItemSales {
 		if (request == null || request.isEmpty()) {
 	        throw new ValidationException("ItemSales request list must not be empty.");
 	    }
+		ReferenceResolver<ItemSalesRequest> references = saveAllHelper.references(request);
+		Map<Long, Goods> goodsById = references.resolve("Goods", goodsRepository, Goods::getId, ItemSalesRequest::goodsId);
+		Map<Long, Sales> salesById = references.resolve("Sales", salesRepository, Sales::getId, ItemSalesRequest::salesId);
+		Map<Long, Procurement> procurements = references.resolve("Procurement", procurementRepository, Procurement::getId, ItemSalesRequest::procurementId);
+		Map<Long, SalesOrder> salesOrders = references.resolve("SalesOrder", salesOrderRepository, SalesOrder::getId, ItemSalesRequest::salesOrderId);
+		references.verify();
 		List<ItemSales> items = request.stream()
 	            .map(item -> {
 	                if (item.quantity() == null || item.quantity().compareTo(BigDecimal.ZERO) <= 0) {
@@ -1206,10 +1083,10 @@ public class ItemSalesService implements INTERItemSales {
 	                if (item.unitPrice() == null || item.unitPrice().compareTo(BigDecimal.ZERO) < 0) {
 	                    throw new ValidationException("Unit price must not be negative");
 	                }
-	                Goods goods = validateGoodsId(item.goodsId());
-	                Sales sales = validateSalesId(item.salesId());
-	                Procurement procurement = validateProcurementId(item.procurementId());
-	                SalesOrder salesOrder = validateSalesOrderId(item.salesOrderId());
+	                Goods goods = goodsById.get(item.goodsId());
+	                Sales sales = salesById.get(item.salesId());
+	                Procurement procurement = procurements.get(item.procurementId());
+	                SalesOrder salesOrder = salesOrders.get(item.salesOrderId());
 	                return ItemSales.builder()
 	                        .goods(goods)
 	                        .sales(sales)
@@ -1234,59 +1111,30 @@ public class ItemSalesService implements INTERItemSales {
 		}
 		return items.stream().map(itemSalesMapper::toResponse).collect(Collectors.toList());			
 	}
-	
-	private ItemSalesStatStrategy resolveStrategy(ItemSalesStatStrategy reqStrategy, long count) {
-		if(reqStrategy == ItemSalesStatStrategy.AUTO) {
-			return count > 10000 ? ItemSalesStatStrategy.SQL : ItemSalesStatStrategy.MEMORY;
-		}
-		return reqStrategy;
+
+	@Override
+	public CursorPageResponse<ItemSalesResponse> generalSearch(ItemSalesSearchRequest request, String cursor, Integer limit) {
+		Specification<ItemSales> spec = ItemSalesSpecification.fromRequest(request);
+		return keysetPaginator.page(itemSalesRepository, spec, FetchPlans.ITEM_SALES_RESPONSE, "id", Sort.Direction.ASC, cursor, limit, itemSalesMapper::toResponse);
 	}
-	
-	//metoda za strategiju koja je u memoriji racunara do 10000
-	private List<ItemSalesStatsDTO> aggregateInMemory(List<ItemSales> items){
-		Map<String, ItemSalesStatsDTO> map = new HashMap<String, ItemSalesStatsDTO>();
-		for(ItemSales i : items) {
-			String key = (i.getGoods() != null ? i.getGoods().getId() : 0L) + "-" +
-                    (i.getSales() != null ? i.getSales().getId() : 0L) + "-" +
-                    (i.getProcurement() != null ? i.getProcurement().getId() : 0L) + "-" + 
-                    (i.getSalesOrder() != null ? i.getSalesOrder().getId() : 0L);
-			map.compute(key, (k, v) -> {
-				if(v == null) {
-					return new ItemSalesStatsDTO(
-							i.getGoods() != null ? i.getGoods().getId() : null,
-							i.getSales() != null ? i.getSales().getId() : null,
-							i.getProcurement() != null ? i.getProcurement().getId() : null,
-							i.getSalesOrder() != null ? i.getSalesOrder().getId() : null,
-							i.getQuantity(),
-							i.getUnitPrice());
-				}
-				else {
-					v.setTotalQuantity(v.getTotalQuantity().add(i.getQuantity()));
-					v.setTotalAmount(v.getTotalAmount().add(i.getQuantity()));
-					return v;
-				}
-			});
-		}
-		return new ArrayList<>(map.values());
+
+	@Override
+	public StreamingResponseBody streamGeneralSearch(ItemSalesSearchRequest request) {
+		return ndjsonStreamer.stream(ItemSales.class, ItemSalesSpecification.fromRequest(request),
+				FetchPlans.ITEM_SALES_RESPONSE, itemSalesMapper::toResponse);
 	}
-	
-	private <T, R extends ItemSalesSpecificationRequest> List<T> aggregateInMemory(R request, Function<ItemSales, Long> groupByFn, Function<List<ItemSales>, T> dtoMapper){
-		List<ItemSales> items = itemSalesRepository.findAll(ItemSalesSpecification.withDynamicFiltersOrDates(request));
-		return items.stream().collect(Collectors.groupingBy(groupByFn))
-				.values()
-				.stream()
-				.map(dtoMapper)
-				.filter(Objects::nonNull)
-				.toList();	
+
+	@Override
+	public StreamingResponseBody exportGeneralSearch(ItemSalesSearchRequest request, ExportFormat format) {
+		return tabularExporter.export(ItemSales.class, ItemSalesSpecification.fromRequest(request), EXPORT_COLUMNS, format);
 	}
 	
-	private <T> Function<List<ItemSales>, T> safeMapToDto(Function<List<ItemSales>, T> mapper){
-		return list -> {
-			if(list == null || list.isEmpty()) {
-				return null;
-			}
-			return mapper.apply(list);
-		};
+	/**
+	 * MEMORY strategija: kolonski snimak samo potrebnih kolona umesto ucitavanja celih ItemSales entiteta.
+	 */
+	private <T, R extends ItemSalesSpecificationRequest> List<T> aggregateInMemory(R request, ColumnarLoader.Columns columns, GroupMapper<T> mapper) {
+		ColumnarSnapshot snapshot = columnarLoader.load(ItemSales.class, ItemSalesSpecification.withDynamicFiltersOrDates(request), columns);
+		return columnarAggregator.aggregate(snapshot, Measure.sum(0)).toList(mapper);
 	}
 	
 	private void validateBigDecimalNonNegative(BigDecimal num) {
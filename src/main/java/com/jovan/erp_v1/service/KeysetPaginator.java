@@ -0,0 +1,115 @@
+package com.jovan.erp_v1.service;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Component;
+
+import com.jovan.erp_v1.exception.ValidationException;
+import com.jovan.erp_v1.repository.specification.KeysetSpecification;
+import com.jovan.erp_v1.response.CursorPageResponse;
+import com.jovan.erp_v1.util.KeysetCursor;
+
+import jakarta.persistence.AttributeNode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Zajednicka keyset (seek) paginacija za repozitorijume sa JpaSpecificationExecutor-om.
+ * Svaka strana je jedan upit sa WHERE (sortKey, id) > (cursor) i LIMIT n+1, bez OFFSET-a i bez count upita,
+ * pa je duboka strana jednako skupa kao prva.
+ * findBy(spec, ...) ne primenjuje @EntityGraph sa repozitorijuma, pa se fetch-plan prosledjuje kroz project(...).
+ */
+@Component
+public class KeysetPaginator {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${pagination.keyset.default-limit:50}")
+	private int defaultLimit;
+
+	@Value("${pagination.keyset.max-limit:500}")
+	private int maxLimit;
+
+	public <E, R> CursorPageResponse<R> page(JpaSpecificationExecutor<E> repository, Specification<E> spec,
+			String sortKey, Sort.Direction direction, String cursor, Integer limit, Function<E, R> mapper) {
+		return page(repository, spec, null, sortKey, direction, cursor, limit, mapper);
+	}
+
+	/**
+	 * @param fetchPlan naziv entity graph-a iz FetchPlans, ucitava to-one veze u istom upitu
+	 */
+	public <E, R> CursorPageResponse<R> page(JpaSpecificationExecutor<E> repository, Specification<E> spec,
+			String fetchPlan, String sortKey, Sort.Direction direction, String cursor, Integer limit,
+			Function<E, R> mapper) {
+		int size = resolveLimit(limit);
+		KeysetCursor position = null;
+		if (cursor != null && !cursor.isBlank()) {
+			position = KeysetCursor.decode(cursor);
+			if (!position.sortKey().equals(sortKey) || position.direction() != direction) {
+				throw new ValidationException("Pagination cursor does not belong to this query");
+			}
+		}
+		Specification<E> seek = Specification.where(spec).and(KeysetSpecification.after(position));
+		List<String> fetched = fetchedAttributes(fetchPlan);
+		List<E> rows = repository.findBy(seek, q -> q
+				.sortBy(KeysetSpecification.sort(sortKey, direction))
+				.limit(size + 1)
+				.project(fetched)
+				.all());
+		boolean hasNext = rows.size() > size;
+		List<E> pageRows = hasNext ? rows.subList(0, size) : rows;
+		String nextCursor = null;
+		if (hasNext) {
+			nextCursor = cursorOf(pageRows.get(pageRows.size() - 1), sortKey, direction).encode();
+		}
+		return new CursorPageResponse<>(pageRows.stream().map(mapper).toList(), nextCursor, hasNext, size);
+	}
+
+	/**
+	 * Vraca true ako je klijent trazio paginirani odgovor (poslat cursor ili limit).
+	 */
+	public static boolean isRequested(String cursor, Integer limit) {
+		return (cursor != null && !cursor.isBlank()) || limit != null;
+	}
+
+	private int resolveLimit(Integer limit) {
+		if (limit == null) {
+			return defaultLimit;
+		}
+		if (limit < 1 || limit > maxLimit) {
+			throw new ValidationException("Limit must be between 1 and " + maxLimit);
+		}
+		return limit;
+	}
+
+	private List<String> fetchedAttributes(String fetchPlan) {
+		if (fetchPlan == null) {
+			return List.of();
+		}
+		return entityManager.getEntityGraph(fetchPlan).getAttributeNodes().stream()
+				.map(AttributeNode::getAttributeName)
+				.toList();
+	}
+
+	private static KeysetCursor cursorOf(Object entity, String sortKey, Sort.Direction direction) {
+		BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+		Long id = (Long) wrapper.getPropertyValue(KeysetSpecification.ID);
+		Object value = wrapper.getPropertyValue(sortKey);
+		String encoded = null;
+		if (value instanceof Enum<?> e) {
+			encoded = e.name();
+		}
+		else if (value != null) {
+			encoded = value.toString();
+		}
+		return new KeysetCursor(sortKey, direction, encoded, id);
+	}
+}
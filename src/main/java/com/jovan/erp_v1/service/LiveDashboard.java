@@ -0,0 +1,369 @@
+package com.jovan.erp_v1.service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.jovan.erp_v1.enumeration.OrderStatus;
+import com.jovan.erp_v1.model.Inventory;
+import com.jovan.erp_v1.model.Procurement;
+import com.jovan.erp_v1.model.Product;
+import com.jovan.erp_v1.model.Sales;
+import com.jovan.erp_v1.model.SalesOrder;
+import com.jovan.erp_v1.model.Shift;
+import com.jovan.erp_v1.model.User;
+import com.jovan.erp_v1.model.Vendor;
+import com.jovan.erp_v1.repository.InventoryRepository;
+import com.jovan.erp_v1.repository.ProcurementRepository;
+import com.jovan.erp_v1.repository.ProductRepository;
+import com.jovan.erp_v1.repository.SalesOrderRepository;
+import com.jovan.erp_v1.repository.SalesRepository;
+import com.jovan.erp_v1.repository.ShiftRepository;
+import com.jovan.erp_v1.repository.UserRepository;
+import com.jovan.erp_v1.repository.VendorRepository;
+import com.jovan.erp_v1.response.DashboardResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dashboard brojaci u memoriji: ukupni brojevi, zbirovi, aktivne smene i dnevni promet poslednjih 7 dana.
+ * Pune se iz baze pri pokretanju, a posle toga ih menja DashboardCommitListener posle svakog commit-a
+ * insert/update/delete-a pracenih entiteta (update = oduzmi staro stanje, dodaj novo).
+ * Periodicni reconcile ponovo ucitava sve iz baze i ispravlja odstupanja (bulk izmene, update bez starog stanja);
+ * commit-i se prijavljuju pre upisa u bazu (beforeCommit), pa reconcile zna koje je snimak mozda vec video.
+ * Citanje ne ide u bazu.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveDashboard {
+
+	private static final int RECONCILE_ATTEMPTS = 3;
+	/** koliko reconcile ceka da se zavrse commit-i zapoceti pre snimka */
+	private static final long COMMIT_WAIT_MILLIS = 100;
+
+	private final UserRepository userRepository;
+	private final InventoryRepository inventoryRepository;
+	private final SalesOrderRepository salesOrderRepository;
+	private final VendorRepository vendorRepository;
+	private final ProductRepository productRepository;
+	private final SalesRepository salesRepository;
+	private final ProcurementRepository procurementRepository;
+	private final ShiftRepository shiftRepository;
+	private final MeterRegistry meterRegistry;
+
+	private final Object lock = new Object();
+	/** null dok se brojaci prvi put ne ucitaju; guarded by lock */
+	private Counters counters;
+	/** broj zapocetih commit-a i primenjenih izmena; reconcile ga koristi kao ogradu snimka; guarded by lock */
+	private long sequence;
+	/** commit-i posle beforeCommit, a pre afterCompletion; guarded by lock */
+	private int committing;
+	private volatile boolean reconcileRequested;
+	private volatile Instant reconciledAt = Instant.EPOCH;
+
+	@Value("${dashboard.live.reconcile-interval:10m}")
+	private Duration reconcileInterval;
+
+	public DashboardResponse snapshot() {
+		synchronized (lock) {
+			if (counters != null) {
+				return counters.toResponse(LocalDateTime.now());
+			}
+		}
+		reconcile();
+		synchronized (lock) {
+			if (counters != null) {
+				return counters.toResponse(LocalDateTime.now());
+			}
+		}
+		return load().toResponse(LocalDateTime.now());
+	}
+
+	/**
+	 * Transakcija sa izmenama pracenih entiteta pocinje commit: do afterCompletion reconcile ne zamenjuje brojace,
+	 * jer ne zna da li ce snimak iz baze vec sadrzati ove izmene (pa bi ih afterCompletion uracunao dvaput).
+	 */
+	public void beforeCommit(Commit commit) {
+		synchronized (lock) {
+			sequence++;
+			committing++;
+			commit.committing = true;
+		}
+	}
+
+	/**
+	 * Kraj transakcije: posle uspesnog commit-a primenjuje izmene, a rollback ih odbacuje.
+	 */
+	public void afterCompletion(Commit commit, boolean committed) {
+		synchronized (lock) {
+			if (commit.committing) {
+				commit.committing = false;
+				committing--;
+				lock.notifyAll();
+			}
+			if (!committed) {
+				return;
+			}
+			sequence++;
+			if (commit.reconcile) {
+				reconcileRequested = true;
+			}
+			if (counters != null) {
+				LocalDate today = LocalDate.now();
+				for (Change change : commit.changes) {
+					counters.apply(change.type(), change.property(), change.sign(), today);
+				}
+			}
+		}
+	}
+
+	public boolean isTracked(Class<?> type) {
+		return type == User.class || type == Inventory.class || type == SalesOrder.class || type == Vendor.class
+				|| type == Product.class || type == Shift.class || type == Sales.class || type == Procurement.class;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		reconcile();
+	}
+
+	@Scheduled(fixedDelayString = "${dashboard.live.check-interval:PT30S}")
+	public void reconcileIfDue() {
+		if (reconcileRequested || reconciledAt.plus(reconcileInterval).isBefore(Instant.now())) {
+			reconcile();
+		}
+	}
+
+	/**
+	 * Ucitava brojace iz baze i zamenjuje ih samo ako je snimak ogradjen: pre ucitavanja nema commit-a u toku
+	 * (njegove izmene bi snimak mozda vec sadrzao, a afterCompletion bi ih dodao posle zamene), a do zamene
+	 * se sequence nije promenio (nijedan commit nije poceo niti je izmena primenjena tokom ucitavanja).
+	 * Posle RECONCILE_ATTEMPTS pokusaja odustaje do sledece provere.
+	 */
+	public void reconcile() {
+		for (int attempt = 0; attempt < RECONCILE_ATTEMPTS; attempt++) {
+			long fence;
+			synchronized (lock) {
+				if (!awaitCommits()) {
+					continue;
+				}
+				fence = sequence;
+			}
+			Counters fresh = load();
+			synchronized (lock) {
+				if (sequence != fence) {
+					continue;
+				}
+				if (counters != null && !counters.matches(fresh, LocalDateTime.now())) {
+					log.warn("Live dashboard counters drifted from database, replacing them");
+					meterRegistry.counter("erp.dashboard.live.drift").increment();
+				}
+				counters = fresh;
+				reconcileRequested = false;
+				reconciledAt = Instant.now();
+				return;
+			}
+		}
+		log.debug("Live dashboard reconcile skipped, entities kept changing while loading");
+	}
+
+	/**
+	 * Ceka najvise COMMIT_WAIT_MILLIS da se zavrse commit-i u toku; guarded by lock.
+	 */
+	private boolean awaitCommits() {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(COMMIT_WAIT_MILLIS);
+		while (committing > 0) {
+			long remaining = deadline - System.nanoTime();
+			if (remaining <= 0) {
+				return false;
+			}
+			try {
+				TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private Counters load() {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDate today = now.toLocalDate();
+		Counters loaded = new Counters();
+		loaded.users = userRepository.count();
+		loaded.inventories = inventoryRepository.count();
+		loaded.salesOrders = salesOrderRepository.count();
+		loaded.vendors = vendorRepository.count();
+		loaded.products = productRepository.count();
+		loaded.pendingOrders = salesOrderRepository.countByStatus(OrderStatus.PENDING);
+		loaded.sales = salesRepository.count();
+		loaded.revenue = salesRepository.sumAllSalesRevenue();
+		loaded.procurements = procurementRepository.count();
+		loaded.procurementCost = procurementRepository.sumTotalCost();
+		for (LocalDateTime end : shiftRepository.findEndTimesAfter(now)) {
+			loaded.shiftEnds.merge(end, 1, Integer::sum);
+		}
+		LocalDate from = today.minusDays(DailySalesWindow.DAYS - 1);
+		for (Object[] row : salesRepository.sumDailySalesSince(from.atStartOfDay())) {
+			loaded.dailySales.add((LocalDate) row[0], (BigDecimal) row[1], ((Number) row[2]).longValue(), today);
+		}
+		return loaded;
+	}
+
+	/**
+	 * Izmene pracenih entiteta jedne transakcije; DashboardCommitListener ih skuplja tokom flush-a i predaje
+	 * beforeCommit/afterCompletion. Nije thread-safe (pripada sesiji).
+	 */
+	public static final class Commit {
+
+		private final List<Change> changes = new ArrayList<>();
+		private boolean reconcile;
+		/** izmedju beforeCommit i afterCompletion; guarded by lock */
+		private boolean committing;
+
+		/**
+		 * Stanje entiteta tipa type: sign = 1 za novo stanje, -1 za staro/obrisano.
+		 * property vraca vrednost svojstva iz stanja (npr. "status", "totalPrice").
+		 */
+		public void add(Class<?> type, Function<String, Object> property, int sign) {
+			changes.add(new Change(type, property, sign));
+		}
+
+		/**
+		 * Posle commit-a trazi reconcile u sledecoj proveri (npr. update bez starog stanja, pa delta nije poznata).
+		 */
+		public void requestReconcile() {
+			reconcile = true;
+		}
+	}
+
+	private record Change(Class<?> type, Function<String, Object> property, int sign) {
+	}
+
+	private static final class Counters {
+
+		private long users;
+		private long inventories;
+		private long salesOrders;
+		private long vendors;
+		private long products;
+		private long pendingOrders;
+		private long sales;
+		private BigDecimal revenue;
+		private long procurements;
+		private BigDecimal procurementCost;
+		/** kraj smene -> broj smena; aktivne su one sa krajem posle sada */
+		private final NavigableMap<LocalDateTime, Integer> shiftEnds = new TreeMap<>();
+		private final DailySalesWindow dailySales = new DailySalesWindow();
+
+		void apply(Class<?> type, Function<String, Object> property, int sign, LocalDate today) {
+			if (type == User.class) {
+				users += sign;
+			}
+			else if (type == Inventory.class) {
+				inventories += sign;
+			}
+			else if (type == Vendor.class) {
+				vendors += sign;
+			}
+			else if (type == Product.class) {
+				products += sign;
+			}
+			else if (type == SalesOrder.class) {
+				salesOrders += sign;
+				if (property.apply("status") == OrderStatus.PENDING) {
+					pendingOrders += sign;
+				}
+			}
+			else if (type == Sales.class) {
+				BigDecimal totalPrice = signed((BigDecimal) property.apply("totalPrice"), sign);
+				sales += sign;
+				revenue = add(revenue, totalPrice);
+				LocalDateTime createdAt = (LocalDateTime) property.apply("createdAt");
+				if (createdAt != null) {
+					dailySales.add(createdAt.toLocalDate(), totalPrice, sign, today);
+				}
+			}
+			else if (type == Procurement.class) {
+				procurements += sign;
+				procurementCost = add(procurementCost, signed((BigDecimal) property.apply("totalCost"), sign));
+			}
+			else if (type == Shift.class) {
+				LocalDateTime end = (LocalDateTime) property.apply("endTime");
+				if (end != null && shiftEnds.merge(end, sign, Integer::sum) == 0) {
+					shiftEnds.remove(end);
+				}
+			}
+		}
+
+		DashboardResponse toResponse(LocalDateTime now) {
+			shiftEnds.headMap(now, true).clear();
+			int activeShifts = shiftEnds.values().stream().mapToInt(Integer::intValue).sum();
+			return new DashboardResponse(users, inventories, salesOrders, vendors, products,
+					sales > 0 ? revenue : null,
+					procurements > 0 ? procurementCost : null,
+					activeShifts,
+					(int) pendingOrders,
+					dailySales.toMap(now.toLocalDate()));
+		}
+
+		/**
+		 * Poredi vrednosti kao sto ih vidi klijent; iznosi se porede bez obzira na scale.
+		 */
+		boolean matches(Counters other, LocalDateTime now) {
+			DashboardResponse a = toResponse(now);
+			DashboardResponse b = other.toResponse(now);
+			return Objects.equals(a.getTotalUsers(), b.getTotalUsers())
+					&& Objects.equals(a.getTotalInventories(), b.getTotalInventories())
+					&& Objects.equals(a.getTotalSalesOrders(), b.getTotalSalesOrders())
+					&& Objects.equals(a.getTotalVendors(), b.getTotalVendors())
+					&& Objects.equals(a.getTotalProducts(), b.getTotalProducts())
+					&& Objects.equals(a.getActiveShifts(), b.getActiveShifts())
+					&& Objects.equals(a.getPendingOrders(), b.getPendingOrders())
+					&& sameAmount(a.getTotalRevenue(), b.getTotalRevenue())
+					&& sameAmount(a.getTotalProcurementCost(), b.getTotalProcurementCost())
+					&& sameDays(a.getDailySalesLast7Days(), b.getDailySalesLast7Days());
+		}
+
+		private static boolean sameDays(Map<LocalDate, BigDecimal> a, Map<LocalDate, BigDecimal> b) {
+			return a.keySet().equals(b.keySet())
+					&& a.entrySet().stream().allMatch(e -> sameAmount(e.getValue(), b.get(e.getKey())));
+		}
+
+		private static boolean sameAmount(BigDecimal a, BigDecimal b) {
+			return a == null ? b == null : b != null && a.compareTo(b) == 0;
+		}
+
+		private static BigDecimal signed(BigDecimal amount, int sign) {
+			return amount == null || sign > 0 ? amount : amount.negate();
+		}
+
+		private static BigDecimal add(BigDecimal total, BigDecimal amount) {
+			if (amount == null) {
+				return total;
+			}
+			return total == null ? amount : total.add(amount);
+		}
+	}
+}
@@ -1,6 +1,7 @@
 package com.jovan.erp_v1.service;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
@@ -19,6 +20,7 @@ import com.jovan.erp_v1.repository.LocalizedOptionRepository;
 import com.jovan.erp_v1.repository.OptionRepository;
 import com.jovan.erp_v1.request.LocalizedOptionRequest;
 import com.jovan.erp_v1.response.LocalizedOptionResponse;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.enumeration.LanguageCodeType;
 import com.jovan.erp_v1.enumeration.LanguageNameType;
 import com.jovan.erp_v1.enumeration.OptionCategory;
@@ -252,12 +254,18 @@ public class LocalizedOptionService implements ILocalizedOptionService {
 		if(requests == null || requests.isEmpty()) {
 			throw new ValidationException("LocalizedOption list must not be empty");
 		}
+		// Opcije i jezici za sve zahteve, jednim upitom po tipu
+		ReferenceResolver<LocalizedOptionRequest> references = new ReferenceResolver<>(requests);
+		Map<Long, Option> options = references.resolve("Option", optionRepository, Option::getId, LocalizedOptionRequest::getOptionId);
+		Map<Long, Language> languages = references.resolve("Language", languageRepository, Language::getId,
+				LocalizedOptionRequest::getLanguageId);
+		references.verify();
 		// Mapiranje request -> entity
 	    List<LocalizedOption> items = requests.stream()
 	    		.map(item -> LocalizedOption.builder()
 	    				.id(item.getId())
-	    				.option(fetchOption(item.getOptionId()))
-	    				.language(fetchLanguage(item.getLanguageId()))
+	    				.option(options.get(item.getOptionId()))
+	    				.language(languages.get(item.getLanguageId()))
 	    				.localizedLabel(item.getLocalizedLabel())
 	    				.build())
 	    		.toList();
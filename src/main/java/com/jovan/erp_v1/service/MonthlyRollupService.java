@@ -0,0 +1,328 @@
+package com.jovan.erp_v1.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jovan.erp_v1.enumeration.MonthlyMetric;
+import com.jovan.erp_v1.model.Batch;
+import com.jovan.erp_v1.model.CapacityPlanning;
+import com.jovan.erp_v1.model.Defect;
+import com.jovan.erp_v1.model.FiscalYear;
+import com.jovan.erp_v1.model.IncomeStatement;
+import com.jovan.erp_v1.model.MonthlyRollup;
+import com.jovan.erp_v1.repository.MonthlyRollupRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mesecne statistike kao citanje opsega iz monthly_rollup umesto GROUP BY YEAR/MONTH nad celom istorijom.
+ * Meseci pre tekuceg su zamrznuti i vise se ne racunaju; tekuci (i buduci) meseci se ponovo racunaju
+ * iz izvorne tabele, najvise jednom u stats.rollup.monthly.open-ttl, i to samo redovi od prvog otvorenog meseca.
+ * Kad se mesec zatvori, poslednje osvezavanje ga izracuna jos jednom i zamrzne.
+ * Izmene unazad (npr. income_statement sa period_start u zatvorenom mesecu) MonthlyRollupListener upisuje kao
+ * frozen = false u istoj transakciji, pa odmrzavanje vide svi cvorovi i prezivljava restart; sledece osvezavanje
+ * taj mesec ponovo racuna zajedno sa otvorenim mesecima.
+ * Osvezavanje pise na primarnu bazu, pa se pri citanju radi samo van transakcije pozivaoca (jedna konekcija);
+ * citanje iz transakcije vraca postojece redove, a metriku osvezava refreshRequested.
+ * Periodicni rebuild ostaje kao mreza za bulk izmene koje zaobilaze Hibernate.
+ */
+@Slf4j
+@Service
+public class MonthlyRollupService {
+
+	private static final YearMonth MIN = YearMonth.of(1, 1);
+	private static final YearMonth MAX = YearMonth.of(9999, 12);
+
+	/**
+	 * Izvor metrike: entitet i njegovo svojstvo datuma, tabela, kolona datuma po kojoj se grupise
+	 * i izraz iznosa (null za metrike koje samo broje).
+	 */
+	private record Source(Class<?> entity, String dateProperty, String table, String dateColumn, String amount) {
+	}
+
+	private static final Map<MonthlyMetric, Source> SOURCES = Map.of(
+			MonthlyMetric.BATCH_COUNT, new Source(Batch.class, "productionDate", "batch", "production_date", null),
+			MonthlyMetric.CAPACITY_PLANNING_COUNT, new Source(CapacityPlanning.class, "date", "capacity_planning", "`date`",
+					null),
+			MonthlyMetric.DEFECT_COUNT, new Source(Defect.class, "createdDate", "defect", "created_date", null),
+			MonthlyMetric.FISCAL_YEAR_COUNT, new Source(FiscalYear.class, "startDate", "fiscal_year", "start_date", null),
+			MonthlyMetric.NET_PROFIT, new Source(IncomeStatement.class, "periodStart", "income_statement", "period_start",
+					"SUM(net_profit)"));
+
+	private static final String REOPEN = """
+			INSERT INTO monthly_rollup (metric, dimension_id, period_year, period_month, count, amount, frozen)
+			VALUES (?, ?, ?, ?, 0, NULL, false)
+			ON DUPLICATE KEY UPDATE frozen = false
+			""";
+
+	private static final String REOPEN_ALL = "UPDATE monthly_rollup SET frozen = false WHERE metric = ? AND frozen = true";
+
+	private static final String AGGREGATE = """
+			INSERT INTO monthly_rollup (metric, dimension_id, period_year, period_month, count, amount, frozen)
+			SELECT ?, %d, YEAR(%2$s), MONTH(%2$s), COUNT(*), %3$s, YEAR(%2$s) * 100 + MONTH(%2$s) < ?
+			FROM %4$s
+			WHERE %2$s >= ?
+			GROUP BY YEAR(%2$s), MONTH(%2$s)
+			ON DUPLICATE KEY UPDATE count = VALUES(count), amount = VALUES(amount), frozen = VALUES(frozen)
+			""";
+
+	private final MonthlyRollupRepository monthlyRollupRepository;
+	private final JdbcTemplate jdbcTemplate;
+	private final TransactionTemplate transaction;
+	private final Map<MonthlyMetric, ReentrantLock> locks = new EnumMap<>(MonthlyMetric.class);
+	private final Map<MonthlyMetric, Instant> refreshedAt = new ConcurrentHashMap<>();
+	/** metrike citane iz transakcije dok su bile zastarele; osvezava ih refreshRequested */
+	private final Set<MonthlyMetric> refreshRequested = ConcurrentHashMap.newKeySet();
+
+	@Value("${stats.rollup.monthly.open-ttl:30s}")
+	private Duration openTtl;
+
+	public MonthlyRollupService(MonthlyRollupRepository monthlyRollupRepository, JdbcTemplate jdbcTemplate,
+			PlatformTransactionManager transactionManager) {
+		this.monthlyRollupRepository = monthlyRollupRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		// poziva se samo van transakcije (citanje, scheduler), pa je ovo jedina konekcija niti
+		this.transaction = new TransactionTemplate(transactionManager);
+		for (MonthlyMetric metric : MonthlyMetric.values()) {
+			locks.put(metric, new ReentrantLock());
+		}
+	}
+
+	/**
+	 * Svi meseci metrike, sortirani po godini i mesecu.
+	 */
+	public List<MonthlyRollup> all(MonthlyMetric metric) {
+		return range(metric, MIN, MAX);
+	}
+
+	/**
+	 * Meseci metrike u opsegu [from, to], sortirani po godini i mesecu.
+	 */
+	public List<MonthlyRollup> range(MonthlyMetric metric, YearMonth from, YearMonth to) {
+		refreshIfStale(metric);
+		return monthlyRollupRepository.findRange(metric, MonthlyRollup.NO_DIMENSION, from.getYear(), to.getYear(),
+				period(from), period(to));
+	}
+
+	public boolean isTracked(Class<?> type) {
+		return metricOf(type) != null;
+	}
+
+	/**
+	 * Upisuje zatvorene mesece iz reopen kao frozen = false u tekucoj transakciji (poziva ga MonthlyRollupListener
+	 * pre commit-a izmene, pa rollback vraca i odmrzavanje).
+	 */
+	public void reopen(Reopen reopen) {
+		for (MonthlyMetric metric : reopen.allMonths) {
+			jdbcTemplate.update(REOPEN_ALL, metric.name());
+		}
+		List<Object[]> rows = new ArrayList<>();
+		reopen.months.forEach((metric, months) -> {
+			if (!reopen.allMonths.contains(metric)) {
+				months.forEach(month -> rows.add(new Object[] { metric.name(), MonthlyRollup.NO_DIMENSION,
+						month.getYear(), month.getMonthValue() }));
+			}
+		});
+		if (!rows.isEmpty()) {
+			jdbcTemplate.batchUpdate(REOPEN, rows);
+		}
+	}
+
+	/**
+	 * Posle commit-a odmrzavanja: sledece citanje metrike na ovom cvoru je osvezava odmah, a ne tek posle open-ttl.
+	 */
+	public void reopened(Reopen reopen) {
+		reopen.metrics().forEach(refreshedAt::remove);
+	}
+
+	/**
+	 * Ponovo gradi sve mesece svih metrika, ukljucujuci zamrznute.
+	 */
+	@Scheduled(cron = "${stats.rollup.monthly.rebuild-cron:0 0 4 * * SUN}")
+	public void rebuildAll() {
+		for (MonthlyMetric metric : MonthlyMetric.values()) {
+			rebuild(metric);
+		}
+	}
+
+	/**
+	 * Osvezava metrike koje su citane iz transakcije pozivaoca dok su bile zastarele.
+	 */
+	@Scheduled(fixedDelayString = "${stats.rollup.monthly.open-ttl:30s}")
+	public void refreshRequested() {
+		for (MonthlyMetric metric : MonthlyMetric.values()) {
+			if (refreshRequested.remove(metric)) {
+				try {
+					refresh(metric);
+				}
+				catch (RuntimeException e) {
+					log.warn("Monthly rollup {} refresh failed", metric, e);
+				}
+			}
+		}
+	}
+
+	public void rebuild(MonthlyMetric metric) {
+		ReentrantLock lock = locks.get(metric);
+		lock.lock();
+		try {
+			transaction.executeWithoutResult(status -> {
+				jdbcTemplate.update("DELETE FROM monthly_rollup WHERE metric = ?", metric.name());
+				int rows = aggregate(metric, null);
+				log.info("Monthly rollup {} rebuilt with {} months", metric, rows);
+			});
+			refreshedAt.put(metric, Instant.now());
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private void refreshIfStale(MonthlyMetric metric) {
+		if (isFresh(metric)) {
+			return;
+		}
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			// pozivalac vec drzi konekciju (mozda read-only, na replici); druga iz istog pool-a moze da zakoci pool
+			refreshRequested.add(metric);
+			return;
+		}
+		refresh(metric);
+	}
+
+	private void refresh(MonthlyMetric metric) {
+		ReentrantLock lock = locks.get(metric);
+		lock.lock();
+		try {
+			if (isFresh(metric)) {
+				return;
+			}
+			transaction.executeWithoutResult(status -> refreshOpenMonths(metric));
+			refreshedAt.put(metric, Instant.now());
+		}
+		finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean isFresh(MonthlyMetric metric) {
+		Instant last = refreshedAt.get(metric);
+		return last != null && last.plus(openTtl).isAfter(Instant.now());
+	}
+
+	/**
+	 * Brise i ponovo racuna sve mesece sa frozen = false: tekuci i buduci, i zatvorene koje je izmena odmrznula.
+	 */
+	private void refreshOpenMonths(MonthlyMetric metric) {
+		if (!monthlyRollupRepository.existsByMetric(metric)) {
+			aggregate(metric, null);
+			return;
+		}
+		YearMonth openFrom = YearMonth.now();
+		Integer firstOpen = monthlyRollupRepository.findFirstOpenPeriod(metric);
+		if (firstOpen != null && firstOpen < period(openFrom)) {
+			openFrom = YearMonth.of(firstOpen / 100, firstOpen % 100);
+		}
+		jdbcTemplate.update("DELETE FROM monthly_rollup WHERE metric = ? AND frozen = false", metric.name());
+		aggregate(metric, openFrom.atDay(1));
+	}
+
+	/**
+	 * Upisuje mesece metrike od datuma since (null = cela istorija); meseci pre tekuceg se upisuju kao zamrznuti.
+	 */
+	private int aggregate(MonthlyMetric metric, LocalDate since) {
+		Source source = SOURCES.get(metric);
+		String sql = AGGREGATE.formatted(MonthlyRollup.NO_DIMENSION, source.dateColumn(),
+				source.amount() != null ? source.amount() : "NULL", source.table());
+		LocalDate from = since != null ? since : LocalDate.of(1, 1, 1);
+		return jdbcTemplate.update(sql, metric.name(), period(YearMonth.now()), from);
+	}
+
+	/**
+	 * Zatvoreni meseci koje su izmene jedne transakcije dotakle; puni ga MonthlyRollupListener tokom flush-a.
+	 */
+	public static final class Reopen {
+
+		private final Map<MonthlyMetric, Set<YearMonth>> months = new EnumMap<>(MonthlyMetric.class);
+		/** metrike ciji izmenjeni mesec nije poznat (update bez starog stanja); odmrzavaju se svi meseci */
+		private final Set<MonthlyMetric> allMonths = EnumSet.noneOf(MonthlyMetric.class);
+
+		/**
+		 * Stanje entiteta (staro ili novo); property vraca vrednost svojstva iz stanja. Tekuci i buduci meseci
+		 * se ionako racunaju ponovo, pa se pamte samo raniji.
+		 */
+		public void touch(Class<?> type, Function<String, Object> property) {
+			MonthlyMetric metric = metricOf(type);
+			if (metric == null) {
+				return;
+			}
+			YearMonth month = monthOf(property.apply(SOURCES.get(metric).dateProperty()));
+			if (month != null && month.isBefore(YearMonth.now())) {
+				// redosled po mesecu, pa se redovi zakljucavaju uvek istim redom
+				months.computeIfAbsent(metric, m -> new TreeSet<>()).add(month);
+			}
+		}
+
+		public void touchAll(Class<?> type) {
+			MonthlyMetric metric = metricOf(type);
+			if (metric != null) {
+				allMonths.add(metric);
+			}
+		}
+
+		public boolean isEmpty() {
+			return months.isEmpty() && allMonths.isEmpty();
+		}
+
+		Set<MonthlyMetric> metrics() {
+			Set<MonthlyMetric> metrics = EnumSet.noneOf(MonthlyMetric.class);
+			metrics.addAll(allMonths);
+			metrics.addAll(months.keySet());
+			return metrics;
+		}
+	}
+
+	private static MonthlyMetric metricOf(Class<?> type) {
+		for (Map.Entry<MonthlyMetric, Source> entry : SOURCES.entrySet()) {
+			if (entry.getValue().entity() == type) {
+				return entry.getKey();
+			}
+		}
+		return null;
+	}
+
+	private static YearMonth monthOf(Object date) {
+		if (date instanceof LocalDate day) {
+			return YearMonth.from(day);
+		}
+		if (date instanceof LocalDateTime time) {
+			return YearMonth.from(time);
+		}
+		return null;
+	}
+
+	private static int period(YearMonth month) {
+		return month.getYear() * 100 + month.getMonthValue();
+	}
+}
@@ -0,0 +1,102 @@
+package com.jovan.erp_v1.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Streaming NDJSON (application/x-ndjson) odgovora za pretrage zasnovane na Specification-ima.
+ * Redovi se citaju forward-only kursorom (useCursorFetch + fetch size) u read-only transakciji,
+ * svaki red se odmah upisuje na socket, a persistence context se periodicno prazni,
+ * pa potrosnja heap-a ne zavisi od velicine rezultata.
+ */
+@Component
+public class NdjsonStreamer {
+
+	private static final byte NEW_LINE = '\n';
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final TransactionTemplate readOnlyTransaction;
+	private final ObjectWriter writer;
+
+	@Value("${streaming.fetch-size:500}")
+	private int fetchSize;
+
+	@Value("${streaming.clear-interval:500}")
+	private int clearInterval;
+
+	public NdjsonStreamer(PlatformTransactionManager transactionManager, ObjectMapper objectMapper) {
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.writer = objectMapper.writer();
+	}
+
+	public <E, R> StreamingResponseBody stream(Class<E> type, Specification<E> spec, Function<E, R> mapper) {
+		return stream(type, spec, null, mapper);
+	}
+
+	/**
+	 * @param fetchPlan naziv entity graph-a iz FetchPlans, ucitava to-one veze u istom upitu
+	 */
+	public <E, R> StreamingResponseBody stream(Class<E> type, Specification<E> spec, String fetchPlan, Function<E, R> mapper) {
+		return out -> readOnlyTransaction.executeWithoutResult(status -> write(type, spec, fetchPlan, mapper, out));
+	}
+
+	private <E, R> void write(Class<E> type, Specification<E> spec, String fetchPlan, Function<E, R> mapper, OutputStream out) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<E> query = cb.createQuery(type);
+		Root<E> root = query.from(type);
+		Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		query.orderBy(cb.asc(root.get("id")));
+		TypedQuery<E> typed = entityManager.createQuery(query)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+				.setHint(HibernateHints.HINT_READ_ONLY, true);
+		if (fetchPlan != null) {
+			typed.setHint(SpecHints.HINT_SPEC_FETCH_GRAPH, entityManager.getEntityGraph(fetchPlan));
+		}
+		try (Stream<E> rows = typed.getResultStream()) {
+			Iterator<E> iterator = rows.iterator();
+			int count = 0;
+			while (iterator.hasNext()) {
+				out.write(writer.writeValueAsBytes(mapper.apply(iterator.next())));
+				out.write(NEW_LINE);
+				if (++count % clearInterval == 0) {
+					out.flush();
+					entityManager.clear();
+				}
+			}
+			out.flush();
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+}
@@ -0,0 +1,360 @@
+package com.jovan.erp_v1.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.IntConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jovan.erp_v1.enumeration.ExportFormat;
+import com.jovan.erp_v1.enumeration.ReportJobStatus;
+import com.jovan.erp_v1.enumeration.ReportType;
+import com.jovan.erp_v1.exception.ValidationException;
+import com.jovan.erp_v1.model.Report;
+import com.jovan.erp_v1.repository.ReportRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Asinhrono generisanje izvestaja. Red poslova je report tabela (status QUEUED), pa posao prezivljava restart;
+ * ogranicen broj radnih niti (report.jobs.workers) preuzima poslove atomicnim UPDATE-om (claim), generise fajl
+ * u privremeni fajl pored odredista i na kraju ga atomicno premesta u filePath.
+ * Svako preuzimanje dobija claimToken: napredak i zavrsetak se upisuju samo dok je token vazeci, pa radnik ciji je
+ * zaglavljeni posao vracen u red i preuzet ponovo odbacuje svoj rezultat umesto da pregazi novi.
+ * Dok posao radi, poll() mu osvezava heartbeat_at; u red se vraca tek kada heartbeat zastari
+ * (report.jobs.stale-after), pa posao duzi od tog roka ne biva preuzet dvaput.
+ * Isti parametri dok je posao QUEUED/RUNNING vracaju postojeci posao, a zavrsen izvestaj mladji od
+ * report.jobs.cache-ttl se vraca umesto novog generisanja. HTTP nit samo upisuje posao i odmah se vraca.
+ */
+@Slf4j
+@Component
+public class ReportJobs {
+
+	private static final List<ReportJobStatus> IN_FLIGHT = List.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING);
+	private static final int PROGRESS_STEP = 5;
+
+	/**
+	 * Parametri izvestaja; u kanonskom JSON obliku (redosled komponenti) cuvaju se u Report.parameters.
+	 */
+	public record Parameters(ReportType type, ExportFormat format, LocalDate from, LocalDate to) {
+	}
+
+	private final ReportRepository reportRepository;
+	private final ObjectMapper objectMapper;
+	private final Map<ReportType, ReportRenderer> renderers = new EnumMap<>(ReportType.class);
+	private final TransactionTemplate writeTransaction;
+	private final TransactionTemplate readOnlyTransaction;
+	private final ExecutorService workers;
+	private final Semaphore freeWorkers;
+	private final Map<Long, Progress> running = new ConcurrentHashMap<>();
+	private final Object submitLock = new Object();
+
+	@Value("${report.jobs.directory:reports}")
+	private Path directory;
+
+	@Value("${report.jobs.cache-ttl:1h}")
+	private Duration cacheTtl;
+
+	@Value("${report.jobs.stale-after:30m}")
+	private Duration staleAfter;
+
+	public ReportJobs(ReportRepository reportRepository, ObjectMapper objectMapper, List<ReportRenderer> renderers,
+			PlatformTransactionManager transactionManager, @Value("${report.jobs.workers:2}") int workerCount) {
+		this.reportRepository = reportRepository;
+		this.objectMapper = objectMapper;
+		renderers.forEach(renderer -> renderer.types().forEach(type -> this.renderers.put(type, renderer)));
+		this.writeTransaction = new TransactionTemplate(transactionManager);
+		this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		this.workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("report-job-"));
+		this.freeWorkers = new Semaphore(workerCount);
+	}
+
+	/**
+	 * Vraca posao za parametre: postojeci (u toku ili svez zavrsen) ili novi QUEUED posao koji se pokrece
+	 * posle commit-a pozivaoca (odmah, ako transakcije nema).
+	 */
+	public Report submit(Parameters parameters) {
+		if (!renderers.containsKey(parameters.type())) {
+			throw new ValidationException("Report type " + parameters.type() + " cannot be generated");
+		}
+		String canonical = canonical(parameters);
+		String hash = sha256(canonical);
+		Report report;
+		synchronized (submitLock) {
+			report = writeTransaction.execute(status -> findReusable(hash)
+					.orElseGet(() -> reportRepository.save(newReport(parameters, canonical, hash))));
+		}
+		if (report.getStatus() == ReportJobStatus.QUEUED) {
+			Long id = report.getId();
+			if (TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						dispatch(id);
+					}
+				});
+			}
+			else {
+				dispatch(id);
+			}
+		}
+		return report;
+	}
+
+	public boolean isSupported(ReportType type) {
+		return renderers.containsKey(type);
+	}
+
+	/**
+	 * Osvezava heartbeat poslova ove instance, vraca u red zaglavljene poslove i deli poslove iz reda
+	 * slobodnim radnicima (i posle restarta).
+	 */
+	@Scheduled(fixedDelayString = "${report.jobs.poll-interval:PT5S}")
+	public void poll() {
+		running.values().forEach(Progress::heartbeat);
+		Integer requeued = writeTransaction.execute(status ->
+				reportRepository.requeueStale(LocalDateTime.now().minus(staleAfter)));
+		if (requeued != null && requeued > 0) {
+			log.warn("Requeued {} report jobs without a heartbeat for {}", requeued, staleAfter);
+		}
+		int free = freeWorkers.availablePermits();
+		if (free == 0) {
+			return;
+		}
+		List<Long> queued = readOnlyTransaction.execute(status -> reportRepository.findQueuedIds(PageRequest.of(0, free)));
+		queued.forEach(this::dispatch);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		// prekinuti poslovi ostaju RUNNING i vracaju se u red posle report.jobs.stale-after
+		workers.shutdownNow();
+	}
+
+	private void dispatch(Long id) {
+		if (freeWorkers.tryAcquire()) {
+			workers.execute(() -> {
+				try {
+					run(id);
+				}
+				finally {
+					freeWorkers.release();
+				}
+			});
+		}
+	}
+
+	private void run(Long id) {
+		String claimToken = UUID.randomUUID().toString();
+		Integer claimed = writeTransaction.execute(status -> reportRepository.claim(id, LocalDateTime.now(), claimToken));
+		if (claimed == null || claimed == 0) {
+			return;
+		}
+		Report report = reportRepository.findById(id).orElseThrow();
+		Progress progress = new Progress(id, claimToken);
+		running.put(id, progress);
+		Path target = Paths.get(report.getFilePath()).toAbsolutePath();
+		Path temp = null;
+		try {
+			Parameters parameters = objectMapper.readValue(report.getParameters(), Parameters.class);
+			ReportRenderer renderer = renderers.get(parameters.type());
+			Files.createDirectories(target.getParent());
+			temp = Files.createTempFile(target.getParent(), "report-", ".part");
+			MessageDigest digest = sha256();
+			try (OutputStream out = new BufferedOutputStream(new DigestOutputStream(Files.newOutputStream(temp), digest))) {
+				readOnlyTransaction.executeWithoutResult(status -> {
+					try {
+						renderer.render(parameters, out, progress);
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			}
+			if (complete(id, claimToken, temp, target, HexFormat.of().formatHex(digest.digest()))) {
+				log.info("Report job {} ({}) completed: {}", id, parameters.type(), target);
+			}
+			else {
+				log.warn("Report job {} lost its claim before completing, output discarded", id);
+			}
+		}
+		catch (ClaimLostException e) {
+			log.warn("Report job {} lost its claim while rendering, output discarded", id);
+		}
+		catch (Exception e) {
+			log.error("Report job {} failed", id, e);
+			String message = String.valueOf(e.getMessage());
+			message = message.length() > 1000 ? message.substring(0, 1000) : message;
+			String errorMessage = message;
+			Integer failed = writeTransaction.execute(status -> reportRepository.finish(id, claimToken, ReportJobStatus.FAILED,
+					progress.reported, errorMessage, null, null));
+			if (failed == null || failed == 0) {
+				log.warn("Report job {} lost its claim, failure not recorded", id);
+			}
+		}
+		finally {
+			running.remove(id);
+			deleteQuietly(temp);
+		}
+	}
+
+	/**
+	 * Oznacava posao COMPLETED i premesta fajl na odrediste u istoj transakciji. UPDATE drzi zakljucan red do
+	 * commit-a, pa ga za to vreme niko ne moze vratiti u red ni preuzeti; ako preuzimanje vise ne vazi (posao je
+	 * vracen u red i preuzeo ga je drugi radnik), fajl se ne premesta.
+	 */
+	private boolean complete(Long id, String claimToken, Path temp, Path target, String contentHash) {
+		Boolean completed = writeTransaction.execute(status -> {
+			if (reportRepository.finish(id, claimToken, ReportJobStatus.COMPLETED, 100, null, LocalDateTime.now(),
+					contentHash) == 0) {
+				return false;
+			}
+			try {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			return true;
+		});
+		return Boolean.TRUE.equals(completed);
+	}
+
+	private Optional<Report> findReusable(String hash) {
+		Optional<Report> inFlight = reportRepository.findFirstByParametersHashAndStatusInOrderByIdDesc(hash, IN_FLIGHT);
+		if (inFlight.isPresent()) {
+			return inFlight;
+		}
+		return reportRepository.findFirstByParametersHashAndStatusAndGeneratedAtAfterOrderByIdDesc(hash,
+				ReportJobStatus.COMPLETED, LocalDateTime.now().minus(cacheTtl))
+				.filter(report -> Files.exists(Paths.get(report.getFilePath())));
+	}
+
+	private Report newReport(Parameters parameters, String canonical, String hash) {
+		Report report = new Report();
+		report.setType(parameters.type());
+		report.setFormat(parameters.format());
+		report.setStatus(ReportJobStatus.QUEUED);
+		report.setProgress(0);
+		report.setParameters(canonical);
+		report.setParametersHash(hash);
+		report.setFilePath(directory.resolve(parameters.format().fileName(UUID.randomUUID().toString())).toString());
+		return report;
+	}
+
+	private String canonical(Parameters parameters) {
+		try {
+			return objectMapper.writeValueAsString(parameters);
+		}
+		catch (JsonProcessingException e) {
+			throw new IllegalStateException("Report parameters cannot be serialized", e);
+		}
+	}
+
+	private static String sha256(String text) {
+		return HexFormat.of().formatHex(sha256().digest(text.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	private static MessageDigest sha256() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static void deleteQuietly(Path path) {
+		if (path == null) {
+			return;
+		}
+		try {
+			Files.deleteIfExists(path);
+		}
+		catch (IOException e) {
+			log.warn("Could not delete {}", path, e);
+		}
+	}
+
+	/**
+	 * Upisuje napredak u bazu samo kada poraste za PROGRESS_STEP procenata; prekida generisanje ako je posao
+	 * u medjuvremenu izgubio preuzimanje (pri upisu napretka ili heartbeat-a).
+	 */
+	private final class Progress implements IntConsumer {
+
+		private final Long id;
+		private final String claimToken;
+		private int reported;
+		private volatile boolean lost;
+
+		Progress(Long id, String claimToken) {
+			this.id = id;
+			this.claimToken = claimToken;
+		}
+
+		@Override
+		public void accept(int percent) {
+			if (lost) {
+				throw new ClaimLostException();
+			}
+			if (percent >= reported + PROGRESS_STEP) {
+				reported = percent;
+				Integer updated = writeTransaction.execute(status ->
+						reportRepository.updateProgress(id, claimToken, percent, LocalDateTime.now()));
+				if (updated == null || updated == 0) {
+					lost = true;
+					throw new ClaimLostException();
+				}
+			}
+		}
+
+		void heartbeat() {
+			Integer updated = writeTransaction.execute(status -> reportRepository.heartbeat(id, claimToken, LocalDateTime.now()));
+			if (updated == null || updated == 0) {
+				lost = true;
+			}
+		}
+	}
+
+	private static final class ClaimLostException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+	}
+}
@@ -0,0 +1,21 @@
+package com.jovan.erp_v1.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import com.jovan.erp_v1.enumeration.ReportType;
+
+/**
+ * Generise sadrzaj izvestaja za ReportJobs. Poziva se na radnoj niti, u read-only transakciji.
+ */
+public interface ReportRenderer {
+
+	Set<ReportType> types();
+
+	/**
+	 * Upisuje izvestaj u out (ne zatvara ga); progress prima procenat 0-99.
+	 */
+	void render(ReportJobs.Parameters parameters, OutputStream out, IntConsumer progress) throws IOException;
+}
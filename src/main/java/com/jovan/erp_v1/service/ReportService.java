@@ -1,17 +1,16 @@
 package com.jovan.erp_v1.service;
 
-import java.net.MalformedURLException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
+import com.jovan.erp_v1.enumeration.ReportJobStatus;
 import com.jovan.erp_v1.enumeration.ReportType;
 import com.jovan.erp_v1.exception.ReportErrorException;
 import com.jovan.erp_v1.exception.ValidationException;
@@ -31,15 +30,19 @@ public class ReportService implements IReportService {
 
     private final ReportRepository reportRepository;
     private final ReportMapper reportMapper;
+    private final ReportJobs reportJobs;
 
-    @Transactional
+    /**
+     * Upisuje posao generisanja (ili vraca isti posao u toku / svez izvestaj) i odmah se vraca;
+     * stanje i napredak se prate preko getReportById, a fajl je dostupan kada je status COMPLETED.
+     */
     @Override
     public ReportResponse generateReport(ReportRequest request) {
-        // Simulacija generisanja izvestaja
-        String filePath = "reports/" + UUID.randomUUID() + ".pdf"; // generise .pdf fajl
         validateReportType(request.type());
-        Report report = reportMapper.toEntity(request,filePath);
-        reportRepository.save(report);
+        if (request.from() != null && request.to() != null) {
+            DateValidator.validateRange(request.from(), request.to());
+        }
+        Report report = reportJobs.submit(reportMapper.toJobParameters(request));
         return reportMapper.toResponse(report);
     }
     
@@ -58,15 +61,19 @@ public class ReportService implements IReportService {
     }
 
     @Override
-    public Resource downloadReport(Long reportId) {
+    public FileDownloads.Download downloadReport(Long reportId) {
         Report report = reportRepository.findById(reportId)
-                .orElseThrow(() -> new RuntimeException("Report not found"));
-        try {
-            Path path = Paths.get(report.getFilePath());
-            return new UrlResource(path.toUri());
-        } catch (MalformedURLException e) {
-            throw new RuntimeException("File not found", e);
+                .orElseThrow(() -> new ReportErrorException("Report not found with ID: " + reportId));
+        if (report.getStatus() != null && report.getStatus() != ReportJobStatus.COMPLETED) {
+            throw new ReportErrorException("Report " + reportId + " is not ready, status: " + report.getStatus());
+        }
+        Path path = report.getFilePath() != null ? Paths.get(report.getFilePath()) : null;
+        if (path == null || !Files.isRegularFile(path)) {
+            throw new ReportErrorException("File for report " + reportId + " not found");
         }
+        MediaType contentType = report.getFormat() != null ? MediaType.parseMediaType(report.getFormat().getContentType())
+                : MediaType.APPLICATION_OCTET_STREAM;
+        return new FileDownloads.Download(path, path.getFileName().toString(), contentType, report.getContentHash());
     }
 
     @Override
@@ -16,6 +16,7 @@ import com.jovan.erp_v1.repository.RoleRepository;
 import com.jovan.erp_v1.repository.UserRepository;
 import com.jovan.erp_v1.request.RoleRequest;
 import com.jovan.erp_v1.response.RoleResponse;
+import com.jovan.erp_v1.security.AuthenticationCache;
 
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -28,6 +29,7 @@ public class RoleService implements IRoleService {
     private final RoleMapper roleMapper;
     private final UserRepository userRepository;
     private final PermissionRepository permissionRepository;
+    private final AuthenticationCache authenticationCache;
 
     @Transactional
     @Override
@@ -75,6 +77,7 @@ public class RoleService implements IRoleService {
                 .orElseThrow(() -> new RuntimeException("Role not found with ID: " + roleId));
         role.removeAllUsersFromRole();
         roleRepository.delete(role);
+        authenticationCache.evictAllPrincipals();
     }
 
     @Override
@@ -100,6 +103,7 @@ public class RoleService implements IRoleService {
 
         role.assignRoleToUser(user);
         roleRepository.save(role); 
+        authenticationCache.evictPrincipal(user.getUsername());
     }
 
 }
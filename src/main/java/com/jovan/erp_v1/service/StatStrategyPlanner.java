@@ -0,0 +1,263 @@
+package com.jovan.erp_v1.service;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bira SQL ili MEMORY strategiju za statistike kada klijent trazi AUTO.
+ * Broj redova se procenjuje iz kesiranih statistika tabele (information_schema.TABLES.TABLE_ROWS
+ * i MIN/MAX kolone datuma) i opsega datuma iz zahteva, bez count() upita po pozivu; neuspelo ucitavanje
+ * se kesira kao nepoznata procena (SQL) do isteka table-stats-retry.
+ * Za svaki oblik upita i red velicine procene pamti se izmereno vreme obe strategije (EWMA),
+ * pa planer posle zagrevanja bira brzu strategiju, a povremeno proba i drugu.
+ * Eksplicitno trazena SQL ili MEMORY strategija se uvek postuje.
+ * Odluke i vremena su u /actuator/metrics/erp.stats.planner.*.
+ */
+@Slf4j
+@Component
+public class StatStrategyPlanner {
+
+	public enum Plan {
+		SQL,
+		MEMORY
+	}
+
+	/**
+	 * Odakle se procenjuje broj redova: tabela koja se agregira i kolona datuma po kojoj zahtev filtrira
+	 * (moze biti u drugoj tabeli, npr. item_sales filtrira po sales_order.order_date).
+	 */
+	public record Source(String table, String dateTable, String dateColumn) {
+	}
+
+	private record TableStats(long rows, LocalDate minDate, LocalDate maxDate) {
+	}
+
+	private static final String AUTO = "AUTO";
+	private static final long UNKNOWN = Long.MAX_VALUE;
+	/** statistike nisu ucitane; kesira se kratko (table-stats-retry), da se upit ne ponavlja na svaki zahtev */
+	private static final TableStats UNAVAILABLE = new TableStats(-1, null, null);
+
+	private final JdbcTemplate jdbcTemplate;
+	private final MeterRegistry meterRegistry;
+	private final Ticker ticker;
+	private final Cache<Source, TableStats> tableStats;
+	private final Map<String, ShapeLatency> latencies = new ConcurrentHashMap<>();
+
+	private final long memoryThreshold;
+	private final long maxMemoryRows;
+	private final double exploreRate;
+	private final double smoothing;
+	private final int minSamples;
+
+	@Autowired
+	public StatStrategyPlanner(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry,
+			@Value("${stats.planner.memory-threshold:10000}") long memoryThreshold,
+			@Value("${stats.planner.max-memory-rows:100000}") long maxMemoryRows,
+			@Value("${stats.planner.explore-rate:0.05}") double exploreRate,
+			@Value("${stats.planner.smoothing:0.2}") double smoothing,
+			@Value("${stats.planner.min-samples:3}") int minSamples,
+			@Value("${stats.planner.table-stats-ttl:10m}") Duration tableStatsTtl,
+			@Value("${stats.planner.table-stats-retry:30s}") Duration tableStatsRetry) {
+		this(jdbcTemplate, meterRegistry, memoryThreshold, maxMemoryRows, exploreRate, smoothing, minSamples,
+				tableStatsTtl, tableStatsRetry, Ticker.systemTicker());
+	}
+
+	/**
+	 * ticker meri i trajanje strategija i starost kesiranih statistika (testovi ga pomeraju rucno).
+	 */
+	StatStrategyPlanner(JdbcTemplate jdbcTemplate, MeterRegistry meterRegistry, long memoryThreshold,
+			long maxMemoryRows, double exploreRate, double smoothing, int minSamples, Duration tableStatsTtl,
+			Duration tableStatsRetry, Ticker ticker) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.meterRegistry = meterRegistry;
+		this.memoryThreshold = memoryThreshold;
+		this.maxMemoryRows = maxMemoryRows;
+		this.exploreRate = exploreRate;
+		this.smoothing = smoothing;
+		this.minSamples = minSamples;
+		this.ticker = ticker;
+		this.tableStats = Caffeine.newBuilder()
+				.ticker(ticker)
+				.expireAfter(new Expiry<Source, TableStats>() {
+					@Override
+					public long expireAfterCreate(Source source, TableStats stats, long currentTime) {
+						return (stats == UNAVAILABLE ? tableStatsRetry : tableStatsTtl).toNanos();
+					}
+
+					@Override
+					public long expireAfterUpdate(Source source, TableStats stats, long currentTime,
+							long currentDuration) {
+						return expireAfterCreate(source, stats, currentTime);
+					}
+
+					@Override
+					public long expireAfterRead(Source source, TableStats stats, long currentTime,
+							long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.build();
+	}
+
+	/**
+	 * Izvrsava statistiku izabranom strategijom i belezi njeno trajanje.
+	 * @param shape naziv oblika upita, npr. "invoice.byBuyer"
+	 * @param requested strategija iz zahteva (InvoiceStatStrategy ili ItemSalesStatStrategy), null znaci AUTO
+	 */
+	public <T> T execute(String shape, Source source, Enum<?> requested, LocalDate fromDate, LocalDate toDate,
+			Supplier<T> sql, Supplier<T> memory) {
+		Plan plan;
+		String reason;
+		ShapeLatency latency = null;
+		if (requested != null && !AUTO.equals(requested.name())) {
+			plan = Plan.valueOf(requested.name());
+			reason = "requested";
+		}
+		else {
+			long estimate = estimateRows(source, fromDate, toDate);
+			DistributionSummary.builder("erp.stats.planner.estimated.rows")
+					.description("Estimated rows for AUTO statistics")
+					.tag("shape", shape)
+					.register(meterRegistry)
+					.record(estimate == UNKNOWN ? -1 : estimate);
+			if (estimate > maxMemoryRows) {
+				plan = Plan.SQL;
+				reason = "guard";
+			}
+			else {
+				latency = latencies.computeIfAbsent(shape + "#" + bucket(estimate), key -> new ShapeLatency());
+				Plan heuristic = estimate <= memoryThreshold ? Plan.MEMORY : Plan.SQL;
+				Plan other = heuristic == Plan.SQL ? Plan.MEMORY : Plan.SQL;
+				if (latency.samples(heuristic) < minSamples) {
+					plan = heuristic;
+					reason = "heuristic";
+				}
+				else if (latency.samples(other) < minSamples) {
+					plan = other;
+					reason = "explore";
+				}
+				else {
+					plan = latency.faster();
+					reason = "learned";
+					if (ThreadLocalRandom.current().nextDouble() < exploreRate) {
+						plan = plan == Plan.SQL ? Plan.MEMORY : Plan.SQL;
+						reason = "explore";
+					}
+				}
+			}
+			log.debug("Planner {} estimated {} rows, chose {} ({})", shape, estimate, plan, reason);
+		}
+		Counter.builder("erp.stats.planner.decisions")
+				.description("Statistics strategy decisions")
+				.tag("shape", shape)
+				.tag("plan", plan.name())
+				.tag("reason", reason)
+				.register(meterRegistry)
+				.increment();
+		long start = ticker.read();
+		T result = plan == Plan.SQL ? sql.get() : memory.get();
+		long elapsed = ticker.read() - start;
+		Timer.builder("erp.stats.planner.latency")
+				.description("Statistics execution time per strategy")
+				.tag("shape", shape)
+				.tag("plan", plan.name())
+				.register(meterRegistry)
+				.record(elapsed, TimeUnit.NANOSECONDS);
+		if (latency != null) {
+			latency.record(plan, elapsed, smoothing);
+		}
+		return result;
+	}
+
+	/**
+	 * Procena broja redova posle filtera po datumu; pretpostavlja ravnomernu raspodelu izmedju MIN i MAX datuma.
+	 */
+	private long estimateRows(Source source, LocalDate fromDate, LocalDate toDate) {
+		TableStats stats = tableStats.get(source, this::loadStats);
+		if (stats == UNAVAILABLE) {
+			return UNKNOWN;
+		}
+		if (stats.rows() == 0 || stats.minDate() == null || stats.maxDate() == null
+				|| (fromDate == null && toDate == null)) {
+			return stats.rows();
+		}
+		LocalDate from = fromDate == null || fromDate.isBefore(stats.minDate()) ? stats.minDate() : fromDate;
+		LocalDate to = toDate == null || toDate.isAfter(stats.maxDate()) ? stats.maxDate() : toDate;
+		if (to.isBefore(from)) {
+			return 0;
+		}
+		double span = ChronoUnit.DAYS.between(stats.minDate(), stats.maxDate()) + 1;
+		double covered = ChronoUnit.DAYS.between(from, to) + 1;
+		return (long) Math.ceil(stats.rows() * (covered / span));
+	}
+
+	private TableStats loadStats(Source source) {
+		try {
+			Long rows = jdbcTemplate.queryForObject(
+					"SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?",
+					Long.class, source.table());
+			return jdbcTemplate.queryForObject(
+					"SELECT MIN(" + source.dateColumn() + "), MAX(" + source.dateColumn() + ") FROM " + source.dateTable(),
+					(rs, rowNum) -> new TableStats(rows != null ? rows : 0, toLocalDate(rs.getDate(1)), toLocalDate(rs.getDate(2))));
+		}
+		catch (DataAccessException e) {
+			log.warn("Table statistics for {} unavailable: {}", source.table(), e.getMessage());
+			return UNAVAILABLE;
+		}
+	}
+
+	private static LocalDate toLocalDate(Date date) {
+		return date != null ? date.toLocalDate() : null;
+	}
+
+	/**
+	 * Red velicine procene (log2), da bi se vremena uporedjivala samo za slicne kolicine podataka.
+	 */
+	private static int bucket(long estimate) {
+		return 64 - Long.numberOfLeadingZeros(Math.max(estimate, 0));
+	}
+
+	private static final class ShapeLatency {
+
+		private final double[] ewma = new double[Plan.values().length];
+		private final long[] samples = new long[Plan.values().length];
+
+		synchronized long samples(Plan plan) {
+			return samples[plan.ordinal()];
+		}
+
+		synchronized Plan faster() {
+			return ewma[Plan.SQL.ordinal()] <= ewma[Plan.MEMORY.ordinal()] ? Plan.SQL : Plan.MEMORY;
+		}
+
+		synchronized void record(Plan plan, long nanos, double smoothing) {
+			int i = plan.ordinal();
+			ewma[i] = samples[i] == 0 ? nanos : smoothing * nanos + (1 - smoothing) * ewma[i];
+			samples[i]++;
+		}
+	}
+}
@@ -0,0 +1,313 @@
+package com.jovan.erp_v1.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.jovan.erp_v1.enumeration.ExportFormat;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import com.opencsv.CSVWriter;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Izvoz rezultata Specification pretrage u CSV, XLSX ili PDF, kao StreamingResponseBody (pretrage) ili u
+ * zadati tok (izvestaji, vidi ReportJobs).
+ * Cita se samo projekcija navedenih kolona (putanje kao u ColumnarLoader-u, veze LEFT JOIN-om) forward-only
+ * kursorom u read-only transakciji, bez ucitavanja entiteta. CSV se pise red po red, a XLSX kroz SXSSF radnu
+ * svesku koja u memoriji drzi samo poslednjih export.xlsx.window redova (ostali su u privremenom fajlu),
+ * a PDF tabela se upisuje u delovima, pa potrosnja heap-a ne zavisi od broja redova.
+ */
+@Component
+public class TabularExporter {
+
+	private static final int XLSX_MAX_DATA_ROWS = SpreadsheetVersion.EXCEL2007.getMaxRows() - 1;
+	private static final int PDF_FLUSH_ROWS = 500;
+	private static final int PROGRESS_ROWS = 1000;
+	private static final Font PDF_HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 8);
+	private static final Font PDF_CELL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 7);
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final TransactionTemplate readOnlyTransaction;
+
+	@Value("${streaming.fetch-size:500}")
+	private int fetchSize;
+
+	@Value("${export.xlsx.window:100}")
+	private int xlsxWindow;
+
+	/** redova podataka po listu; vise od Excel granice se ne prihvata */
+	@Value("${export.xlsx.max-rows-per-sheet:1048575}")
+	private int xlsxMaxRowsPerSheet;
+
+	/**
+	 * Kolona izvoza: naslov i putanja svojstva ("invoiceNumber", "buyer.companyName").
+	 */
+	public record Column(String header, String path) {
+
+		public static Column of(String path) {
+			return new Column(path, path);
+		}
+	}
+
+	/**
+	 * Kolone ciji su naslovi same putanje.
+	 */
+	public static List<Column> columns(String... paths) {
+		return Arrays.stream(paths).map(Column::of).toList();
+	}
+
+	public TabularExporter(PlatformTransactionManager transactionManager) {
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+	}
+
+	public <E> StreamingResponseBody export(Class<E> type, Specification<E> spec, List<Column> columns, ExportFormat format) {
+		return out -> readOnlyTransaction.executeWithoutResult(status -> {
+			try {
+				write(type, spec, columns, format, out, rows -> {
+				});
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+	}
+
+	/**
+	 * Upisuje rezultat u out i vraca broj redova; progress dobija broj upisanih redova na svakih PROGRESS_ROWS.
+	 * Mora se pozvati u transakciji (kursor je vezan za nju); out se ne zatvara.
+	 */
+	public <E> long write(Class<E> type, Specification<E> spec, List<Column> columns, ExportFormat format,
+			OutputStream out, LongConsumer progress) throws IOException {
+		try (Stream<Tuple> stream = query(type, spec, columns)) {
+			CountingIterator rows = new CountingIterator(stream.iterator(), progress);
+			switch (format) {
+				case CSV -> writeCsv(rows, columns, out);
+				case XLSX -> writeXlsx(rows, columns, out);
+				case PDF -> writePdf(rows, columns, out);
+			}
+			return rows.count;
+		}
+	}
+
+	/**
+	 * Broj redova koje bi write upisao, za procenat napretka.
+	 */
+	public <E> long count(Class<E> type, Specification<E> spec) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<E> root = query.from(type);
+		Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		query.select(cb.count(root));
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	private <E> Stream<Tuple> query(Class<E> type, Specification<E> spec, List<Column> columns) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<E> root = query.from(type);
+		Predicate predicate = spec != null ? spec.toPredicate(root, query, cb) : null;
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		Map<String, Join<?, ?>> joins = new HashMap<>();
+		List<Selection<?>> selections = new ArrayList<>(columns.size());
+		for (Column column : columns) {
+			selections.add(ColumnarLoader.path(root, joins, column.path()));
+		}
+		query.multiselect(selections);
+		query.orderBy(cb.asc(root.get("id")));
+		return entityManager.createQuery(query)
+				.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+				.setHint(HibernateHints.HINT_READ_ONLY, true)
+				.getResultStream();
+	}
+
+	private static void writeCsv(Iterator<Tuple> rows, List<Column> columns, OutputStream out) throws IOException {
+		Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		CSVWriter csv = new CSVWriter(writer);
+		csv.writeNext(columns.stream().map(Column::header).toArray(String[]::new), false);
+		String[] line = new String[columns.size()];
+		while (rows.hasNext()) {
+			Tuple row = rows.next();
+			for (int i = 0; i < line.length; i++) {
+				line[i] = text(row.get(i));
+			}
+			csv.writeNext(line, false);
+		}
+		// flush bez close: izlazni tok pripada servlet kontejneru
+		csv.flush();
+	}
+
+	private void writeXlsx(Iterator<Tuple> rows, List<Column> columns, OutputStream out) throws IOException {
+		SXSSFWorkbook workbook = new SXSSFWorkbook(xlsxWindow);
+		workbook.setCompressTempFiles(true);
+		try {
+			int maxRows = Math.min(Math.max(xlsxMaxRowsPerSheet, 1), XLSX_MAX_DATA_ROWS);
+			SXSSFSheet sheet = newSheet(workbook, columns);
+			int rowIndex = 1;
+			while (rows.hasNext()) {
+				if (rowIndex > maxRows) {
+					sheet = newSheet(workbook, columns);
+					rowIndex = 1;
+				}
+				Tuple tuple = rows.next();
+				Row row = sheet.createRow(rowIndex++);
+				for (int i = 0; i < columns.size(); i++) {
+					Object value = tuple.get(i);
+					if (value == null) {
+						continue;
+					}
+					Cell cell = row.createCell(i);
+					if (value instanceof Number number && !(value instanceof BigDecimal big && big.precision() > 15)) {
+						cell.setCellValue(number.doubleValue());
+					}
+					else if (value instanceof Boolean bool) {
+						cell.setCellValue(bool);
+					}
+					else {
+						cell.setCellValue(text(value));
+					}
+				}
+			}
+			workbook.write(out);
+			out.flush();
+		}
+		finally {
+			workbook.dispose();
+			workbook.close();
+		}
+	}
+
+	private static void writePdf(Iterator<Tuple> rows, List<Column> columns, OutputStream out) throws IOException {
+		Document document = new Document(columns.size() > 8 ? PageSize.A4.rotate() : PageSize.A4, 20, 20, 20, 20);
+		try {
+			PdfWriter writer = PdfWriter.getInstance(document, out);
+			writer.setCloseStream(false);
+			document.open();
+			PdfPTable table = new PdfPTable(columns.size());
+			table.setWidthPercentage(100);
+			table.setHeaderRows(1);
+			// nepotpuna tabela se upisuje u delovima, pa u memoriji ostaje samo PDF_FLUSH_ROWS redova
+			table.setComplete(false);
+			for (Column column : columns) {
+				table.addCell(new Phrase(column.header(), PDF_HEADER_FONT));
+			}
+			int pending = 0;
+			while (rows.hasNext()) {
+				Tuple row = rows.next();
+				for (int i = 0; i < columns.size(); i++) {
+					table.addCell(new Phrase(text(row.get(i)), PDF_CELL_FONT));
+				}
+				if (++pending == PDF_FLUSH_ROWS) {
+					document.add(table);
+					pending = 0;
+				}
+			}
+			table.setComplete(true);
+			document.add(table);
+			document.close();
+		}
+		catch (DocumentException e) {
+			throw new IOException("Error generating PDF", e);
+		}
+	}
+
+	/**
+	 * Novi list sa redom naslova; Excel lista ima najvise 1.048.576 redova (i manje uz
+	 * export.xlsx.max-rows-per-sheet), pa se veci izvoz nastavlja na sledecem listu.
+	 */
+	private static SXSSFSheet newSheet(SXSSFWorkbook workbook, List<Column> columns) {
+		SXSSFSheet sheet = workbook.createSheet("Export " + (workbook.getNumberOfSheets() + 1));
+		Row header = sheet.createRow(0);
+		for (int i = 0; i < columns.size(); i++) {
+			header.createCell(i).setCellValue(columns.get(i).header());
+		}
+		return sheet;
+	}
+
+	private static String text(Object value) {
+		if (value == null) {
+			return "";
+		}
+		if (value instanceof BigDecimal amount) {
+			return amount.toPlainString();
+		}
+		if (value instanceof Enum<?> constant) {
+			return constant.name();
+		}
+		return value.toString();
+	}
+
+	private static final class CountingIterator implements Iterator<Tuple> {
+
+		private final Iterator<Tuple> rows;
+		private final LongConsumer progress;
+		private long count;
+
+		CountingIterator(Iterator<Tuple> rows, LongConsumer progress) {
+			this.rows = rows;
+			this.progress = progress;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return rows.hasNext();
+		}
+
+		@Override
+		public Tuple next() {
+			Tuple row = rows.next();
+			if (++count % PROGRESS_ROWS == 0) {
+				progress.accept(count);
+			}
+			return row;
+		}
+	}
+}
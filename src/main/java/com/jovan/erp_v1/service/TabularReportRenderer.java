@@ -0,0 +1,76 @@
+package com.jovan.erp_v1.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import com.jovan.erp_v1.enumeration.ReportType;
+import com.jovan.erp_v1.model.Invoice;
+import com.jovan.erp_v1.model.Payment;
+import com.jovan.erp_v1.model.SalesOrder;
+
+import jakarta.persistence.criteria.Predicate;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Izvestaji koji su tabela redova jednog entiteta u periodu [from, to] (po datumu dokumenta),
+ * generisani kroz TabularExporter (PDF, XLSX ili CSV).
+ */
+@Component
+@RequiredArgsConstructor
+public class TabularReportRenderer implements ReportRenderer {
+
+	private record Definition(Class<?> entity, String dateProperty, List<TabularExporter.Column> columns) {
+	}
+
+	private static final Map<ReportType, Definition> DEFINITIONS = Map.of(
+			ReportType.INVOICE, new Definition(Invoice.class, "issueDate", TabularExporter.columns(
+					"id", "invoiceNumber", "issueDate", "dueDate", "status", "totalAmount", "buyer.companyName", "buyer.pib")),
+			ReportType.ORDERS, new Definition(SalesOrder.class, "orderDate", TabularExporter.columns(
+					"id", "orderNumber", "orderDate", "status", "totalAmount", "buyer.companyName", "note")),
+			ReportType.PAYMENT_REPORT, new Definition(Payment.class, "paymentDate", TabularExporter.columns(
+					"id", "referenceNumber", "paymentDate", "method", "status", "amount", "buyer.companyName")));
+
+	private final TabularExporter tabularExporter;
+
+	@Override
+	public Set<ReportType> types() {
+		return DEFINITIONS.keySet();
+	}
+
+	@Override
+	public void render(ReportJobs.Parameters parameters, OutputStream out, IntConsumer progress) throws IOException {
+		render(DEFINITIONS.get(parameters.type()), parameters, out, progress);
+	}
+
+	private <E> void render(Definition definition, ReportJobs.Parameters parameters, OutputStream out, IntConsumer progress)
+			throws IOException {
+		@SuppressWarnings("unchecked")
+		Class<E> entity = (Class<E>) definition.entity();
+		Specification<E> spec = period(definition.dateProperty(), parameters);
+		long total = tabularExporter.count(entity, spec);
+		tabularExporter.write(entity, spec, definition.columns(), parameters.format(), out,
+				rows -> progress.accept(total > 0 ? (int) Math.min(99, rows * 100 / total) : 0));
+	}
+
+	private static <E> Specification<E> period(String dateProperty, ReportJobs.Parameters parameters) {
+		return (root, query, cb) -> {
+			List<Predicate> predicates = new ArrayList<>();
+			if (parameters.from() != null) {
+				predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get(dateProperty), parameters.from().atStartOfDay()));
+			}
+			if (parameters.to() != null) {
+				predicates.add(cb.lessThan(root.<LocalDateTime>get(dateProperty), parameters.to().plusDays(1).atStartOfDay()));
+			}
+			return cb.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
@@ -24,6 +24,7 @@ import com.jovan.erp_v1.model.User;
 import com.jovan.erp_v1.repository.TokenRepository;
 import com.jovan.erp_v1.repository.UserRepository;
 import com.jovan.erp_v1.response.TokenResponse;
+import com.jovan.erp_v1.security.AuthenticationCache;
 import com.jovan.erp_v1.util.ApiMessages;
 
 import java.util.Date;
@@ -44,6 +45,7 @@ public class TokenService implements ITokenService {
     private final UserRepository userRepository;
     private final TokenRepository tokenRepository;
     private final TokenMapper tokenMapper;
+    private final AuthenticationCache authenticationCache;
 
     @Value("${jwt.secret}")
     private String secret;
@@ -92,6 +94,8 @@ public class TokenService implements ITokenService {
         });
 
         tokenRepository.saveAll(validTokens);
+        authenticationCache.evictTokens(validTokens.stream().map(Token::getToken).toList());
+        authenticationCache.evictPrincipal(user.getUsername());
     }
 
     @Override
@@ -114,6 +118,7 @@ public class TokenService implements ITokenService {
     @Transactional
     public void invalidateToken(String token) {
         tokenRepository.findByToken(token).ifPresent(tokenRepository::delete);
+        authenticationCache.evictToken(token);
     }
 
     @Override
@@ -183,6 +188,7 @@ public class TokenService implements ITokenService {
         oldToken.setRevoked(true);
         oldToken.setExpired(true);
         tokenRepository.save(oldToken);
+        authenticationCache.evictToken(oldToken.getToken());
         // Novi access token
         String accessToken = generateAccessToken(user);
         Token newAccessToken = Token.builder()
@@ -225,6 +231,7 @@ public class TokenService implements ITokenService {
 	    token.setRevoked(true);
 	    token.setExpired(true);
 	    tokenRepository.save(token);
+	    authenticationCache.evictToken(token.getToken());
 	}
 	
 	@Override
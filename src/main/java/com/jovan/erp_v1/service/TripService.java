@@ -34,6 +34,7 @@ import com.jovan.erp_v1.request.TripSearchRequest;
 import com.jovan.erp_v1.response.TripResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.TripSaveAsRequest;
 import com.jovan.erp_v1.util.DateValidator;
 
@@ -399,7 +400,6 @@ public class TripService implements ITripService {
 	};
 	
 	private final AbstractSaveAllService<Trip, TripResponse> helpSaveAll = new AbstractSaveAllService<Trip, TripResponse>() {
-		
 		@Override
 		protected Function<Trip, TripResponse> toResponse() {
 			return TripResponse::new;
@@ -425,6 +425,9 @@ public class TripService implements ITripService {
 	@Transactional
 	@Override
 	public List<TripResponse> saveAll(List<TripRequest> requests) {
+		ReferenceResolver<TripRequest> references = helpSaveAll.references(requests);
+		Map<Long, Driver> drivers = references.resolve("Driver", driverRepository, Driver::getId, TripRequest::driverId);
+		references.verify();
 		List<Trip> items = requests.stream()
 				.map(req -> Trip.builder()
 						.id(req.id())
@@ -432,7 +435,7 @@ public class TripService implements ITripService {
 						.endLocation(req.endLocation())
 						.endTime(req.endTime())
 						.status(req.status())
-						.driver(validateDriverId(req.driverId()))
+						.driver(drivers.get(req.driverId()))
 						.confirmed(req.confirmed())
 						.build())
 				.collect(Collectors.toList());	
@@ -31,6 +31,7 @@ import com.jovan.erp_v1.request.UserRequestForEmployees;
 import com.jovan.erp_v1.request.UserRequestForEmployeesDetails;
 import com.jovan.erp_v1.response.UserResponse;
 import com.jovan.erp_v1.response.UserResponseForEmployees;
+import com.jovan.erp_v1.security.AuthenticationCache;
 import com.jovan.erp_v1.security.JwtAuthenticationFilter;
 import com.jovan.erp_v1.util.CredentialGenerator;
 
@@ -49,6 +50,7 @@ public class UserService implements IUserService {
 	private final PasswordEncoder passwordEncoder;
 	private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 	private final CredentialGenerator credentialGenerator;
+	private final AuthenticationCache authenticationCache;
 
 	@Override
 	@Transactional
@@ -98,6 +100,7 @@ public class UserService implements IUserService {
 			throw new UserNotFoundException("Can't delete user with email: " + userId);
 		}
 		userRepository.deleteById(userId);
+		authenticationCache.evictAllPrincipals();
 	}
 
 	@Override
@@ -129,8 +132,11 @@ public class UserService implements IUserService {
 	public User updateUser(Long id, UserRequest request) {
 		User user = userRepository.findById(id)
 				.orElseThrow(() -> new UserNotFoundException("User not found"));
+		authenticationCache.evictPrincipal(user.getUsername());
 		userMapper.updateUser(request, user);
-		return userRepository.save(user);
+		User saved = userRepository.save(user);
+		authenticationCache.evictPrincipal(saved.getUsername());
+		return saved;
 	}
 
 	@Override
@@ -147,6 +153,7 @@ public class UserService implements IUserService {
 	@Transactional
 	@Override
 	public User saveUser(User user) {
+		authenticationCache.evictPrincipal(user.getUsername());
 		return userRepository.save(user);
 	}
 
@@ -272,6 +279,7 @@ public class UserService implements IUserService {
 		user.setRoles(roles);
 
 		User saved = userRepository.save(user);
+		authenticationCache.evictPrincipal(saved.getUsername());
 		return new UserResponseForEmployees(saved);
 	}
 
@@ -25,6 +25,7 @@ import com.jovan.erp_v1.response.VehicleLocationResponse;
 import com.jovan.erp_v1.response.VehicleResponse;
 import com.jovan.erp_v1.save_as.AbstractSaveAllService;
 import com.jovan.erp_v1.save_as.AbstractSaveAsService;
+import com.jovan.erp_v1.save_as.ReferenceResolver;
 import com.jovan.erp_v1.save_as.VehicleLocationSaveAsRequest;
 import com.jovan.erp_v1.search_request.VehicleLocationSearchRequest;
 import com.jovan.erp_v1.util.DateValidator;
@@ -185,7 +186,6 @@ public class VehicleLocationService implements IVehicleLocationService {
 	};
 	
 	private final AbstractSaveAllService<VehicleLocation, VehicleLocationResponse> helpSaveAll = new AbstractSaveAllService<VehicleLocation, VehicleLocationResponse>() {
-		
 		@Override
 		protected Function<VehicleLocation, VehicleLocationResponse> toResponse() {
 			return VehicleLocationResponse::new;
@@ -210,10 +210,13 @@ public class VehicleLocationService implements IVehicleLocationService {
 	@Transactional
 	@Override
 	public List<VehicleLocationResponse> saveAll(List<VehicleLocationRequest> requests) {
+		ReferenceResolver<VehicleLocationRequest> references = helpSaveAll.references(requests);
+		Map<Long, Vehicle> vehicles = references.resolve("Vehicle", vehicleRepository, Vehicle::getId, VehicleLocationRequest::vehicleId);
+		references.verify();
 		List<VehicleLocation> items = requests.stream()
 				.map(it -> VehicleLocation.builder()
 						.id(it.id())
-						.vehicle(validateVehicleId(it.vehicleId()))
+						.vehicle(vehicles.get(it.vehicleId()))
 						.latitude(it.latitude())
 						.longitude(it.longitude())
 						.build())
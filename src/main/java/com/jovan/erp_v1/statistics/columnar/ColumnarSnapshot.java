@@ -0,0 +1,160 @@
+package com.jovan.erp_v1.statistics.columnar;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Arrays;
+
+/**
+ * Kolonski snimak redova za MEMORY statistike.
+ * Kljucevi grupisanja su long[] kolone, iznosi su long u fiksnom zarezu (vrednost * 10^scale),
+ * a opcioni tekst (npr. broj fakture) je jedna String kolona. Entiteti se ne ucitavaju,
+ * pa red zauzima nekoliko desetina bajtova umesto celog grafa Invoice/ItemSales objekata.
+ * Snimak je nepromenljiv posle build() i sme da se agregira iz vise niti.
+ */
+public final class ColumnarSnapshot {
+
+	/** Vrednost kljuca za null (npr. ItemSales bez procurement-a). */
+	public static final long NULL_KEY = Long.MIN_VALUE;
+
+	private final long[][] keys;
+	private final long[][] values;
+	private final String[] labels;
+	private final int scale;
+	private final int rowCount;
+
+	private ColumnarSnapshot(long[][] keys, long[][] values, String[] labels, int scale, int rowCount) {
+		this.keys = keys;
+		this.values = values;
+		this.labels = labels;
+		this.scale = scale;
+		this.rowCount = rowCount;
+	}
+
+	public static Builder builder(int keyColumns, int valueColumns, boolean withLabel, int scale) {
+		return new Builder(keyColumns, valueColumns, withLabel, scale);
+	}
+
+	public int rowCount() {
+		return rowCount;
+	}
+
+	public int scale() {
+		return scale;
+	}
+
+	public boolean hasLabels() {
+		return labels != null;
+	}
+
+	/**
+	 * Grupise sve redove po svim kolonama kljuca i racuna date mere.
+	 */
+	public GroupedAggregate aggregate(Measure... measures) {
+		return aggregate(0, rowCount, measures);
+	}
+
+	/**
+	 * Agregira redove [fromRow, toRow).
+	 */
+	public GroupedAggregate aggregate(int fromRow, int toRow, Measure... measures) {
+		GroupedAggregate aggregate = new GroupedAggregate(this, measures, Math.max(16, (toRow - fromRow) / 8));
+		for (int row = fromRow; row < toRow; row++) {
+			aggregate.accumulate(row);
+		}
+		return aggregate;
+	}
+
+	long key(int column, int row) {
+		return keys[column][row];
+	}
+
+	int keyColumns() {
+		return keys.length;
+	}
+
+	long value(int column, int row) {
+		return values[column][row];
+	}
+
+	String label(int row) {
+		return labels[row];
+	}
+
+	int hash(int row) {
+		long h = 0;
+		for (long[] column : keys) {
+			h = (h ^ column[row]) * 0x9E3779B97F4A7C15L;
+		}
+		return (int) (h ^ (h >>> 32));
+	}
+
+	boolean sameKey(int rowA, int rowB) {
+		for (long[] column : keys) {
+			if (column[rowA] != column[rowB]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Puni kolone red po red: key/value/label za tekuci red, pa next().
+	 */
+	public static final class Builder {
+
+		private static final int INITIAL_CAPACITY = 1024;
+
+		private long[][] keys;
+		private long[][] values;
+		private String[] labels;
+		private final int scale;
+		private int capacity = INITIAL_CAPACITY;
+		private int size;
+
+		private Builder(int keyColumns, int valueColumns, boolean withLabel, int scale) {
+			this.keys = new long[keyColumns][INITIAL_CAPACITY];
+			this.values = new long[valueColumns][INITIAL_CAPACITY];
+			this.labels = withLabel ? new String[INITIAL_CAPACITY] : null;
+			this.scale = scale;
+		}
+
+		public Builder key(int column, Long key) {
+			keys[column][size] = key != null ? key : NULL_KEY;
+			return this;
+		}
+
+		/**
+		 * null se racuna kao nula, kao i ranije filter(Objects::nonNull) pre sabiranja.
+		 */
+		public Builder value(int column, BigDecimal value) {
+			values[column][size] = value != null ? value.setScale(scale, RoundingMode.HALF_UP).unscaledValue().longValueExact() : 0L;
+			return this;
+		}
+
+		public Builder label(String label) {
+			labels[size] = label;
+			return this;
+		}
+
+		public Builder next() {
+			size++;
+			if (size == capacity) {
+				capacity = size * 2;
+				for (int c = 0; c < keys.length; c++) {
+					keys[c] = Arrays.copyOf(keys[c], capacity);
+				}
+				for (int c = 0; c < values.length; c++) {
+					values[c] = Arrays.copyOf(values[c], capacity);
+				}
+				if (labels != null) {
+					labels = Arrays.copyOf(labels, capacity);
+				}
+			}
+			return this;
+		}
+
+		public ColumnarSnapshot build() {
+			return new ColumnarSnapshot(keys, values, labels, scale, size);
+		}
+	}
+}
@@ -0,0 +1,10 @@
+package com.jovan.erp_v1.statistics.columnar;
+
+/**
+ * Pravi DTO od jedne grupe agregata, npr. (agg, g) -> new XStatDTO(agg.count(g), agg.sum(0, g), agg.key(0, g)).
+ */
+@FunctionalInterface
+public interface GroupMapper<T> {
+
+	T map(GroupedAggregate aggregate, int group);
+}
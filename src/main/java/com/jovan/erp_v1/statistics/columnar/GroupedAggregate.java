@@ -0,0 +1,204 @@
+package com.jovan.erp_v1.statistics.columnar;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Rezultat grupisanja ColumnarSnapshot-a: po grupi broj redova, long zbirovi mera i najveci label (kao MAX u SQL-u).
+ * Grupe se nalaze preko open-addressing tabele nad indeksima redova, bez boxing-a kljuceva.
+ * Zbir koji bi prekoracio long se prenosi u BigDecimal (spill), pa je rezultat uvek tacan.
+ * BigDecimal se pravi tek u sum(), za gotove grupe.
+ */
+public final class GroupedAggregate {
+
+	private static final int EMPTY = -1;
+
+	private final ColumnarSnapshot snapshot;
+	private final Measure[] measures;
+
+	private int[] table;
+	private int mask;
+	private int groupCount;
+	private int[] firstRow;
+	private long[] counts;
+	private long[][] sums;
+	private BigDecimal[][] spills;
+	private String[] maxLabels;
+
+	GroupedAggregate(ColumnarSnapshot snapshot, Measure[] measures, int expectedGroups) {
+		this.snapshot = snapshot;
+		this.measures = measures;
+		int capacity = Integer.highestOneBit(Math.max(expectedGroups, 8) * 2 - 1) << 1;
+		this.table = new int[capacity];
+		Arrays.fill(table, EMPTY);
+		this.mask = capacity - 1;
+		this.firstRow = new int[capacity / 2];
+		this.counts = new long[capacity / 2];
+		this.sums = new long[measures.length][capacity / 2];
+		this.spills = new BigDecimal[measures.length][];
+		this.maxLabels = snapshot.hasLabels() ? new String[capacity / 2] : null;
+	}
+
+	public int size() {
+		return groupCount;
+	}
+
+	public long count(int group) {
+		return counts[group];
+	}
+
+	/**
+	 * Vrednost kolone kljuca za grupu, null ako je kljuc bio null.
+	 */
+	public Long key(int column, int group) {
+		long key = snapshot.key(column, firstRow[group]);
+		return key == ColumnarSnapshot.NULL_KEY ? null : key;
+	}
+
+	public String label(int group) {
+		return maxLabels != null ? maxLabels[group] : null;
+	}
+
+	public BigDecimal sum(int measure, int group) {
+		int scale = scaleOf(measures[measure]);
+		BigDecimal total = BigDecimal.valueOf(sums[measure][group], scale);
+		BigDecimal[] spill = spills[measure];
+		return spill != null && spill[group] != null ? spill[group].add(total) : total;
+	}
+
+	public <T> List<T> toList(GroupMapper<T> mapper) {
+		List<T> result = new ArrayList<>(groupCount);
+		for (int group = 0; group < groupCount; group++) {
+			result.add(mapper.map(this, group));
+		}
+		return result;
+	}
+
+	void accumulate(int row) {
+		int group = groupOf(row);
+		counts[group]++;
+		for (int m = 0; m < measures.length; m++) {
+			Measure measure = measures[m];
+			long value = snapshot.value(measure.column(), row);
+			if (measure.isProduct()) {
+				long factor = snapshot.value(measure.factorColumn(), row);
+				long high = Math.multiplyHigh(value, factor);
+				long low = value * factor;
+				if ((high != 0 || low < 0) && (high != -1 || low >= 0)) {
+					int scale = snapshot.scale();
+					spill(m, group, BigDecimal.valueOf(value, scale).multiply(BigDecimal.valueOf(factor, scale)));
+					continue;
+				}
+				value = low;
+			}
+			add(m, group, value);
+		}
+		if (maxLabels != null) {
+			String label = snapshot.label(row);
+			String max = maxLabels[group];
+			if (label != null && (max == null || label.compareTo(max) > 0)) {
+				maxLabels[group] = label;
+			}
+		}
+	}
+
+	/**
+	 * Dodaje parcijalni agregat susednog opsega redova istog snimka (paralelna agregacija).
+	 * Grupe iz other koje ovde ne postoje dodaju se na kraj, pa redosled grupa ostaje isti kao sekvencijalno,
+	 * ako se parcijalni agregati spajaju redom opsega.
+	 */
+	GroupedAggregate merge(GroupedAggregate other) {
+		for (int g = 0; g < other.groupCount; g++) {
+			int group = groupOf(other.firstRow[g]);
+			counts[group] += other.counts[g];
+			for (int m = 0; m < measures.length; m++) {
+				add(m, group, other.sums[m][g]);
+				BigDecimal[] otherSpill = other.spills[m];
+				if (otherSpill != null && otherSpill[g] != null) {
+					spill(m, group, otherSpill[g]);
+				}
+			}
+			if (maxLabels != null) {
+				String label = other.maxLabels[g];
+				String max = maxLabels[group];
+				if (label != null && (max == null || label.compareTo(max) > 0)) {
+					maxLabels[group] = label;
+				}
+			}
+		}
+		return this;
+	}
+
+	private void add(int measure, int group, long value) {
+		long current = sums[measure][group];
+		long result = current + value;
+		if (((current ^ result) & (value ^ result)) < 0) {
+			spill(measure, group, BigDecimal.valueOf(current, scaleOf(measures[measure])));
+			result = value;
+		}
+		sums[measure][group] = result;
+	}
+
+	private void spill(int measure, int group, BigDecimal amount) {
+		if (spills[measure] == null) {
+			spills[measure] = new BigDecimal[firstRow.length];
+		}
+		BigDecimal[] spill = spills[measure];
+		spill[group] = spill[group] == null ? amount : spill[group].add(amount);
+	}
+
+	private int scaleOf(Measure measure) {
+		return measure.isProduct() ? snapshot.scale() * 2 : snapshot.scale();
+	}
+
+	private int groupOf(int row) {
+		int slot = snapshot.hash(row) & mask;
+		while (table[slot] != EMPTY) {
+			int group = table[slot];
+			if (snapshot.sameKey(firstRow[group], row)) {
+				return group;
+			}
+			slot = (slot + 1) & mask;
+		}
+		int group = groupCount++;
+		if (group == firstRow.length) {
+			growGroups();
+		}
+		firstRow[group] = row;
+		table[slot] = group;
+		if (groupCount * 2 > table.length) {
+			rehash();
+		}
+		return group;
+	}
+
+	private void growGroups() {
+		int capacity = firstRow.length * 2;
+		firstRow = Arrays.copyOf(firstRow, capacity);
+		counts = Arrays.copyOf(counts, capacity);
+		for (int m = 0; m < sums.length; m++) {
+			sums[m] = Arrays.copyOf(sums[m], capacity);
+			if (spills[m] != null) {
+				spills[m] = Arrays.copyOf(spills[m], capacity);
+			}
+		}
+		if (maxLabels != null) {
+			maxLabels = Arrays.copyOf(maxLabels, capacity);
+		}
+	}
+
+	private void rehash() {
+		table = new int[table.length * 2];
+		Arrays.fill(table, EMPTY);
+		mask = table.length - 1;
+		for (int group = 0; group < groupCount; group++) {
+			int slot = snapshot.hash(firstRow[group]) & mask;
+			while (table[slot] != EMPTY) {
+				slot = (slot + 1) & mask;
+			}
+			table[slot] = group;
+		}
+	}
+}
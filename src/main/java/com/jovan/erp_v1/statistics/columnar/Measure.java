@@ -0,0 +1,21 @@
+package com.jovan.erp_v1.statistics.columnar;
+
+/**
+ * Mera koja se racuna po grupi: zbir kolone ili zbir proizvoda dve kolone (npr. quantity * unitPrice).
+ */
+public record Measure(int column, int factorColumn) {
+
+	private static final int NONE = -1;
+
+	public static Measure sum(int column) {
+		return new Measure(column, NONE);
+	}
+
+	public static Measure sumOfProducts(int column, int factorColumn) {
+		return new Measure(column, factorColumn);
+	}
+
+	public boolean isProduct() {
+		return factorColumn != NONE;
+	}
+}
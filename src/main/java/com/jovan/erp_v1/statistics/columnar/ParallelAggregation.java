@@ -0,0 +1,53 @@
+package com.jovan.erp_v1.statistics.columnar;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join agregacija ColumnarSnapshot-a: redovi se dele na opsege od najvise chunkRows,
+ * svaki opseg se agregira zasebno, a parcijalni agregati se spajaju redom opsega.
+ * Rezultat (grupe, redosled grupa, brojevi, zbirovi, label-i) je isti kao snapshot.aggregate(measures).
+ */
+public final class ParallelAggregation {
+
+	private ParallelAggregation() {
+	}
+
+	public static GroupedAggregate aggregate(ForkJoinPool pool, ColumnarSnapshot snapshot, int chunkRows, Measure... measures) {
+		if (chunkRows < 1) {
+			throw new IllegalArgumentException("chunkRows must be positive");
+		}
+		return pool.invoke(new RangeTask(snapshot, 0, snapshot.rowCount(), chunkRows, measures));
+	}
+
+	private static final class RangeTask extends RecursiveTask<GroupedAggregate> {
+
+		private static final long serialVersionUID = 1L;
+
+		private final transient ColumnarSnapshot snapshot;
+		private final int fromRow;
+		private final int toRow;
+		private final int chunkRows;
+		private final transient Measure[] measures;
+
+		RangeTask(ColumnarSnapshot snapshot, int fromRow, int toRow, int chunkRows, Measure[] measures) {
+			this.snapshot = snapshot;
+			this.fromRow = fromRow;
+			this.toRow = toRow;
+			this.chunkRows = chunkRows;
+			this.measures = measures;
+		}
+
+		@Override
+		protected GroupedAggregate compute() {
+			if (toRow - fromRow <= chunkRows) {
+				return snapshot.aggregate(fromRow, toRow, measures);
+			}
+			int middle = (fromRow + toRow) >>> 1;
+			RangeTask right = new RangeTask(snapshot, middle, toRow, chunkRows, measures);
+			right.fork();
+			GroupedAggregate left = new RangeTask(snapshot, fromRow, middle, chunkRows, measures).compute();
+			return left.merge(right.join());
+		}
+	}
+}
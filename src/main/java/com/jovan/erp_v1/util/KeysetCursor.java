@@ -0,0 +1,41 @@
+package com.jovan.erp_v1.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import org.springframework.data.domain.Sort;
+
+import com.jovan.erp_v1.exception.ValidationException;
+
+/**
+ * Pozicija u keyset paginaciji: vrednost kljuca sortiranja i id poslednjeg vracenog reda.
+ * Klijent ga vidi samo kao neproziran Base64 token.
+ */
+public record KeysetCursor(String sortKey, Sort.Direction direction, String value, Long id) {
+
+	private static final String SEPARATOR = "|";
+	private static final String NULL_VALUE = "N";
+	private static final String VALUE_PREFIX = "V";
+
+	public String encode() {
+		String raw = sortKey + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR
+				+ (value == null ? NULL_VALUE : VALUE_PREFIX + value);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static KeysetCursor decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			// vrednost je poslednja, pa sme da sadrzi separator
+			String[] parts = raw.split("\\|", 4);
+			if (parts.length != 4 || parts[3].isEmpty()) {
+				throw new ValidationException("Invalid pagination cursor");
+			}
+			String value = parts[3].startsWith(VALUE_PREFIX) ? parts[3].substring(1) : null;
+			return new KeysetCursor(parts[0], Sort.Direction.valueOf(parts[1]), value, Long.valueOf(parts[2]));
+		}
+		catch (IllegalArgumentException e) {
+			throw new ValidationException("Invalid pagination cursor");
+		}
+	}
+}
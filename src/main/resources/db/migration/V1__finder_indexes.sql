@@ -0,0 +1,53 @@
+-- Kompozitni i covering indeksi za najcesce finder-e i statistike.
+-- Tabele pravi Hibernate (ddl-auto=update), a ova migracija se izvrsava posle njega (FlywayConfig).
+-- InnoDB sekundarni indeks vec sadrzi primarni kljuc, pa (kolona) pokriva i keyset ORDER BY kolona, id.
+-- Jednokolonski indeksi na FK kolonama postoje zbog FK ogranicenja i ovde se ne ponavljaju.
+
+-- InspectionRepository: findByInspectionDate*, findByInspectionDateAndResult, keyset generalSearch (inspection_date DESC, id)
+CREATE INDEX idx_inspection_date_result ON inspection (inspection_date, result);
+-- findByBatchId / findByProductId / findByInspectorId sa opsegom datuma, countQuantity* po batch-u i proizvodu
+CREATE INDEX idx_inspection_batch_date ON inspection (batch_id, inspection_date);
+CREATE INDEX idx_inspection_product_date ON inspection (product_id, inspection_date);
+CREATE INDEX idx_inspection_inspector_date ON inspection (inspector_id, inspection_date);
+CREATE INDEX idx_inspection_status_confirmed ON inspection (status, confirmed);
+-- findByBatch_ExpiryDate*, findByBatch_ProductionDate*
+CREATE INDEX idx_batch_expiry_date ON batch (expiry_date);
+CREATE INDEX idx_batch_production_date ON batch (production_date);
+
+-- ItemSalesRepository: countItemSalesQuantityBy* / countItemSalesUnitPriceBy* (GROUP BY fk, SUM/AVG) citaju samo indeks
+CREATE INDEX idx_item_sales_goods_cover ON item_sales (goods_id, quantity, unit_price);
+CREATE INDEX idx_item_sales_sales_cover ON item_sales (sales_id, quantity, unit_price);
+CREATE INDEX idx_item_sales_procurement_cover ON item_sales (procurement_id, quantity, unit_price);
+CREATE INDEX idx_item_sales_sales_order_cover ON item_sales (sales_order_id, quantity, unit_price);
+-- findByQuantity*, findByUnitPrice*
+CREATE INDEX idx_item_sales_quantity ON item_sales (quantity);
+CREATE INDEX idx_item_sales_unit_price ON item_sales (unit_price);
+CREATE INDEX idx_item_sales_status_confirmed ON item_sales (status, confirmed);
+
+-- InvoiceRepository: findByIssueDateBetween, countByIssueDateBetween, keyset (issue_date DESC, id)
+CREATE INDEX idx_invoice_issue_date ON invoice (issue_date);
+-- findByBuyerIdOrderByIssueDateDesc, findInvoicesByBuyerSortedByIssueDate, findByBuyerIdAndStatus
+CREATE INDEX idx_invoice_buyer_issue_date ON invoice (buyer_id, issue_date);
+CREATE INDEX idx_invoice_buyer_status ON invoice (buyer_id, status);
+-- findByStatus, findByDueDateBefore, findByTotalAmount
+CREATE INDEX idx_invoice_status_issue_date ON invoice (status, issue_date);
+CREATE INDEX idx_invoice_due_date ON invoice (due_date);
+CREATE INDEX idx_invoice_total_amount ON invoice (total_amount);
+-- countInvoiceTotalAmountByBuyer (GROUP BY buyer_id, SUM(total_amount))
+CREATE INDEX idx_invoice_buyer_total_cover ON invoice (buyer_id, total_amount);
+
+-- InventoryItemsRepository: findInventoryItemsForCalculation / summary (inventory_id -> quantity, item_condition)
+CREATE INDEX idx_inventory_items_inventory_cover ON inventory_items (inventory_id, quantity, item_condition);
+-- countQuantityByProduct / countItemConditionByProduct (GROUP BY product_id)
+CREATE INDEX idx_inventory_items_product_cover ON inventory_items (product_id, quantity, item_condition);
+-- findByDifference*, findItemsWithNonZeroDifference
+CREATE INDEX idx_inventory_items_difference ON inventory_items (difference);
+-- findByInventoryDate*, findByInventoryStatusAndInventoryAlignedFalse, findByInventoryStatusAndInventoryStorage*Id
+CREATE INDEX idx_inventory_date ON inventory (date);
+CREATE INDEX idx_inventory_status_aligned ON inventory (status, aligned);
+CREATE INDEX idx_inventory_employee_status ON inventory (storage_employee_id, status);
+CREATE INDEX idx_inventory_foreman_status ON inventory (storage_foreman_id, status);
+
+-- VehicleLocationRepository (Specification pretrage): poslednja lokacija vozila i opseg vremena
+CREATE INDEX idx_vehicle_location_vehicle_recorded ON vehicle_location (vehicle_id, recorded_at);
+CREATE INDEX idx_vehicle_location_recorded ON vehicle_location (recorded_at);
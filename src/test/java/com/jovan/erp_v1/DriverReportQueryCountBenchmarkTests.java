@@ -0,0 +1,155 @@
+package com.jovan.erp_v1;
+
+import static com.jovan.erp_v1.QueryBudgetAssertions.maxStatements;
+import static com.jovan.erp_v1.QueryBudgetAssertions.withinQueryBudget;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.jovan.erp_v1.config.QueryMetricsFilter;
+import com.jovan.erp_v1.config.RequestQueryStats;
+import com.jovan.erp_v1.enumeration.DriverStatus;
+import com.jovan.erp_v1.enumeration.TripStatus;
+import com.jovan.erp_v1.model.Driver;
+import com.jovan.erp_v1.model.Trip;
+import com.jovan.erp_v1.repository.DriverRepository;
+import com.jovan.erp_v1.repository.TripRepository;
+import com.jovan.erp_v1.response.DriverReportResponse;
+import com.jovan.erp_v1.service.DriverReportService;
+
+import io.github.cdimascio.dotenv.Dotenv;
+
+/**
+ * Benchmark generateAdvancedDriverReport: broj SQL iskaza ne zavisi od broja vozaca (10 naspram 1000),
+ * a metrike odgovaraju unetim voznjama. Endpoint /driver-report/drivers-report ostaje u svom @QueryBudget-u
+ * (MockMvc ima samo QueryMetricsFilter, a @PreAuthorize vidi korisnika iz @WithMockUser).
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class DriverReportQueryCountBenchmarkTests {
+
+	private static final LocalDate DAY = LocalDate.of(2025, 3, 10);
+	private static final TripStatus[] TRIP_STATUSES = {
+			TripStatus.COMPLETED, TripStatus.COMPLETED, TripStatus.CANCELLED, TripStatus.IN_PROGRESS, TripStatus.PLANNED };
+
+	@Autowired
+	private DriverReportService driverReportService;
+
+	@Autowired
+	private DriverRepository driverRepository;
+
+	@Autowired
+	private TripRepository tripRepository;
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private QueryMetricsFilter queryMetricsFilter;
+
+	@BeforeAll
+	public static void loadEnv() {
+		Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+	}
+
+	@Test
+	void advancedReportStatementCountDoesNotGrowWithDrivers() {
+		seed(DriverStatus.ACTIVE, 10);
+		seed(DriverStatus.CLOSED, 1000);
+
+		Measurement small = measure(DriverStatus.ACTIVE);
+		Measurement large = measure(DriverStatus.CLOSED);
+
+		assertEquals(10, small.report().size());
+		assertEquals(1000, large.report().size());
+		assertEquals(1, small.statements());
+		assertEquals(small.statements(), large.statements());
+
+		DriverReportResponse row = large.report().get(0);
+		assertEquals(5L, row.totalTrips());
+		assertEquals(2L, row.completedTrips());
+		assertEquals(1L, row.cancelledTrips());
+		assertEquals(1L, row.activeTrips());
+		assertEquals(0, new BigDecimal("2").compareTo(row.averageDurationInHours()));
+		assertEquals(0, new BigDecimal("50").compareTo(row.totalRevenue()));
+	}
+
+	@Test
+	@WithMockUser(roles = "ADMIN")
+	void reportEndpointStaysWithinQueryBudget() throws Exception {
+		seed(DriverStatus.CANCELLED, 200);
+
+		MockMvcBuilders.webAppContextSetup(context).addFilters(queryMetricsFilter).build()
+				.perform(get("/driver-report/drivers-report")
+						.param("startDate", DAY.toString())
+						.param("endDate", DAY.toString())
+						.param("driverStatuses", DriverStatus.CANCELLED.name())
+						.param("confirmed", "true"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(200))
+				.andExpect(withinQueryBudget())
+				.andExpect(maxStatements(1));
+	}
+
+	private Measurement measure(DriverStatus driverStatus) {
+		RequestQueryStats stats = RequestQueryStats.begin();
+		try {
+			List<DriverReportResponse> report = driverReportService.generateAdvancedDriverReport(DAY, DAY, null, null,
+					List.of(driverStatus), true);
+			return new Measurement(report, stats.getStatements());
+		}
+		finally {
+			RequestQueryStats.end();
+		}
+	}
+
+	private void seed(DriverStatus status, int drivers) {
+		List<Driver> saved = new ArrayList<>();
+		for (int i = 0; i < drivers; i++) {
+			saved.add(Driver.builder()
+					.firstName("Bench")
+					.lastName(status + "-" + i)
+					.phone("bench-" + status + "-" + i)
+					.status(status)
+					.confirmed(true)
+					.build());
+		}
+		saved = driverRepository.saveAll(saved);
+		List<Trip> trips = new ArrayList<>();
+		for (Driver driver : saved) {
+			for (int t = 0; t < TRIP_STATUSES.length; t++) {
+				LocalDateTime start = DAY.atTime(8 + t, 0);
+				trips.add(Trip.builder()
+						.startLocation("A")
+						.endLocation("B")
+						.startTime(start)
+						.endTime(start.plusHours(2))
+						.status(TRIP_STATUSES[t])
+						.fare(BigDecimal.TEN)
+						.driver(driver)
+						.build());
+			}
+		}
+		tripRepository.saveAll(trips);
+	}
+
+	private record Measurement(List<DriverReportResponse> report, int statements) {
+	}
+}
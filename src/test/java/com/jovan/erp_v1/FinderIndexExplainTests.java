@@ -0,0 +1,491 @@
+package com.jovan.erp_v1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import com.jovan.erp_v1.config.RequestQueryStats;
+import com.jovan.erp_v1.enumeration.InspectionResult;
+import com.jovan.erp_v1.enumeration.InventoryStatus;
+import com.jovan.erp_v1.enumeration.InvoiceStatus;
+import com.jovan.erp_v1.model.FetchPlans;
+import com.jovan.erp_v1.model.VehicleLocation;
+import com.jovan.erp_v1.repository.InspectionRepository;
+import com.jovan.erp_v1.repository.InventoryItemsRepository;
+import com.jovan.erp_v1.repository.InvoiceRepository;
+import com.jovan.erp_v1.repository.ItemSalesRepository;
+import com.jovan.erp_v1.repository.VehicleLocationRepository;
+import com.jovan.erp_v1.repository.specification.VehicleLocationSpecification;
+import com.jovan.erp_v1.service.KeysetPaginator;
+import com.jovan.erp_v1.util.KeysetCursor;
+
+import io.github.cdimascio.dotenv.Dotenv;
+
+/**
+ * EXPLAIN nad SQL-om koji Hibernate stvarno generise za finder-e iz V1__finder_indexes (Inspection, ItemSales,
+ * Invoice, InventoryItems i VehicleLocation repozitorijumi): SQL se hvata preko SqlStatementCounter-a dok finder
+ * radi sa argumentima koji nista ne vracaju, a EXPLAIN ga izvrsava sa realnim argumentima. Posle ANALYZE TABLE
+ * optimizator mora da izabere indeks iz migracije za tabelu koju finder filtrira.
+ * Redovi od FIRST_ID nadalje se brisu posle testova.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class FinderIndexExplainTests {
+
+	private static final long FIRST_ID = 5_000_000L;
+	private static final long NONE = -1L;
+	private static final int ROWS = 20_000;
+	private static final int BUYERS = 200;
+	private static final int BATCHES = 2_000;
+	private static final int PRODUCTS = 500;
+	private static final int INSPECTORS = 100;
+	private static final int INVENTORIES = 2_000;
+	private static final int EMPLOYEES = 100;
+	private static final int FOREMEN = 50;
+	private static final int VEHICLES = 100;
+	private static final String[] INVOICE_STATUSES = { "DRAFT", "ISSUED", "PAID", "CANCELLED" };
+	private static final String[] INSPECTION_RESULTS = { "PASS", "FAIL", "REWORK", "PENDING" };
+	// PENDING_APPROVAL se ne seed-uje, pa finder sa njim ne ucitava redove sa visecim FK
+	private static final String[] INVENTORY_STATUSES = { "PENDING", "IN_PROGRESS", "COMPLETED", "CANCELLED",
+			"RECONCILED", "PARTIALLY_COMPLETED" };
+	private static final LocalDateTime START = LocalDateTime.of(2023, 1, 1, 0, 0);
+	private static final LocalDateTime NEVER = LocalDateTime.of(1990, 1, 1, 0, 0);
+	private static final String[] CLEANUP = { "inventory_items", "inventory", "inspection", "batch", "item_sales",
+			"invoice", "buyer", "vehicle_location" };
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private InspectionRepository inspectionRepository;
+
+	@Autowired
+	private ItemSalesRepository itemSalesRepository;
+
+	@Autowired
+	private InvoiceRepository invoiceRepository;
+
+	@Autowired
+	private InventoryItemsRepository inventoryItemsRepository;
+
+	@Autowired
+	private VehicleLocationRepository vehicleLocationRepository;
+
+	@Autowired
+	private KeysetPaginator keysetPaginator;
+
+	@BeforeAll
+	public static void loadEnv() {
+		Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+	}
+
+	@AfterAll
+	static void cleanUp(@Autowired JdbcTemplate jdbcTemplate) {
+		for (String table : CLEANUP) {
+			jdbcTemplate.update("DELETE FROM " + table + " WHERE id >= ?", FIRST_ID);
+		}
+	}
+
+	@BeforeEach
+	void seed() {
+		Integer seeded = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM invoice WHERE id >= ?", Integer.class, FIRST_ID);
+		if (seeded != null && seeded > 0) {
+			return;
+		}
+		// proizvodi, korisnici, vozila i porudzbine nisu potrebni za plan, pa se FK provere gase na jednoj konekciji
+		jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+			JdbcTemplate seeder = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+			seeder.execute("SET FOREIGN_KEY_CHECKS = 0");
+			try {
+				seedInvoices(seeder);
+				seedItemSales(seeder);
+				seedInspections(seeder);
+				seedInventories(seeder);
+				seedVehicleLocations(seeder);
+			}
+			finally {
+				seeder.execute("SET FOREIGN_KEY_CHECKS = 1");
+			}
+			return null;
+		});
+		jdbcTemplate.execute("ANALYZE TABLE buyer, invoice, item_sales, batch, inspection, inventory, inventory_items, vehicle_location");
+	}
+
+	// InspectionRepository
+
+	@Test
+	void inspectionsInDateRangeReadDateResultIndex() {
+		String sql = sqlOf(() -> inspectionRepository.findByInspectionDateBetween(NEVER, NEVER.plusDays(1)));
+		assertIndex("idx_inspection_date_result", "inspection_date", sql,
+				timestamp(START.plusDays(100)), timestamp(START.plusDays(101)));
+	}
+
+	@Test
+	void inspectionsOnDateWithResultReadDateResultIndex() {
+		String sql = sqlOf(() -> inspectionRepository.findByInspectionDateAndResult(NEVER, InspectionResult.PASS));
+		assertIndex("idx_inspection_date_result", "inspection_date", sql, timestamp(START.plusHours(400)), "PASS");
+	}
+
+	@Test
+	void inspectionsOfBatchReadBatchDateIndex() {
+		String sql = sqlOf(() -> inspectionRepository.findByBatchId(NONE));
+		assertIndex("idx_inspection_batch_date", "batch_id", sql, FIRST_ID + 7);
+	}
+
+	@Test
+	void inspectionsOfProductReadProductDateIndex() {
+		String sql = sqlOf(() -> inspectionRepository.findByProductId(NONE));
+		assertIndex("idx_inspection_product_date", "product_id", sql, FIRST_ID + 7);
+	}
+
+	@Test
+	void inspectionsOfInspectorReadInspectorDateIndex() {
+		String sql = sqlOf(() -> inspectionRepository.findByInspectorId(NONE));
+		assertIndex("idx_inspection_inspector_date", "inspector_id", sql, FIRST_ID + 7);
+	}
+
+	@Test
+	void inspectionsOfBatchesExpiringInRangeReadBatchExpiryIndex() {
+		String sql = sqlOf(() -> inspectionRepository.findByBatch_ExpiryDateBetween(NEVER.toLocalDate(),
+				NEVER.toLocalDate().plusDays(1)));
+		LocalDate from = START.toLocalDate().plusDays(365 + 500);
+		assertIndex("idx_batch_expiry_date", "expiry_date", sql, date(from), date(from.plusDays(5)));
+	}
+
+	@Test
+	void inspectionsOfBatchesProducedInRangeReadBatchProductionIndex() {
+		String sql = sqlOf(() -> inspectionRepository.findByBatch_ProductionDateBetween(NEVER.toLocalDate(),
+				NEVER.toLocalDate().plusDays(1)));
+		LocalDate from = START.toLocalDate().plusDays(500);
+		assertIndex("idx_batch_production_date", "production_date", sql, date(from), date(from.plusDays(5)));
+	}
+
+	// ItemSalesRepository
+
+	@Test
+	void itemSalesOfGoodsReadGoodsCoverIndex() {
+		String sql = sqlOf(() -> itemSalesRepository.findByGoods_Id(NONE));
+		assertIndex("idx_item_sales_goods_cover", "goods_id", sql, FIRST_ID + 7);
+	}
+
+	@Test
+	void itemSalesOfSalesReadSalesCoverIndex() {
+		String sql = sqlOf(() -> itemSalesRepository.findBySales_Id(NONE));
+		assertIndex("idx_item_sales_sales_cover", "sales_id", sql, FIRST_ID + 7);
+	}
+
+	@Test
+	void itemSalesOfProcurementReadProcurementCoverIndex() {
+		String sql = sqlOf(() -> itemSalesRepository.findByProcurement_Id(NONE));
+		assertIndex("idx_item_sales_procurement_cover", "procurement_id", sql, FIRST_ID + 7);
+	}
+
+	@Test
+	void itemSalesOfSalesOrderReadSalesOrderCoverIndex() {
+		String sql = sqlOf(() -> itemSalesRepository.findBySalesOrder_Id(NONE));
+		assertIndex("idx_item_sales_sales_order_cover", "sales_order_id", sql, FIRST_ID + 7);
+	}
+
+	@Test
+	void itemSalesAboveQuantityReadQuantityIndex() {
+		String sql = sqlOf(() -> itemSalesRepository.findByQuantityGreaterThan(BigDecimal.valueOf(1_000_000)));
+		assertIndex("idx_item_sales_quantity", "quantity", sql, BigDecimal.valueOf(4990));
+	}
+
+	@Test
+	void itemSalesAboveUnitPriceReadUnitPriceIndex() {
+		String sql = sqlOf(() -> itemSalesRepository.findByUnitPriceGreaterThan(BigDecimal.valueOf(1_000_000)));
+		assertIndex("idx_item_sales_unit_price", "unit_price", sql, BigDecimal.valueOf(695));
+	}
+
+	// InvoiceRepository
+
+	@Test
+	void invoiceKeysetSeekPageReadsIssueDateIndex() {
+		String sql = sqlOf(() -> keysetPaginator.page(invoiceRepository, null, FetchPlans.INVOICE_RESPONSE, "issueDate",
+				Sort.Direction.DESC, new KeysetCursor("issueDate", Sort.Direction.DESC, NEVER.toString(), NONE).encode(),
+				50, invoice -> invoice));
+		Timestamp cursor = timestamp(START.plusHours(ROWS / 2));
+		assertIndex("idx_invoice_issue_date", "issue_date", sql, cursor, cursor, FIRST_ID + ROWS / 2, 51);
+	}
+
+	@Test
+	void invoicesInDateRangeReadIssueDateIndex() {
+		String sql = sqlOf(() -> invoiceRepository.findByIssueDateBetween(NEVER, NEVER.plusDays(1)));
+		assertIndex("idx_invoice_issue_date", "issue_date", sql,
+				timestamp(START.plusDays(100)), timestamp(START.plusDays(101)));
+	}
+
+	@Test
+	void invoiceCountInDateRangeReadsIssueDateIndex() {
+		String sql = sqlOf(() -> invoiceRepository.countByIssueDateBetween(NEVER, NEVER.plusDays(1)));
+		assertIndex("idx_invoice_issue_date", "issue_date", sql,
+				timestamp(START.plusDays(100)), timestamp(START.plusDays(101)));
+	}
+
+	@Test
+	void invoicesWithStatusReadStatusIssueDateIndex() {
+		// OVERDUE ima samo svaka stota faktura, a seed-ovani kupci postoje pa finder sme da ih ucita
+		String sql = sqlOf(() -> invoiceRepository.findByStatus(InvoiceStatus.OVERDUE));
+		assertIndex("idx_invoice_status_issue_date", "status", sql, "OVERDUE");
+	}
+
+	@Test
+	void invoicesDueBeforeDateReadDueDateIndex() {
+		String sql = sqlOf(() -> invoiceRepository.findByDueDateBefore(NEVER));
+		assertIndex("idx_invoice_due_date", "due_date", sql, timestamp(START.plusDays(31)));
+	}
+
+	@Test
+	void invoicesWithTotalAmountReadTotalAmountIndex() {
+		String sql = sqlOf(() -> invoiceRepository.findByTotalAmount(BigDecimal.valueOf(-1)));
+		assertIndex("idx_invoice_total_amount", "total_amount", sql, BigDecimal.valueOf(321));
+	}
+
+	@Test
+	void invoicesOfBuyerSortedByIssueDateReadBuyerIssueDateIndex() {
+		String sql = sqlOf(() -> invoiceRepository.findByBuyerIdOrderByIssueDateDesc(NONE));
+		assertIndex("idx_invoice_buyer_issue_date", "buyer_id", sql, FIRST_ID + 7);
+	}
+
+	@Test
+	void invoicesOfBuyerWithStatusReadBuyerStatusIndex() {
+		String sql = sqlOf(() -> invoiceRepository.findByBuyerIdAndStatus(NONE, InvoiceStatus.PAID));
+		assertIndex("idx_invoice_buyer_status", "buyer_id", sql, FIRST_ID + 7, "PAID");
+	}
+
+	// InventoryItemsRepository
+
+	@Test
+	void itemsForCalculationReadInventoryCoverIndex() {
+		String sql = sqlOf(() -> inventoryItemsRepository.findInventoryItemsForCalculation(NONE));
+		assertIndex("idx_inventory_items_inventory_cover", "inventory_id", sql, FIRST_ID + 7);
+	}
+
+	@Test
+	void itemsAboveDifferenceReadDifferenceIndex() {
+		String sql = sqlOf(() -> inventoryItemsRepository.findByDifferenceGreaterThan(BigDecimal.valueOf(1_000_000)));
+		assertIndex("idx_inventory_items_difference", "difference", sql, BigDecimal.valueOf(990));
+	}
+
+	@Test
+	void itemsOfInventoriesInDateRangeReadInventoryDateIndex() {
+		String sql = sqlOf(() -> inventoryItemsRepository.findByInventoryDateBetween(NEVER.toLocalDate(),
+				NEVER.toLocalDate().plusDays(1)));
+		LocalDate from = START.toLocalDate().plusDays(500);
+		assertIndex("idx_inventory_date", "date", sql, date(from), date(from.plusDays(5)));
+	}
+
+	@Test
+	void itemsOfUnalignedInventoriesReadStatusAlignedIndex() {
+		String sql = sqlOf(() -> inventoryItemsRepository
+				.findByInventoryStatusAndInventoryAlignedFalse(InventoryStatus.PENDING_APPROVAL));
+		assertIndex("idx_inventory_status_aligned", "aligned", sql, "COMPLETED");
+	}
+
+	@Test
+	void itemsOfEmployeeInventoriesReadEmployeeStatusIndex() {
+		String sql = sqlOf(() -> inventoryItemsRepository
+				.findByInventoryStatusAndInventoryStorageEmployeeId(InventoryStatus.COMPLETED, NONE));
+		assertIndex("idx_inventory_employee_status", "storage_employee_id", sql, "COMPLETED", FIRST_ID + 7);
+	}
+
+	@Test
+	void itemsOfForemanInventoriesReadForemanStatusIndex() {
+		String sql = sqlOf(() -> inventoryItemsRepository
+				.findByInventoryStatusAndInventoryStorageForemanId(InventoryStatus.COMPLETED, NONE));
+		assertIndex("idx_inventory_foreman_status", "storage_foreman_id", sql, "COMPLETED", FIRST_ID + 7);
+	}
+
+	// VehicleLocationRepository
+
+	@Test
+	void locationsOfVehicleInRangeReadVehicleRecordedIndex() {
+		String sql = sqlOf(() -> vehicleLocationRepository.findAll(vehicleLocations(NONE, NEVER, NEVER.plusDays(1))));
+		assertIndex("idx_vehicle_location_vehicle_recorded", "vehicle_id", sql,
+				FIRST_ID + 7, timestamp(START.plusDays(5)), timestamp(START.plusDays(6)));
+	}
+
+	@Test
+	void locationsInRangeReadRecordedIndex() {
+		String sql = sqlOf(() -> vehicleLocationRepository
+				.findAll(VehicleLocationSpecification.hasRecordedAtBetween(NEVER, NEVER.plusDays(1))));
+		assertIndex("idx_vehicle_location_recorded", "recorded_at", sql,
+				timestamp(START.plusHours(50)), timestamp(START.plusHours(51)));
+	}
+
+	private static Specification<VehicleLocation> vehicleLocations(Long vehicleId, LocalDateTime from, LocalDateTime to) {
+		return Specification.where(VehicleLocationSpecification.hasVehicleId(vehicleId))
+				.and(VehicleLocationSpecification.hasRecordedAtBetween(from, to));
+	}
+
+	/**
+	 * Jedini SELECT koji finder pripremi, onako kako ga Hibernate salje bazi.
+	 */
+	private static String sqlOf(Runnable finder) {
+		RequestQueryStats stats = RequestQueryStats.beginCapturingSql();
+		try {
+			finder.run();
+		}
+		finally {
+			RequestQueryStats.end();
+		}
+		List<String> selects = stats.getSql().stream()
+				.filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+				.toList();
+		assertEquals(1, selects.size(), () -> "expected one select, got " + stats.getSql());
+		return selects.get(0);
+	}
+
+	/**
+	 * Proverava indeks u planu reda za tabelu ciju kolonu upit filtrira (WHERE) ili, bez WHERE, sortira.
+	 */
+	private void assertIndex(String index, String column, String sql, Object... args) {
+		assertEquals(args.length, sql.chars().filter(c -> c == '?').count(), () -> "argument count for " + sql);
+		String alias = aliasOf(column, sql);
+		List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql, args);
+		Map<String, Object> row = plan.stream()
+				.filter(r -> alias.equals(r.get("table")))
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("no plan row for " + alias + " in " + plan));
+		assertEquals(index, row.get("key"), () -> "plan " + plan + " for " + sql);
+	}
+
+	private static String aliasOf(String column, String sql) {
+		String lower = sql.toLowerCase();
+		int clause = lower.indexOf(" where ");
+		if (clause < 0) {
+			clause = lower.indexOf(" order by ");
+		}
+		Matcher matcher = Pattern.compile("(\\w+)\\." + column + "\\b").matcher(lower);
+		if (clause < 0 || !matcher.find(clause)) {
+			throw new AssertionError("no filter on " + column + " in " + sql);
+		}
+		return matcher.group(1);
+	}
+
+	private static Timestamp timestamp(LocalDateTime value) {
+		return Timestamp.valueOf(value);
+	}
+
+	private static Date date(LocalDate value) {
+		return Date.valueOf(value);
+	}
+
+	private static void seedInvoices(JdbcTemplate seeder) {
+		List<Object[]> buyers = new ArrayList<>(BUYERS);
+		for (int i = 0; i < BUYERS; i++) {
+			buyers.add(new Object[] { FIRST_ID + i, "Explain " + i, "explain-" + i, "Adresa", "Kontakt",
+					"explain" + i + "@example.com", "011-" + i });
+		}
+		seeder.batchUpdate("""
+				INSERT INTO buyer (id, company_name, pib, address, contact_person, email, phone_number, status, confirmed)
+				VALUES (?, ?, ?, ?, ?, ?, ?, 'ACTIVE', true)
+				""", buyers);
+
+		List<Object[]> invoices = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			LocalDateTime issued = START.plusHours(i);
+			String status = i % 100 == 0 ? "OVERDUE" : INVOICE_STATUSES[i % INVOICE_STATUSES.length];
+			invoices.add(new Object[] { FIRST_ID + i, "EXPLAIN-" + i, timestamp(issued), timestamp(issued.plusDays(30)),
+					status, BigDecimal.valueOf(i % 1000), FIRST_ID + i % BUYERS });
+		}
+		seeder.batchUpdate("""
+				INSERT INTO invoice (id, invoice_number, issue_date, due_date, status, total_amount, buyer_id, type_status, confirmed)
+				VALUES (?, ?, ?, ?, ?, ?, ?, 'NEW', true)
+				""", invoices);
+	}
+
+	private static void seedItemSales(JdbcTemplate seeder) {
+		List<Object[]> itemSales = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			itemSales.add(new Object[] { FIRST_ID + i, FIRST_ID + i % 500, FIRST_ID + i % 700, FIRST_ID + i % 900,
+					FIRST_ID + i % 1100, BigDecimal.valueOf(i % 5000), BigDecimal.valueOf(i % 700) });
+		}
+		seeder.batchUpdate("""
+				INSERT INTO item_sales (id, goods_id, sales_id, procurement_id, sales_order_id, quantity, unit_price, status, confirmed)
+				VALUES (?, ?, ?, ?, ?, ?, ?, 'NEW', true)
+				""", itemSales);
+	}
+
+	private static void seedInspections(JdbcTemplate seeder) {
+		List<Object[]> batches = new ArrayList<>(BATCHES);
+		for (int i = 0; i < BATCHES; i++) {
+			LocalDate produced = START.toLocalDate().plusDays(i);
+			batches.add(new Object[] { FIRST_ID + i, "EXPLAIN-" + i, FIRST_ID + i % PRODUCTS, date(produced),
+					date(produced.plusDays(365)) });
+		}
+		seeder.batchUpdate("""
+				INSERT INTO batch (id, code, product_id, quantity_produced, production_date, expiry_date, confirmed, status)
+				VALUES (?, ?, ?, 100, ?, ?, true, 'NEW')
+				""", batches);
+
+		List<Object[]> inspections = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			inspections.add(new Object[] { FIRST_ID + i, "EXPLAIN-" + i, timestamp(START.plusHours(i)),
+					FIRST_ID + i % BATCHES, FIRST_ID + i % PRODUCTS, FIRST_ID + i % INSPECTORS,
+					INSPECTION_RESULTS[i % INSPECTION_RESULTS.length] });
+		}
+		seeder.batchUpdate("""
+				INSERT INTO inspection (id, code, type, inspection_date, batch_id, product_id, inspector_id,
+					quantity_inspected, quantity_accepted, quantity_rejected, result, confirmed, status)
+				VALUES (?, ?, 'FINAL_INSPECTION', ?, ?, ?, ?, 10, 9, 1, ?, true, 'NEW')
+				""", inspections);
+	}
+
+	private static void seedInventories(JdbcTemplate seeder) {
+		List<Object[]> inventories = new ArrayList<>(INVENTORIES);
+		for (int i = 0; i < INVENTORIES; i++) {
+			inventories.add(new Object[] { FIRST_ID + i, FIRST_ID + i % EMPLOYEES, FIRST_ID + i % FOREMEN,
+					date(START.toLocalDate().plusDays(i)), i % 20 != 0, INVENTORY_STATUSES[i % INVENTORY_STATUSES.length] });
+		}
+		seeder.batchUpdate("""
+				INSERT INTO inventory (id, storage_employee_id, storage_foreman_id, date, aligned, status, type_status, confirmed)
+				VALUES (?, ?, ?, ?, ?, ?, 'NEW', true)
+				""", inventories);
+
+		List<Object[]> items = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			items.add(new Object[] { FIRST_ID + i, FIRST_ID + i % INVENTORIES, BigDecimal.valueOf(i % 300),
+					BigDecimal.valueOf(i % 310), BigDecimal.valueOf(i % 1000) });
+		}
+		seeder.batchUpdate("""
+				INSERT INTO inventory_items (id, inventory_id, quantity, item_condition, difference, confirmed, status)
+				VALUES (?, ?, ?, ?, ?, true, 'NEW')
+				""", items);
+	}
+
+	private static void seedVehicleLocations(JdbcTemplate seeder) {
+		List<Object[]> locations = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			locations.add(new Object[] { FIRST_ID + i, FIRST_ID + i % VEHICLES, timestamp(START.plusMinutes(i)) });
+		}
+		seeder.batchUpdate("""
+				INSERT INTO vehicle_location (id, vehicle_id, latitude, longitude, recorded_at)
+				VALUES (?, ?, 44.8, 20.4, ?)
+				""", locations);
+	}
+}
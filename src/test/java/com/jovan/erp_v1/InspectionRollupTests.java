@@ -0,0 +1,148 @@
+package com.jovan.erp_v1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jovan.erp_v1.enumeration.InspectionResult;
+import com.jovan.erp_v1.enumeration.InspectionType;
+import com.jovan.erp_v1.model.Inspection;
+import com.jovan.erp_v1.repository.InspectionRepository;
+import com.jovan.erp_v1.service.InspectionRollupService;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * TOTAL red inspection_rollup prati insert, update i delete inspekcija tek pri commit-u (jedan upsert po
+ * transakciji), rollback ga ne menja, a verify() ponovo gradi rollup kada se razlikuje od inspection tabele.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class InspectionRollupTests {
+
+	private static final String TOTAL = """
+			SELECT inspection_count, quantity_inspected, quantity_accepted, quantity_rejected
+			FROM inspection_rollup WHERE dimension = 'TOTAL' AND dimension_id = 0
+			""";
+
+	@Autowired
+	private InspectionRepository inspectionRepository;
+
+	@Autowired
+	private InspectionRollupService inspectionRollupService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transaction;
+
+	@BeforeAll
+	public static void loadEnv() {
+		Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+	}
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+		// polazno stanje uskladjeno sa inspection tabelom, bez obzira na ostale testove
+		inspectionRollupService.rebuild();
+	}
+
+	@Test
+	void insertUpdateAndDeleteMoveTotalRow() {
+		List<Long> before = total();
+
+		Long id = transaction.execute(status -> {
+			Inspection first = inspectionRepository.save(inspection(10, 8, 2));
+			inspectionRepository.save(inspection(5, 5, 0));
+			return first.getId();
+		});
+		assertEquals(plus(before, 2, 15, 13, 2), total());
+
+		transaction.executeWithoutResult(status -> {
+			Inspection inspection = inspectionRepository.findById(id).orElseThrow();
+			inspection.setQuantityInspected(12);
+			inspection.setQuantityAccepted(6);
+			inspection.setQuantityRejected(6);
+		});
+		assertEquals(plus(before, 2, 17, 11, 6), total());
+
+		transaction.executeWithoutResult(status -> inspectionRepository.deleteById(id));
+		assertEquals(plus(before, 1, 5, 5, 0), total());
+
+		double drifts = drifts();
+		inspectionRollupService.verify();
+		assertEquals(drifts, drifts(), "listener left rollup out of sync with inspection table");
+	}
+
+	@Test
+	void rolledBackChangesLeaveRollupUnchanged() {
+		List<Long> before = total();
+
+		assertThrows(IllegalStateException.class, () -> transaction.executeWithoutResult(status -> {
+			inspectionRepository.saveAndFlush(inspection(10, 8, 2));
+			throw new IllegalStateException("rollback");
+		}));
+
+		assertEquals(before, total());
+	}
+
+	@Test
+	void verifyRebuildsDriftedRollup() {
+		transaction.executeWithoutResult(status -> inspectionRepository.save(inspection(10, 8, 2)));
+		List<Long> expected = total();
+		jdbcTemplate.update("UPDATE inspection_rollup SET inspection_count = inspection_count + 7 WHERE dimension = 'TOTAL'");
+		double drifts = drifts();
+
+		inspectionRollupService.verify();
+
+		assertEquals(drifts + 1, drifts());
+		assertEquals(expected, total());
+	}
+
+	private double drifts() {
+		return meterRegistry.counter("erp.rollup.inspection.drift").count();
+	}
+
+	private List<Long> total() {
+		return jdbcTemplate.query(TOTAL, (rs, row) -> List.of(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4)))
+				.stream().findFirst().orElse(List.of(0L, 0L, 0L, 0L));
+	}
+
+	private static List<Long> plus(List<Long> total, long count, long inspected, long accepted, long rejected) {
+		return List.of(total.get(0) + count, total.get(1) + inspected, total.get(2) + accepted, total.get(3) + rejected);
+	}
+
+	private static Inspection inspection(int inspected, int accepted, int rejected) {
+		return Inspection.builder()
+				.code("ROLLUP-" + UUID.randomUUID())
+				.type(InspectionType.FINAL_INSPECTION)
+				.inspectionDate(LocalDateTime.now())
+				.quantityInspected(inspected)
+				.quantityAccepted(accepted)
+				.quantityRejected(rejected)
+				.result(InspectionResult.PASS)
+				.build();
+	}
+}
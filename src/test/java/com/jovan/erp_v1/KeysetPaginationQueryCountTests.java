@@ -0,0 +1,130 @@
+package com.jovan.erp_v1;
+
+import static com.jovan.erp_v1.QueryBudgetAssertions.withinQueryBudget;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.jayway.jsonpath.JsonPath;
+import com.jovan.erp_v1.config.QueryMetricsFilter;
+import com.jovan.erp_v1.config.RequestQueryStats;
+import com.jovan.erp_v1.enumeration.InvoiceStatus;
+import com.jovan.erp_v1.model.Buyer;
+import com.jovan.erp_v1.model.Invoice;
+import com.jovan.erp_v1.repository.BuyerRepository;
+import com.jovan.erp_v1.repository.InvoiceRepository;
+
+import io.github.cdimascio.dotenv.Dotenv;
+
+/**
+ * Keyset strana faktura (/invoices/all-invoices?limit=) izvrsava isti broj SQL iskaza za 5 i za 200 redova:
+ * fetch-plan Invoice.response (kupac i inverzne @OneToOne veze) se primenjuje i kroz findBy(spec, ...).
+ * MockMvc ima samo QueryMetricsFilter, a @PreAuthorize vidi korisnika iz @WithMockUser.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@WithMockUser(roles = "ADMIN")
+class KeysetPaginationQueryCountTests {
+
+	private static final int ROWS = 200;
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private QueryMetricsFilter queryMetricsFilter;
+
+	@Autowired
+	private BuyerRepository buyerRepository;
+
+	@Autowired
+	private InvoiceRepository invoiceRepository;
+
+	private MockMvc mockMvc;
+
+	@BeforeAll
+	public static void loadEnv() {
+		Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+	}
+
+	@BeforeEach
+	void setUp() {
+		mockMvc = MockMvcBuilders.webAppContextSetup(context).addFilters(queryMetricsFilter).build();
+		if (invoiceRepository.count() < ROWS) {
+			seed();
+		}
+	}
+
+	@Test
+	void invoicePageStatementCountDoesNotGrowWithLimit() throws Exception {
+		MvcResult small = page("/invoices/all-invoices?limit=5");
+		MvcResult large = page("/invoices/all-invoices?limit=" + ROWS);
+
+		assertEquals(statements(small), statements(large));
+	}
+
+	@Test
+	void nextPageRunsTheSameStatementsAsTheFirst() throws Exception {
+		MvcResult first = page("/invoices/all-invoices?limit=50");
+		String cursor = JsonPath.read(first.getResponse().getContentAsString(), "$.nextCursor");
+		MvcResult second = page("/invoices/all-invoices?limit=50&cursor=" + cursor);
+
+		assertEquals(statements(first), statements(second));
+	}
+
+	private MvcResult page(String uri) throws Exception {
+		return mockMvc.perform(get(uri))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.items[0].buyerResponse.companyName").exists())
+				.andExpect(withinQueryBudget())
+				.andReturn();
+	}
+
+	private static int statements(MvcResult result) {
+		return ((RequestQueryStats) result.getRequest().getAttribute(QueryMetricsFilter.STATS_ATTRIBUTE)).getStatements();
+	}
+
+	private void seed() {
+		List<Invoice> invoices = new ArrayList<>(ROWS);
+		LocalDateTime issued = LocalDateTime.of(2025, 1, 1, 8, 0);
+		for (int i = 0; i < ROWS; i++) {
+			// svaka faktura ima svog kupca, pa bi ucitavanje veza red po red bilo vidljivo u broju iskaza
+			Buyer buyer = buyerRepository.save(Buyer.builder()
+					.companyName("Kupac " + i)
+					.pib("keyset-" + i)
+					.address("Adresa " + i)
+					.contactPerson("Kontakt " + i)
+					.email("kupac" + i + "@example.com")
+					.phoneNumber("011-" + i)
+					.build());
+			invoices.add(Invoice.builder()
+					.invoiceNumber("KS-" + i)
+					.issueDate(issued.plusHours(i))
+					.dueDate(issued.plusDays(30))
+					.status(InvoiceStatus.ISSUED)
+					.totalAmount(BigDecimal.valueOf(100 + i))
+					.buyer(buyer)
+					.build());
+		}
+		invoiceRepository.saveAll(invoices);
+	}
+}
@@ -0,0 +1,185 @@
+package com.jovan.erp_v1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jovan.erp_v1.enumeration.FiscalQuarterStatus;
+import com.jovan.erp_v1.enumeration.FiscalYearStatus;
+import com.jovan.erp_v1.enumeration.MonthlyMetric;
+import com.jovan.erp_v1.model.FiscalYear;
+import com.jovan.erp_v1.model.MonthlyRollup;
+import com.jovan.erp_v1.repository.FiscalYearRepository;
+import com.jovan.erp_v1.service.MonthlyRollupService;
+
+import io.github.cdimascio.dotenv.Dotenv;
+
+/**
+ * Meseci pre tekuceg su posle osvezavanja zamrznuti, a tekuci ostaje otvoren. Izmena u zatvorenom mesecu ga
+ * odmrzava u monthly_rollup tabeli vec pri commit-u (rollback ne), sledece citanje van transakcije ga ponovo
+ * racuna i zamrzava, a citanje iz transakcije ga ne osvezava sam nego preko refreshRequested.
+ * Dug open-ttl drzi scheduler refreshRequested van testova (radi samo pri pokretanju).
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "stats.rollup.monthly.open-ttl=1h")
+class MonthlyRollupTests {
+
+	private static final MonthlyMetric METRIC = MonthlyMetric.FISCAL_YEAR_COUNT;
+	/** mesec bez drugih fiskalnih godina u zajednickom kontejneru */
+	private static final YearMonth PAST = YearMonth.of(1987, 3);
+
+	@Autowired
+	private MonthlyRollupService monthlyRollupService;
+
+	@Autowired
+	private FiscalYearRepository fiscalYearRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final List<Long> created = new ArrayList<>();
+	private TransactionTemplate transaction;
+
+	@BeforeAll
+	public static void loadEnv() {
+		Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+	}
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+		insert(PAST);
+		insert(YearMonth.now());
+		monthlyRollupService.rebuild(METRIC);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		created.forEach(id -> jdbcTemplate.update("DELETE FROM fiscal_year WHERE id = ?", id));
+		monthlyRollupService.rebuild(METRIC);
+	}
+
+	@Test
+	void pastMonthsAreFrozenAndCurrentMonthStaysOpen() {
+		assertEquals(Boolean.TRUE, frozen(PAST));
+		assertEquals(Boolean.FALSE, frozen(YearMonth.now()));
+		assertEquals(1L, count(PAST));
+	}
+
+	@Test
+	void committedWriteReopensMonthInTableAndNextReadFreezesIt() {
+		insert(PAST);
+
+		// odmrzavanje je upisano u istoj transakciji, pre bilo kakvog citanja
+		assertEquals(Boolean.FALSE, frozen(PAST));
+
+		assertEquals(2L, month(monthlyRollupService.all(METRIC), PAST).getCount());
+		assertEquals(Boolean.TRUE, frozen(PAST));
+	}
+
+	@Test
+	void rolledBackWriteLeavesMonthFrozen() {
+		assertThrows(IllegalStateException.class, () -> transaction.executeWithoutResult(status -> {
+			fiscalYearRepository.saveAndFlush(fiscalYear(PAST));
+			throw new IllegalStateException("rollback");
+		}));
+
+		assertEquals(Boolean.TRUE, frozen(PAST));
+		assertEquals(1L, month(monthlyRollupService.all(METRIC), PAST).getCount());
+	}
+
+	@Test
+	void movingRowOutOfFrozenMonthReopensBothMonths() {
+		YearMonth target = PAST.plusMonths(1);
+		Long id = created.get(0);
+		transaction.executeWithoutResult(status -> fiscalYearRepository.findById(id).orElseThrow()
+				.setStartDate(target.atDay(1)));
+
+		assertEquals(Boolean.FALSE, frozen(PAST));
+		assertEquals(Boolean.FALSE, frozen(target));
+
+		List<MonthlyRollup> months = monthlyRollupService.all(METRIC);
+		assertNull(find(months, PAST));
+		assertEquals(1L, month(months, target).getCount());
+	}
+
+	@Test
+	void readInsideTransactionDefersRefreshToScheduler() {
+		insert(PAST);
+
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		List<MonthlyRollup> stale = readOnly.execute(status -> monthlyRollupService.all(METRIC));
+		assertEquals(1L, month(stale, PAST).getCount());
+		assertEquals(Boolean.FALSE, frozen(PAST));
+
+		monthlyRollupService.refreshRequested();
+
+		assertEquals(2L, count(PAST));
+		assertEquals(Boolean.TRUE, frozen(PAST));
+	}
+
+	private void insert(YearMonth month) {
+		created.add(transaction.execute(status -> fiscalYearRepository.save(fiscalYear(month)).getId()));
+	}
+
+	private static FiscalYear fiscalYear(YearMonth month) {
+		LocalDate start = month.atDay(1);
+		return FiscalYear.builder()
+				.year(month.getYear())
+				.startDate(start)
+				.endDate(start.plusYears(1).minusDays(1))
+				.yearStatus(FiscalYearStatus.OPEN)
+				.quarterStatus(FiscalQuarterStatus.Q1)
+				.build();
+	}
+
+	private Boolean frozen(YearMonth month) {
+		return jdbcTemplate.queryForObject("""
+				SELECT frozen FROM monthly_rollup
+				WHERE metric = ? AND dimension_id = ? AND period_year = ? AND period_month = ?
+				""", Boolean.class, METRIC.name(), MonthlyRollup.NO_DIMENSION, month.getYear(), month.getMonthValue());
+	}
+
+	private Long count(YearMonth month) {
+		return jdbcTemplate.queryForObject("""
+				SELECT count FROM monthly_rollup
+				WHERE metric = ? AND dimension_id = ? AND period_year = ? AND period_month = ?
+				""", Long.class, METRIC.name(), MonthlyRollup.NO_DIMENSION, month.getYear(), month.getMonthValue());
+	}
+
+	private static MonthlyRollup month(List<MonthlyRollup> months, YearMonth month) {
+		MonthlyRollup found = find(months, month);
+		if (found == null) {
+			throw new AssertionError("no rollup row for " + month + " in " + months);
+		}
+		return found;
+	}
+
+	private static MonthlyRollup find(List<MonthlyRollup> months, YearMonth month) {
+		return months.stream()
+				.filter(row -> row.getYear() == month.getYear() && row.getMonth() == month.getMonthValue())
+				.findFirst()
+				.orElse(null);
+	}
+}
@@ -0,0 +1,60 @@
+package com.jovan.erp_v1;
+
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.web.method.HandlerMethod;
+
+import com.jovan.erp_v1.config.QueryBudget;
+import com.jovan.erp_v1.config.QueryMetricsFilter;
+import com.jovan.erp_v1.config.RequestQueryStats;
+
+/**
+ * MockMvc provere broja SQL iskaza po zahtevu (MockMvc mora da ima QueryMetricsFilter, npr. @AutoConfigureMockMvc).
+ * <pre>
+ * mockMvc.perform(get("/inspections/find-all")).andExpect(withinQueryBudget());
+ * mockMvc.perform(get("/invoices/get-all")).andExpect(maxStatements(3));
+ * </pre>
+ */
+public final class QueryBudgetAssertions {
+
+	private QueryBudgetAssertions() {
+	}
+
+	/**
+	 * Pada ako je zahtev izvrsio vise SQL iskaza nego sto dozvoljava @QueryBudget na controller metodi.
+	 */
+	public static ResultMatcher withinQueryBudget() {
+		return result -> {
+			if (!(result.getHandler() instanceof HandlerMethod method)) {
+				throw new AssertionError("Request was not handled by a controller method");
+			}
+			QueryBudget budget = method.getMethodAnnotation(QueryBudget.class);
+			if (budget == null) {
+				throw new AssertionError(QueryMetricsFilter.endpointName(method) + " has no @QueryBudget");
+			}
+			assertStatements(statsOf(result.getRequest().getAttribute(QueryMetricsFilter.STATS_ATTRIBUTE)),
+					budget.maxStatements(), QueryMetricsFilter.endpointName(method));
+		};
+	}
+
+	/**
+	 * Pada ako je zahtev izvrsio vise od max SQL iskaza.
+	 */
+	public static ResultMatcher maxStatements(int max) {
+		return result -> assertStatements(statsOf(result.getRequest().getAttribute(QueryMetricsFilter.STATS_ATTRIBUTE)),
+				max, result.getRequest().getRequestURI());
+	}
+
+	private static RequestQueryStats statsOf(Object attribute) {
+		if (!(attribute instanceof RequestQueryStats stats)) {
+			throw new AssertionError("QueryMetricsFilter did not run for this request");
+		}
+		return stats;
+	}
+
+	private static void assertStatements(RequestQueryStats stats, int max, String endpoint) {
+		if (stats.getStatements() > max) {
+			throw new AssertionError(endpoint + " executed " + stats.getStatements()
+					+ " SQL statements, budget is " + max);
+		}
+	}
+}
@@ -0,0 +1,93 @@
+package com.jovan.erp_v1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.github.cdimascio.dotenv.Dotenv;
+
+/**
+ * @Transactional(readOnly = true) dobija konekciju iz replica pool-a, a read-write transakcija iz primarnog;
+ * posle commit-a upisa, read-only transakcije istog korisnika ostaju na primarnoj bazi.
+ * Pool se prepoznaje po CURRENT_USER() (replica pool se prijavljuje kao read-only nalog).
+ */
+@Import(ReplicaTestcontainersConfiguration.class)
+@SpringBootTest
+@TestPropertySource(properties = "datasource.replica.enabled=true")
+class ReplicaRoutingTests {
+
+	private static final String CURRENT_USER = "SELECT SUBSTRING_INDEX(CURRENT_USER(), '@', 1)";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	@Qualifier("primaryDataSource")
+	private DataSource primaryDataSource;
+
+	@Autowired
+	@Qualifier("replicaDataSource")
+	private DataSource replicaDataSource;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeAll
+	public static void loadEnv() {
+		Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+	}
+
+	@Test
+	void poolsConnectAsDifferentUsers() {
+		assertEquals(ReplicaTestcontainersConfiguration.REPLICA_USER, userOf(replicaDataSource));
+		assertNotEquals(userOf(replicaDataSource), userOf(primaryDataSource));
+	}
+
+	@Test
+	@Transactional(readOnly = true)
+	void readOnlyTransactionUsesReplica() {
+		assertEquals(userOf(replicaDataSource), jdbcTemplate.queryForObject(CURRENT_USER, String.class));
+	}
+
+	@Test
+	@Transactional
+	void readWriteTransactionUsesPrimary() {
+		assertEquals(userOf(primaryDataSource), jdbcTemplate.queryForObject(CURRENT_USER, String.class));
+	}
+
+	@Test
+	void workOutsideTransactionUsesPrimary() {
+		assertEquals(userOf(primaryDataSource), jdbcTemplate.queryForObject(CURRENT_USER, String.class));
+	}
+
+	@Test
+	@WithMockUser(username = "replica-routing-writer")
+	void readOnlyTransactionAfterOwnWriteUsesPrimary() {
+		TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+
+		assertEquals(userOf(replicaDataSource), readOnly.execute(status -> jdbcTemplate.queryForObject(CURRENT_USER, String.class)));
+		readWrite.executeWithoutResult(status -> jdbcTemplate.queryForObject(CURRENT_USER, String.class));
+		assertEquals(userOf(primaryDataSource), readOnly.execute(status -> jdbcTemplate.queryForObject(CURRENT_USER, String.class)));
+	}
+
+	private static String userOf(DataSource dataSource) {
+		return new JdbcTemplate(dataSource).queryForObject(CURRENT_USER, String.class);
+	}
+}
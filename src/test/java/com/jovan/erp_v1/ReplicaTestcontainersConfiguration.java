@@ -0,0 +1,49 @@
+package com.jovan.erp_v1;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistrar;
+import org.testcontainers.containers.MySQLContainer;
+
+/**
+ * Read replika za testove: replica pool se povezuje na isti MySQL kontejner kao primarni, ali kao nalog
+ * REPLICA_USER koji sme samo da cita (isto kao read-only nalog na pravoj replici), pa sema i podaci postoje na
+ * obe strane, a CURRENT_USER() pokazuje koji pool je dao konekciju.
+ * Test ga koristi sa @Import(ReplicaTestcontainersConfiguration.class) i
+ * @TestPropertySource(properties = "datasource.replica.enabled=true").
+ */
+@TestConfiguration(proxyBeanMethods = false)
+@Import(TestcontainersConfiguration.class)
+class ReplicaTestcontainersConfiguration {
+
+	static final String REPLICA_USER = "replica";
+	private static final String REPLICA_PASSWORD = "replica";
+
+	@Bean
+	DynamicPropertyRegistrar replicaProperties(MySQLContainer<?> mysqlContainer) {
+		return registry -> {
+			registry.add("datasource.replica.jdbc-url", mysqlContainer::getJdbcUrl);
+			registry.add("datasource.replica.username", () -> createReplicaUser(mysqlContainer));
+			registry.add("datasource.replica.password", () -> REPLICA_PASSWORD);
+		};
+	}
+
+	private static String createReplicaUser(MySQLContainer<?> container) {
+		// MySQLContainer postavlja root lozinku na lozinku test korisnika
+		try (Connection connection = DriverManager.getConnection(container.getJdbcUrl(), "root", container.getPassword());
+				Statement statement = connection.createStatement()) {
+			statement.execute("CREATE USER IF NOT EXISTS '" + REPLICA_USER + "'@'%' IDENTIFIED BY '" + REPLICA_PASSWORD + "'");
+			statement.execute("GRANT SELECT ON `" + container.getDatabaseName() + "`.* TO '" + REPLICA_USER + "'@'%'");
+			return REPLICA_USER;
+		}
+		catch (SQLException e) {
+			throw new IllegalStateException("Could not create the read-only replica user", e);
+		}
+	}
+}
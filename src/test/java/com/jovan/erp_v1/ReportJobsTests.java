@@ -0,0 +1,176 @@
+package com.jovan.erp_v1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jovan.erp_v1.enumeration.ExportFormat;
+import com.jovan.erp_v1.enumeration.ReportJobStatus;
+import com.jovan.erp_v1.enumeration.ReportType;
+import com.jovan.erp_v1.model.Report;
+import com.jovan.erp_v1.repository.ReportRepository;
+import com.jovan.erp_v1.service.ReportJobs;
+
+import io.github.cdimascio.dotenv.Dotenv;
+
+/**
+ * Red izvestaja (ReportJobs): isti parametri vracaju isti posao dok je u toku i dok je rezultat mladji od
+ * report.jobs.cache-ttl; preuzimanje uspeva jednom, posao se vraca u red po starosti heartbeat-a (ne po
+ * pocetku generisanja), a upisi radnika koji je izgubio preuzimanje se odbacuju.
+ * Zakazani poll je iskljucen (PT1H), pa poslove pokrece samo submit.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+@TestPropertySource(properties = {
+		"report.jobs.directory=target/test-reports",
+		"report.jobs.poll-interval=PT1H",
+		"report.jobs.cache-ttl=1h",
+		"report.jobs.stale-after=30m"
+})
+class ReportJobsTests {
+
+	@Autowired
+	private ReportJobs reportJobs;
+
+	@Autowired
+	private ReportRepository reportRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transaction;
+
+	@BeforeAll
+	public static void loadEnv() {
+		Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+	}
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+	}
+
+	@Test
+	void sameParametersReturnInFlightJob() {
+		ReportJobs.Parameters parameters = parameters();
+		// u transakciji pozivaoca posao se pokrece tek posle commit-a, pa je oba puta jos QUEUED
+		Report[] submitted = transaction.execute(status ->
+				new Report[] { reportJobs.submit(parameters), reportJobs.submit(parameters) });
+
+		assertEquals(ReportJobStatus.QUEUED, submitted[0].getStatus());
+		assertEquals(submitted[0].getId(), submitted[1].getId());
+	}
+
+	@Test
+	void completedReportIsReusedWithinCacheTtl() throws InterruptedException {
+		ReportJobs.Parameters parameters = parameters();
+		Report first = reportJobs.submit(parameters);
+		awaitStatus(first.getId(), ReportJobStatus.COMPLETED);
+
+		assertEquals(first.getId(), reportJobs.submit(parameters).getId());
+
+		Report completed = reportRepository.findById(first.getId()).orElseThrow();
+		completed.setGeneratedAt(LocalDateTime.now().minusHours(2));
+		reportRepository.save(completed);
+		assertNotEquals(first.getId(), reportJobs.submit(parameters).getId());
+	}
+
+	@Test
+	void jobIsClaimedOnce() {
+		Long id = queuedReport();
+		LocalDateTime now = LocalDateTime.now();
+
+		assertEquals(1, write(() -> reportRepository.claim(id, now, token())));
+		assertEquals(0, write(() -> reportRepository.claim(id, now, token())));
+	}
+
+	@Test
+	void jobWithFreshHeartbeatIsNotRequeued() {
+		Long id = queuedReport();
+		String claimToken = token();
+		LocalDateTime now = LocalDateTime.now();
+		// posao je poceo pre dva sata, ali mu je radnik upravo javio napredak
+		write(() -> reportRepository.claim(id, now.minusHours(2), claimToken));
+		assertEquals(1, write(() -> reportRepository.updateProgress(id, claimToken, 40, now)));
+
+		write(() -> reportRepository.requeueStale(now.minusMinutes(30)));
+		assertEquals(ReportJobStatus.RUNNING, statusOf(id));
+
+		assertEquals(1, write(() -> reportRepository.heartbeat(id, claimToken, now.minusHours(1))));
+		write(() -> reportRepository.requeueStale(now.minusMinutes(30)));
+		assertEquals(ReportJobStatus.QUEUED, statusOf(id));
+	}
+
+	@Test
+	void requeuedJobRejectsWritesOfPreviousClaim() {
+		Long id = queuedReport();
+		String stale = token();
+		String current = token();
+		LocalDateTime now = LocalDateTime.now();
+		write(() -> reportRepository.claim(id, now.minusHours(1), stale));
+		write(() -> reportRepository.requeueStale(now.minusMinutes(30)));
+		assertEquals(1, write(() -> reportRepository.claim(id, now, current)));
+
+		assertEquals(0, write(() -> reportRepository.heartbeat(id, stale, now)));
+		assertEquals(0, write(() -> reportRepository.updateProgress(id, stale, 50, now)));
+		assertEquals(0, write(() -> reportRepository.finish(id, stale, ReportJobStatus.COMPLETED, 100, null, now, "stale")));
+		assertEquals(1, write(() -> reportRepository.finish(id, current, ReportJobStatus.COMPLETED, 100, null, now, "current")));
+
+		Report report = reportRepository.findById(id).orElseThrow();
+		assertEquals(ReportJobStatus.COMPLETED, report.getStatus());
+		assertEquals("current", report.getContentHash());
+	}
+
+	private Long queuedReport() {
+		Report report = new Report();
+		report.setType(ReportType.INVOICE);
+		report.setFormat(ExportFormat.CSV);
+		report.setStatus(ReportJobStatus.QUEUED);
+		report.setProgress(0);
+		report.setParametersHash(token());
+		report.setFilePath("target/test-reports/" + token() + ".csv");
+		return reportRepository.save(report).getId();
+	}
+
+	private void awaitStatus(Long id, ReportJobStatus expected) throws InterruptedException {
+		long deadline = System.nanoTime() + 30_000_000_000L;
+		while (statusOf(id) != expected && System.nanoTime() < deadline) {
+			Thread.sleep(100);
+		}
+		assertEquals(expected, statusOf(id));
+	}
+
+	private ReportJobStatus statusOf(Long id) {
+		return reportRepository.findById(id).orElseThrow().getStatus();
+	}
+
+	private int write(Supplier<Integer> update) {
+		return transaction.execute(status -> update.get());
+	}
+
+	/** nasumican period, da se poslovi razlicitih testova (i ponovljenih pokretanja) ne dedupliciraju */
+	private static ReportJobs.Parameters parameters() {
+		LocalDate from = LocalDate.of(2000, 1, 1).plusDays(ThreadLocalRandom.current().nextInt(36_500));
+		return new ReportJobs.Parameters(ReportType.INVOICE, ExportFormat.CSV, from, from.plusDays(30));
+	}
+
+	private static String token() {
+		return UUID.randomUUID().toString();
+	}
+}
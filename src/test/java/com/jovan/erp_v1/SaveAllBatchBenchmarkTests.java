@@ -0,0 +1,112 @@
+package com.jovan.erp_v1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jovan.erp_v1.config.RequestQueryStats;
+import com.jovan.erp_v1.enumeration.DriverStatus;
+import com.jovan.erp_v1.model.Driver;
+import com.jovan.erp_v1.repository.DriverRepository;
+import com.jovan.erp_v1.request.DriverRequest;
+import com.jovan.erp_v1.service.IDriverService;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Benchmark saveAll nad 100k redova: batch putanja (id-evi iz id_blocks, JDBC batch, flush/detach po delovima)
+ * naspram cuvanja red po red sa flush-om posle svakog reda (jedan INSERT po round trip-u, kao sa IDENTITY).
+ * Poredi broj SQL iskaza (jedan po JDBC batch-u), ne vreme; pokrece se samo sa -Pbenchmark.
+ */
+@Tag("benchmark")
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class SaveAllBatchBenchmarkTests {
+
+	private static final int ROWS = 100_000;
+	private static final int BATCH_SIZE = 50;
+
+	@Autowired
+	private IDriverService driverService;
+
+	@Autowired
+	private DriverRepository driverRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeAll
+	public static void loadEnv() {
+		Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+	}
+
+	@Test
+	void batchedSaveAllSendsOneStatementPerBatchOn100kRows() {
+		int rowByRow = statements(() -> saveRowByRow("row"));
+		int batched = statements(() -> assertEquals(ROWS, driverService.saveAll(requests("batch")).size()));
+
+		assertTrue(rowByRow >= ROWS, () -> "row by row executed only " + rowByRow + " statements");
+		// jedan iskaz po JDBC batch-u od BATCH_SIZE INSERT-a, plus rezervacija blokova id-eva
+		assertTrue(batched >= ROWS / BATCH_SIZE, () -> "batched saveAll executed only " + batched + " statements");
+		assertTrue(batched <= 3 * ROWS / BATCH_SIZE,
+				() -> "batched saveAll executed " + batched + " statements for " + ROWS + " rows");
+	}
+
+	private void saveRowByRow(String prefix) {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.executeWithoutResult(status -> {
+			for (int i = 0; i < ROWS; i++) {
+				driverRepository.save(driver(prefix, i));
+				entityManager.flush();
+				if (i % 1000 == 999) {
+					entityManager.clear();
+				}
+			}
+		});
+	}
+
+	private static int statements(Runnable save) {
+		RequestQueryStats stats = RequestQueryStats.begin();
+		try {
+			save.run();
+			return stats.getStatements();
+		}
+		finally {
+			RequestQueryStats.end();
+		}
+	}
+
+	private static List<DriverRequest> requests(String prefix) {
+		List<DriverRequest> requests = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			requests.add(new DriverRequest(null, "Bench", prefix + "-" + i, prefix + "-phone-" + i, DriverStatus.ACTIVE, true));
+		}
+		return requests;
+	}
+
+	private static Driver driver(String prefix, int i) {
+		return Driver.builder()
+				.firstName("Bench")
+				.lastName(prefix + "-" + i)
+				.phone(prefix + "-phone-" + i)
+				.status(DriverStatus.ACTIVE)
+				.confirmed(true)
+				.build();
+	}
+}
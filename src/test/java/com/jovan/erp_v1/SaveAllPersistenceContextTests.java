@@ -0,0 +1,84 @@
+package com.jovan.erp_v1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jovan.erp_v1.enumeration.DriverStatus;
+import com.jovan.erp_v1.model.Driver;
+import com.jovan.erp_v1.repository.DriverRepository;
+import com.jovan.erp_v1.request.DriverRequest;
+import com.jovan.erp_v1.save_as.AbstractSaveAllService;
+import com.jovan.erp_v1.service.IDriverService;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import jakarta.persistence.EntityManager;
+
+/**
+ * saveAll u transakciji pozivaoca odvaja iz persistence context-a samo entitete koje je sam sacuvao:
+ * entitet pozivaoca ostaje managed i njegove izmene posle saveAll idu u bazu pri commit-u.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest
+class SaveAllPersistenceContextTests {
+
+	private static final int ROWS = 2 * AbstractSaveAllService.DEFAULT_CHUNK_SIZE + 1;
+
+	@Autowired
+	private IDriverService driverService;
+
+	@Autowired
+	private DriverRepository driverRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeAll
+	public static void loadEnv() {
+		Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+	}
+
+	@Test
+	void callerEntitiesStayManagedAcrossChunks() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		Long callerId = transaction.execute(status -> {
+			Driver caller = driverRepository.save(Driver.builder()
+					.firstName("Caller")
+					.lastName("before")
+					.phone("caller-phone")
+					.status(DriverStatus.ACTIVE)
+					.confirmed(true)
+					.build());
+
+			assertEquals(ROWS, driverService.saveAll(requests()).size());
+
+			assertTrue(entityManager.contains(caller), "caller entity was detached by saveAll");
+			caller.setLastName("after");
+			return caller.getId();
+		});
+
+		assertEquals("after", driverRepository.findById(callerId).orElseThrow().getLastName());
+	}
+
+	private static List<DriverRequest> requests() {
+		List<DriverRequest> requests = new ArrayList<>(ROWS);
+		for (int i = 0; i < ROWS; i++) {
+			requests.add(new DriverRequest(null, "Chunk", "chunk-" + i, "chunk-phone-" + i, DriverStatus.ACTIVE, true));
+		}
+		return requests;
+	}
+}
@@ -0,0 +1,211 @@
+package com.jovan.erp_v1;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jovan.erp_v1.enumeration.ExportFormat;
+import com.jovan.erp_v1.enumeration.InspectionResult;
+import com.jovan.erp_v1.enumeration.InspectionType;
+import com.jovan.erp_v1.model.Inspection;
+import com.jovan.erp_v1.model.Invoice;
+import com.jovan.erp_v1.model.ItemSales;
+import com.jovan.erp_v1.repository.InspectionRepository;
+import com.jovan.erp_v1.service.InspectionService;
+import com.jovan.erp_v1.service.InvoiceService;
+import com.jovan.erp_v1.service.ItemSalesService;
+import com.jovan.erp_v1.service.TabularExporter;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+
+import io.github.cdimascio.dotenv.Dotenv;
+
+/**
+ * CSV, XLSX i PDF izvoz sadrze red naslova i samo redove koje propusta Specification, XLSX se nastavlja na
+ * sledecem listu kada list dostigne export.xlsx.max-rows-per-sheet (ovde 2), a kolone izvoza servisa se
+ * razresavaju nad svojim entitetima.
+ */
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = "export.xlsx.max-rows-per-sheet=2")
+class TabularExporterTests {
+
+	private static final List<TabularExporter.Column> COLUMNS = List.of(
+			new TabularExporter.Column("Sifra", "code"),
+			new TabularExporter.Column("Rezultat", "result"),
+			TabularExporter.Column.of("quantityInspected"));
+
+	@Autowired
+	private TabularExporter tabularExporter;
+
+	@Autowired
+	private InspectionRepository inspectionRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final List<Long> created = new ArrayList<>();
+	private TransactionTemplate transaction;
+	private String prefix;
+
+	@BeforeAll
+	public static void loadEnv() {
+		Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+		dotenv.entries().forEach(entry -> System.setProperty(entry.getKey(), entry.getValue()));
+	}
+
+	@BeforeEach
+	void setUp() {
+		transaction = new TransactionTemplate(transactionManager);
+		prefix = "EXPORT-" + UUID.randomUUID() + "-";
+		// redosled po id-ju: 1, 2, 3 prolaze filter, FAIL ne
+		insert("1", InspectionResult.PASS, 10);
+		insert("X", InspectionResult.FAIL, 99);
+		insert("2", InspectionResult.PASS, 20);
+		insert("3", InspectionResult.PASS, 30);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		// preko repozitorijuma, da inspection_rollup ostane uskladjen
+		transaction.executeWithoutResult(status -> inspectionRepository.deleteAllById(created));
+	}
+
+	@Test
+	void csvContainsHeaderAndFilteredRows() {
+		String csv = new String(write(Inspection.class, passed(), COLUMNS, ExportFormat.CSV), StandardCharsets.UTF_8);
+
+		assertEquals(List.of(
+				"Sifra,Rezultat,quantityInspected",
+				prefix + "1,PASS,10",
+				prefix + "2,PASS,20",
+				prefix + "3,PASS,30"), csv.lines().toList());
+	}
+
+	@Test
+	void xlsxContainsHeaderAndFilteredRowsAcrossSheets() throws IOException {
+		byte[] xlsx = write(Inspection.class, passed(), COLUMNS, ExportFormat.XLSX);
+
+		try (XSSFWorkbook workbook = new XSSFWorkbook(new ByteArrayInputStream(xlsx))) {
+			assertEquals(2, workbook.getNumberOfSheets());
+			assertEquals(List.of(
+					List.of("Sifra", "Rezultat", "quantityInspected"),
+					List.of(prefix + "1", "PASS", "10.0"),
+					List.of(prefix + "2", "PASS", "20.0")), rows(workbook.getSheet("Export 1")));
+			assertEquals(List.of(
+					List.of("Sifra", "Rezultat", "quantityInspected"),
+					List.of(prefix + "3", "PASS", "30.0")), rows(workbook.getSheet("Export 2")));
+		}
+	}
+
+	@Test
+	void pdfContainsHeaderAndFilteredRows() throws IOException {
+		byte[] pdf = write(Inspection.class, passed(), COLUMNS, ExportFormat.PDF);
+
+		PdfReader reader = new PdfReader(pdf);
+		try {
+			StringBuilder text = new StringBuilder();
+			PdfTextExtractor extractor = new PdfTextExtractor(reader);
+			for (int page = 1; page <= reader.getNumberOfPages(); page++) {
+				text.append(extractor.getTextFromPage(page)).append('\n');
+			}
+			String content = text.toString();
+			assertTrue(content.contains("Sifra") && content.contains("Rezultat") && content.contains("quantityInspected"),
+					() -> "header missing in " + content);
+			for (String code : List.of("1", "2", "3")) {
+				assertTrue(content.contains(prefix + code), () -> "row " + code + " missing in " + content);
+			}
+			assertFalse(content.contains(prefix + "X"), () -> "filtered row exported in " + content);
+			assertFalse(content.contains("FAIL"), () -> "filtered row exported in " + content);
+		}
+		finally {
+			reader.close();
+		}
+	}
+
+	@Test
+	void serviceExportColumnsResolveAgainstTheirEntities() {
+		assertHeader(Inspection.class, InspectionService.EXPORT_COLUMNS);
+		assertHeader(Invoice.class, InvoiceService.EXPORT_COLUMNS);
+		assertHeader(ItemSales.class, ItemSalesService.EXPORT_COLUMNS);
+	}
+
+	/**
+	 * Upit se gradi i izvrsava i bez redova, pa pogresna putanja ili veza pada ovde; CSV tada ima samo naslov.
+	 */
+	private <E> void assertHeader(Class<E> type, List<TabularExporter.Column> columns) {
+		Specification<E> none = (root, query, cb) -> cb.disjunction();
+		String csv = new String(write(type, none, columns, ExportFormat.CSV), StandardCharsets.UTF_8);
+
+		assertEquals(List.of(String.join(",", columns.stream().map(TabularExporter.Column::header).toList())),
+				csv.lines().toList(), type.getSimpleName());
+	}
+
+	private Specification<Inspection> passed() {
+		return (root, query, cb) -> cb.and(
+				cb.like(root.get("code"), prefix + "%"),
+				cb.equal(root.get("result"), InspectionResult.PASS));
+	}
+
+	private <E> byte[] write(Class<E> type, Specification<E> spec, List<TabularExporter.Column> columns,
+			ExportFormat format) {
+		TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		readOnly.executeWithoutResult(status -> {
+			try {
+				tabularExporter.write(type, spec, columns, format, out, rows -> {
+				});
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		});
+		return out.toByteArray();
+	}
+
+	private static List<List<String>> rows(Sheet sheet) {
+		List<List<String>> rows = new ArrayList<>();
+		for (Row row : sheet) {
+			List<String> cells = new ArrayList<>();
+			row.forEach(cell -> cells.add(cell.toString()));
+			rows.add(cells);
+		}
+		return rows;
+	}
+
+	private void insert(String code, InspectionResult result, int inspected) {
+		created.add(transaction.execute(status -> inspectionRepository.save(Inspection.builder()
+				.code(prefix + code)
+				.type(InspectionType.FINAL_INSPECTION)
+				.inspectionDate(LocalDateTime.now())
+				.quantityInspected(inspected)
+				.quantityAccepted(inspected)
+				.quantityRejected(0)
+				.result(result)
+				.build()).getId()));
+	}
+}
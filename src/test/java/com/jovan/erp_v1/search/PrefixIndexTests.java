@@ -0,0 +1,113 @@
+package com.jovan.erp_v1.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Autocomplete vraca id-jeve po abecedi pogodjene reci pa po id-u, svaki id jednom i sa trenutnim nazivom,
+ * isto pre i posle ponovne izgradnje osnove (dodatak od MIN_DELTA = 1024 stavki).
+ */
+class PrefixIndexTests {
+
+	@Test
+	void emptyIndexBlankPrefixAndZeroLimitCompleteNothing() {
+		assertEquals(List.of(), PrefixIndex.of(Map.of()).complete("a", 10));
+
+		PrefixIndex index = PrefixIndex.of(Map.of(1L, "Beograd"));
+		assertEquals(List.of(), index.complete("  ", 10));
+		assertEquals(List.of(), index.complete("", 10));
+		assertEquals(List.of(), index.complete("be", 0));
+	}
+
+	@Test
+	void matchesFromStartOfEveryWordOnly() {
+		PrefixIndex index = PrefixIndex.of(Map.of(1L, "Novi Sad", 2L, "Sremska-Mitrovica", 3L, "Sadovi"));
+
+		assertEquals(List.of(1L, 3L), ids(index.complete("sad", 10)));
+		assertEquals(List.of(2L), ids(index.complete("mitro", 10)));
+		assertEquals(List.of(), ids(index.complete("ovi", 10)));
+		assertEquals(List.of(1L), ids(index.complete("novi s", 10)));
+	}
+
+	@Test
+	void ignoresCaseAndDiacritics() {
+		PrefixIndex index = PrefixIndex.of(Map.of(1L, "\u010ca\u010dak", 2L, "\u0110akovica"));
+
+		assertEquals(List.of(1L), ids(index.complete("CAC", 10)));
+		assertEquals(List.of(1L), ids(index.complete("\u010d", 10)));
+		assertEquals(List.of(2L), ids(index.complete("dak", 10)));
+	}
+
+	@Test
+	void ordersByMatchedWordThenIdAndReturnsEachIdOnce() {
+		PrefixIndex index = PrefixIndex.of(Map.of(3L, "alfa", 1L, "beta alfa", 2L, "alfa", 4L, "alfabet", 5L, "alfa alfa"));
+
+		assertEquals(List.of(1L, 2L, 3L, 5L, 4L), ids(index.complete("alf", 10)));
+		assertEquals(List.of(1L, 2L), ids(index.complete("alf", 2)));
+	}
+
+	@Test
+	void deltaIsMergedWithBaseInOrder() {
+		PrefixIndex index = PrefixIndex.of(Map.of(1L, "ab", 3L, "ad", 5L, "ac"));
+		index.put(2L, "ac");
+		index.put(4L, "aa");
+
+		assertEquals(List.of(4L, 1L, 2L, 5L, 3L), ids(index.complete("a", 10)));
+	}
+
+	@Test
+	void updateAndDeleteBeforeCompactionHideOldNames() {
+		PrefixIndex index = PrefixIndex.of(Map.of(1L, "Beograd", 2L, "Bor"));
+		index.put(1L, "Nis");
+		index.put(2L, null);
+		index.put(3L, "Bar");
+
+		assertEquals(List.of(new PrefixIndex.Match(3L, "Bar")), index.complete("b", 10));
+		assertEquals(List.of(new PrefixIndex.Match(1L, "Nis")), index.complete("n", 10));
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	void resultsStayTheSameAcrossCompactionBoundary() {
+		PrefixIndex index = PrefixIndex.of(Map.of());
+		// svaki novi id je jedna stavka dodatka i jedan zastareo id: 512 upisa je tacno MIN_DELTA, 513. gradi osnovu
+		for (int i = 0; i < 512; i++) {
+			index.put(i, name(i));
+		}
+		assertEquals(range(500, 512), ids(index.complete("n05", 100)));
+
+		index.put(512, name(512));
+		assertEquals(range(500, 513), ids(index.complete("n05", 100)));
+
+		index.put(505, "x505");
+		index.put(506, null);
+		index.put(600, name(513));
+		List<Long> expected = new ArrayList<>(range(500, 513));
+		expected.removeAll(List.of(505L, 506L));
+		expected.add(600L);
+		assertEquals(expected, ids(index.complete("n05", 100)));
+		assertEquals(List.of(new PrefixIndex.Match(505L, "x505")), index.complete("x", 10));
+		assertEquals(513, index.size());
+	}
+
+	private static String name(int i) {
+		return String.format("n%04d", i);
+	}
+
+	private static List<Long> range(long from, long to) {
+		List<Long> ids = new ArrayList<>();
+		for (long id = from; id < to; id++) {
+			ids.add(id);
+		}
+		return ids;
+	}
+
+	private static List<Long> ids(List<PrefixIndex.Match> matches) {
+		return matches.stream().map(PrefixIndex.Match::id).toList();
+	}
+}
@@ -0,0 +1,110 @@
+package com.jovan.erp_v1.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Pretraga trigram indeksa mora da vrati isto sto i contains nad normalizovanim tekstom: bez lazno pozitivnih
+ * kandidata, posle izmena i brisanja, i sa dijakriticima (ukljucujuci slova koja se ne rastavljaju).
+ */
+class TrigramIndexTests {
+
+	@Test
+	void emptyIndexFindsNothing() {
+		TrigramIndex index = new TrigramIndex();
+
+		assertEquals(List.of(), index.search("abc", 10));
+		assertEquals(0, index.size());
+	}
+
+	@Test
+	void ignoresCaseAndDiacritics() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(1, "\u010ca\u010dak");
+		index.put(2, "Novi Sad");
+		assertEquals(List.of(1L), index.search("CACAK", 10));
+		assertEquals(List.of(2L), index.search("VI S", 10));
+	}
+
+	@Test
+	void mapsLettersWithoutDecompositionToBaseLetters() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(1, "\u0110or\u0111evi\u0107");
+		index.put(2, "\u0141\u00f3d\u017a");
+		assertEquals("dordevic", TrigramIndex.normalize("\u0110OR\u0110EVI\u0106"));
+		assertEquals(List.of(1L), index.search("dordev", 10));
+		assertEquals(List.of(1L), index.search("\u0111or\u0111", 10));
+		assertEquals(List.of(2L), index.search("lodz", 10));
+		assertEquals("strasse", TrigramIndex.normalize("Stra\u00dfe"));
+	}
+
+	@Test
+	void foldedLettersMapToAsciiInBothCases() {
+		// LIKE fallback radi REPLACE(lower(kolona), slovo, normalize(slovo)) samo za ova slova
+		for (String letter : TrigramIndex.FOLDED_LETTERS) {
+			String folded = TrigramIndex.normalize(letter);
+			assertTrue(folded.chars().allMatch(c -> c >= 'a' && c <= 'z'), () -> letter + " -> " + folded);
+			assertEquals(folded, TrigramIndex.normalize(letter.toUpperCase(Locale.ROOT)), letter);
+		}
+	}
+
+	@Test
+	void termLengthIsCountedAfterNormalization() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(1, "Stra\u00dfe");
+		// "s" sa kvacicom i kombinovanom oznakom su dva znaka, ali posle normalizacije samo jedan
+		assertNull(index.search("s\u030ca", 10));
+		// sharp s postaje "ss", pa term od dva znaka ima tri
+		assertEquals(List.of(1L), index.search("\u00dfe", 10));
+	}
+
+	@Test
+	void candidateWithAllTrigramsButNoMatchIsRejected() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(1, "abcxbcd");
+		index.put(2, "aaa");
+		index.put(3, "xabcdx");
+
+		assertEquals(List.of(3L), index.search("abcd", 10));
+		assertEquals(List.of(), index.search("aaaa", 10));
+	}
+
+	@Test
+	void updateReplacesOldTrigramsAndRemoveDropsRow() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(1, "alpha");
+		index.put(2, "alphabet");
+		index.put(1, "beta");
+		index.remove(2);
+
+		assertEquals(List.of(), index.search("alp", 10));
+		assertEquals(List.of(1L), index.search("bet", 10));
+		assertEquals(1, index.size());
+	}
+
+	@Test
+	void idsAreReturnedInAscendingOrder() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(30, "Novi Sad");
+		index.put(10, "Sad");
+		index.put(20, "Sadovi");
+
+		assertEquals(List.of(10L, 20L, 30L), index.search("sad", 10));
+	}
+
+	@Test
+	void returnsNullForShortTermsAndTooManyIds() {
+		TrigramIndex index = new TrigramIndex();
+		index.put(1, "abcd");
+		index.put(2, "abce");
+		assertNull(index.search("ab", 10));
+		assertNull(index.search("abc", 1));
+		assertEquals(List.of(1L, 2L), index.search("abc", 2));
+	}
+}
@@ -0,0 +1,58 @@
+package com.jovan.erp_v1.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Korisnik se kesira pod username-om i kada je JWT subject email, pa evictPrincipal(username) i
+ * evictAllPrincipals vaze za tokene sa oba subject-a.
+ */
+class AuthenticationCacheTests {
+
+	private final AuthenticationCache cache = new AuthenticationCache(60_000, 100, 100, new SimpleMeterRegistry());
+	private final List<String> loads = new ArrayList<>();
+	private final Function<String, UserDetails> loader = subject -> {
+		loads.add(subject);
+		return User.withUsername("pera").password("x").roles("DRIVER").build();
+	};
+
+	@Test
+	void principalIsLoadedOncePerSubject() {
+		UserDetails first = cache.getPrincipal("pera", loader);
+
+		assertSame(first, cache.getPrincipal("pera", loader));
+		assertEquals(List.of("pera"), loads);
+	}
+
+	@Test
+	void evictingUsernameAlsoEvictsEmailSubject() {
+		cache.getPrincipal("pera@example.com", loader);
+		cache.getPrincipal("pera", loader);
+
+		cache.evictPrincipal("pera");
+		cache.getPrincipal("pera@example.com", loader);
+		cache.getPrincipal("pera", loader);
+
+		assertEquals(List.of("pera@example.com", "pera", "pera@example.com"), loads);
+	}
+
+	@Test
+	void evictAllPrincipalsReloadsEverySubject() {
+		cache.getPrincipal("pera@example.com", loader);
+
+		cache.evictAllPrincipals();
+		cache.getPrincipal("pera@example.com", loader);
+
+		assertEquals(List.of("pera@example.com", "pera@example.com"), loads);
+	}
+}
@@ -0,0 +1,56 @@
+package com.jovan.erp_v1.security;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+
+/**
+ * Benchmark kompajliranih RoleGroups provera naspram SpEL PreAuthorizeAuthorizationManager-a za istu metodu.
+ * Poredi vreme izvrsavanja, pa zavisi od masine i opterecenja; pokrece se samo sa -Pbenchmark.
+ */
+@Tag("benchmark")
+class RoleGroupAuthorizationBenchmarkTests {
+
+	private static final int ITERATIONS = 200_000;
+
+	@Test
+	void compiledCheckIsFasterThanSpel() throws NoSuchMethodException {
+		PreAuthorizeAuthorizationManager spel = new PreAuthorizeAuthorizationManager();
+		spel.setExpressionHandler(new DefaultMethodSecurityExpressionHandler());
+		RoleGroupAuthorizationManager compiled = new RoleGroupAuthorizationManager(spel);
+		RoleGroupAuthorizationManagerTests.Fixture fixture = new RoleGroupAuthorizationManagerTests.Fixture();
+		MethodInvocation invocation = new SimpleMethodInvocation(fixture, fixture.getClass().getMethod("help"));
+		Authentication user = new TestingAuthenticationToken("user", "password", "ROLE_DRIVER", "ROLE_ADMIN");
+		// zagrevanje JIT-a za obe putanje
+		time(spel, user, invocation);
+		time(compiled, user, invocation);
+
+		long spelNanos = time(spel, user, invocation);
+		long compiledNanos = time(compiled, user, invocation);
+
+		assertTrue(compiledNanos < spelNanos,
+				() -> "compiled " + compiledNanos / ITERATIONS + " ns/check, SpEL " + spelNanos / ITERATIONS + " ns/check");
+	}
+
+	private static long time(AuthorizationManager<MethodInvocation> manager, Authentication user,
+			MethodInvocation invocation) {
+		Supplier<Authentication> authentication = () -> user;
+		long start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			if (!manager.check(authentication, invocation).isGranted()) {
+				throw new AssertionError("access denied");
+			}
+		}
+		return System.nanoTime() - start;
+	}
+}
@@ -0,0 +1,154 @@
+package com.jovan.erp_v1.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.objenesis.ObjenesisStd;
+import org.springframework.security.access.expression.method.DefaultMethodSecurityExpressionHandler;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.method.PreAuthorizeAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.util.SimpleMethodInvocation;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.jovan.erp_v1.util.RoleGroups;
+
+/**
+ * Kompajlirane RoleGroups provere donose iste odluke kao SpEL PreAuthorizeAuthorizationManager za svaku
+ * controller metodu sa @PreAuthorize i za korisnika sa svakom pojedinacnom ulogom, bez uloga i sa nepoznatom ulogom.
+ * Neispravni izrazi (npr. uloga bez navodnika) moraju da padnu na isti nacin kao u SpEL-u.
+ */
+class RoleGroupAuthorizationManagerTests {
+
+	private static final String CONTROLLER_PACKAGE = "com.jovan.erp_v1.controller";
+
+	private final PreAuthorizeAuthorizationManager spel = spelManager();
+	private final RoleGroupAuthorizationManager compiled = new RoleGroupAuthorizationManager(spel);
+
+	@Test
+	void controllerChecksMatchSpelForEveryRole() throws ClassNotFoundException {
+		List<MethodInvocation> invocations = securedControllerMethods();
+		List<Authentication> users = users();
+		assertFalse(invocations.isEmpty());
+
+		for (MethodInvocation invocation : invocations) {
+			for (Authentication user : users) {
+				assertEquals(outcome(spel, user, invocation), outcome(compiled, user, invocation),
+						() -> invocation.getMethod() + " for " + user.getAuthorities());
+			}
+		}
+	}
+
+	@Test
+	void quotedRoleGroupIsDecidedWithoutSpel() {
+		AuthorizationManager<MethodInvocation> failingDelegate = (authentication, invocation) -> {
+			throw new AssertionError("SpEL delegate called for " + invocation.getMethod());
+		};
+		RoleGroupAuthorizationManager manager = new RoleGroupAuthorizationManager(failingDelegate);
+		MethodInvocation invocation = invocation(new Fixture(), "help");
+
+		assertTrue(manager.check(() -> user("ROLE_ADMIN"), invocation).isGranted());
+		assertTrue(manager.check(() -> user("ROLE_SUPERADMIN"), invocation).isGranted());
+		assertFalse(manager.check(() -> user("ROLE_DRIVER"), invocation).isGranted());
+		assertFalse(manager.check(() -> user(), invocation).isGranted());
+	}
+
+	static class Fixture {
+
+		@PreAuthorize(RoleGroups.HELP_FULL_ACCESS)
+		public void help() {
+		}
+	}
+
+	private static String outcome(AuthorizationManager<MethodInvocation> manager, Authentication user,
+			MethodInvocation invocation) {
+		try {
+			AuthorizationDecision decision = manager.check(() -> user, invocation);
+			return decision == null ? "abstain" : decision.isGranted() ? "granted" : "denied";
+		}
+		catch (RuntimeException e) {
+			return e.getClass().getName();
+		}
+	}
+
+	private static List<MethodInvocation> securedControllerMethods() throws ClassNotFoundException {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+		scanner.addIncludeFilter(new AnnotationTypeFilter(RestController.class));
+		ObjenesisStd objenesis = new ObjenesisStd();
+		List<MethodInvocation> invocations = new ArrayList<>();
+		for (BeanDefinition definition : scanner.findCandidateComponents(CONTROLLER_PACKAGE)) {
+			Class<?> type = Class.forName(definition.getBeanClassName());
+			Object controller = objenesis.newInstance(type);
+			boolean classSecured = AnnotatedElementUtils.hasAnnotation(type, PreAuthorize.class);
+			for (Method method : type.getDeclaredMethods()) {
+				if (Modifier.isPublic(method.getModifiers())
+						&& (classSecured || AnnotatedElementUtils.hasAnnotation(method, PreAuthorize.class))) {
+					invocations.add(new SimpleMethodInvocation(controller, method));
+				}
+			}
+		}
+		return invocations;
+	}
+
+	/**
+	 * Po jedan korisnik za svaku ulogu iz RoleGroups, plus korisnik bez uloga i korisnik sa nepoznatom ulogom.
+	 */
+	private static List<Authentication> users() {
+		Set<String> roles = new LinkedHashSet<>();
+		for (var field : RoleGroups.class.getDeclaredFields()) {
+			if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+				try {
+					List<String> parsed = RoleGroupAuthorizationManager.parseRoles((String) field.get(null));
+					if (parsed != null) {
+						roles.addAll(parsed);
+					}
+				}
+				catch (IllegalAccessException e) {
+					throw new IllegalStateException(e);
+				}
+			}
+		}
+		List<Authentication> users = new ArrayList<>();
+		roles.forEach(role -> users.add(user(role)));
+		users.add(user());
+		users.add(user("ROLE_UNKNOWN"));
+		users.add(user("FINANCIAL_MANAGER"));
+		return users;
+	}
+
+	private static Authentication user(String... authorities) {
+		return new TestingAuthenticationToken("user", "password", authorities);
+	}
+
+	private static MethodInvocation invocation(Object target, String method) {
+		try {
+			return new SimpleMethodInvocation(target, target.getClass().getMethod(method));
+		}
+		catch (NoSuchMethodException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static PreAuthorizeAuthorizationManager spelManager() {
+		PreAuthorizeAuthorizationManager manager = new PreAuthorizeAuthorizationManager();
+		manager.setExpressionHandler(new DefaultMethodSecurityExpressionHandler());
+		return manager;
+	}
+}
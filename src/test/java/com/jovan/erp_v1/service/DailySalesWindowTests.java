@@ -0,0 +1,70 @@
+package com.jovan.erp_v1.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Prozor dnevnog prometa: dani van poslednjih DAYS dana se ignorisu, slot starijeg dana se prazni kada ga
+ * preuzme novi dan, a dan bez prodaja (posle brisanja) ne ulazi u mapu.
+ */
+class DailySalesWindowTests {
+
+	private static final LocalDate TODAY = LocalDate.of(2024, 3, 10);
+
+	private final DailySalesWindow window = new DailySalesWindow();
+
+	@Test
+	void keepsOnlyLastDaysOrderedFromOldest() {
+		window.add(TODAY, amount("5"), 1, TODAY);
+		window.add(TODAY.minusDays(6), amount("1"), 1, TODAY);
+		window.add(TODAY.minusDays(6), amount("2"), 1, TODAY);
+		window.add(TODAY.minusDays(7), amount("100"), 1, TODAY);
+		window.add(TODAY.plusDays(1), amount("100"), 1, TODAY);
+		window.add(null, amount("100"), 1, TODAY);
+
+		Map<LocalDate, BigDecimal> days = window.toMap(TODAY);
+
+		assertEquals(List.of(TODAY.minusDays(6), TODAY), List.copyOf(days.keySet()));
+		assertEquals(amount("3"), days.get(TODAY.minusDays(6)));
+		assertEquals(amount("5"), days.get(TODAY));
+	}
+
+	@Test
+	void newDayClearsSlotOfDayThatLeftWindow() {
+		window.add(TODAY, amount("5"), 2, TODAY);
+		LocalDate later = TODAY.plusDays(DailySalesWindow.DAYS);
+
+		// isti slot (epochDay % DAYS), stari dan je ispao iz prozora
+		window.add(later, amount("1"), 1, later);
+
+		assertEquals(Map.of(later, amount("1")), window.toMap(later));
+	}
+
+	@Test
+	void dayThatLeftWindowIsNotReportedBeforeItsSlotIsReused() {
+		window.add(TODAY, amount("5"), 1, TODAY);
+
+		assertEquals(Map.of(), window.toMap(TODAY.plusDays(DailySalesWindow.DAYS)));
+	}
+
+	@Test
+	void deletedSalesRemoveDay() {
+		window.add(TODAY, amount("5"), 1, TODAY);
+		window.add(TODAY.minusDays(1), amount("4"), 2, TODAY);
+
+		window.add(TODAY, amount("-5"), -1, TODAY);
+		window.add(TODAY.minusDays(1), amount("-1"), -1, TODAY);
+
+		assertEquals(Map.of(TODAY.minusDays(1), amount("3")), window.toMap(TODAY));
+	}
+
+	private static BigDecimal amount(String value) {
+		return new BigDecimal(value);
+	}
+}
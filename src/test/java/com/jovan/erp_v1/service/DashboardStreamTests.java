@@ -0,0 +1,117 @@
+package com.jovan.erp_v1.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import com.jovan.erp_v1.response.DashboardResponse;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+/**
+ * SSE tok dashboard-a: snimak pa delta samo promenjenih polja, keep-alive komentar, i izmena koja stigne dok
+ * pretplatnik cita snimak (a zajednicki tok je vec emitovao) ipak stize kao delta.
+ * Prozore i heartbeat emituje test kroz Sinks, pa redosled ne zavisi od vremena.
+ */
+class DashboardStreamTests {
+
+	private static final Duration VERIFY_TIMEOUT = Duration.ofSeconds(5);
+
+	private final AtomicReference<DashboardResponse> current = new AtomicReference<>(response(1));
+	/** izvrsava se jednom, u sledecem citanju snimka, posle citanja vrednosti */
+	private final AtomicReference<Runnable> afterRead = new AtomicReference<>();
+	private final Sinks.Many<Long> windows = Sinks.many().multicast().directBestEffort();
+	private final Sinks.Many<Long> heartbeats = Sinks.many().multicast().directBestEffort();
+
+	private final LiveDashboard liveDashboard = new LiveDashboard(null, null, null, null, null, null, null, null, null) {
+		@Override
+		public DashboardResponse snapshot() {
+			DashboardResponse value = current.get();
+			Runnable hook = afterRead.getAndSet(null);
+			if (hook != null) {
+				hook.run();
+			}
+			return value;
+		}
+	};
+
+	private final DashboardStream stream = new DashboardStream(liveDashboard, windows.asFlux(), heartbeats.asFlux(),
+			Duration.ofMinutes(30));
+
+	@Test
+	void snapshotThenDeltaOfChangedFieldsThenHeartbeat() {
+		StepVerifier.create(stream.subscribe())
+				.assertNext(event -> {
+					assertEquals("snapshot", event.event());
+					assertEquals(10, event.data().size());
+					assertEquals(1L, event.data().get("totalUsers"));
+				})
+				// stanje jednako snimku ne salje nista
+				.then(this::window)
+				.expectNoEvent(Duration.ofMillis(100))
+				.then(() -> {
+					current.set(response(2));
+					window();
+				})
+				.assertNext(event -> {
+					assertEquals("delta", event.event());
+					assertEquals(Map.of("totalUsers", 2L), event.data());
+				})
+				.then(() -> heartbeats.tryEmitNext(0L).orThrow())
+				.assertNext(event -> {
+					assertEquals("keep-alive", event.comment());
+					assertNull(event.data());
+				})
+				.thenCancel()
+				.verify(VERIFY_TIMEOUT);
+	}
+
+	@Test
+	void changeBetweenSnapshotAndSubscriptionIsDelivered() throws InterruptedException {
+		// prvi pretplatnik drzi zajednicki tok, koji je vec emitovao stanje 1
+		CountDownLatch firstSnapshot = new CountDownLatch(1);
+		Disposable first = stream.subscribe().subscribe(event -> firstSnapshot.countDown());
+		try {
+			assertTrue(firstSnapshot.await(VERIFY_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+			window();
+			// drugi pretplatnik cita stanje 1, a pre nego sto dobije snimak izmena stize u zajednicki tok
+			afterRead.set(() -> {
+				current.set(response(2));
+				window();
+			});
+
+			StepVerifier.create(stream.subscribe())
+					.assertNext(event -> {
+						assertEquals("snapshot", event.event());
+						assertEquals(1L, event.data().get("totalUsers"));
+					})
+					.assertNext(event -> {
+						assertEquals("delta", event.event());
+						assertEquals(Map.of("totalUsers", 2L), event.data());
+					})
+					.thenCancel()
+					.verify(VERIFY_TIMEOUT);
+		}
+		finally {
+			first.dispose();
+		}
+	}
+
+	private void window() {
+		windows.tryEmitNext(0L).orThrow();
+	}
+
+	private static DashboardResponse response(long users) {
+		return new DashboardResponse(users, 2L, 3L, 4L, 5L, null, null, 0, 0, Map.of());
+	}
+}
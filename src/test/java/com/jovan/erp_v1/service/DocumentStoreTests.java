@@ -0,0 +1,171 @@
+package com.jovan.erp_v1.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Skladiste cuva tacno poslate bajtove pod njihovim SHA-256 (i na granici bafera od 64 KB), isti sadrzaj samo
+ * jednom (i kada ga istovremeno salje vise upload-a), a privremeni fajlovi ne ostaju.
+ */
+class DocumentStoreTests {
+
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void emptyInputIsStoredUnderEmptyHash() throws Exception {
+		DocumentStore store = new DocumentStore(directory);
+
+		DocumentStore.Stored stored = store.store(new ByteArrayInputStream(new byte[0]));
+
+		assertEquals("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855", stored.contentHash());
+		assertEquals(0, stored.size());
+		assertFalse(stored.deduplicated());
+		assertEquals(0, Files.size(store.resolve(stored.key())));
+		assertNoTempFiles();
+	}
+
+	@Test
+	void contentAroundBufferSizeIsStoredIntact() throws Exception {
+		DocumentStore store = new DocumentStore(directory);
+		for (int size : new int[] { BUFFER_SIZE - 1, BUFFER_SIZE, BUFFER_SIZE + 1, 2 * BUFFER_SIZE }) {
+			byte[] content = content(size, (byte) size);
+
+			DocumentStore.Stored stored = store.store(new ByteArrayInputStream(content));
+
+			assertEquals(sha256(content), stored.contentHash(), "hash of " + size + " bytes");
+			assertEquals(size, stored.size(), "size of " + size + " bytes");
+			assertArrayEquals(content, Files.readAllBytes(store.resolve(stored.key())), "content of " + size + " bytes");
+		}
+		assertNoTempFiles();
+	}
+
+	@Test
+	void shortReadsFillBufferAcrossCalls() throws Exception {
+		DocumentStore store = new DocumentStore(directory);
+		byte[] content = content(BUFFER_SIZE + 10, (byte) 7);
+
+		DocumentStore.Stored stored = store.store(new ChunkedInputStream(new ByteArrayInputStream(content), 1000));
+
+		assertEquals(sha256(content), stored.contentHash());
+		assertArrayEquals(content, Files.readAllBytes(store.resolve(stored.key())));
+	}
+
+	@Test
+	void secondUploadIsDeduplicated() throws Exception {
+		DocumentStore store = new DocumentStore(directory);
+		byte[] content = content(1000, (byte) 1);
+
+		DocumentStore.Stored first = store.store(new ByteArrayInputStream(content));
+		DocumentStore.Stored second = store.store(new ByteArrayInputStream(content));
+
+		assertFalse(first.deduplicated());
+		assertTrue(second.deduplicated());
+		assertEquals(first.key(), second.key());
+		assertEquals(1, filesIn(store.resolve(first.key()).getParent()));
+		assertNoTempFiles();
+	}
+
+	@Test
+	void concurrentUploadsOfSameContentStoreOneCopy() throws Exception {
+		DocumentStore store = new DocumentStore(directory);
+		byte[] content = content(3 * BUFFER_SIZE, (byte) 3);
+		int uploads = 16;
+		CountDownLatch start = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(uploads);
+		try {
+			List<Future<DocumentStore.Stored>> results = new ArrayList<>();
+			for (int i = 0; i < uploads; i++) {
+				results.add(executor.submit(() -> {
+					start.await();
+					return store.store(new ByteArrayInputStream(content));
+				}));
+			}
+			start.countDown();
+
+			int stored = 0;
+			String key = null;
+			for (Future<DocumentStore.Stored> result : results) {
+				DocumentStore.Stored upload = result.get();
+				stored += upload.deduplicated() ? 0 : 1;
+				key = upload.key();
+			}
+			assertEquals(1, stored, "uploads that were not deduplicated");
+			assertEquals(1, filesIn(store.resolve(key).getParent()));
+			assertArrayEquals(content, Files.readAllBytes(store.resolve(key)));
+			assertNoTempFiles();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void keyIsShardedByFirstTwoHashCharacters() {
+		assertEquals("ab/abcdef", DocumentStore.keyOf("abcdef"));
+	}
+
+	private void assertNoTempFiles() throws IOException {
+		assertEquals(0, filesIn(directory.resolve(".tmp")), "temp files");
+	}
+
+	private static long filesIn(Path path) throws IOException {
+		try (Stream<Path> files = Files.list(path)) {
+			return files.count();
+		}
+	}
+
+	private static byte[] content(int size, byte seed) {
+		byte[] content = new byte[size];
+		for (int i = 0; i < size; i++) {
+			content[i] = (byte) (seed + i * 31);
+		}
+		return content;
+	}
+
+	private static String sha256(byte[] content) throws NoSuchAlgorithmException {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+	}
+
+	/**
+	 * Vraca najvise chunk bajtova po citanju, kao mrezni stream.
+	 */
+	private static class ChunkedInputStream extends FilterInputStream {
+
+		private final int chunk;
+
+		ChunkedInputStream(InputStream in, int chunk) {
+			super(in);
+			this.chunk = chunk;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			return super.read(b, off, Math.min(len, chunk));
+		}
+	}
+}
@@ -0,0 +1,266 @@
+package com.jovan.erp_v1.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Range (jedan, sufiks, otvoren, 416), If-Range sa ETag-om i datumom, If-None-Match / If-Match i HEAD
+ * nad fajlom od 100 bajtova sa poznatim vremenom izmene.
+ */
+class FileDownloadsTests {
+
+	private static final int LENGTH = 100;
+	private static final Instant MODIFIED = Instant.parse("2025-03-10T08:15:30Z");
+
+	@TempDir
+	Path directory;
+
+	private final FileDownloads downloads = new FileDownloads(100);
+	private byte[] content;
+	private FileDownloads.Download download;
+	private String etag;
+
+	@BeforeEach
+	void createFile() throws IOException {
+		content = new byte[LENGTH];
+		for (int i = 0; i < LENGTH; i++) {
+			content[i] = (byte) i;
+		}
+		Path file = Files.write(directory.resolve("report.pdf"), content);
+		Files.setLastModifiedTime(file, FileTime.from(MODIFIED));
+		download = new FileDownloads.Download(file, "report.pdf", MediaType.APPLICATION_PDF, null);
+		etag = "\"" + FileDownloads.sha256(file) + "\"";
+	}
+
+	@Test
+	void fullBodyCarriesValidators() throws IOException {
+		MockHttpServletResponse response = send(get());
+
+		assertEquals(200, response.getStatus());
+		assertEquals(etag, response.getHeader(HttpHeaders.ETAG));
+		assertEquals(MODIFIED.toEpochMilli(), response.getDateHeader(HttpHeaders.LAST_MODIFIED));
+		assertEquals("bytes", response.getHeader(HttpHeaders.ACCEPT_RANGES));
+		assertEquals(LENGTH, response.getContentLengthLong());
+		assertArrayEquals(content, response.getContentAsByteArray());
+	}
+
+	@Test
+	void singleRange() throws IOException {
+		MockHttpServletResponse response = send(get(HttpHeaders.RANGE, "bytes=10-19"));
+
+		assertPartial(response, 10, 19);
+	}
+
+	@Test
+	void suffixRange() throws IOException {
+		MockHttpServletResponse response = send(get(HttpHeaders.RANGE, "bytes=-5"));
+
+		assertPartial(response, 95, 99);
+	}
+
+	@Test
+	void openEndedRange() throws IOException {
+		MockHttpServletResponse response = send(get(HttpHeaders.RANGE, "bytes=90-"));
+
+		assertPartial(response, 90, 99);
+	}
+
+	@Test
+	void rangeEndBeyondFileIsClamped() throws IOException {
+		MockHttpServletResponse response = send(get(HttpHeaders.RANGE, "bytes=98-1000"));
+
+		assertPartial(response, 98, 99);
+	}
+
+	@Test
+	void unsatisfiableRangeIs416WithLength() throws IOException {
+		MockHttpServletResponse response = send(get(HttpHeaders.RANGE, "bytes=100-"));
+
+		assertEquals(416, response.getStatus());
+		assertEquals("bytes */" + LENGTH, response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void emptySuffixRangeIs416() throws IOException {
+		MockHttpServletResponse response = send(get(HttpHeaders.RANGE, "bytes=-0"));
+
+		assertEquals(416, response.getStatus());
+		assertEquals("bytes */" + LENGTH, response.getHeader(HttpHeaders.CONTENT_RANGE));
+	}
+
+	@Test
+	void multipleRangesAreIgnored() throws IOException {
+		MockHttpServletResponse response = send(get(HttpHeaders.RANGE, "bytes=0-9,20-29"));
+
+		assertFull(response);
+	}
+
+	@Test
+	void ifRangeWithMatchingEtagSendsRange() throws IOException {
+		MockHttpServletRequest request = get(HttpHeaders.RANGE, "bytes=10-19");
+		request.addHeader(HttpHeaders.IF_RANGE, etag);
+
+		assertPartial(send(request), 10, 19);
+	}
+
+	@Test
+	void ifRangeWithOtherEtagSendsWholeFile() throws IOException {
+		MockHttpServletRequest request = get(HttpHeaders.RANGE, "bytes=10-19");
+		request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+
+		assertFull(send(request));
+	}
+
+	@Test
+	void ifRangeWithWeakEtagSendsWholeFile() throws IOException {
+		MockHttpServletRequest request = get(HttpHeaders.RANGE, "bytes=10-19");
+		request.addHeader(HttpHeaders.IF_RANGE, "W/" + etag);
+
+		assertFull(send(request));
+	}
+
+	@Test
+	void ifRangeWithMatchingDateSendsRange() throws IOException {
+		MockHttpServletRequest request = get(HttpHeaders.RANGE, "bytes=10-19");
+		request.addHeader(HttpHeaders.IF_RANGE, httpDate(MODIFIED));
+
+		assertPartial(send(request), 10, 19);
+	}
+
+	@Test
+	void ifRangeWithOtherDateSendsWholeFile() throws IOException {
+		MockHttpServletRequest request = get(HttpHeaders.RANGE, "bytes=10-19");
+		request.addHeader(HttpHeaders.IF_RANGE, httpDate(MODIFIED.minusSeconds(60)));
+
+		assertFull(send(request));
+	}
+
+	@Test
+	void ifNoneMatchWithCurrentEtagIs304() throws IOException {
+		MockHttpServletResponse response = send(get(HttpHeaders.IF_NONE_MATCH, etag));
+
+		assertEquals(304, response.getStatus());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void ifNoneMatchWithOtherEtagSendsFile() throws IOException {
+		assertFull(send(get(HttpHeaders.IF_NONE_MATCH, "\"other\"")));
+	}
+
+	@Test
+	void ifMatchWithOtherEtagIs412() throws IOException {
+		MockHttpServletResponse response = send(get(HttpHeaders.IF_MATCH, "\"other\""));
+
+		assertEquals(412, response.getStatus());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void ifMatchWithCurrentEtagSendsFile() throws IOException {
+		assertFull(send(get(HttpHeaders.IF_MATCH, "\"other\", " + etag)));
+	}
+
+	@Test
+	void ifUnmodifiedSinceBeforeModificationIs412() throws IOException {
+		MockHttpServletResponse response = send(get(HttpHeaders.IF_UNMODIFIED_SINCE, httpDate(MODIFIED.minusSeconds(60))));
+
+		assertEquals(412, response.getStatus());
+	}
+
+	@Test
+	void headSendsHeadersWithoutBody() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/download");
+
+		MockHttpServletResponse response = send(request);
+
+		assertEquals(200, response.getStatus());
+		assertEquals(etag, response.getHeader(HttpHeaders.ETAG));
+		assertEquals(LENGTH, response.getContentLengthLong());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void headWithRangeSendsPartialHeadersWithoutBody() throws IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("HEAD", "/download");
+		request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+
+		MockHttpServletResponse response = send(request);
+
+		assertEquals(206, response.getStatus());
+		assertEquals("bytes 10-19/" + LENGTH, response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertEquals(10, response.getContentLengthLong());
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void sendfileConnectorGetsFileAndExclusiveEnd() throws IOException {
+		MockHttpServletRequest request = get(HttpHeaders.RANGE, "bytes=10-19");
+		request.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+
+		MockHttpServletResponse response = send(request);
+
+		assertEquals(206, response.getStatus());
+		assertEquals(download.file().toAbsolutePath().toString(), request.getAttribute("org.apache.tomcat.sendfile.filename"));
+		assertEquals(10L, request.getAttribute("org.apache.tomcat.sendfile.start"));
+		assertEquals(20L, request.getAttribute("org.apache.tomcat.sendfile.end"));
+		assertEquals(0, response.getContentAsByteArray().length);
+	}
+
+	@Test
+	void knownContentHashIsUsedAsEtag() throws IOException {
+		download = new FileDownloads.Download(download.file(), "report.pdf", MediaType.APPLICATION_PDF, "abc");
+
+		assertEquals("\"abc\"", send(get()).getHeader(HttpHeaders.ETAG));
+	}
+
+	private MockHttpServletResponse send(MockHttpServletRequest request) throws IOException {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		downloads.send(download, request, response);
+		return response;
+	}
+
+	private void assertPartial(MockHttpServletResponse response, int start, int end) throws IOException {
+		assertEquals(206, response.getStatus());
+		assertEquals("bytes " + start + "-" + end + "/" + LENGTH, response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertEquals(end - start + 1, response.getContentLengthLong());
+		assertArrayEquals(Arrays.copyOfRange(content, start, end + 1), response.getContentAsByteArray());
+	}
+
+	private void assertFull(MockHttpServletResponse response) {
+		assertEquals(200, response.getStatus());
+		assertNull(response.getHeader(HttpHeaders.CONTENT_RANGE));
+		assertArrayEquals(content, response.getContentAsByteArray());
+	}
+
+	private static MockHttpServletRequest get(String... headers) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/download");
+		for (int i = 0; i < headers.length; i += 2) {
+			request.addHeader(headers[i], headers[i + 1]);
+		}
+		return request;
+	}
+
+	private static String httpDate(Instant instant) {
+		return DateTimeFormatter.RFC_1123_DATE_TIME.format(instant.atZone(ZoneOffset.UTC));
+	}
+}
@@ -0,0 +1,145 @@
+package com.jovan.erp_v1.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jovan.erp_v1.service.InspectionRollupService.Contribution;
+import com.jovan.erp_v1.service.InspectionRollupService.Delta;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Delta jedne transakcije: insert, update i delete inspekcija se sabiraju po redu rollup-a i upisuju jednim
+ * batch upsert-om (TOTAL red jednom po transakciji), redovi bez promene se ne salju.
+ */
+class InspectionRollupServiceTests {
+
+	private final List<List<Object[]>> batches = new ArrayList<>();
+	private InspectionRollupService service;
+
+	@BeforeEach
+	void setUp() {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+			@Override
+			public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+				batches.add(batchArgs);
+				return new int[batchArgs.size()];
+			}
+		};
+		service = new InspectionRollupService(jdbcTemplate, null, new SimpleMeterRegistry());
+	}
+
+	@Test
+	void insertsShareOneTotalRow() {
+		Delta delta = new Delta();
+		delta.add(confirmed(1L, 10, 8, 2), 1);
+		delta.add(confirmed(1L, 5, 5, 0), 1);
+		delta.add(unconfirmed(3, 1, 2), 1);
+
+		service.apply(delta);
+
+		assertEquals(1, batches.size());
+		List<Object[]> rows = batches.get(0);
+		assertRow(rows, "TOTAL", 0L, 3, 18, 14, 4);
+		assertRow(rows, "BATCH", 1L, 2, 15, 13, 2);
+		assertRow(rows, "PRODUCT", 20L, 2, 15, 13, 2);
+		assertRow(rows, "INSPECTOR", 30L, 2, 15, 13, 2);
+		assertRow(rows, "QUALITY_CHECK", 40L, 2, 15, 13, 2);
+		assertEquals(5, rows.size());
+	}
+
+	@Test
+	void updateMovesContributionBetweenBatches() {
+		Delta delta = new Delta();
+		delta.replace(confirmed(1L, 10, 8, 2), confirmed(2L, 10, 6, 4));
+
+		service.apply(delta);
+
+		List<Object[]> rows = batches.get(0);
+		assertRow(rows, "TOTAL", 0L, 0, 0, -2, 2);
+		assertRow(rows, "BATCH", 1L, -1, -10, -8, -2);
+		assertRow(rows, "BATCH", 2L, 1, 10, 6, 4);
+		assertRow(rows, "PRODUCT", 20L, 0, 0, -2, 2);
+	}
+
+	@Test
+	void unchangedUpdateWritesNothing() {
+		Delta delta = new Delta();
+		delta.replace(confirmed(1L, 10, 8, 2), confirmed(1L, 10, 8, 2));
+
+		service.apply(delta);
+
+		assertTrue(batches.isEmpty());
+	}
+
+	@Test
+	void confirmingAddsDimensionRowsOnly() {
+		Delta delta = new Delta();
+		delta.replace(unconfirmed(10, 8, 2), confirmed(1L, 10, 8, 2));
+
+		service.apply(delta);
+
+		List<Object[]> rows = batches.get(0);
+		assertEquals(4, rows.size(), "TOTAL is unchanged and skipped");
+		assertRow(rows, "BATCH", 1L, 1, 10, 8, 2);
+	}
+
+	@Test
+	void deleteSubtractsContribution() {
+		Delta delta = new Delta();
+		delta.add(confirmed(1L, 10, 8, 2), -1);
+
+		service.apply(delta);
+
+		assertRow(batches.get(0), "TOTAL", 0L, -1, -10, -8, -2);
+		assertRow(batches.get(0), "BATCH", 1L, -1, -10, -8, -2);
+	}
+
+	@Test
+	void insertAndDeleteInSameTransactionCancelOut() {
+		Delta delta = new Delta();
+		delta.add(confirmed(1L, 10, 8, 2), 1);
+		delta.add(confirmed(1L, 10, 8, 2), -1);
+
+		service.apply(delta);
+
+		assertTrue(batches.isEmpty());
+	}
+
+	@Test
+	void rowsAreWrittenInKeyOrder() {
+		Delta delta = new Delta();
+		delta.add(confirmed(9L, 1, 1, 0), 1);
+		delta.add(confirmed(2L, 1, 1, 0), 1);
+
+		service.apply(delta);
+
+		List<String> keys = batches.get(0).stream().map(row -> row[0] + ":" + row[1]).toList();
+		assertEquals(List.of("TOTAL:0", "BATCH:2", "BATCH:9", "PRODUCT:20", "INSPECTOR:30", "QUALITY_CHECK:40"), keys);
+	}
+
+	private static Contribution confirmed(Long batchId, long inspected, long accepted, long rejected) {
+		return new Contribution(true, batchId, 20L, 30L, 40L, inspected, accepted, rejected);
+	}
+
+	private static Contribution unconfirmed(long inspected, long accepted, long rejected) {
+		return new Contribution(false, 1L, 20L, 30L, 40L, inspected, accepted, rejected);
+	}
+
+	private static void assertRow(List<Object[]> rows, String dimension, Long id, long count, long inspected,
+			long accepted, long rejected) {
+		Object[] row = rows.stream()
+				.filter(r -> r[0].equals(dimension) && r[1].equals(id))
+				.findFirst()
+				.orElseThrow(() -> new AssertionError("no row " + dimension + ":" + id));
+		assertArrayEquals(new Object[] { dimension, id, count, inspected, accepted, rejected }, row);
+	}
+}
@@ -0,0 +1,186 @@
+package com.jovan.erp_v1.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.jovan.erp_v1.model.User;
+import com.jovan.erp_v1.repository.InventoryRepository;
+import com.jovan.erp_v1.repository.ProcurementRepository;
+import com.jovan.erp_v1.repository.ProductRepository;
+import com.jovan.erp_v1.repository.SalesOrderRepository;
+import com.jovan.erp_v1.repository.SalesRepository;
+import com.jovan.erp_v1.repository.ShiftRepository;
+import com.jovan.erp_v1.repository.UserRepository;
+import com.jovan.erp_v1.repository.VendorRepository;
+import com.jovan.erp_v1.service.LiveDashboard.Commit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Izmene se primenjuju samo posle uspesnog commit-a, a reconcile zamenjuje brojace snimkom iz baze samo kada
+ * snimak ne moze da sadrzi izmene commit-a koji ce se primeniti posle zamene (commit u toku pre snimka ili
+ * zapocet tokom ucitavanja). "Baza" su repozitorijumi koji citaju db mapu (RepositoryInterface.metoda).
+ */
+class LiveDashboardTests {
+
+	private static final String USERS = "UserRepository.count";
+	private static final String VENDORS = "VendorRepository.count";
+
+	private final Map<String, Object> db = new HashMap<>();
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	/** izvrsava se jednom, na pocetku sledeceg ucitavanja iz baze */
+	private Runnable duringLoad;
+	private LiveDashboard dashboard;
+
+	@BeforeEach
+	void setUp() {
+		db.put(USERS, 1L);
+		dashboard = new LiveDashboard(repository(UserRepository.class), repository(InventoryRepository.class),
+				repository(SalesOrderRepository.class), repository(VendorRepository.class),
+				repository(ProductRepository.class), repository(SalesRepository.class),
+				repository(ProcurementRepository.class), repository(ShiftRepository.class), meterRegistry);
+		dashboard.reconcile();
+	}
+
+	@Test
+	void changesApplyOnlyAfterSuccessfulCommit() {
+		Commit rolledBack = newUser();
+		dashboard.afterCompletion(rolledBack, false);
+		assertEquals(1L, users());
+
+		Commit committed = newUser();
+		dashboard.beforeCommit(committed);
+		assertEquals(1L, users());
+		dashboard.afterCompletion(committed, true);
+		assertEquals(2L, users());
+	}
+
+	@Test
+	void commitInFlightWhenSnapshotStartsIsNotCountedTwice() {
+		Commit commit = newUser();
+		dashboard.beforeCommit(commit);
+		// red je u bazi, ali afterCompletion jos nije stigao
+		db.put(USERS, 2L);
+		db.put(VENDORS, 7L);
+
+		dashboard.reconcile();
+		// snimak nije zamenio brojace, pa ni vendor-e iz baze
+		assertEquals(0L, dashboard.snapshot().getTotalVendors());
+
+		dashboard.afterCompletion(commit, true);
+		assertEquals(2L, users());
+		dashboard.reconcile();
+		assertEquals(2L, users());
+		assertEquals(7L, dashboard.snapshot().getTotalVendors());
+	}
+
+	@Test
+	void reconcileWaitsForCommitInFlight() throws InterruptedException {
+		Commit commit = newUser();
+		dashboard.beforeCommit(commit);
+		db.put(USERS, 2L);
+		db.put(VENDORS, 7L);
+		Thread completing = new Thread(() -> {
+			try {
+				Thread.sleep(20);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			dashboard.afterCompletion(commit, true);
+		});
+		completing.start();
+
+		dashboard.reconcile();
+		completing.join();
+
+		assertEquals(2L, users());
+		assertEquals(7L, dashboard.snapshot().getTotalVendors());
+	}
+
+	@Test
+	void commitStartedWhileLoadingDefersSwap() {
+		Commit commit = newUser();
+		db.put(VENDORS, 7L);
+		duringLoad = () -> {
+			dashboard.beforeCommit(commit);
+			db.put(USERS, 2L);
+		};
+
+		dashboard.reconcile();
+		dashboard.afterCompletion(commit, true);
+
+		assertEquals(2L, users());
+		assertEquals(0L, dashboard.snapshot().getTotalVendors());
+		assertEquals(0.0, drifts());
+	}
+
+	@Test
+	void reconcileReplacesDriftedCounters() {
+		db.put(VENDORS, 7L);
+
+		dashboard.reconcile();
+
+		assertEquals(7L, dashboard.snapshot().getTotalVendors());
+		assertEquals(1.0, drifts());
+	}
+
+	@Test
+	void committedChangeWithoutOldStateRequestsReconcile() {
+		Commit commit = new Commit();
+		commit.requestReconcile();
+		db.put(VENDORS, 7L);
+		dashboard.beforeCommit(commit);
+		dashboard.afterCompletion(commit, true);
+
+		dashboard.reconcileIfDue();
+
+		assertEquals(7L, dashboard.snapshot().getTotalVendors());
+	}
+
+	private Commit newUser() {
+		Commit commit = new Commit();
+		commit.add(User.class, property -> null, 1);
+		return commit;
+	}
+
+	private long users() {
+		return dashboard.snapshot().getTotalUsers();
+	}
+
+	private double drifts() {
+		return meterRegistry.counter("erp.dashboard.live.drift").count();
+	}
+
+	private <T> T repository(Class<T> type) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+			String key = type.getSimpleName() + "." + method.getName();
+			if (key.equals(USERS) && duringLoad != null) {
+				Runnable hook = duringLoad;
+				duringLoad = null;
+				hook.run();
+			}
+			if (db.containsKey(key)) {
+				return db.get(key);
+			}
+			Class<?> returns = method.getReturnType();
+			if (returns == long.class) {
+				return 0L;
+			}
+			if (returns == Integer.class) {
+				return 0;
+			}
+			if (returns == List.class) {
+				return List.of();
+			}
+			return null;
+		}));
+	}
+}
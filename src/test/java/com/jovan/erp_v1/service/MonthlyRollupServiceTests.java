@@ -0,0 +1,112 @@
+package com.jovan.erp_v1.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jovan.erp_v1.model.Batch;
+import com.jovan.erp_v1.model.Defect;
+import com.jovan.erp_v1.model.FiscalYear;
+import com.jovan.erp_v1.model.MonthlyRollup;
+import com.jovan.erp_v1.service.MonthlyRollupService.Reopen;
+
+/**
+ * Odmrzavanje jedne transakcije: zatvoreni meseci se upisuju jednim batch-om (sortirano), tekuci i buduci se
+ * preskacu, a izmena bez starog stanja odmrzava sve mesece metrike.
+ */
+class MonthlyRollupServiceTests {
+
+	private final List<String> updates = new ArrayList<>();
+	private final List<List<Object[]>> batches = new ArrayList<>();
+	private MonthlyRollupService service;
+
+	@BeforeEach
+	void setUp() {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+			@Override
+			public int update(String sql, Object... args) {
+				updates.add(sql + " " + List.of(args));
+				return 1;
+			}
+
+			@Override
+			public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+				batches.add(batchArgs);
+				return new int[batchArgs.size()];
+			}
+		};
+		service = new MonthlyRollupService(null, jdbcTemplate, null);
+	}
+
+	@Test
+	void closedMonthsAreReopenedInOneSortedBatch() {
+		YearMonth now = YearMonth.now();
+		Reopen reopen = new Reopen();
+		reopen.touch(FiscalYear.class, date(now.minusMonths(2)));
+		reopen.touch(FiscalYear.class, date(now.minusMonths(14)));
+		reopen.touch(FiscalYear.class, date(now.minusMonths(2)));
+
+		service.reopen(reopen);
+
+		assertTrue(updates.isEmpty());
+		assertEquals(1, batches.size());
+		List<Object[]> rows = batches.get(0);
+		assertEquals(2, rows.size());
+		assertRow(rows.get(0), "FISCAL_YEAR_COUNT", now.minusMonths(14));
+		assertRow(rows.get(1), "FISCAL_YEAR_COUNT", now.minusMonths(2));
+	}
+
+	@Test
+	void currentAndFutureMonthsAreNotReopened() {
+		YearMonth now = YearMonth.now();
+		Reopen reopen = new Reopen();
+		reopen.touch(FiscalYear.class, date(now));
+		reopen.touch(FiscalYear.class, date(now.plusMonths(3)));
+
+		assertTrue(reopen.isEmpty());
+	}
+
+	@Test
+	void untrackedTypesAndMissingDatesAreIgnored() {
+		Reopen reopen = new Reopen();
+		reopen.touch(String.class, property -> LocalDate.of(2020, 1, 1));
+		reopen.touch(FiscalYear.class, property -> null);
+		reopen.touchAll(String.class);
+
+		assertTrue(reopen.isEmpty());
+	}
+
+	@Test
+	void unknownOldStateReopensAllMonthsOfMetric() {
+		YearMonth past = YearMonth.now().minusYears(1);
+		Reopen reopen = new Reopen();
+		reopen.touch(Batch.class, date(past));
+		reopen.touchAll(Batch.class);
+		reopen.touch(Defect.class, property -> past.atDay(10).atStartOfDay());
+
+		service.reopen(reopen);
+
+		assertEquals(List.of(
+				"UPDATE monthly_rollup SET frozen = false WHERE metric = ? AND frozen = true [BATCH_COUNT]"), updates);
+		assertEquals(1, batches.get(0).size(), "batch month is covered by the full reopen");
+		assertRow(batches.get(0).get(0), "DEFECT_COUNT", past);
+	}
+
+	private static Function<String, Object> date(YearMonth month) {
+		return property -> month.atDay(15);
+	}
+
+	private static void assertRow(Object[] row, String metric, YearMonth month) {
+		assertArrayEquals(new Object[] { metric, MonthlyRollup.NO_DIMENSION, month.getYear(), month.getMonthValue() }, row);
+	}
+}
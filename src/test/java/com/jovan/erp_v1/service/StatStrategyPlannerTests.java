@@ -0,0 +1,196 @@
+package com.jovan.erp_v1.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.jovan.erp_v1.service.StatStrategyPlanner.Plan;
+import com.jovan.erp_v1.service.StatStrategyPlanner.Source;
+import com.jovan.erp_v1.statistics.invoice.InvoiceStatStrategy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Procena redova iz statistika tabele i opsega datuma, EWMA izbor brze strategije posle zagrevanja,
+ * istrazivanje druge strategije, postovanje eksplicitne SQL/MEMORY strategije i kratko kesiranje
+ * neuspelog ucitavanja statistika. Vreme meri rucni ticker, a svaka strategija ga pomera za svoje "trajanje".
+ */
+class StatStrategyPlannerTests {
+
+	private static final Source SOURCE = new Source("invoice", "invoice", "issue_date");
+	private static final LocalDate MIN = LocalDate.of(2024, 1, 1);
+	/** 100 dana, pa je 1000 redova 10 redova po danu */
+	private static final LocalDate MAX = MIN.plusDays(99);
+	private static final Duration TTL = Duration.ofMinutes(10);
+	private static final Duration RETRY = Duration.ofSeconds(30);
+
+	private final AtomicLong now = new AtomicLong();
+	private final Ticker ticker = now::get;
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final List<String> queries = new ArrayList<>();
+	private long tableRows = 1000;
+	private boolean failing;
+
+	private final JdbcTemplate jdbcTemplate = new JdbcTemplate() {
+		@Override
+		public <T> T queryForObject(String sql, Class<T> requiredType, Object... args) {
+			queries.add(sql);
+			if (failing) {
+				throw new DataAccessResourceFailureException("replica down");
+			}
+			return requiredType.cast(tableRows);
+		}
+
+		@Override
+		public <T> T queryForObject(String sql, RowMapper<T> rowMapper) {
+			try {
+				return rowMapper.mapRow(minMax(), 0);
+			}
+			catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	};
+
+	@Test
+	void estimateScalesTableRowsByRequestedDateRange() {
+		StatStrategyPlanner planner = planner(0, 3);
+
+		assertEquals(1000, estimate(planner, null, null));
+		assertEquals(100, estimate(planner, MIN.plusDays(10), MIN.plusDays(19)));
+		// opseg se sece sa MIN/MAX kolone datuma
+		assertEquals(50, estimate(planner, MAX.minusDays(4), MAX.plusYears(1)));
+		assertEquals(1000, estimate(planner, MIN.minusYears(1), null));
+		assertEquals(0, estimate(planner, MAX.plusDays(1), MAX.plusDays(30)));
+		// statistike se citaju jednom za sve procene
+		assertEquals(1, queries.size());
+	}
+
+	@Test
+	void ewmaPicksFasterStrategyAfterWarmupAndFollowsLatencyChanges() {
+		StatStrategyPlanner planner = planner(0, 2);
+
+		// mala procena: heuristika bira MEMORY dok nema min-samples merenja, zatim se proba SQL
+		assertEquals(List.of(Plan.MEMORY, Plan.MEMORY, Plan.SQL, Plan.SQL), run(planner, 4, 1, 10));
+		assertEquals(List.of(Plan.SQL, Plan.SQL), run(planner, 2, 1, 10));
+		assertEquals(2, decisions("learned"));
+
+		// SQL postaje sporiji: sa smoothing=0.5 EWMA SQL-a (1 -> 25.5 ms) prelazi MEMORY (10 ms) posle jednog merenja
+		assertEquals(List.of(Plan.SQL, Plan.MEMORY, Plan.MEMORY), run(planner, 3, 50, 10));
+	}
+
+	@Test
+	void exploresOtherStrategyAtExploreRate() {
+		StatStrategyPlanner planner = planner(1.0, 1);
+
+		// MEMORY (heuristic), SQL (explore), pa uvek suprotno od brze (MEMORY) jer je explore-rate 1
+		assertEquals(List.of(Plan.MEMORY, Plan.SQL, Plan.SQL, Plan.SQL), run(planner, 4, 5, 1));
+		assertEquals(3, decisions("explore"));
+		assertEquals(0, decisions("learned"));
+	}
+
+	@Test
+	void explicitStrategyIsAlwaysUsed() {
+		tableRows = 100_000_000;
+		StatStrategyPlanner planner = planner(0, 1);
+
+		assertEquals(Plan.MEMORY, execute(planner, InvoiceStatStrategy.MEMORY, 1, 1));
+		assertEquals(Plan.SQL, execute(planner, InvoiceStatStrategy.SQL, 1, 1));
+		assertEquals(2, decisions("requested"));
+		// bez procene, pa ni upita statistika
+		assertEquals(0, queries.size());
+
+		// AUTO i null idu kroz procenu; 1M redova za jedan dan je iznad max-memory-rows
+		assertEquals(Plan.SQL, execute(planner, InvoiceStatStrategy.AUTO, 1, 1));
+		assertEquals(Plan.SQL, execute(planner, null, 1, 1));
+		assertEquals(2, decisions("guard"));
+	}
+
+	@Test
+	void failedStatsLoadIsCachedUntilRetryExpires() {
+		failing = true;
+		StatStrategyPlanner planner = planner(0, 1);
+
+		// nepoznata procena ide na SQL (guard), a neuspeh se ne ponavlja na svaki zahtev
+		assertEquals(Plan.SQL, execute(planner, null, 1, 1));
+		assertEquals(Plan.SQL, execute(planner, null, 1, 1));
+		assertEquals(1, queries.size());
+
+		now.addAndGet(RETRY.toNanos() + 1);
+		failing = false;
+		assertEquals(Plan.MEMORY, execute(planner, null, 1, 1));
+		assertEquals(2, queries.size());
+
+		// uspesno ucitane statistike vaze table-stats-ttl, ne table-stats-retry
+		now.addAndGet(RETRY.toNanos() + 1);
+		execute(planner, null, 1, 1);
+		assertEquals(2, queries.size());
+		now.addAndGet(TTL.toNanos());
+		execute(planner, null, 1, 1);
+		assertEquals(3, queries.size());
+	}
+
+	private StatStrategyPlanner planner(double exploreRate, int minSamples) {
+		return new StatStrategyPlanner(jdbcTemplate, meterRegistry, 10_000, 100_000, exploreRate, 0.5, minSamples,
+				TTL, RETRY, ticker);
+	}
+
+	private long estimate(StatStrategyPlanner planner, LocalDate from, LocalDate to) {
+		double before = estimatedTotal();
+		planner.execute("test", SOURCE, null, from, to, () -> null, () -> null);
+		return (long) (estimatedTotal() - before);
+	}
+
+	private double estimatedTotal() {
+		return meterRegistry.find("erp.stats.planner.estimated.rows").summaries().stream()
+				.mapToDouble(summary -> summary.totalAmount()).sum();
+	}
+
+	private List<Plan> run(StatStrategyPlanner planner, int times, long sqlMillis, long memoryMillis) {
+		List<Plan> plans = new ArrayList<>();
+		for (int i = 0; i < times; i++) {
+			plans.add(execute(planner, null, sqlMillis, memoryMillis));
+		}
+		return plans;
+	}
+
+	private Plan execute(StatStrategyPlanner planner, Enum<?> requested, long sqlMillis, long memoryMillis) {
+		return planner.execute("test", SOURCE, requested, MIN, MIN, () -> elapse(Plan.SQL, sqlMillis),
+				() -> elapse(Plan.MEMORY, memoryMillis));
+	}
+
+	private Plan elapse(Plan plan, long millis) {
+		now.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+		return plan;
+	}
+
+	private long decisions(String reason) {
+		return (long) meterRegistry.find("erp.stats.planner.decisions").tag("reason", reason).counters().stream()
+				.mapToDouble(counter -> counter.count()).sum();
+	}
+
+	private static ResultSet minMax() {
+		return (ResultSet) Proxy.newProxyInstance(StatStrategyPlannerTests.class.getClassLoader(),
+				new Class<?>[] { ResultSet.class }, (proxy, method, args) -> {
+					if (method.getName().equals("getDate") && args.length == 1 && args[0] instanceof Integer column) {
+						return Date.valueOf(column == 1 ? MIN : MAX);
+					}
+					throw new UnsupportedOperationException(method.getName());
+				});
+	}
+}
@@ -0,0 +1,221 @@
+package com.jovan.erp_v1.statistics.columnar;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Svojstvo: za bilo koji snimak i bilo koju velicinu opsega, paralelna agregacija daje iste grupe,
+ * istim redom i sa istim brojevima, zbirovima i label-ima kao sekvencijalna (200 slucajnih snimaka, seed je parametar).
+ * Uz njega, imenovani granicni slucajevi: prazan snimak, grupa koja se prostire preko granice opsega,
+ * grupe koje se prvi put javljaju tek u desnom opsegu, null kljucevi, zbirovi preko long-a i label-i.
+ */
+class ParallelAggregationTests {
+
+	private static final int SCALE = 3;
+	private static final Measure[] MEASURES = { Measure.sum(0), Measure.sum(1), Measure.sumOfProducts(0, 1) };
+
+	private static ForkJoinPool pool;
+
+	@BeforeAll
+	static void startPool() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterAll
+	static void stopPool() {
+		pool.shutdownNow();
+	}
+
+	static LongStream seeds() {
+		return LongStream.range(0, 200);
+	}
+
+	@ParameterizedTest
+	@MethodSource("seeds")
+	void parallelAggregationEqualsSequential(long seed) {
+		Random random = new Random(seed);
+		ColumnarSnapshot snapshot = randomSnapshot(random);
+		int chunkRows = 1 + random.nextInt(Math.max(1, snapshot.rowCount()));
+
+		assertSameAsSequential(snapshot, chunkRows, "seed " + seed + ", ");
+	}
+
+	@Test
+	void emptySnapshotHasNoGroups() {
+		ColumnarSnapshot snapshot = ColumnarSnapshot.builder(2, 2, true, SCALE).build();
+
+		assertEquals(0, ParallelAggregation.aggregate(pool, snapshot, 1, MEASURES).size());
+	}
+
+	@Test
+	void groupSplitByEveryChunkBoundaryIsMergedOnce() {
+		ColumnarSnapshot.Builder builder = ColumnarSnapshot.builder(2, 2, true, SCALE);
+		for (int row = 0; row < 9; row++) {
+			row(builder, 7L, 1L, "1.000", "2.000", "INV-" + row);
+		}
+		ColumnarSnapshot snapshot = builder.build();
+
+		for (int chunkRows = 1; chunkRows <= 10; chunkRows++) {
+			GroupedAggregate parallel = ParallelAggregation.aggregate(pool, snapshot, chunkRows, MEASURES);
+			assertEquals(1, parallel.size(), "chunkRows " + chunkRows);
+			assertEquals(9, parallel.count(0), "chunkRows " + chunkRows);
+			assertEquals(new BigDecimal("9.000"), parallel.sum(0, 0), "chunkRows " + chunkRows);
+			assertEquals(new BigDecimal("18.000000"), parallel.sum(2, 0), "chunkRows " + chunkRows);
+			assertEquals("INV-8", parallel.label(0), "chunkRows " + chunkRows);
+		}
+	}
+
+	@Test
+	void groupsFirstSeenInRightChunkKeepSequentialOrder() {
+		ColumnarSnapshot.Builder builder = ColumnarSnapshot.builder(2, 2, true, SCALE);
+		row(builder, 3L, 0L, "1", "1", null);
+		row(builder, 3L, 0L, "1", "1", null);
+		row(builder, 1L, 0L, "1", "1", null);
+		row(builder, 2L, 0L, "1", "1", null);
+		row(builder, 3L, 0L, "1", "1", null);
+		ColumnarSnapshot snapshot = builder.build();
+
+		GroupedAggregate parallel = ParallelAggregation.aggregate(pool, snapshot, 2, MEASURES);
+
+		assertEquals(3, parallel.size());
+		assertEquals(3L, parallel.key(0, 0));
+		assertEquals(1L, parallel.key(0, 1));
+		assertEquals(2L, parallel.key(0, 2));
+		assertEquals(3, parallel.count(0));
+		assertSameAsSequential(snapshot, 2);
+	}
+
+	@Test
+	void nullKeyIsItsOwnGroup() {
+		ColumnarSnapshot.Builder builder = ColumnarSnapshot.builder(2, 2, true, SCALE);
+		row(builder, null, 0L, "2", null, null);
+		row(builder, 0L, 0L, "3", null, null);
+		row(builder, null, 0L, "5", null, null);
+		ColumnarSnapshot snapshot = builder.build();
+
+		GroupedAggregate parallel = ParallelAggregation.aggregate(pool, snapshot, 1, MEASURES);
+
+		assertEquals(2, parallel.size());
+		assertNull(parallel.key(0, 0));
+		assertEquals(new BigDecimal("7.000"), parallel.sum(0, 0));
+		assertEquals(0L, parallel.key(0, 1));
+		assertEquals(new BigDecimal("0.000"), parallel.sum(1, 0));
+	}
+
+	@Test
+	void sumsBeyondLongSpillAcrossChunks() {
+		BigDecimal large = BigDecimal.valueOf(Long.MAX_VALUE / 2, SCALE);
+		ColumnarSnapshot.Builder builder = ColumnarSnapshot.builder(2, 2, true, SCALE);
+		for (int row = 0; row < 4; row++) {
+			row(builder, 1L, 1L, large.toPlainString(), large.toPlainString(), null);
+		}
+		ColumnarSnapshot snapshot = builder.build();
+
+		GroupedAggregate parallel = ParallelAggregation.aggregate(pool, snapshot, 1, MEASURES);
+
+		assertEquals(large.multiply(BigDecimal.valueOf(4)), parallel.sum(0, 0));
+		assertEquals(large.multiply(large).multiply(BigDecimal.valueOf(4)), parallel.sum(2, 0));
+		assertSameAsSequential(snapshot, 3);
+	}
+
+	@Test
+	void labelIsMaximumOverChunksIgnoringNulls() {
+		ColumnarSnapshot.Builder builder = ColumnarSnapshot.builder(2, 2, true, SCALE);
+		row(builder, 1L, 0L, "1", "1", "INV-9");
+		row(builder, 1L, 0L, "1", "1", null);
+		row(builder, 1L, 0L, "1", "1", "INV-10");
+		row(builder, 2L, 0L, "1", "1", null);
+		ColumnarSnapshot snapshot = builder.build();
+
+		GroupedAggregate parallel = ParallelAggregation.aggregate(pool, snapshot, 1, MEASURES);
+
+		assertEquals("INV-9", parallel.label(0));
+		assertNull(parallel.label(1));
+	}
+
+	@Test
+	void snapshotAtBuilderCapacityBoundary() {
+		for (int rows : new int[] { 1023, 1024, 1025 }) {
+			ColumnarSnapshot.Builder builder = ColumnarSnapshot.builder(2, 2, true, SCALE);
+			for (int row = 0; row < rows; row++) {
+				row(builder, (long) (row % 3), 0L, "1", "1", null);
+			}
+			ColumnarSnapshot snapshot = builder.build();
+
+			GroupedAggregate parallel = ParallelAggregation.aggregate(pool, snapshot, 512, MEASURES);
+
+			assertEquals(rows, parallel.count(0) + parallel.count(1) + parallel.count(2), "rows " + rows);
+			assertSameAsSequential(snapshot, 512);
+		}
+	}
+
+	@Test
+	void rejectsNonPositiveChunkSize() {
+		ColumnarSnapshot snapshot = ColumnarSnapshot.builder(2, 2, true, SCALE).build();
+
+		assertThrows(IllegalArgumentException.class, () -> ParallelAggregation.aggregate(pool, snapshot, 0, MEASURES));
+	}
+
+	private static void row(ColumnarSnapshot.Builder builder, Long key0, Long key1, String value0, String value1,
+			String label) {
+		builder.key(0, key0)
+				.key(1, key1)
+				.value(0, value0 != null ? new BigDecimal(value0) : null)
+				.value(1, value1 != null ? new BigDecimal(value1) : null)
+				.label(label)
+				.next();
+	}
+
+	private static void assertSameAsSequential(ColumnarSnapshot snapshot, int chunkRows) {
+		assertSameAsSequential(snapshot, chunkRows, "");
+	}
+
+	private static void assertSameAsSequential(ColumnarSnapshot snapshot, int chunkRows, String context) {
+		GroupedAggregate sequential = snapshot.aggregate(MEASURES);
+		GroupedAggregate parallel = ParallelAggregation.aggregate(pool, snapshot, chunkRows, MEASURES);
+
+		assertEquals(sequential.size(), parallel.size(), context + "group count");
+		for (int g = 0; g < sequential.size(); g++) {
+			assertEquals(sequential.key(0, g), parallel.key(0, g), context + "key 0 of group " + g);
+			assertEquals(sequential.key(1, g), parallel.key(1, g), context + "key 1 of group " + g);
+			assertEquals(sequential.count(g), parallel.count(g), context + "count of group " + g);
+			assertEquals(sequential.label(g), parallel.label(g), context + "label of group " + g);
+			for (int m = 0; m < MEASURES.length; m++) {
+				assertEquals(sequential.sum(m, g), parallel.sum(m, g), context + "measure " + m + " of group " + g);
+			}
+		}
+	}
+
+	private static ColumnarSnapshot randomSnapshot(Random random) {
+		int rows = random.nextInt(5000);
+		int cardinality = 1 + random.nextInt(random.nextBoolean() ? 10 : 2000);
+		boolean hugeValues = random.nextInt(5) == 0;
+		ColumnarSnapshot.Builder builder = ColumnarSnapshot.builder(2, 2, true, SCALE);
+		for (int row = 0; row < rows; row++) {
+			builder.key(0, random.nextInt(20) == 0 ? null : (long) random.nextInt(cardinality))
+					.key(1, (long) random.nextInt(3))
+					.value(0, randomAmount(random, hugeValues))
+					.value(1, random.nextInt(10) == 0 ? null : randomAmount(random, false))
+					.label(random.nextInt(10) == 0 ? null : "INV-" + random.nextInt(100000))
+					.next();
+		}
+		return builder.build();
+	}
+
+	private static BigDecimal randomAmount(Random random, boolean huge) {
+		long unscaled = huge ? random.nextLong() / 4 : random.nextInt(10_000_000) - 1_000_000;
+		return BigDecimal.valueOf(unscaled, SCALE);
+	}
+}